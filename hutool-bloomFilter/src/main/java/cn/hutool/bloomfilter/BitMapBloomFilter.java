@@ -1,5 +1,6 @@
 package cn.hutool.bloomfilter;
 
+import cn.hutool.bloomfilter.bitMap.BitMap;
 import cn.hutool.bloomfilter.filter.DefaultFilter;
 import cn.hutool.bloomfilter.filter.ELFFilter;
 import cn.hutool.bloomfilter.filter.JSFilter;
@@ -27,15 +28,27 @@ public class BitMapBloomFilter implements BloomFilter {
 	 * @param m M值决定BitMap的大小
 	 */
 	public BitMapBloomFilter(int m) {
+		this(m, false);
+	}
+
+	/**
+	 * 构造，使用默认的5个过滤器
+	 *
+	 * @param m          M值决定BitMap的大小
+	 * @param concurrent 是否线程安全，{@code true}时各过滤器使用基于CAS的BitMap，同一个过滤器可被多个线程同时写入而不会丢失位
+	 * @since 5.8.35
+	 */
+	public BitMapBloomFilter(int m, boolean concurrent) {
 		long mNum = NumberUtil.div(String.valueOf(m), String.valueOf(5)).longValue();
 		long size = mNum * 1024 * 1024 * 8;
 
+		final int machineNum = BitMap.MACHINE32;
 		filters = new BloomFilter[]{
-				new DefaultFilter(size),
-				new ELFFilter(size),
-				new JSFilter(size),
-				new PJWFilter(size),
-				new SDBMFilter(size)
+				new DefaultFilter(size, machineNum, concurrent),
+				new ELFFilter(size, machineNum, concurrent),
+				new JSFilter(size, machineNum, concurrent),
+				new PJWFilter(size, machineNum, concurrent),
+				new SDBMFilter(size, machineNum, concurrent)
 		};
 	}
 
@@ -29,4 +29,64 @@ public class BloomFilterUtil {
 	public static BitMapBloomFilter createBitMap(int m) {
 		return new BitMapBloomFilter(m);
 	}
+
+	/**
+	 * 创建一个线程安全的BitSet实现的布隆过滤器，过滤器的容量为c * k 个bit.
+	 *
+	 * @param c 当前过滤器预先开辟的最大包含记录,通常要比预计存入的记录多一倍.
+	 * @param n 当前过滤器预计所要包含的记录.
+	 * @param k 哈希函数的个数，等同每条记录要占用的bit数.
+	 * @return ConcurrentBitSetBloomFilter
+	 * @since 5.8.35
+	 */
+	public static ConcurrentBitSetBloomFilter createConcurrentBitSet(int c, int n, int k) {
+		return new ConcurrentBitSetBloomFilter(c, n, k);
+	}
+
+	/**
+	 * 创建线程安全的BitMap实现的布隆过滤器
+	 *
+	 * @param m BitMap的大小
+	 * @return BitMapBloomFilter
+	 * @since 5.8.35
+	 */
+	public static BitMapBloomFilter createConcurrentBitMap(int m) {
+		return new BitMapBloomFilter(m, true);
+	}
+
+	/**
+	 * 创建基于双重哈希的布隆过滤器，每个元素只计算一次128位MurmurHash，线程安全
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望的误判率，(0, 1)之间
+	 * @return DoubleHashBloomFilter
+	 * @since 5.8.35
+	 */
+	public static DoubleHashBloomFilter createDoubleHash(long expectedInsertions, double fpp) {
+		return new DoubleHashBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建计数布隆过滤器，支持移除元素，线程安全
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望的误判率，(0, 1)之间
+	 * @return CountingBloomFilter
+	 * @since 5.8.35
+	 */
+	public static CountingBloomFilter createCounting(long expectedInsertions, double fpp) {
+		return new CountingBloomFilter(expectedInsertions, fpp);
+	}
+
+	/**
+	 * 创建可扩容的布隆过滤器，元素超过容量时自动增加子过滤器，线程安全
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             期望的总误判率，(0, 1)之间
+	 * @return ScalableBloomFilter
+	 * @since 5.8.35
+	 */
+	public static ScalableBloomFilter createScalable(long initialCapacity, double fpp) {
+		return new ScalableBloomFilter(initialCapacity, fpp);
+	}
 }
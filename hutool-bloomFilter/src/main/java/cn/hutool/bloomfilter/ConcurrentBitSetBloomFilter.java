@@ -0,0 +1,106 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.AtomicLongMap;
+import cn.hutool.bloomfilter.bitMap.BitMap;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IoUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.Charset;
+
+/**
+ * 线程安全的{@link BitSetBloomFilter}，位存储在{@link AtomicLongMap}中，通过CAS无锁写入。<br>
+ * {@link java.util.BitSet}非线程安全，多个线程同时add时可能丢失位而导致漏判，此类可被所有请求线程共享而无需外部同步。<br>
+ * Hash算法与{@link BitSetBloomFilter}一致，使用固定顺序，只需指定个数即可
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class ConcurrentBitSetBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	private final AtomicLongMap bitMap;
+	private final int bitSetSize;
+	private final int addedElements;
+	private final int hashFunctionNumber;
+
+	/**
+	 * 构造一个布隆过滤器，过滤器的容量为c * k 个bit.
+	 *
+	 * @param c 当前过滤器预先开辟的最大包含记录,通常要比预计存入的记录多一倍.
+	 * @param n 当前过滤器预计所要包含的记录.
+	 * @param k 哈希函数的个数，等同每条记录要占用的bit数.
+	 */
+	public ConcurrentBitSetBloomFilter(int c, int n, int k) {
+		this.hashFunctionNumber = k;
+		this.bitSetSize = (int) Math.ceil(c * k);
+		this.addedElements = n;
+		this.bitMap = new AtomicLongMap((this.bitSetSize + BitMap.MACHINE64 - 1) / BitMap.MACHINE64);
+	}
+
+	/**
+	 * 通过文件初始化过滤器.
+	 *
+	 * @param path    文件路径
+	 * @param charset 字符集
+	 * @throws IOException IO异常
+	 */
+	public void init(String path, Charset charset) throws IOException {
+		BufferedReader reader = FileUtil.getReader(path, charset);
+		try {
+			String line;
+			while (true) {
+				line = reader.readLine();
+				if (line == null) {
+					break;
+				}
+				this.add(line);
+			}
+		} finally {
+			IoUtil.close(reader);
+		}
+	}
+
+	/**
+	 * 增加字符串，所有位均已存在时返回{@code false}<br>
+	 * 每一位的设置均为原子操作，多个线程同时加入同一个字符串时，只有设置了新位的线程返回{@code true}
+	 *
+	 * @param str 字符串
+	 * @return 是否加入了新的位
+	 */
+	@Override
+	public boolean add(String str) {
+		final int[] positions = BitSetBloomFilter.createHashes(str, hashFunctionNumber);
+		boolean added = false;
+		for (int value : positions) {
+			added |= bitMap.addIfAbsent(Math.abs(value % bitSetSize));
+		}
+		return added;
+	}
+
+	/**
+	 * 判定是否包含指定字符串
+	 *
+	 * @param str 字符串
+	 * @return 是否包含，存在误差
+	 */
+	@Override
+	public boolean contains(String str) {
+		final int[] positions = BitSetBloomFilter.createHashes(str, hashFunctionNumber);
+		for (int i : positions) {
+			if (false == bitMap.contains(Math.abs(i % bitSetSize))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return 得到当前过滤器的错误率.
+	 */
+	public double getFalsePositiveProbability() {
+		// (1 - e^(-k * n / m)) ^ k
+		return Math.pow((1 - Math.exp(-hashFunctionNumber * (double) addedElements / bitSetSize)), hashFunctionNumber);
+	}
+}
@@ -0,0 +1,277 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+import cn.hutool.core.util.ByteUtil;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 计数布隆过滤器，支持移除元素<br>
+ * 普通布隆过滤器的每个位置只有一位，无法区分位被几个元素共用，因此不能移除。此过滤器的每个位置为一个4位计数器，
+ * 每个long存放16个计数器，加入时计数加1，移除时减1。计数器达到最大值15后不再变化，避免溢出后减为0而产生漏判。<br>
+ * 位置的计算与{@link DoubleHashBloomFilter}相同，每个元素只计算一次128位MurmurHash。计数器通过CAS更新，线程安全。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class CountingBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/** 每个计数器的位数 */
+	private static final int COUNTER_BITS = 4;
+	/** 每个long中的计数器个数 */
+	private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+	/** 计数器最大值 */
+	private static final long MAX_COUNT = (1L << COUNTER_BITS) - 1;
+
+	private final AtomicLongArray counters;
+	/**
+	 * 计数器个数m
+	 */
+	private final long counterSize;
+	/**
+	 * Hash函数个数k
+	 */
+	private final int hashFunctionNumber;
+	/**
+	 * 当前元素数，加入时加1，移除时减1
+	 */
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * 构造，根据预计元素个数和期望的误判率计算计数器个数和Hash函数个数<br>
+	 * 占用内存为同样条件下{@link DoubleHashBloomFilter}的4倍
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望的误判率，(0, 1)之间
+	 */
+	public CountingBloomFilter(long expectedInsertions, double fpp) {
+		this(DoubleHashBloomFilter.optimalBitSize(expectedInsertions, fpp),
+				DoubleHashBloomFilter.optimalHashFunctionNumber(expectedInsertions,
+						DoubleHashBloomFilter.optimalBitSize(expectedInsertions, fpp)));
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param counterSize        计数器个数m
+	 * @param hashFunctionNumber Hash函数个数k
+	 */
+	public CountingBloomFilter(long counterSize, int hashFunctionNumber) {
+		Assert.isTrue(counterSize > 0, "Counter size must be greater than 0");
+		Assert.isTrue(hashFunctionNumber > 0, "Hash function number must be greater than 0");
+		final long words = (counterSize + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD;
+		Assert.isTrue(words <= Integer.MAX_VALUE, "Counter size is too large: {}", counterSize);
+
+		this.counterSize = counterSize;
+		this.hashFunctionNumber = hashFunctionNumber;
+		this.counters = new AtomicLongArray((int) words);
+	}
+
+	@Override
+	public boolean contains(String str) {
+		return contains(MurmurHash.hash128(str));
+	}
+
+	/**
+	 * 加入元素，同一个元素可以多次加入，需要相同次数的移除才会被完全移除
+	 *
+	 * @param str 字符串
+	 * @return 是否有计数器从0变为非0，即此前是否一定不存在
+	 */
+	@Override
+	public boolean add(String str) {
+		return add(MurmurHash.hash128(str));
+	}
+
+	/**
+	 * 移除元素，只应移除已经加入过的元素，否则可能导致其它元素产生漏判
+	 *
+	 * @param str 字符串
+	 * @return 是否移除，元素不存在时返回{@code false}
+	 */
+	public boolean remove(String str) {
+		return remove(MurmurHash.hash128(str));
+	}
+
+	/**
+	 * 是否可能包含此元素，此处存在误判
+	 *
+	 * @param bytes 元素
+	 * @return 是否存在
+	 */
+	public boolean contains(byte[] bytes) {
+		return contains(MurmurHash.hash128(bytes));
+	}
+
+	/**
+	 * 加入元素
+	 *
+	 * @param bytes 元素
+	 * @return 是否有计数器从0变为非0
+	 */
+	public boolean add(byte[] bytes) {
+		return add(MurmurHash.hash128(bytes));
+	}
+
+	/**
+	 * 移除元素
+	 *
+	 * @param bytes 元素
+	 * @return 是否移除，元素不存在时返回{@code false}
+	 */
+	public boolean remove(byte[] bytes) {
+		return remove(MurmurHash.hash128(bytes));
+	}
+
+	/**
+	 * 是否可能包含此元素，此处存在误判
+	 *
+	 * @param value 元素
+	 * @return 是否存在
+	 */
+	public boolean contains(long value) {
+		return contains(MurmurHash.hash128(ByteUtil.longToBytes(value)));
+	}
+
+	/**
+	 * 加入元素
+	 *
+	 * @param value 元素
+	 * @return 是否有计数器从0变为非0
+	 */
+	public boolean add(long value) {
+		return add(MurmurHash.hash128(ByteUtil.longToBytes(value)));
+	}
+
+	/**
+	 * 移除元素
+	 *
+	 * @param value 元素
+	 * @return 是否移除，元素不存在时返回{@code false}
+	 */
+	public boolean remove(long value) {
+		return remove(MurmurHash.hash128(ByteUtil.longToBytes(value)));
+	}
+
+	/**
+	 * @return 计数器个数m
+	 */
+	public long getCounterSize() {
+		return this.counterSize;
+	}
+
+	/**
+	 * @return Hash函数个数k
+	 */
+	public int getHashFunctionNumber() {
+		return this.hashFunctionNumber;
+	}
+
+	/**
+	 * @return 当前元素数
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/**
+	 * 根据当前元素数估算误判率：{@code (1 - e^(-k * n / m)) ^ k}
+	 *
+	 * @return 当前的误判率
+	 */
+	public double getFalsePositiveProbability() {
+		return DoubleHashBloomFilter.falsePositiveProbability(hashFunctionNumber, Math.max(0, getCount()), counterSize);
+	}
+
+	/**
+	 * 获取指定位置计数器的值
+	 *
+	 * @param index 位置
+	 * @return 计数
+	 */
+	long getCounter(long index) {
+		final int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+		return (counters.get((int) (index / COUNTERS_PER_WORD)) >>> shift) & MAX_COUNT;
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	private boolean contains(long[] hash128) {
+		final long h1 = hash128[0];
+		final long h2 = hash128[1];
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			if (0 == getCounter(DoubleHashBloomFilter.index(h1, h2, i, counterSize))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean add(long[] hash128) {
+		final long h1 = hash128[0];
+		final long h2 = hash128[1];
+		boolean added = false;
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			added |= increment(DoubleHashBloomFilter.index(h1, h2, i, counterSize));
+		}
+		count.incrementAndGet();
+		return added;
+	}
+
+	private boolean remove(long[] hash128) {
+		if (false == contains(hash128)) {
+			return false;
+		}
+		final long h1 = hash128[0];
+		final long h2 = hash128[1];
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			decrement(DoubleHashBloomFilter.index(h1, h2, i, counterSize));
+		}
+		count.decrementAndGet();
+		return true;
+	}
+
+	/**
+	 * 计数器加1，已达到最大值时不变
+	 *
+	 * @param index 位置
+	 * @return 计数器是否从0变为1
+	 */
+	private boolean increment(long index) {
+		final int word = (int) (index / COUNTERS_PER_WORD);
+		final int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+		long current;
+		long counter;
+		do {
+			current = counters.get(word);
+			counter = (current >>> shift) & MAX_COUNT;
+			if (MAX_COUNT == counter) {
+				return false;
+			}
+		} while (false == counters.compareAndSet(word, current, current + (1L << shift)));
+		return 0 == counter;
+	}
+
+	/**
+	 * 计数器减1，为0或已达到最大值（无法得知真实计数）时不变
+	 *
+	 * @param index 位置
+	 */
+	private void decrement(long index) {
+		final int word = (int) (index / COUNTERS_PER_WORD);
+		final int shift = (int) (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+		long current;
+		long counter;
+		do {
+			current = counters.get(word);
+			counter = (current >>> shift) & MAX_COUNT;
+			if (0 == counter || MAX_COUNT == counter) {
+				return;
+			}
+		} while (false == counters.compareAndSet(word, current, current - (1L << shift)));
+	}
+	// ---------------------------------------------------------------- private method end
+}
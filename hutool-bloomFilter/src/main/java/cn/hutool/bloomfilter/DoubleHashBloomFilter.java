@@ -0,0 +1,422 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.bloomfilter.bitMap.AtomicLongMap;
+import cn.hutool.bloomfilter.bitMap.BitMap;
+import cn.hutool.bloomfilter.bitMap.LongMap;
+import cn.hutool.bloomfilter.bitMap.MappedLongMap;
+import cn.hutool.bloomfilter.bitMap.WordBitMap;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+import cn.hutool.core.util.ByteUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于双重哈希的布隆过滤器<br>
+ * {@link BitSetBloomFilter}和{@link BitMapBloomFilter}对每个元素分别计算多个不同的字符串Hash，每个Hash都需要完整遍历一次字符串。
+ * 此过滤器只计算一次128位的{@link MurmurHash#hash128(byte[])}，将结果拆分为两个64位Hash h1和h2，
+ * 再按照Kirsch-Mitzenmacher双重哈希 {@code g(i) = h1 + i * h2} 得到k个位置，因此加入和查询都只需一次Hash计算。<br>
+ * 除字符串外，也支持直接使用byte[]和long作为元素。<br>
+ * 通过{@link #writeTo(File)}可将过滤器写为二进制快照，之后通过{@link #open(File)}映射为只读过滤器或通过{@link #load(File)}加载为可写过滤器，
+ * 均无需重新计算Hash。快照格式（大端序）：
+ * <pre>
+ * [int 标识][int 版本][int Hash策略][int k][long m][long 元素数][long[] 位数据]
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class DoubleHashBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/** 快照文件标识 */
+	private static final int SNAPSHOT_MAGIC = 0x48544246;
+	/** 快照格式版本 */
+	private static final int SNAPSHOT_VERSION = 1;
+	/** Hash策略：MurmurHash3 128位 + Kirsch-Mitzenmacher双重哈希 */
+	private static final int HASH_STRATEGY_MURMUR128_DOUBLE = 1;
+	/** 快照头大小 */
+	private static final int SNAPSHOT_HEADER_SIZE = 32;
+
+	private final WordBitMap bitMap;
+	/**
+	 * 位数m
+	 */
+	private final long bitSize;
+	/**
+	 * Hash函数个数k
+	 */
+	private final int hashFunctionNumber;
+	/**
+	 * 加入的元素数，只统计加入了新位的元素，为近似值
+	 */
+	private final AtomicLong count = new AtomicLong();
+
+	/**
+	 * 构造，根据预计元素个数和期望的误判率计算位数和Hash函数个数，线程安全
+	 *
+	 * @param expectedInsertions 预计加入的元素个数
+	 * @param fpp                期望的误判率，(0, 1)之间
+	 */
+	public DoubleHashBloomFilter(long expectedInsertions, double fpp) {
+		this(optimalBitSize(expectedInsertions, fpp),
+				optimalHashFunctionNumber(expectedInsertions, optimalBitSize(expectedInsertions, fpp)), true);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param bitSize            位数m
+	 * @param hashFunctionNumber Hash函数个数k
+	 * @param concurrent         是否线程安全，{@code true}时使用基于CAS的{@link AtomicLongMap}
+	 */
+	public DoubleHashBloomFilter(long bitSize, int hashFunctionNumber, boolean concurrent) {
+		Assert.isTrue(bitSize > 0, "Bit size must be greater than 0");
+		Assert.isTrue(hashFunctionNumber > 0, "Hash function number must be greater than 0");
+		final long words = (bitSize + BitMap.MACHINE64 - 1) / BitMap.MACHINE64;
+		Assert.isTrue(words <= Integer.MAX_VALUE, "Bit size is too large: {}", bitSize);
+
+		this.bitSize = bitSize;
+		this.hashFunctionNumber = hashFunctionNumber;
+		this.bitMap = concurrent ? new AtomicLongMap((int) words) : new LongMap((int) words);
+	}
+
+	/**
+	 * 构造，使用已有的位数据
+	 *
+	 * @param bitSize            位数m
+	 * @param hashFunctionNumber Hash函数个数k
+	 * @param bitMap             位数据
+	 * @param count              元素数
+	 */
+	private DoubleHashBloomFilter(long bitSize, int hashFunctionNumber, WordBitMap bitMap, long count) {
+		this.bitSize = bitSize;
+		this.hashFunctionNumber = hashFunctionNumber;
+		this.bitMap = bitMap;
+		this.count.set(count);
+	}
+
+	/**
+	 * 以只读方式打开快照，位数据通过内存映射直接使用，不复制到堆中，打开后即可查询<br>
+	 * 多个进程打开同一个快照时共享同一份物理内存，返回的过滤器加入元素时抛出{@link UnsupportedOperationException}<br>
+	 * 超过2GB的快照分段映射；返回的过滤器序列化时位数据被复制到堆中
+	 *
+	 * @param file 快照文件
+	 * @return 只读的过滤器
+	 * @throws IORuntimeException IO异常或文件格式错误
+	 */
+	public static DoubleHashBloomFilter open(File file) throws IORuntimeException {
+		final MappedByteBuffer header;
+		final LongBuffer[] segments;
+		try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			final long size = channel.size();
+			if (size < SNAPSHOT_HEADER_SIZE) {
+				throw new IORuntimeException("File [{}] is not a bloom filter snapshot!", file);
+			}
+			// 映射在通道关闭后依旧有效
+			header = channel.map(FileChannel.MapMode.READ_ONLY, 0, SNAPSHOT_HEADER_SIZE);
+			final long words = checkHeader(file, header, size);
+
+			// 单个映射最大2GB，按段映射位数据
+			final int segmentCount = (int) ((words + MappedLongMap.SEGMENT_WORDS - 1) / MappedLongMap.SEGMENT_WORDS);
+			segments = new LongBuffer[segmentCount];
+			long position = SNAPSHOT_HEADER_SIZE;
+			for (int i = 0; i < segmentCount; i++) {
+				final long segmentWords = Math.min(MappedLongMap.SEGMENT_WORDS, words - (long) i * MappedLongMap.SEGMENT_WORDS);
+				final long segmentBytes = segmentWords * Long.BYTES;
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, segmentBytes).asLongBuffer();
+				position += segmentBytes;
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+
+		return new DoubleHashBloomFilter(header.getLong(16), header.getInt(12), new MappedLongMap(segments), header.getLong(24));
+	}
+
+	/**
+	 * 加载快照为可写的线程安全过滤器，位数据复制到堆中，无需重新计算Hash
+	 *
+	 * @param file 快照文件
+	 * @return 过滤器
+	 * @throws IORuntimeException IO异常或文件格式错误
+	 */
+	public static DoubleHashBloomFilter load(File file) throws IORuntimeException {
+		final DoubleHashBloomFilter mapped = open(file);
+		return new DoubleHashBloomFilter(mapped.bitSize, mapped.hashFunctionNumber,
+				new AtomicLongMap(mapped.bitMap), mapped.getCount());
+	}
+
+	/**
+	 * 将过滤器写为快照文件<br>
+	 * 先写入同目录下的临时文件并刷入磁盘，再原子地替换目标文件，因此读取方要么看到旧快照，要么看到完整的新快照。<br>
+	 * 写入期间的并发加入可能只有部分位被写入快照，如需精确快照，应在写入期间停止加入。
+	 *
+	 * @param file 快照文件
+	 * @throws IORuntimeException IO异常
+	 */
+	public void writeTo(File file) throws IORuntimeException {
+		final Path target = file.toPath().toAbsolutePath();
+		Path temp = null;
+		try {
+			Files.createDirectories(target.getParent());
+			temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+			try (final FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				final ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+				buffer.putInt(SNAPSHOT_MAGIC)
+						.putInt(SNAPSHOT_VERSION)
+						.putInt(HASH_STRATEGY_MURMUR128_DOUBLE)
+						.putInt(hashFunctionNumber)
+						.putLong(bitSize)
+						.putLong(getCount());
+				final int words = bitMap.wordCount();
+				for (int i = 0; i < words; i++) {
+					if (buffer.remaining() < Long.BYTES) {
+						writeFully(channel, buffer);
+					}
+					buffer.putLong(bitMap.getWord(i));
+				}
+				writeFully(channel, buffer);
+				channel.force(true);
+			}
+
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		} finally {
+			if (null != temp) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException ignore) {
+					// ignore
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean contains(String str) {
+		return contains(MurmurHash.hash128(str));
+	}
+
+	@Override
+	public boolean add(String str) {
+		return add(MurmurHash.hash128(str));
+	}
+
+	/**
+	 * 是否可能包含此元素，此处存在误判
+	 *
+	 * @param bytes 元素
+	 * @return 是否存在
+	 */
+	public boolean contains(byte[] bytes) {
+		return contains(MurmurHash.hash128(bytes));
+	}
+
+	/**
+	 * 加入元素
+	 *
+	 * @param bytes 元素
+	 * @return 是否加入了新的位，所有位均已存在时返回{@code false}
+	 */
+	public boolean add(byte[] bytes) {
+		return add(MurmurHash.hash128(bytes));
+	}
+
+	/**
+	 * 是否可能包含此元素，此处存在误判
+	 *
+	 * @param value 元素
+	 * @return 是否存在
+	 */
+	public boolean contains(long value) {
+		return contains(MurmurHash.hash128(ByteUtil.longToBytes(value)));
+	}
+
+	/**
+	 * 加入元素
+	 *
+	 * @param value 元素
+	 * @return 是否加入了新的位，所有位均已存在时返回{@code false}
+	 */
+	public boolean add(long value) {
+		return add(MurmurHash.hash128(ByteUtil.longToBytes(value)));
+	}
+
+	/**
+	 * @return 位数m
+	 */
+	public long getBitSize() {
+		return this.bitSize;
+	}
+
+	/**
+	 * @return Hash函数个数k
+	 */
+	public int getHashFunctionNumber() {
+		return this.hashFunctionNumber;
+	}
+
+	/**
+	 * @return 加入的元素数，近似值
+	 */
+	public long getCount() {
+		return this.count.get();
+	}
+
+	/**
+	 * 根据已加入的元素数估算当前的误判率：{@code (1 - e^(-k * n / m)) ^ k}
+	 *
+	 * @return 当前的误判率
+	 */
+	public double getFalsePositiveProbability() {
+		return falsePositiveProbability(hashFunctionNumber, getCount(), bitSize);
+	}
+
+	/**
+	 * 根据预计元素个数和期望的误判率计算最优位数：{@code m = -n * ln(p) / (ln2)^2}
+	 *
+	 * @param expectedInsertions 预计加入的元素个数n
+	 * @param fpp                期望的误判率p
+	 * @return 位数m
+	 */
+	public static long optimalBitSize(long expectedInsertions, double fpp) {
+		Assert.isTrue(expectedInsertions > 0, "Expected insertions must be greater than 0");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)");
+		return Math.max(BitMap.MACHINE64, (long) (-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+	}
+
+	/**
+	 * 根据预计元素个数和位数计算最优Hash函数个数：{@code k = m / n * ln2}
+	 *
+	 * @param expectedInsertions 预计加入的元素个数n
+	 * @param bitSize            位数m
+	 * @return Hash函数个数k
+	 */
+	public static int optimalHashFunctionNumber(long expectedInsertions, long bitSize) {
+		return Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	/**
+	 * 检查快照头
+	 *
+	 * @param file     快照文件
+	 * @param buffer   快照头
+	 * @param fileSize 快照文件大小
+	 * @return 位数据的long个数
+	 * @throws IORuntimeException 文件格式错误
+	 */
+	private static long checkHeader(File file, ByteBuffer buffer, long fileSize) throws IORuntimeException {
+		if (SNAPSHOT_MAGIC != buffer.getInt(0)) {
+			throw new IORuntimeException("File [{}] is not a bloom filter snapshot!", file);
+		}
+		if (SNAPSHOT_VERSION != buffer.getInt(4)) {
+			throw new IORuntimeException("Unsupported snapshot version: {}", buffer.getInt(4));
+		}
+		if (HASH_STRATEGY_MURMUR128_DOUBLE != buffer.getInt(8)) {
+			throw new IORuntimeException("Unsupported hash strategy: {}", buffer.getInt(8));
+		}
+		final long bitSize = buffer.getLong(16);
+		final long words = (bitSize + BitMap.MACHINE64 - 1) / BitMap.MACHINE64;
+		if (buffer.getInt(12) <= 0 || bitSize <= 0 || words > Integer.MAX_VALUE
+				|| fileSize != SNAPSHOT_HEADER_SIZE + words * Long.BYTES) {
+			throw new IORuntimeException("Snapshot [{}] is corrupted!", file);
+		}
+		return words;
+	}
+
+	/**
+	 * 将缓冲区中的内容全部写出并清空缓冲区
+	 *
+	 * @param channel 通道
+	 * @param buffer  缓冲区
+	 * @throws IOException IO异常
+	 */
+	private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * 计算误判率：{@code (1 - e^(-k * n / m)) ^ k}
+	 *
+	 * @param k Hash函数个数
+	 * @param n 元素个数
+	 * @param m 位数
+	 * @return 误判率
+	 */
+	static double falsePositiveProbability(int k, long n, long m) {
+		return Math.pow(1 - Math.exp(-k * (double) n / m), k);
+	}
+
+	/**
+	 * 是否包含128位Hash对应的所有位
+	 *
+	 * @param hash128 128位Hash
+	 * @return 是否包含
+	 */
+	boolean contains(long[] hash128) {
+		final long h1 = hash128[0];
+		final long h2 = hash128[1];
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			if (false == bitMap.contains(index(h1, h2, i, bitSize))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 加入128位Hash对应的所有位
+	 *
+	 * @param hash128 128位Hash
+	 * @return 是否加入了新的位
+	 */
+	boolean add(long[] hash128) {
+		final long h1 = hash128[0];
+		final long h2 = hash128[1];
+		boolean added = false;
+		for (int i = 0; i < hashFunctionNumber; i++) {
+			added |= bitMap.addIfAbsent(index(h1, h2, i, bitSize));
+		}
+		if (added) {
+			count.incrementAndGet();
+		}
+		return added;
+	}
+
+	/**
+	 * 按照Kirsch-Mitzenmacher双重哈希计算第i个位置：{@code (h1 + i * h2) mod m}
+	 *
+	 * @param h1   第一个64位Hash
+	 * @param h2   第二个64位Hash
+	 * @param i    序号
+	 * @param size 位数m
+	 * @return 位置
+	 */
+	static long index(long h1, long h2, int i, long size) {
+		final long combined = h1 + i * h2;
+		// 负数取反保证非负，与取绝对值不同，不会出现Long.MIN_VALUE溢出
+		return (combined < 0 ? ~combined : combined) % size;
+	}
+}
@@ -0,0 +1,198 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.hash.MurmurHash;
+import cn.hutool.core.util.ByteUtil;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 可扩容的布隆过滤器（Scalable Bloom Filter）<br>
+ * 普通布隆过滤器需要预先确定容量，加入的元素超过容量后误判率急剧上升，按照最大可能容量创建又会浪费内存。
+ * 此过滤器由多个{@link DoubleHashBloomFilter}组成，当前子过滤器加入的元素达到其容量后，新建一个容量按照增长倍数增加、
+ * 误判率按照收紧比例降低的子过滤器，查询时依次检查所有子过滤器。总误判率 {@code 1 - ∏(1 - p_i)} 不超过构造时指定的误判率。<br>
+ * 线程安全。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class ScalableBloomFilter implements BloomFilter {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认增长倍数
+	 */
+	public static final int DEFAULT_GROWTH_FACTOR = 2;
+	/**
+	 * 默认误判率收紧比例
+	 */
+	public static final double DEFAULT_TIGHTENING_RATIO = 0.5;
+
+	private final double fpp;
+	private final int growthFactor;
+	private final double tighteningRatio;
+
+	private final List<DoubleHashBloomFilter> filters = new CopyOnWriteArrayList<>();
+	/**
+	 * 当前子过滤器的容量
+	 */
+	private volatile long currentCapacity;
+
+	/**
+	 * 构造，增长倍数为{@link #DEFAULT_GROWTH_FACTOR}，误判率收紧比例为{@link #DEFAULT_TIGHTENING_RATIO}
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             期望的总误判率，(0, 1)之间
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp) {
+		this(initialCapacity, fpp, DEFAULT_GROWTH_FACTOR, DEFAULT_TIGHTENING_RATIO);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param initialCapacity 初始容量
+	 * @param fpp             期望的总误判率，(0, 1)之间
+	 * @param growthFactor    每个新子过滤器容量相对于上一个的增长倍数
+	 * @param tighteningRatio 每个新子过滤器误判率相对于上一个的收紧比例，(0, 1)之间
+	 */
+	public ScalableBloomFilter(long initialCapacity, double fpp, int growthFactor, double tighteningRatio) {
+		Assert.isTrue(initialCapacity > 0, "Initial capacity must be greater than 0");
+		Assert.isTrue(fpp > 0 && fpp < 1, "False positive probability must be in (0, 1)");
+		Assert.isTrue(growthFactor > 0, "Growth factor must be greater than 0");
+		Assert.isTrue(tighteningRatio > 0 && tighteningRatio < 1, "Tightening ratio must be in (0, 1)");
+		// 第一个子过滤器的误判率为p0 = p * (1 - r)，所有子过滤器的误判率之和收敛于p
+		this.fpp = fpp * (1 - tighteningRatio);
+		this.growthFactor = growthFactor;
+		this.tighteningRatio = tighteningRatio;
+
+		this.currentCapacity = initialCapacity;
+		this.filters.add(new DoubleHashBloomFilter(initialCapacity, this.fpp));
+	}
+
+	@Override
+	public boolean contains(String str) {
+		return contains(MurmurHash.hash128(str));
+	}
+
+	@Override
+	public boolean add(String str) {
+		return add(MurmurHash.hash128(str));
+	}
+
+	/**
+	 * 是否可能包含此元素，此处存在误判
+	 *
+	 * @param bytes 元素
+	 * @return 是否存在
+	 */
+	public boolean contains(byte[] bytes) {
+		return contains(MurmurHash.hash128(bytes));
+	}
+
+	/**
+	 * 加入元素
+	 *
+	 * @param bytes 元素
+	 * @return 是否加入，已存在时返回{@code false}
+	 */
+	public boolean add(byte[] bytes) {
+		return add(MurmurHash.hash128(bytes));
+	}
+
+	/**
+	 * 是否可能包含此元素，此处存在误判
+	 *
+	 * @param value 元素
+	 * @return 是否存在
+	 */
+	public boolean contains(long value) {
+		return contains(MurmurHash.hash128(ByteUtil.longToBytes(value)));
+	}
+
+	/**
+	 * 加入元素
+	 *
+	 * @param value 元素
+	 * @return 是否加入，已存在时返回{@code false}
+	 */
+	public boolean add(long value) {
+		return add(MurmurHash.hash128(ByteUtil.longToBytes(value)));
+	}
+
+	/**
+	 * @return 子过滤器个数
+	 */
+	public int getFilterCount() {
+		return filters.size();
+	}
+
+	/**
+	 * @return 加入的元素数，近似值
+	 */
+	public long getCount() {
+		long count = 0;
+		for (final DoubleHashBloomFilter filter : filters) {
+			count += filter.getCount();
+		}
+		return count;
+	}
+
+	/**
+	 * 根据各子过滤器当前的元素数估算总误判率：{@code 1 - ∏(1 - p_i)}
+	 *
+	 * @return 当前的误判率
+	 */
+	public double getFalsePositiveProbability() {
+		double notFalsePositive = 1;
+		for (final DoubleHashBloomFilter filter : filters) {
+			notFalsePositive *= 1 - filter.getFalsePositiveProbability();
+		}
+		return 1 - notFalsePositive;
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	private boolean contains(long[] hash128) {
+		// 新的子过滤器元素更多，优先检查
+		for (int i = filters.size() - 1; i >= 0; i--) {
+			if (filters.get(i).contains(hash128)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean add(long[] hash128) {
+		if (contains(hash128)) {
+			return false;
+		}
+		return current().add(hash128);
+	}
+
+	/**
+	 * 获取当前写入的子过滤器，已满时新建
+	 *
+	 * @return 子过滤器
+	 */
+	private DoubleHashBloomFilter current() {
+		DoubleHashBloomFilter filter = filters.get(filters.size() - 1);
+		if (filter.getCount() < currentCapacity) {
+			return filter;
+		}
+		synchronized (this) {
+			filter = filters.get(filters.size() - 1);
+			if (filter.getCount() >= currentCapacity) {
+				final int n = filters.size();
+				final long capacity = currentCapacity * growthFactor;
+				final double subFpp = fpp * Math.pow(tighteningRatio, n);
+				filter = new DoubleHashBloomFilter(capacity, subFpp);
+				filters.add(filter);
+				currentCapacity = capacity;
+			}
+			return filter;
+		}
+	}
+	// ---------------------------------------------------------------- private method end
+}
@@ -0,0 +1,65 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 线程安全的32位BitMap，基于{@link AtomicIntegerArray}和CAS实现<br>
+ * 与{@link IntMap}相同的布局，但设置和清除位为原子操作，可在多线程间共享而无需外部同步。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class AtomicIntMap implements BitMap, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final AtomicIntegerArray ints;
+
+	/**
+	 * 构造
+	 *
+	 * @param size 容量，即int的个数
+	 */
+	public AtomicIntMap(int size) {
+		ints = new AtomicIntegerArray(size);
+	}
+
+	@Override
+	public void add(long i) {
+		addIfAbsent(i);
+	}
+
+	@Override
+	public boolean addIfAbsent(long i) {
+		final int r = (int) (i / BitMap.MACHINE32);
+		final int mask = 1 << (int) (i & (BitMap.MACHINE32 - 1));
+		int current;
+		do {
+			current = ints.get(r);
+			if ((current & mask) != 0) {
+				return false;
+			}
+		} while (false == ints.compareAndSet(r, current, current | mask));
+		return true;
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final int r = (int) (i / BitMap.MACHINE32);
+		final int c = (int) (i & (BitMap.MACHINE32 - 1));
+		return ((ints.get(r) >>> c) & 1) == 1;
+	}
+
+	@Override
+	public void remove(long i) {
+		final int r = (int) (i / BitMap.MACHINE32);
+		final int mask = 1 << (int) (i & (BitMap.MACHINE32 - 1));
+		int current;
+		do {
+			current = ints.get(r);
+			if ((current & mask) == 0) {
+				return;
+			}
+		} while (false == ints.compareAndSet(r, current, current & ~mask));
+	}
+}
@@ -0,0 +1,89 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 线程安全的64位BitMap，基于{@link AtomicLongArray}和CAS实现<br>
+ * {@link LongMap}的{@code longs[r] = longs[r] | (1L << c)}不是原子操作，多线程同时写入同一个long时会丢失位，
+ * 导致布隆过滤器出现漏判。此类通过CAS无锁地设置和清除位，可在多线程间共享而无需外部同步。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class AtomicLongMap implements WordBitMap, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final AtomicLongArray longs;
+
+	/**
+	 * 构造
+	 *
+	 * @param size 容量，即long的个数
+	 */
+	public AtomicLongMap(int size) {
+		longs = new AtomicLongArray(size);
+	}
+
+	/**
+	 * 构造，复制给定BitMap中的所有位
+	 *
+	 * @param source 源BitMap
+	 */
+	public AtomicLongMap(WordBitMap source) {
+		final int size = source.wordCount();
+		longs = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			longs.set(i, source.getWord(i));
+		}
+	}
+
+	@Override
+	public void add(long i) {
+		addIfAbsent(i);
+	}
+
+	@Override
+	public boolean addIfAbsent(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = 1L << (i & (BitMap.MACHINE64 - 1));
+		long current;
+		do {
+			current = longs.get(r);
+			if ((current & mask) != 0) {
+				return false;
+			}
+		} while (false == longs.compareAndSet(r, current, current | mask));
+		return true;
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long c = i & (BitMap.MACHINE64 - 1);
+		return ((longs.get(r) >>> c) & 1) == 1;
+	}
+
+	@Override
+	public void remove(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long mask = 1L << (i & (BitMap.MACHINE64 - 1));
+		long current;
+		do {
+			current = longs.get(r);
+			if ((current & mask) == 0) {
+				return;
+			}
+		} while (false == longs.compareAndSet(r, current, current & ~mask));
+	}
+
+	@Override
+	public int wordCount() {
+		return longs.length();
+	}
+
+	@Override
+	public long getWord(int index) {
+		return longs.get(index);
+	}
+}
@@ -26,6 +26,22 @@ public interface BitMap{
 	 */
 	boolean contains(long i);
 
+	/**
+	 * 加入值，并返回此值是否由本次调用加入<br>
+	 * 默认实现为先检查再加入，非原子操作，线程安全的实现应重写此方法
+	 *
+	 * @param i 值
+	 * @return 加入前不存在返回{@code true}，已存在返回{@code false}
+	 * @since 5.8.35
+	 */
+	default boolean addIfAbsent(long i) {
+		if (contains(i)) {
+			return false;
+		}
+		add(i);
+		return true;
+	}
+
 	/**
 	 * 移除值
 	 *
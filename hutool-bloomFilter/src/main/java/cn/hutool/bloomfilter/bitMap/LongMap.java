@@ -8,7 +8,7 @@ import java.io.Serializable;
  * @author loolly
  *
  */
-public class LongMap implements BitMap, Serializable {
+public class LongMap implements WordBitMap, Serializable {
 	private static final long serialVersionUID = 1L;
 
 	private final long[] longs;
@@ -29,6 +29,20 @@ public class LongMap implements BitMap, Serializable {
 		longs = new long[size];
 	}
 
+	/**
+	 * 构造，复制给定BitMap中的所有位
+	 *
+	 * @param source 源BitMap
+	 * @since 5.8.35
+	 */
+	public LongMap(WordBitMap source) {
+		final int size = source.wordCount();
+		longs = new long[size];
+		for (int i = 0; i < size; i++) {
+			longs[i] = source.getWord(i);
+		}
+	}
+
 	@Override
 	public void add(long i) {
 		int r = (int) (i / BitMap.MACHINE64);
@@ -50,4 +64,13 @@ public class LongMap implements BitMap, Serializable {
 		longs[r] &= ~(1L << c);
 	}
 
+	@Override
+	public int wordCount() {
+		return longs.length;
+	}
+
+	@Override
+	public long getWord(int index) {
+		return longs[index];
+	}
 }
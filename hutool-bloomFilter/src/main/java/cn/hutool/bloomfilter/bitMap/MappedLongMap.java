@@ -0,0 +1,91 @@
+package cn.hutool.bloomfilter.bitMap;
+
+import java.io.Serializable;
+import java.nio.LongBuffer;
+
+/**
+ * 基于只读{@link LongBuffer}（通常来自内存映射文件）的64位BitMap<br>
+ * 数据不复制到堆中，打开后即可查询，多个进程映射同一个文件时共享同一份物理内存。只读，加入和移除操作抛出{@link UnsupportedOperationException}。<br>
+ * 单个映射最大2GB，因此位数据按照{@link #SEGMENT_WORDS}个long分段映射。<br>
+ * 序列化时位数据被复制为堆中的{@link LongMap}，反序列化得到的是可写的普通BitMap。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class MappedLongMap implements WordBitMap, Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 每段的long个数的位移，每段2^27个long，即1GB
+	 */
+	public static final int SEGMENT_SHIFT = 27;
+	/**
+	 * 每段的long个数，除最后一段外每段长度必须为此值
+	 */
+	public static final int SEGMENT_WORDS = 1 << SEGMENT_SHIFT;
+	private static final int SEGMENT_MASK = SEGMENT_WORDS - 1;
+
+	private final transient LongBuffer[] segments;
+	private final int wordCount;
+
+	/**
+	 * 构造
+	 *
+	 * @param segments 分段的位数据，均从position 0开始，除最后一段外每段长度为{@link #SEGMENT_WORDS}
+	 */
+	public MappedLongMap(LongBuffer... segments) {
+		long wordCount = 0;
+		for (int i = 0; i < segments.length; i++) {
+			if (i < segments.length - 1 && segments[i].limit() != SEGMENT_WORDS) {
+				throw new IllegalArgumentException("Segment " + i + " must contain " + SEGMENT_WORDS + " words!");
+			}
+			wordCount += segments[i].limit();
+		}
+		if (wordCount > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Too many words: " + wordCount);
+		}
+		this.segments = segments;
+		this.wordCount = (int) wordCount;
+	}
+
+	@Override
+	public void add(long i) {
+		throw new UnsupportedOperationException("MappedLongMap is read-only!");
+	}
+
+	@Override
+	public boolean addIfAbsent(long i) {
+		throw new UnsupportedOperationException("MappedLongMap is read-only!");
+	}
+
+	@Override
+	public boolean contains(long i) {
+		final int r = (int) (i / BitMap.MACHINE64);
+		final long c = i & (BitMap.MACHINE64 - 1);
+		return ((getWord(r) >>> c) & 1) == 1;
+	}
+
+	@Override
+	public void remove(long i) {
+		throw new UnsupportedOperationException("MappedLongMap is read-only!");
+	}
+
+	@Override
+	public int wordCount() {
+		return this.wordCount;
+	}
+
+	@Override
+	public long getWord(int index) {
+		return segments[index >>> SEGMENT_SHIFT].get(index & SEGMENT_MASK);
+	}
+
+	/**
+	 * 序列化时复制为堆中的{@link LongMap}，映射的内存无法序列化
+	 *
+	 * @return {@link LongMap}
+	 */
+	private Object writeReplace() {
+		return new LongMap(this);
+	}
+}
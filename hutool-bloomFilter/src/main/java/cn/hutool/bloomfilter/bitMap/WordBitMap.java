@@ -0,0 +1,26 @@
+package cn.hutool.bloomfilter.bitMap;
+
+/**
+ * 以long为单位存储的BitMap，可按照long（字）批量读取，用于快照等需要导出全部位的场景<br>
+ * 第i位存放在第{@code i / 64}个long的第{@code i % 64}位
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public interface WordBitMap extends BitMap {
+
+	/**
+	 * 获取long的个数
+	 *
+	 * @return long的个数
+	 */
+	int wordCount();
+
+	/**
+	 * 获取指定位置的long
+	 *
+	 * @param index 位置
+	 * @return long值
+	 */
+	long getWord(int index);
+}
@@ -1,6 +1,8 @@
 package cn.hutool.bloomfilter.filter;
 
 import cn.hutool.bloomfilter.BloomFilter;
+import cn.hutool.bloomfilter.bitMap.AtomicIntMap;
+import cn.hutool.bloomfilter.bitMap.AtomicLongMap;
 import cn.hutool.bloomfilter.bitMap.BitMap;
 import cn.hutool.bloomfilter.bitMap.IntMap;
 import cn.hutool.bloomfilter.bitMap.LongMap;
@@ -30,6 +32,18 @@ public abstract class AbstractFilter implements BloomFilter {
 		init(maxValue, machineNum);
 	}
 
+	/**
+	 * 构造
+	 *
+	 * @param maxValue   最大值
+	 * @param machineNum 机器位数
+	 * @param concurrent 是否线程安全，{@code true}时使用基于CAS的BitMap，可在多线程间共享
+	 * @since 5.8.35
+	 */
+	public AbstractFilter(long maxValue, int machineNum, boolean concurrent) {
+		init(maxValue, machineNum, concurrent);
+	}
+
 	/**
 	 * 构造32位
 	 *
@@ -46,13 +60,25 @@ public abstract class AbstractFilter implements BloomFilter {
 	 * @param machineNum 机器位数
 	 */
 	public void init(long maxValue, int machineNum) {
+		init(maxValue, machineNum, false);
+	}
+
+	/**
+	 * 初始化
+	 *
+	 * @param maxValue   最大值
+	 * @param machineNum 机器位数
+	 * @param concurrent 是否线程安全，{@code true}时使用基于CAS的BitMap，可在多线程间共享
+	 * @since 5.8.35
+	 */
+	public void init(long maxValue, int machineNum, boolean concurrent) {
 		this.size = maxValue;
 		switch (machineNum) {
 		case BitMap.MACHINE32:
-			bm = new IntMap((int) (size / machineNum));
+			bm = concurrent ? new AtomicIntMap((int) (size / machineNum)) : new IntMap((int) (size / machineNum));
 			break;
 		case BitMap.MACHINE64:
-			bm = new LongMap((int) (size / machineNum));
+			bm = concurrent ? new AtomicLongMap((int) (size / machineNum)) : new LongMap((int) (size / machineNum));
 			break;
 		default:
 			throw new RuntimeException("Error Machine number!");
@@ -66,13 +92,7 @@ public abstract class AbstractFilter implements BloomFilter {
 
 	@Override
 	public boolean add(String str) {
-		final long hash = Math.abs(hash(str));
-		if (bm.contains(hash)) {
-			return false;
-		}
-
-		bm.add(hash);
-		return true;
+		return bm.addIfAbsent(Math.abs(hash(str)));
 	}
 
 	/**
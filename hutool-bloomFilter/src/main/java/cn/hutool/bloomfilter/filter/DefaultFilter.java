@@ -15,6 +15,10 @@ public class DefaultFilter extends FuncFilter {
 	}
 
 	public DefaultFilter(long maxValue, int machineNumber) {
-		super(maxValue, machineNumber, HashUtil::javaDefaultHash);
+		this(maxValue, machineNumber, false);
+	}
+
+	public DefaultFilter(long maxValue, int machineNumber, boolean concurrent) {
+		super(maxValue, machineNumber, concurrent, HashUtil::javaDefaultHash);
 	}
 }
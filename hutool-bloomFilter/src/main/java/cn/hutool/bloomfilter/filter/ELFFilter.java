@@ -10,6 +10,10 @@ public class ELFFilter extends FuncFilter {
 	}
 
 	public ELFFilter(long maxValue, int machineNumber) {
-		super(maxValue, machineNumber, HashUtil::elfHash);
+		this(maxValue, machineNumber, false);
+	}
+
+	public ELFFilter(long maxValue, int machineNumber, boolean concurrent) {
+		super(maxValue, machineNumber, concurrent, HashUtil::elfHash);
 	}
 }
@@ -10,6 +10,10 @@ public class FNVFilter extends FuncFilter {
 	}
 
 	public FNVFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::fnvHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public FNVFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::fnvHash);
 	}
 }
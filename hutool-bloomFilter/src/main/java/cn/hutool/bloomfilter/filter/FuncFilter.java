@@ -31,7 +31,18 @@ public class FuncFilter extends AbstractFilter {
 	 * @param hashFunc   Hash函数
 	 */
 	public FuncFilter(long maxValue, int machineNum, Function<String, Number> hashFunc) {
-		super(maxValue, machineNum);
+		this(maxValue, machineNum, false, hashFunc);
+	}
+
+	/**
+	 * @param maxValue   最大值
+	 * @param machineNum 机器位数
+	 * @param concurrent 是否线程安全
+	 * @param hashFunc   Hash函数
+	 * @since 5.8.35
+	 */
+	public FuncFilter(long maxValue, int machineNum, boolean concurrent, Function<String, Number> hashFunc) {
+		super(maxValue, machineNum, concurrent);
 		this.hashFunc = hashFunc;
 	}
 
@@ -11,6 +11,10 @@ public class HfFilter extends FuncFilter {
 	}
 
 	public HfFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::hfHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public HfFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::hfHash);
 	}
 }
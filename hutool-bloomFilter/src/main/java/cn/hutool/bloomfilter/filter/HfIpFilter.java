@@ -10,6 +10,10 @@ public class HfIpFilter extends FuncFilter {
 	}
 
 	public HfIpFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::hfIpHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public HfIpFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::hfIpHash);
 	}
 }
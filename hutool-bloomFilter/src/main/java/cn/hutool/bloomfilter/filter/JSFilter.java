@@ -10,6 +10,10 @@ public class JSFilter extends FuncFilter {
 	}
 
 	public JSFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::jsHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public JSFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::jsHash);
 	}
 }
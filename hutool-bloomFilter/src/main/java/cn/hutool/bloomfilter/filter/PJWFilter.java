@@ -10,6 +10,10 @@ public class PJWFilter extends FuncFilter {
 	}
 
 	public PJWFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::pjwHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public PJWFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::pjwHash);
 	}
 }
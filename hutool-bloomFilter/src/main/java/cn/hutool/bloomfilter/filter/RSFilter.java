@@ -10,6 +10,10 @@ public class RSFilter extends FuncFilter {
 	}
 
 	public RSFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::rsHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public RSFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::rsHash);
 	}
 }
@@ -10,6 +10,10 @@ public class SDBMFilter extends FuncFilter {
 	}
 
 	public SDBMFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::sdbmHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public SDBMFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::sdbmHash);
 	}
 }
@@ -10,6 +10,10 @@ public class TianlFilter extends FuncFilter {
 	}
 
 	public TianlFilter(long maxValue, int machineNum) {
-		super(maxValue, machineNum, HashUtil::tianlHash);
+		this(maxValue, machineNum, false);
+	}
+
+	public TianlFilter(long maxValue, int machineNum, boolean concurrent) {
+		super(maxValue, machineNum, concurrent, HashUtil::tianlHash);
 	}
 }
@@ -4,8 +4,15 @@ import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import cn.hutool.bloomfilter.bitMap.AtomicIntMap;
+import cn.hutool.bloomfilter.bitMap.AtomicLongMap;
 import cn.hutool.bloomfilter.bitMap.IntMap;
 import cn.hutool.bloomfilter.bitMap.LongMap;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.thread.ConcurrencyTester;
+import cn.hutool.core.thread.ThreadUtil;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class BitMapBloomFilterTest {
 
@@ -21,6 +28,62 @@ public class BitMapBloomFilterTest {
 		assertTrue(filter.contains("123"));
 	}
 
+	@Test
+	public void concurrentFilterTest() {
+		final BitMapBloomFilter filter = BloomFilterUtil.createConcurrentBitMap(10);
+		final AtomicInteger threadIndex = new AtomicInteger();
+		final ConcurrencyTester tester = ThreadUtil.concurrencyTest(8, () -> {
+			final String prefix = threadIndex.getAndIncrement() + "-";
+			for (int i = 0; i < 10000; i++) {
+				filter.add(prefix + i);
+			}
+		});
+		IoUtil.close(tester);
+
+		for (int i = 0; i < 10000; i++) {
+			for (int t = 0; t < 8; t++) {
+				assertTrue(filter.contains(t + "-" + i));
+			}
+		}
+	}
+
+	@Test
+	public void concurrentBitSetFilterTest() {
+		final ConcurrentBitSetBloomFilter filter = BloomFilterUtil.createConcurrentBitSet(200000, 80000, 5);
+		final AtomicInteger threadIndex = new AtomicInteger();
+		final ConcurrencyTester tester = ThreadUtil.concurrencyTest(8, () -> {
+			final String prefix = threadIndex.getAndIncrement() + "-";
+			for (int i = 0; i < 10000; i++) {
+				filter.add(prefix + i);
+			}
+		});
+		IoUtil.close(tester);
+
+		for (int i = 0; i < 10000; i++) {
+			for (int t = 0; t < 8; t++) {
+				assertTrue(filter.contains(t + "-" + i));
+			}
+		}
+		assertFalse(filter.add("0-1"));
+	}
+
+	@Test
+	public void atomicMapTest() {
+		final AtomicLongMap longMap = new AtomicLongMap(2);
+		assertTrue(longMap.addIfAbsent(70));
+		assertFalse(longMap.addIfAbsent(70));
+		assertTrue(longMap.contains(70));
+		longMap.remove(70);
+		assertFalse(longMap.contains(70));
+
+		final AtomicIntMap intMap = new AtomicIntMap(2);
+		intMap.add(33);
+		assertTrue(intMap.contains(33));
+		assertFalse(intMap.contains(32));
+		intMap.remove(33);
+		assertFalse(intMap.contains(33));
+	}
+
 	@Test
 	@Disabled
 	public void testIntMap(){
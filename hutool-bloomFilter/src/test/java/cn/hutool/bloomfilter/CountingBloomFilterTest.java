@@ -0,0 +1,86 @@
+package cn.hutool.bloomfilter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CountingBloomFilterTest {
+
+	@Test
+	public void addAndRemoveTest() {
+		final CountingBloomFilter filter = BloomFilterUtil.createCounting(1000, 0.01);
+		assertTrue(filter.add("abc"));
+		assertTrue(filter.contains("abc"));
+		assertEquals(1, filter.getCount());
+
+		// 多次加入需要多次移除
+		filter.add("abc");
+		assertTrue(filter.remove("abc"));
+		assertTrue(filter.contains("abc"));
+		assertTrue(filter.remove("abc"));
+		assertFalse(filter.contains("abc"));
+		assertFalse(filter.remove("abc"));
+		assertEquals(0, filter.getCount());
+		assertEquals(0, filter.getFalsePositiveProbability());
+
+		filter.add(1L);
+		filter.add(new byte[]{1, 2});
+		assertTrue(filter.remove(1L));
+		assertFalse(filter.contains(1L));
+		assertTrue(filter.contains(new byte[]{1, 2}));
+	}
+
+	@Test
+	public void removeKeepOthersTest() {
+		final CountingBloomFilter filter = new CountingBloomFilter(10000, 0.01);
+		for (long i = 0; i < 10000; i++) {
+			filter.add(i);
+		}
+		for (long i = 0; i < 10000; i += 2) {
+			assertTrue(filter.remove(i));
+		}
+		// 未移除的元素不能出现漏判
+		for (long i = 1; i < 10000; i += 2) {
+			assertTrue(filter.contains(i));
+		}
+		assertEquals(5000, filter.getCount());
+		assertTrue(filter.getFalsePositiveProbability() < 0.01);
+	}
+
+	@Test
+	public void saturateTest() {
+		// 单个计数器，达到最大值后不再变化
+		final CountingBloomFilter filter = new CountingBloomFilter(1, 1);
+		for (int i = 0; i < 20; i++) {
+			filter.add("a");
+		}
+		assertEquals(15, filter.getCounter(0));
+		for (int i = 0; i < 20; i++) {
+			filter.remove("a");
+		}
+		assertEquals(15, filter.getCounter(0));
+		assertTrue(filter.contains("a"));
+	}
+
+	@Test
+	public void scalableTest() {
+		final ScalableBloomFilter filter = BloomFilterUtil.createScalable(1000, 0.01);
+		for (long i = 0; i < 10000; i++) {
+			filter.add(i);
+		}
+		assertTrue(filter.getFilterCount() > 1);
+		for (long i = 0; i < 10000; i++) {
+			assertTrue(filter.contains(i));
+		}
+		assertFalse(filter.add(1L));
+		assertTrue(filter.getFalsePositiveProbability() <= 0.01);
+
+		int falsePositives = 0;
+		for (long i = 10000; i < 20000; i++) {
+			if (filter.contains(i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 200, "False positives: " + falsePositives);
+	}
+}
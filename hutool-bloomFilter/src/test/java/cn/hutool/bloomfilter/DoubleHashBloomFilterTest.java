@@ -0,0 +1,108 @@
+package cn.hutool.bloomfilter;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.util.ObjectUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DoubleHashBloomFilterTest {
+
+	@Test
+	public void addAndContainsTest() {
+		final DoubleHashBloomFilter filter = BloomFilterUtil.createDoubleHash(1000, 0.01);
+		assertTrue(filter.add("abc"));
+		assertFalse(filter.add("abc"));
+		assertTrue(filter.contains("abc"));
+
+		filter.add(new byte[]{1, 2, 3});
+		assertTrue(filter.contains(new byte[]{1, 2, 3}));
+
+		filter.add(123456789L);
+		assertTrue(filter.contains(123456789L));
+		assertEquals(3, filter.getCount());
+
+		// m = -n * ln(p) / (ln2)^2，k = m / n * ln2
+		assertEquals(9585, filter.getBitSize());
+		assertEquals(7, filter.getHashFunctionNumber());
+	}
+
+	@Test
+	public void falsePositiveTest() {
+		final DoubleHashBloomFilter filter = new DoubleHashBloomFilter(10000, 0.01);
+		for (long i = 0; i < 10000; i++) {
+			filter.add(i);
+		}
+		for (long i = 0; i < 10000; i++) {
+			assertTrue(filter.contains(i));
+		}
+
+		int falsePositives = 0;
+		for (long i = 10000; i < 20000; i++) {
+			if (filter.contains(i)) {
+				falsePositives++;
+			}
+		}
+		// 期望误判率1%，留出余量
+		assertTrue(falsePositives < 200, "False positives: " + falsePositives);
+	}
+
+	@Test
+	public void snapshotTest() {
+		final DoubleHashBloomFilter filter = new DoubleHashBloomFilter(10000, 0.01);
+		for (long i = 0; i < 10000; i++) {
+			filter.add(i);
+		}
+		final File file = FileUtil.file(FileUtil.getTmpDir(), "hutool-bloom-" + System.nanoTime() + ".bf");
+		try {
+			filter.writeTo(file);
+
+			final DoubleHashBloomFilter opened = DoubleHashBloomFilter.open(file);
+			assertEquals(filter.getBitSize(), opened.getBitSize());
+			assertEquals(filter.getHashFunctionNumber(), opened.getHashFunctionNumber());
+			assertEquals(filter.getCount(), opened.getCount());
+			for (long i = 0; i < 10000; i++) {
+				assertTrue(opened.contains(i));
+			}
+			assertThrows(UnsupportedOperationException.class, () -> opened.add(1L));
+
+			// 映射的过滤器序列化时位数据复制到堆中，反序列化得到可写的过滤器
+			final DoubleHashBloomFilter cloned = ObjectUtil.cloneByStream(opened);
+			assertEquals(filter.getCount(), cloned.getCount());
+			assertTrue(cloned.contains(9999L));
+			assertTrue(cloned.add("hutool-cloned"));
+
+			final DoubleHashBloomFilter loaded = DoubleHashBloomFilter.load(file);
+			assertTrue(loaded.contains(9999L));
+			assertTrue(loaded.add("hutool"));
+			assertTrue(loaded.contains("hutool"));
+
+			// 覆盖已有快照
+			loaded.writeTo(file);
+			assertTrue(DoubleHashBloomFilter.open(file).contains("hutool"));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void openInvalidTest() {
+		final File file = FileUtil.writeUtf8String("not a snapshot, just some text", FileUtil.createTempFile());
+		try {
+			assertThrows(IORuntimeException.class, () -> DoubleHashBloomFilter.open(file));
+		} finally {
+			FileUtil.del(file);
+		}
+	}
+
+	@Test
+	public void indexTest() {
+		for (int i = 0; i < 10; i++) {
+			final long index = DoubleHashBloomFilter.index(Long.MIN_VALUE, Long.MAX_VALUE, i, 1000);
+			assertTrue(index >= 0 && index < 1000);
+		}
+	}
+}
@@ -0,0 +1,421 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func1;
+import cn.hutool.core.thread.GlobalThreadPool;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 异步加载缓存，对{@link Cache}的包装<br>
+ * 与{@link Cache#get(Object, cn.hutool.core.lang.func.Func0)}在调用线程中加锁同步加载不同，此缓存：
+ * <ul>
+ *     <li>未命中时在指定的{@link Executor}中加载，返回{@link CompletableFuture}，调用方不阻塞</li>
+ *     <li>同一个键的并发未命中合并到同一个正在进行的加载上，每个键同一时间最多只有一个加载任务</li>
+ *     <li>可选写入后刷新（refresh-after-write）：值写入超过指定时长后，读取时依旧返回旧值，同时在后台重新加载</li>
+ *     <li>批量获取时，未命中的键可通过批量加载器一次性加载</li>
+ * </ul>
+ * 加载器返回{@code null}时，结果为{@code null}且不放入缓存。<br>
+ * 注意：此类会占用被包装缓存的监听，如需监听移除事件，请使用{@link #setListener(CacheListener)}。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.35
+ */
+public class AsyncLoadingCache<K, V> {
+
+	private final Cache<K, V> cache;
+	private final Func1<K, V> loader;
+	private final Executor executor;
+
+	/**
+	 * 正在进行的加载任务
+	 */
+	private final Map<K, CompletableFuture<V>> loadingMap = new ConcurrentHashMap<>();
+	/**
+	 * 通过本类加载的值的写入时间，用于判断是否需要刷新<br>
+	 * 对象被移除或读取时发现已不在缓存中时同步移除
+	 */
+	private final Map<K, Long> writeTimeMap = new ConcurrentHashMap<>();
+
+	/**
+	 * 批量加载器，{@code null}表示逐个加载
+	 */
+	private Func1<Set<K>, Map<K, V>> bulkLoader;
+	/**
+	 * 写入后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 */
+	private long refreshAfterWrite;
+	/**
+	 * 用户监听
+	 */
+	private CacheListener<K, V> listener;
+
+	/**
+	 * 构造，使用全局线程池{@link GlobalThreadPool}加载
+	 *
+	 * @param cache  被包装的缓存
+	 * @param loader 加载器
+	 */
+	public AsyncLoadingCache(Cache<K, V> cache, Func1<K, V> loader) {
+		this(cache, loader, GlobalThreadPool.getExecutor());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param cache    被包装的缓存
+	 * @param loader   加载器
+	 * @param executor 执行加载的线程池
+	 */
+	public AsyncLoadingCache(Cache<K, V> cache, Func1<K, V> loader, Executor executor) {
+		this.cache = Assert.notNull(cache, "Cache must be not null!");
+		this.loader = Assert.notNull(loader, "Loader must be not null!");
+		this.executor = Assert.notNull(executor, "Executor must be not null!");
+		cache.setListener(new CacheListener<K, V>() {
+			@Override
+			public void onRemove(K key, V cachedObject) {
+				writeTimeMap.remove(key);
+				final CacheListener<K, V> listener = AsyncLoadingCache.this.listener;
+				if (null != listener) {
+					listener.onRemove(key, cachedObject);
+				}
+			}
+
+			@Override
+			public void onRemove(K key, V cachedObject, RemovalCause cause) {
+				writeTimeMap.remove(key);
+				final CacheListener<K, V> listener = AsyncLoadingCache.this.listener;
+				if (null != listener) {
+					listener.onRemove(key, cachedObject, cause);
+				}
+			}
+		});
+	}
+
+	/**
+	 * 设置批量加载器，用于{@link #getAll(Collection)}中一次性加载所有未命中的键<br>
+	 * 批量加载器返回的Map中不存在的键，结果为{@code null}
+	 *
+	 * @param bulkLoader 批量加载器
+	 * @return this
+	 */
+	public AsyncLoadingCache<K, V> setBulkLoader(Func1<Set<K>, Map<K, V>> bulkLoader) {
+		this.bulkLoader = bulkLoader;
+		return this;
+	}
+
+	/**
+	 * 设置写入后刷新时长，值写入超过此时长后，读取时返回旧值并在后台重新加载，加载失败时保留旧值
+	 *
+	 * @param refreshAfterWrite 写入后刷新时长，单位毫秒，{@code 0}表示不刷新
+	 * @return this
+	 */
+	public AsyncLoadingCache<K, V> setRefreshAfterWrite(long refreshAfterWrite) {
+		this.refreshAfterWrite = refreshAfterWrite;
+		return this;
+	}
+
+	/**
+	 * 设置监听
+	 *
+	 * @param listener 监听
+	 * @return this
+	 */
+	public AsyncLoadingCache<K, V> setListener(CacheListener<K, V> listener) {
+		this.listener = listener;
+		return this;
+	}
+
+	/**
+	 * 获取被包装的缓存
+	 *
+	 * @return 被包装的缓存
+	 */
+	public Cache<K, V> getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * 获取缓存的值，不触发加载
+	 *
+	 * @param key 键
+	 * @return 值，不存在返回{@code null}
+	 */
+	public V getIfPresent(K key) {
+		return cache.get(key);
+	}
+
+	/**
+	 * 异步获取值<br>
+	 * 命中时返回已完成的{@link CompletableFuture}，如果值需要刷新，同时在后台重新加载；
+	 * 未命中时加载，同一个键的并发请求共享同一个加载结果。
+	 *
+	 * @param key 键
+	 * @return 值的{@link CompletableFuture}
+	 */
+	public CompletableFuture<V> get(K key) {
+		// 写入时间先于值读取，保证不会误删并发加载写入的新时间
+		final Long writeTime = writeTimeMap.get(key);
+		final V value = cache.get(key);
+		if (null != value) {
+			if (isStale(writeTime)) {
+				refresh(key);
+			}
+			return CompletableFuture.completedFuture(value);
+		}
+		removeWriteTime(key, writeTime);
+		return load(key);
+	}
+
+	/**
+	 * 异步批量获取值<br>
+	 * 已缓存的值直接返回，未命中的键如果设置了批量加载器，则一次性加载，否则逐个加载。
+	 *
+	 * @param keys 键列表
+	 * @return 键值对的{@link CompletableFuture}，顺序与给定的键一致，值可能为{@code null}
+	 */
+	public CompletableFuture<Map<K, V>> getAll(Collection<K> keys) {
+		final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>(keys.size(), 1);
+		final Map<K, CompletableFuture<V>> toLoad = new LinkedHashMap<>();
+		for (final K key : keys) {
+			if (futures.containsKey(key)) {
+				continue;
+			}
+			final Long writeTime = writeTimeMap.get(key);
+			final V value = cache.get(key);
+			if (null != value) {
+				if (isStale(writeTime)) {
+					refresh(key);
+				}
+				futures.put(key, CompletableFuture.completedFuture(value));
+				continue;
+			}
+
+			removeWriteTime(key, writeTime);
+			if (null == bulkLoader) {
+				futures.put(key, load(key));
+			} else {
+				// 已经在加载中的键加入其中，其它的键登记后批量加载
+				final CompletableFuture<V> future = new CompletableFuture<>();
+				final CompletableFuture<V> existFuture = loadingMap.putIfAbsent(key, future);
+				if (null != existFuture) {
+					futures.put(key, existFuture);
+				} else {
+					futures.put(key, future);
+					toLoad.put(key, future);
+				}
+			}
+		}
+
+		if (false == toLoad.isEmpty()) {
+			bulkLoad(toLoad);
+		}
+
+		return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply((ignore) -> {
+			final Map<K, V> result = new LinkedHashMap<>(futures.size(), 1);
+			futures.forEach((key, future) -> result.put(key, future.join()));
+			return result;
+		});
+	}
+
+	/**
+	 * 异步重新加载值，加载期间读取依旧返回旧值，加载失败时保留旧值<br>
+	 * 如果此键已经在加载中，返回正在进行的加载
+	 *
+	 * @param key 键
+	 * @return 新值的{@link CompletableFuture}
+	 */
+	public CompletableFuture<V> refresh(K key) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> existFuture = loadingMap.putIfAbsent(key, future);
+		if (null != existFuture) {
+			return existFuture;
+		}
+		execute(key, future, () -> loadAndPut(key, future));
+		return future;
+	}
+
+	/**
+	 * 放入值，并记录写入时间
+	 *
+	 * @param key   键
+	 * @param value 值
+	 */
+	public void put(K key, V value) {
+		cache.put(key, value);
+		writeTimeMap.put(key, System.currentTimeMillis());
+	}
+
+	/**
+	 * 移除值，正在进行的加载完成后结果不再放入缓存
+	 *
+	 * @param key 键
+	 */
+	public void invalidate(K key) {
+		// 先移除加载任务，之后完成的加载不再放入缓存，之前完成的加载结果随后被移除
+		loadingMap.remove(key);
+		cache.remove(key);
+		writeTimeMap.remove(key);
+	}
+
+	/**
+	 * 清空缓存，正在进行的加载完成后结果不再放入缓存
+	 */
+	public void invalidateAll() {
+		loadingMap.clear();
+		cache.clear();
+		writeTimeMap.clear();
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 加载值，如果此键已经在加载中，返回正在进行的加载
+	 *
+	 * @param key 键
+	 * @return 值的{@link CompletableFuture}
+	 */
+	private CompletableFuture<V> load(K key) {
+		final CompletableFuture<V> future = new CompletableFuture<>();
+		final CompletableFuture<V> existFuture = loadingMap.putIfAbsent(key, future);
+		if (null != existFuture) {
+			return existFuture;
+		}
+
+		// 双重检查，防止在登记加载任务前其它线程已经加载完成
+		final V value = cache.get(key, false);
+		if (null != value) {
+			loadingMap.remove(key, future);
+			future.complete(value);
+			return future;
+		}
+
+		execute(key, future, () -> loadAndPut(key, future));
+		return future;
+	}
+
+	/**
+	 * 执行加载并放入缓存，完成后移除加载任务
+	 *
+	 * @param key    键
+	 * @param future 加载任务
+	 */
+	private void loadAndPut(K key, CompletableFuture<V> future) {
+		final V value;
+		try {
+			value = loader.call(key);
+		} catch (Throwable e) {
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+			return;
+		}
+		complete(key, future, value);
+	}
+
+	/**
+	 * 批量加载
+	 *
+	 * @param toLoad 需要加载的键及其加载任务
+	 */
+	private void bulkLoad(Map<K, CompletableFuture<V>> toLoad) {
+		final Runnable task = () -> {
+			final Map<K, V> values;
+			try {
+				values = bulkLoader.call(new LinkedHashSet<>(toLoad.keySet()));
+			} catch (Throwable e) {
+				toLoad.forEach((key, future) -> {
+					loadingMap.remove(key, future);
+					future.completeExceptionally(e);
+				});
+				return;
+			}
+			toLoad.forEach((key, future) -> complete(key, future, null == values ? null : values.get(key)));
+		};
+
+		try {
+			executor.execute(task);
+		} catch (Throwable e) {
+			toLoad.forEach((key, future) -> {
+				loadingMap.remove(key, future);
+				future.completeExceptionally(e);
+			});
+		}
+	}
+
+	/**
+	 * 加载完成，先放入缓存再移除加载任务，保证任意时刻值在缓存或加载任务中可见<br>
+	 * 加载期间此键被移除（加载任务已不在loadingMap中）时，结果只返回给调用方，不放入缓存<br>
+	 * 放入缓存在loadingMap对此键的原子操作中完成，与{@link #invalidate(Object)}中的移除互斥，不同键之间互不阻塞
+	 *
+	 * @param key    键
+	 * @param future 加载任务
+	 * @param value  加载的值
+	 */
+	private void complete(K key, CompletableFuture<V> future, V value) {
+		loadingMap.computeIfPresent(key, (k, loadingFuture) -> {
+			if (loadingFuture != future) {
+				// 加载期间被移除后又开始了新的加载，保留新的加载任务
+				return loadingFuture;
+			}
+			if (null != value) {
+				put(k, value);
+			}
+			return null;
+		});
+		future.complete(value);
+	}
+
+	/**
+	 * 提交加载任务，线程池拒绝时加载任务以异常完成
+	 *
+	 * @param key    键
+	 * @param future 加载任务
+	 * @param task   任务
+	 */
+	private void execute(K key, CompletableFuture<V> future, Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (Throwable e) {
+			loadingMap.remove(key, future);
+			future.completeExceptionally(e);
+		}
+	}
+
+	/**
+	 * 值是否需要刷新
+	 *
+	 * @param writeTime 写入时间，{@code null}表示未记录
+	 * @return 是否需要刷新
+	 */
+	private boolean isStale(Long writeTime) {
+		if (refreshAfterWrite <= 0) {
+			return false;
+		}
+		return null != writeTime && System.currentTimeMillis() - writeTime >= refreshAfterWrite;
+	}
+
+	/**
+	 * 缓存未命中时移除写入时间<br>
+	 * 部分缓存（如{@link cn.hutool.cache.impl.LRUCache}）读取时直接移除过期对象而不触发监听，写入时间需在此清理，
+	 * 只在写入时间未被并发加载更新时移除
+	 *
+	 * @param key       键
+	 * @param writeTime 读取缓存前获取的写入时间，{@code null}表示无需移除
+	 */
+	private void removeWriteTime(K key, Long writeTime) {
+		if (null != writeTime) {
+			writeTimeMap.remove(key, writeTime);
+		}
+	}
+	// ---------------------------------------------------------------- private method end
+}
@@ -1,6 +1,8 @@
 package cn.hutool.cache;
 
 import cn.hutool.cache.impl.CacheObj;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.StatsRecorder;
 import cn.hutool.core.lang.func.Func0;
 
 import java.io.Serializable;
@@ -186,4 +188,14 @@ public interface Cache<K, V> extends Iterable<V>, Serializable {
 	default Cache<K, V> setListener(CacheListener<K, V> listener){
 		return this;
 	}
+
+	/**
+	 * 获取缓存统计信息快照，不支持统计的缓存返回全为0的快照
+	 *
+	 * @return 统计信息快照
+	 * @since 5.8.35
+	 */
+	default CacheStats getStats() {
+		return StatsRecorder.DISABLED.snapshot(0, 0);
+	}
 }
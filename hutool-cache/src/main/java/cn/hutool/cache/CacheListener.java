@@ -1,5 +1,7 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.stats.RemovalCause;
+
 /**
  * 缓存监听，用于实现缓存操作时的回调监听，例如缓存对象的移除事件等
  *
@@ -17,4 +19,17 @@ public interface CacheListener<K, V> {
 	 * @param cachedObject 被缓存的对象
 	 */
 	void onRemove(K key, V cachedObject);
+
+	/**
+	 * 带移除原因的对象移除回调，默认调用{@link #onRemove(Object, Object)}<br>
+	 * 需要区分过期、淘汰和主动移除时重写此方法
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 * @param cause        移除原因
+	 * @since 5.8.35
+	 */
+	default void onRemove(K key, V cachedObject, RemovalCause cause) {
+		onRemove(key, cachedObject);
+	}
 }
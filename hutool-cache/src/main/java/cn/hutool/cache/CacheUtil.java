@@ -1,14 +1,22 @@
 package cn.hutool.cache;
 
+import cn.hutool.cache.file.MappedSegmentStore;
+import cn.hutool.cache.impl.ConcurrentLRUCache;
 import cn.hutool.cache.impl.FIFOCache;
 import cn.hutool.cache.impl.LFUCache;
 import cn.hutool.cache.impl.LRUCache;
 import cn.hutool.cache.impl.NoCache;
 import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.impl.TinyLFUCache;
 import cn.hutool.cache.impl.WeakCache;
+import cn.hutool.cache.stats.CacheRegistry;
+import cn.hutool.core.lang.func.Func1;
+
+import java.io.File;
 
 /**
- * 缓存工具类
+ * 缓存工具类<br>
+ * 通过此类创建的缓存默认注册到{@link CacheRegistry}中，便于统一获取统计信息，可通过{@link CacheRegistry#setAutoRegister(boolean)}关闭
  *
  * @author Looly
  * @since 3.0.1
@@ -25,7 +33,7 @@ public class CacheUtil {
 	 * @return {@link FIFOCache}
 	 */
 	public static <K, V> FIFOCache<K, V> newFIFOCache(int capacity, long timeout) {
-		return new FIFOCache<>(capacity, timeout);
+		return CacheRegistry.autoRegister(new FIFOCache<>(capacity, timeout));
 	}
 
 	/**
@@ -37,7 +45,7 @@ public class CacheUtil {
 	 * @return {@link FIFOCache}
 	 */
 	public static <K, V> FIFOCache<K, V> newFIFOCache(int capacity) {
-		return new FIFOCache<>(capacity);
+		return CacheRegistry.autoRegister(new FIFOCache<>(capacity));
 	}
 
 	/**
@@ -50,7 +58,7 @@ public class CacheUtil {
 	 * @return {@link LFUCache}
 	 */
 	public static <K, V> LFUCache<K, V> newLFUCache(int capacity, long timeout) {
-		return new LFUCache<>(capacity, timeout);
+		return CacheRegistry.autoRegister(new LFUCache<>(capacity, timeout));
 	}
 
 	/**
@@ -62,7 +70,35 @@ public class CacheUtil {
 	 * @return {@link LFUCache}
 	 */
 	public static <K, V> LFUCache<K, V> newLFUCache(int capacity) {
-		return new LFUCache<>(capacity);
+		return CacheRegistry.autoRegister(new LFUCache<>(capacity));
+	}
+
+
+	/**
+	 * 创建W-TinyLFU缓存，基于访问频率估算的准入淘汰策略，淘汰为O(1)，适合大容量场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link TinyLFUCache}
+	 * @since 5.8.35
+	 */
+	public static <K, V> TinyLFUCache<K, V> newTinyLFUCache(int capacity, long timeout) {
+		return CacheRegistry.autoRegister(new TinyLFUCache<>(capacity, timeout));
+	}
+
+	/**
+	 * 创建W-TinyLFU缓存，基于访问频率估算的准入淘汰策略，淘汰为O(1)，适合大容量场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @return {@link TinyLFUCache}
+	 * @since 5.8.35
+	 */
+	public static <K, V> TinyLFUCache<K, V> newTinyLFUCache(int capacity) {
+		return CacheRegistry.autoRegister(new TinyLFUCache<>(capacity));
 	}
 
 
@@ -76,7 +112,7 @@ public class CacheUtil {
 	 * @return {@link LRUCache}
 	 */
 	public static <K, V> LRUCache<K, V> newLRUCache(int capacity, long timeout) {
-		return new LRUCache<>(capacity, timeout);
+		return CacheRegistry.autoRegister(new LRUCache<>(capacity, timeout));
 	}
 
 	/**
@@ -88,7 +124,34 @@ public class CacheUtil {
 	 * @return {@link LRUCache}
 	 */
 	public static <K, V> LRUCache<K, V> newLRUCache(int capacity) {
-		return new LRUCache<>(capacity);
+		return CacheRegistry.autoRegister(new LRUCache<>(capacity));
+	}
+
+	/**
+	 * 创建分段锁的LRU (least recently used)最近最久未使用缓存，适用于高并发读场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @param timeout  过期时长，单位：毫秒
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.35
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity, long timeout) {
+		return CacheRegistry.autoRegister(new ConcurrentLRUCache<>(capacity, timeout));
+	}
+
+	/**
+	 * 创建分段锁的LRU (least recently used)最近最久未使用缓存，适用于高并发读场景.
+	 *
+	 * @param <K>      Key类型
+	 * @param <V>      Value类型
+	 * @param capacity 容量
+	 * @return {@link ConcurrentLRUCache}
+	 * @since 5.8.35
+	 */
+	public static <K, V> ConcurrentLRUCache<K, V> newConcurrentLRUCache(int capacity) {
+		return CacheRegistry.autoRegister(new ConcurrentLRUCache<>(capacity));
 	}
 
 	/**
@@ -116,7 +179,7 @@ public class CacheUtil {
 	 * @return {@link TimedCache}
 	 */
 	public static <K, V> TimedCache<K, V> newTimedCache(long timeout) {
-		return new TimedCache<>(timeout);
+		return CacheRegistry.autoRegister(new TimedCache<>(timeout));
 	}
 
 	/**
@@ -129,7 +192,7 @@ public class CacheUtil {
 	 * @since 3.0.7
 	 */
 	public static <K, V> WeakCache<K, V> newWeakCache(long timeout) {
-		return new WeakCache<>(timeout);
+		return CacheRegistry.autoRegister(new WeakCache<>(timeout));
 	}
 
 	/**
@@ -142,4 +205,33 @@ public class CacheUtil {
 	public static <K, V> NoCache<K, V> newNoCache() {
 		return new NoCache<>();
 	}
+
+	/**
+	 * 创建异步加载缓存，未命中时异步加载，同一个键的并发加载合并为一次.
+	 *
+	 * @param <K>    Key类型
+	 * @param <V>    Value类型
+	 * @param cache  被包装的缓存
+	 * @param loader 加载器
+	 * @return {@link AsyncLoadingCache}
+	 * @since 5.8.35
+	 */
+	public static <K, V> AsyncLoadingCache<K, V> newAsyncLoadingCache(Cache<K, V> cache, Func1<K, V> loader) {
+		return new AsyncLoadingCache<>(cache, loader);
+	}
+
+	/**
+	 * 创建二级缓存，一级为{@link LRUCache}，二级为指定目录下基于内存映射文件的磁盘存储，使用JDK序列化编解码.
+	 *
+	 * @param <K>         Key类型
+	 * @param <V>         Value类型
+	 * @param capacity    一级缓存容量
+	 * @param dir         二级缓存目录，已有的数据会被加载
+	 * @param maxDiskSize 二级缓存最大占用的磁盘空间（byte数）
+	 * @return {@link TieredCache}
+	 * @since 5.8.35
+	 */
+	public static <K, V> TieredCache<K, V> newTieredCache(int capacity, File dir, long maxDiskSize) {
+		return new TieredCache<>(newLRUCache(capacity), new MappedSegmentStore<>(dir, maxDiskSize));
+	}
 }
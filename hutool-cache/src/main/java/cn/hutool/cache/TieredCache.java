@@ -0,0 +1,264 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.file.MappedSegmentStore;
+import cn.hutool.cache.impl.CacheObj;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+
+import java.io.Closeable;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 二级缓存，一级为堆内的{@link Cache}，二级为基于内存映射文件的磁盘存储{@link MappedSegmentStore}<br>
+ * <ul>
+ *     <li>降级：一级缓存因容量或权重淘汰对象时，通过{@link CacheListener#onRemove(Object, Object, RemovalCause)}将其写入二级缓存，
+ *     过期或主动移除的对象不降级</li>
+ *     <li>升级：一级缓存未命中而二级缓存命中时，将对象从二级缓存移回一级缓存</li>
+ * </ul>
+ * 同一个对象只存在于其中一级，关闭时一级缓存中的对象全部写入二级缓存，重新打开同一目录即可恢复，
+ * 因此无需远程缓存即可在重启后保持较大的热数据集。<br>
+ * 注意：此类会占用一级缓存的监听，一级缓存应使用按容量淘汰并提供移除原因的缓存（如{@link cn.hutool.cache.impl.LRUCache}），
+ * 未提供移除原因的监听回调不做降级。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.35
+ */
+public class TieredCache<K, V> implements Closeable {
+
+	/**
+	 * 分段锁数量，必须为2的幂
+	 */
+	private static final int LOCK_STRIPES = 64;
+
+	private final Cache<K, V> l1;
+	private final MappedSegmentStore<K, V> l2;
+
+	/**
+	 * 固定数量的分段锁，每个key按照hash使用其中一把，保证同一个键的写入与升级互斥<br>
+	 * 锁不随键创建和移除，因此等待中的线程与新来的线程总是竞争同一把锁
+	 */
+	private final Lock[] keyLocks = new Lock[LOCK_STRIPES];
+
+	/**
+	 * 正在被主动移除的键，这些键从一级缓存移除时不降级
+	 */
+	private final Set<K> removingKeys = ConcurrentHashMap.newKeySet();
+
+	private final LongAdder promoteCount = new LongAdder();
+	private final LongAdder demoteCount = new LongAdder();
+
+	/**
+	 * 构造
+	 *
+	 * @param l1 一级缓存
+	 * @param l2 二级缓存
+	 */
+	public TieredCache(Cache<K, V> l1, MappedSegmentStore<K, V> l2) {
+		this.l1 = Assert.notNull(l1, "L1 cache must be not null!");
+		this.l2 = Assert.notNull(l2, "L2 store must be not null!");
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			keyLocks[i] = new ReentrantLock();
+		}
+		l1.setListener(new CacheListener<K, V>() {
+			@Override
+			public void onRemove(K key, V cachedObject) {
+				// 移除原因未知，无法确定对象是否已过期，不降级
+			}
+
+			@Override
+			public void onRemove(K key, V cachedObject, RemovalCause cause) {
+				if (RemovalCause.SIZE == cause && false == removingKeys.contains(key) && l2.put(key, cachedObject)) {
+					demoteCount.increment();
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return 一级缓存
+	 */
+	public Cache<K, V> getL1() {
+		return this.l1;
+	}
+
+	/**
+	 * @return 二级缓存
+	 */
+	public MappedSegmentStore<K, V> getL2() {
+		return this.l2;
+	}
+
+	/**
+	 * 放入一级缓存，同时移除二级缓存中的旧值
+	 *
+	 * @param key   键
+	 * @param value 值
+	 */
+	public void put(K key, V value) {
+		final Lock keyLock = getKeyLock(key);
+		keyLock.lock();
+		try {
+			l2.remove(key);
+			l1.put(key, value);
+		} finally {
+			keyLock.unlock();
+		}
+	}
+
+	/**
+	 * 获取值，一级缓存未命中时从二级缓存获取并升级到一级缓存
+	 *
+	 * @param key 键
+	 * @return 值，不存在返回{@code null}
+	 */
+	public V get(K key) {
+		return get(key, null);
+	}
+
+	/**
+	 * 获取值，一级缓存未命中时从二级缓存获取并升级到一级缓存，均未命中时使用supplier创建并放入一级缓存
+	 *
+	 * @param key      键
+	 * @param supplier 如果不存在回调方法，用于生产值对象，{@code null}表示不创建
+	 * @return 值，不存在返回{@code null}
+	 */
+	public V get(K key, Func0<V> supplier) {
+		V value = l1.get(key);
+		if (null != value) {
+			return value;
+		}
+
+		final Lock keyLock = getKeyLock(key);
+		keyLock.lock();
+		try {
+			// 双重检查，防止在竞争锁的过程中已经有其它线程升级或写入
+			value = l1.get(key, false);
+			if (null == value) {
+				value = l2.getAndRemove(key);
+				if (null != value) {
+					promoteCount.increment();
+				} else if (null != supplier) {
+					value = supplier.callWithRuntimeException();
+				}
+				if (null != value) {
+					l1.put(key, value);
+				}
+			}
+		} finally {
+			keyLock.unlock();
+		}
+		return value;
+	}
+
+	/**
+	 * 从两级缓存中移除
+	 *
+	 * @param key 键
+	 */
+	public void remove(K key) {
+		final Lock keyLock = getKeyLock(key);
+		keyLock.lock();
+		removingKeys.add(key);
+		try {
+			l1.remove(key);
+			l2.remove(key);
+		} finally {
+			removingKeys.remove(key);
+			keyLock.unlock();
+		}
+	}
+
+	/**
+	 * 是否包含键
+	 *
+	 * @param key 键
+	 * @return 是否包含
+	 */
+	public boolean containsKey(K key) {
+		return l1.containsKey(key) || l2.containsKey(key);
+	}
+
+	/**
+	 * @return 两级缓存中的对象总数
+	 */
+	public int size() {
+		return l1.size() + l2.size();
+	}
+
+	/**
+	 * 清空两级缓存
+	 */
+	public void clear() {
+		l1.clear();
+		l2.clear();
+	}
+
+	/**
+	 * @return 从二级缓存升级到一级缓存的次数
+	 */
+	public long getPromoteCount() {
+		return promoteCount.sum();
+	}
+
+	/**
+	 * @return 从一级缓存降级到二级缓存的次数
+	 */
+	public long getDemoteCount() {
+		return demoteCount.sum();
+	}
+
+	/**
+	 * 将一级缓存中未过期的对象写入二级缓存并强制写入磁盘，之后两级缓存中可能存在相同的对象<br>
+	 * 有过期时长的对象在二级缓存中保留剩余的过期时长，用于在进程退出前持久化热数据
+	 */
+	public void flush() {
+		final Iterator<CacheObj<K, V>> iterator = l1.cacheObjIterator();
+		CacheObj<K, V> co;
+		Date expiredTime;
+		long remain;
+		while (iterator.hasNext()) {
+			co = iterator.next();
+			expiredTime = co.getExpiredTime();
+			if (null == expiredTime) {
+				l2.put(co.getKey(), co.getValue());
+			} else {
+				remain = expiredTime.getTime() - System.currentTimeMillis();
+				if (remain > 0) {
+					l2.put(co.getKey(), co.getValue(), remain);
+				}
+			}
+		}
+		l2.flush();
+	}
+
+	/**
+	 * 持久化一级缓存中的对象并关闭二级缓存，关闭后不可再使用
+	 */
+	@Override
+	public void close() {
+		flush();
+		l1.clear();
+		l2.close();
+	}
+
+	/**
+	 * 获取键对应的分段锁
+	 *
+	 * @param key 键
+	 * @return 锁
+	 */
+	private Lock getKeyLock(K key) {
+		final int h = Objects.hashCode(key);
+		return keyLocks[(h ^ (h >>> 16)) & (LOCK_STRIPES - 1)];
+	}
+}
@@ -0,0 +1,22 @@
+package cn.hutool.cache;
+
+/**
+ * 缓存对象权重计算器，用于按照权重（如字节数）而非对象个数限制缓存大小
+ *
+ * @param <K> 缓存键
+ * @param <V> 缓存值
+ * @author looly
+ * @since 5.8.35
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+	/**
+	 * 计算缓存对象的权重，权重在放入缓存时计算一次，之后不再变化
+	 *
+	 * @param key   键
+	 * @param value 值
+	 * @return 权重，不能为负数
+	 */
+	int weigh(K key, V value);
+}
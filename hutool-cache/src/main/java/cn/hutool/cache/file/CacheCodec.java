@@ -0,0 +1,38 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.core.codec.Decoder;
+import cn.hutool.core.codec.Encoder;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.SerializeUtil;
+
+/**
+ * 缓存对象编解码器，用于将缓存的键或值与byte[]互相转换，以便写入磁盘
+ *
+ * @param <T> 被编码的对象类型
+ * @author looly
+ * @since 5.8.35
+ */
+public interface CacheCodec<T> extends Encoder<T, byte[]>, Decoder<byte[], T> {
+
+	/**
+	 * 基于JDK序列化（{@link SerializeUtil}）的编解码器，对象必须实现{@link java.io.Serializable}<br>
+	 * 注意！！！解码时不会检查反序列化安全，只应用于读取本进程写入的文件。
+	 *
+	 * @param <T> 被编码的对象类型
+	 * @return 编解码器
+	 */
+	static <T> CacheCodec<T> serialize() {
+		return new CacheCodec<T>() {
+			@Override
+			public byte[] encode(T data) {
+				return Assert.notNull(SerializeUtil.serialize(data),
+						"Object of [{}] is not Serializable!", null == data ? null : data.getClass());
+			}
+
+			@Override
+			public T decode(byte[] encoded) {
+				return SerializeUtil.deserialize(encoded);
+			}
+		};
+	}
+}
@@ -0,0 +1,264 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 基于内存映射（{@link java.nio.MappedByteBuffer}）的堆外文件缓存，以解决频繁读取文件引起的性能问题<br>
+ * 与{@link AbstractFileCache}将文件内容读取为byte[]放在堆中不同，此缓存将文件映射到堆外内存，
+ * 缓存大量静态资源时不会增加堆大小和GC停顿，并返回只读的{@link ByteBuffer}视图，可直接用于零拷贝写出（如{@link java.nio.channels.WritableByteChannel}）。<br>
+ * 缓存按照LRU策略淘汰，已使用空间超出容量时淘汰最久未使用的文件。每次获取时检查文件的修改时间和大小，变化时重新映射。<br>
+ * 注意：
+ * <ul>
+ *     <li>映射的内存在对应的Buffer被GC回收后才会释放。</li>
+ *     <li>返回的Buffer直接映射文件内容，持有期间如果文件被截断或重写，读取可能抛出{@link InternalError}甚至导致JVM因SIGBUS崩溃，
+ *     修改时间和大小的检查只在下一次获取时生效。因此只应缓存运行期间不会被修改的文件（如静态资源），
+ *     可能被修改的文件请使用{@link LRUFileCache}等读取为byte[]的缓存。</li>
+ * </ul>
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class MappedFileCache {
+
+	/** 容量，byte数 */
+	private final long capacity;
+	/** 缓存的最大文件大小，文件大于此大小时将不被缓存 */
+	private final long maxFileSize;
+	/** 缓存实现，按照访问顺序排序 */
+	private final LinkedHashMap<File, MappedFile> cache;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/** 已使用缓存空间 */
+	private long usedSize;
+
+	/**
+	 * 构造<br>
+	 * 最大文件大小为缓存容量的一半
+	 *
+	 * @param capacity 缓存容量（byte数）
+	 */
+	public MappedFileCache(long capacity) {
+		this(capacity, capacity / 2);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity    缓存容量（byte数）
+	 * @param maxFileSize 文件最大大小，0表示不限制（单个文件依旧不能超过{@link Integer#MAX_VALUE}）
+	 */
+	public MappedFileCache(long capacity, long maxFileSize) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		this.capacity = capacity;
+		this.maxFileSize = (maxFileSize <= 0 || maxFileSize > Integer.MAX_VALUE) ? Integer.MAX_VALUE : maxFileSize;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true);
+	}
+
+	/**
+	 * @return 缓存容量（byte数）
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return 已使用空间大小（byte数）
+	 */
+	public long getUsedSize() {
+		lock.lock();
+		try {
+			return usedSize;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * @return 允许被缓存文件的最大byte数
+	 */
+	public long maxFileSize() {
+		return maxFileSize;
+	}
+
+	/**
+	 * @return 缓存的文件数
+	 */
+	public int getCachedFilesCount() {
+		lock.lock();
+		try {
+			return cache.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 从缓存中移除文件
+	 *
+	 * @param file 文件
+	 */
+	public void remove(File file) {
+		lock.lock();
+		try {
+			final MappedFile mappedFile = cache.remove(file);
+			if (null != mappedFile) {
+				usedSize -= mappedFile.length;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public void clear() {
+		lock.lock();
+		try {
+			cache.clear();
+			usedSize = 0;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- get
+
+	/**
+	 * 获得缓存过的文件内容
+	 *
+	 * @param path 文件路径
+	 * @return 只读的文件内容，position为0，limit为文件大小
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(String path) throws IORuntimeException {
+		return getFileBuffer(new File(path));
+	}
+
+	/**
+	 * 获得缓存过的文件内容<br>
+	 * 每次调用返回独立的只读视图，多个线程可以同时读取而互不影响position。
+	 * 视图直接映射文件，持有期间文件不能被截断或重写，见类说明
+	 *
+	 * @param file 文件
+	 * @return 只读的文件内容，position为0，limit为文件大小
+	 * @throws IORuntimeException IO异常
+	 */
+	public ByteBuffer getFileBuffer(File file) throws IORuntimeException {
+		MappedFile mappedFile;
+		lock.lock();
+		try {
+			mappedFile = cache.get(file);
+		} finally {
+			lock.unlock();
+		}
+
+		if (null != mappedFile) {
+			if (mappedFile.isModified(file)) {
+				// 文件已被修改，失效，只移除此次读到的映射，避免误删其它线程新加入的映射
+				lock.lock();
+				try {
+					if (cache.remove(file, mappedFile)) {
+						usedSize -= mappedFile.length;
+					}
+				} finally {
+					lock.unlock();
+				}
+			} else {
+				return mappedFile.buffer.duplicate();
+			}
+		}
+
+		// add file
+		mappedFile = MappedFile.map(file);
+		if (mappedFile.length > maxFileSize || mappedFile.length > capacity) {
+			//大于缓存空间，不缓存，直接返回
+			return mappedFile.buffer.duplicate();
+		}
+
+		lock.lock();
+		try {
+			final MappedFile old = cache.put(file, mappedFile);
+			if (null != old) {
+				usedSize -= old.length;
+			}
+			usedSize += mappedFile.length;
+			evict();
+		} finally {
+			lock.unlock();
+		}
+
+		return mappedFile.buffer.duplicate();
+	}
+
+	/**
+	 * 淘汰最久未使用的文件，直到已使用空间不超过容量，需加锁调用
+	 */
+	private void evict() {
+		final Iterator<Map.Entry<File, MappedFile>> iterator = cache.entrySet().iterator();
+		while (usedSize > capacity && iterator.hasNext()) {
+			usedSize -= iterator.next().getValue().length;
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * 映射的文件
+	 */
+	private static class MappedFile {
+		/** 只读的映射内容 */
+		private final ByteBuffer buffer;
+		/** 映射时的文件修改时间 */
+		private final long lastModified;
+		/** 映射时的文件大小 */
+		private final long length;
+
+		private MappedFile(ByteBuffer buffer, long lastModified, long length) {
+			this.buffer = buffer;
+			this.lastModified = lastModified;
+			this.length = length;
+		}
+
+		/**
+		 * 文件是否在映射后被修改
+		 *
+		 * @param file 文件
+		 * @return 是否被修改
+		 */
+		private boolean isModified(File file) {
+			return file.lastModified() != this.lastModified || file.length() != this.length;
+		}
+
+		/**
+		 * 映射文件
+		 *
+		 * @param file 文件
+		 * @return 映射的文件
+		 * @throws IORuntimeException IO异常
+		 */
+		private static MappedFile map(File file) throws IORuntimeException {
+			final long lastModified = file.lastModified();
+			try (final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				final long length = channel.size();
+				if (length > Integer.MAX_VALUE) {
+					throw new IORuntimeException("File [{}] is too large to map: {}", file, length);
+				}
+				// 映射在通道关闭后依旧有效
+				return new MappedFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, length).asReadOnlyBuffer(), lastModified, length);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		}
+	}
+}
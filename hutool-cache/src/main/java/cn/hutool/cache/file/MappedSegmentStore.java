@@ -0,0 +1,633 @@
+package cn.hutool.cache.file;
+
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.lang.Assert;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * 基于内存映射文件的磁盘键值存储，作为{@link cn.hutool.cache.TieredCache}的二级缓存<br>
+ * 数据以追加日志的形式写入目录下固定大小的段文件（{@link MappedByteBuffer}），内存中只保存键到记录位置的索引：
+ * <ul>
+ *     <li>写入和删除均为在当前段末尾追加记录，当前段写满时新建段</li>
+ *     <li>段数达到上限时，整段丢弃最早的段及其中的所有对象（近似FIFO）</li>
+ *     <li>重新打开同一目录时，按照段的顺序扫描记录重建索引，因此缓存内容在重启后依旧可用</li>
+ * </ul>
+ * 每条记录带有CRC32校验，进程崩溃后未写完的记录在重建时被忽略。映射的内容由操作系统异步写回磁盘，
+ * 如需确保写入磁盘，调用{@link #flush()}。<br>
+ * 记录格式：{@code [int 内容长度][int CRC32][byte 类型][long 过期时间][int 键长度][键][值]}
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.35
+ */
+public class MappedSegmentStore<K, V> implements Closeable {
+
+	/**
+	 * 默认段大小：64MB
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+	/** 段文件头标识 */
+	private static final int MAGIC = 0x48545353;
+	/** 段文件头大小：标识(4) + 保留(4) */
+	private static final int SEGMENT_HEADER_SIZE = 8;
+	/** 记录头大小：内容长度(4) + CRC32(4) */
+	private static final int RECORD_HEADER_SIZE = 8;
+	/** 记录内容中键之前的部分大小：类型(1) + 过期时间(8) + 键长度(4) */
+	private static final int PAYLOAD_HEADER_SIZE = 13;
+	private static final byte TYPE_PUT = 1;
+	private static final byte TYPE_REMOVE = 2;
+	private static final String SEGMENT_SUFFIX = ".seg";
+
+	private final File dir;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final CacheCodec<K> keyCodec;
+	private final CacheCodec<V> valueCodec;
+
+	/** 所有段，按照创建顺序，最后一个为当前写入的段 */
+	private final Deque<Segment> segments = new ArrayDeque<>();
+	/** 键到记录位置的索引 */
+	private final Map<K, Location> index = new HashMap<>();
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	/** 下一个段的序号 */
+	private long nextSeq;
+
+	/**
+	 * 构造，段大小为{@link #DEFAULT_SEGMENT_SIZE}（不超过最大空间的一半），使用JDK序列化编解码键和值<br>
+	 * 至少分为2个段，丢弃最早的段时保留其余段中的对象
+	 *
+	 * @param dir     存储目录，不存在时创建，已存在的段文件会被加载
+	 * @param maxSize 最大占用的磁盘空间（byte数）
+	 */
+	public MappedSegmentStore(File dir, long maxSize) {
+		this(dir, segmentSize(maxSize), (int) (maxSize / segmentSize(maxSize)),
+				CacheCodec.serialize(), CacheCodec.serialize());
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param dir         存储目录，不存在时创建，已存在的段文件会被加载
+	 * @param segmentSize 每个段文件的大小（byte数），单个对象编码后不能超过此大小
+	 * @param maxSegments 最大段数
+	 * @param keyCodec    键编解码器
+	 * @param valueCodec  值编解码器
+	 */
+	public MappedSegmentStore(File dir, int segmentSize, int maxSegments, CacheCodec<K> keyCodec, CacheCodec<V> valueCodec) {
+		Assert.isTrue(segmentSize > SEGMENT_HEADER_SIZE + RECORD_HEADER_SIZE + PAYLOAD_HEADER_SIZE, "Segment size is too small: {}", segmentSize);
+		Assert.isTrue(maxSegments > 0, "Max segments must be greater than 0");
+		this.dir = FileUtil.mkdir(dir);
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+		this.keyCodec = Assert.notNull(keyCodec, "Key codec must be not null!");
+		this.valueCodec = Assert.notNull(valueCodec, "Value codec must be not null!");
+		load();
+	}
+
+	/**
+	 * 根据最大占用空间计算段大小，保证至少分为2个段
+	 *
+	 * @param maxSize 最大占用的磁盘空间（byte数）
+	 * @return 段大小
+	 */
+	private static int segmentSize(long maxSize) {
+		Assert.isTrue(maxSize > 0, "Max size must be greater than 0");
+		return (int) Math.max(1, Math.min(DEFAULT_SEGMENT_SIZE, maxSize / 2));
+	}
+
+	/**
+	 * 放入对象，永不过期
+	 *
+	 * @param key   键
+	 * @param value 值
+	 * @return 是否放入，对象编码后大于段大小时不放入
+	 */
+	public boolean put(K key, V value) {
+		return put(key, value, 0);
+	}
+
+	/**
+	 * 放入对象
+	 *
+	 * @param key     键
+	 * @param value   值
+	 * @param timeout 过期时长，单位毫秒，{@code 0}或负数表示永不过期
+	 * @return 是否放入，对象编码后大于段大小时不放入
+	 */
+	public boolean put(K key, V value, long timeout) {
+		// 编码在锁外完成
+		final byte[] keyBytes = keyCodec.encode(key);
+		final byte[] valueBytes = valueCodec.encode(value);
+		final long expireAt = timeout > 0 ? System.currentTimeMillis() + timeout : 0;
+
+		lock.writeLock().lock();
+		try {
+			final Location location = append(TYPE_PUT, keyBytes, valueBytes, expireAt);
+			if (null == location) {
+				// 过大无法放入，移除旧值，避免读到过时的对象
+				removeWithoutLock(key);
+				return false;
+			}
+			index.put(key, location);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 获取对象
+	 *
+	 * @param key 键
+	 * @return 值，不存在或已过期返回{@code null}
+	 */
+	public V get(K key) {
+		final Location location;
+		final byte[] valueBytes;
+		lock.readLock().lock();
+		try {
+			location = index.get(key);
+			if (null == location) {
+				return null;
+			}
+			valueBytes = location.isExpired() ? null : location.readValue();
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if (null == valueBytes) {
+			// 过期时间已经写入记录，重建时会被忽略，此处只需从索引中移除
+			lock.writeLock().lock();
+			try {
+				index.remove(key, location);
+			} finally {
+				lock.writeLock().unlock();
+			}
+			return null;
+		}
+		return valueCodec.decode(valueBytes);
+	}
+
+	/**
+	 * 获取并移除对象
+	 *
+	 * @param key 键
+	 * @return 被移除的值，不存在或已过期返回{@code null}
+	 */
+	public V getAndRemove(K key) {
+		final byte[] valueBytes;
+		lock.writeLock().lock();
+		try {
+			final Location location = index.get(key);
+			if (null == location) {
+				return null;
+			}
+			valueBytes = location.isExpired() ? null : location.readValue();
+			removeWithoutLock(key);
+		} finally {
+			lock.writeLock().unlock();
+		}
+		return null == valueBytes ? null : valueCodec.decode(valueBytes);
+	}
+
+	/**
+	 * 移除对象
+	 *
+	 * @param key 键
+	 * @return 是否存在并被移除
+	 */
+	public boolean remove(K key) {
+		lock.writeLock().lock();
+		try {
+			return removeWithoutLock(key);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 是否包含键，已过期的对象也可能返回{@code true}
+	 *
+	 * @param key 键
+	 * @return 是否包含
+	 */
+	public boolean containsKey(K key) {
+		lock.readLock().lock();
+		try {
+			return index.containsKey(key);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 对象个数，包括已过期但尚未移除的对象
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return index.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 段数
+	 */
+	public int getSegmentCount() {
+		lock.readLock().lock();
+		try {
+			return segments.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * @return 已使用的空间（byte数），包括已被覆盖或删除的记录
+	 */
+	public long getUsedSize() {
+		lock.readLock().lock();
+		try {
+			long size = 0;
+			for (final Segment segment : segments) {
+				size += segment.writePos;
+			}
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 清空所有对象并删除所有段文件
+	 */
+	public void clear() {
+		lock.writeLock().lock();
+		try {
+			for (final Segment segment : segments) {
+				segment.destroy();
+			}
+			segments.clear();
+			index.clear();
+			segments.addLast(Segment.create(newSegmentFile(), segmentSize));
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 将所有段的修改强制写入磁盘
+	 */
+	public void flush() {
+		lock.readLock().lock();
+		try {
+			for (final Segment segment : segments) {
+				segment.buffer.force();
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 写入磁盘并释放索引，关闭后不可再使用，重新打开同一目录可恢复数据
+	 */
+	@Override
+	public void close() {
+		lock.writeLock().lock();
+		try {
+			for (final Segment segment : segments) {
+				segment.buffer.force();
+			}
+			segments.clear();
+			index.clear();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 加载目录下已有的段文件，重建索引
+	 */
+	private void load() {
+		final List<Long> seqList = new ArrayList<>();
+		final File[] files = dir.listFiles((d, name) -> name.endsWith(SEGMENT_SUFFIX));
+		if (null != files) {
+			for (final File file : files) {
+				final String name = file.getName();
+				try {
+					seqList.add(Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length())));
+				} catch (NumberFormatException e) {
+					// 非本类创建的文件，忽略
+				}
+			}
+		}
+		seqList.sort(null);
+
+		for (final Long seq : seqList) {
+			final File file = segmentFile(seq);
+			nextSeq = seq + 1;
+			final Segment segment = Segment.open(file);
+			if (null == segment) {
+				// 无效的段（如已被丢弃但未能删除的文件）
+				FileUtil.del(file);
+				continue;
+			}
+			scan(segment);
+			segments.addLast(segment);
+		}
+
+		while (segments.size() > maxSegments) {
+			dropOldest();
+		}
+		if (segments.isEmpty()) {
+			segments.addLast(Segment.create(newSegmentFile(), segmentSize));
+		}
+	}
+
+	/**
+	 * 扫描段中的记录，更新索引，遇到未写完或校验失败的记录时停止
+	 *
+	 * @param segment 段
+	 */
+	private void scan(Segment segment) {
+		final ByteBuffer buffer = segment.buffer;
+		final long now = System.currentTimeMillis();
+		int pos = SEGMENT_HEADER_SIZE;
+		while (pos + RECORD_HEADER_SIZE + PAYLOAD_HEADER_SIZE <= segment.capacity) {
+			final int payloadLength = buffer.getInt(pos);
+			if (payloadLength < PAYLOAD_HEADER_SIZE || payloadLength > segment.capacity - pos - RECORD_HEADER_SIZE) {
+				break;
+			}
+			final int payloadPos = pos + RECORD_HEADER_SIZE;
+			if (buffer.getInt(pos + 4) != crc(buffer, payloadPos, payloadLength)) {
+				break;
+			}
+			final byte type = buffer.get(payloadPos);
+			final long expireAt = buffer.getLong(payloadPos + 1);
+			final int keyLength = buffer.getInt(payloadPos + 9);
+			if (keyLength < 0 || keyLength > payloadLength - PAYLOAD_HEADER_SIZE) {
+				break;
+			}
+
+			final K key = keyCodec.decode(segment.read(payloadPos + PAYLOAD_HEADER_SIZE, keyLength));
+			if (TYPE_PUT == type && (expireAt <= 0 || expireAt > now)) {
+				index.put(key, new Location(segment, payloadPos, payloadLength, keyLength, expireAt));
+			} else {
+				index.remove(key);
+			}
+			pos = payloadPos + payloadLength;
+		}
+		segment.writePos = pos;
+	}
+
+	/**
+	 * 从索引中移除并追加删除记录，需加写锁调用
+	 *
+	 * @param key 键
+	 * @return 是否存在
+	 */
+	private boolean removeWithoutLock(K key) {
+		final Location location = index.remove(key);
+		if (null == location) {
+			return false;
+		}
+		// 直接复用记录中的键，无需再次编码
+		append(TYPE_REMOVE, location.readKey(), new byte[0], 0);
+		return true;
+	}
+
+	/**
+	 * 在当前段末尾追加记录，当前段空间不足时新建段，需加写锁调用<br>
+	 * 先写入内容和校验，最后写入长度，长度非0即表示记录完整
+	 *
+	 * @param type       记录类型
+	 * @param keyBytes   键
+	 * @param valueBytes 值
+	 * @param expireAt   过期时间，{@code 0}表示永不过期
+	 * @return 记录位置，记录大于段大小时返回{@code null}
+	 */
+	private Location append(byte type, byte[] keyBytes, byte[] valueBytes, long expireAt) {
+		final long payloadLength = (long) PAYLOAD_HEADER_SIZE + keyBytes.length + valueBytes.length;
+		if (payloadLength > segmentSize - SEGMENT_HEADER_SIZE - RECORD_HEADER_SIZE) {
+			return null;
+		}
+
+		Segment segment = segments.peekLast();
+		if (null == segment || segment.writePos + RECORD_HEADER_SIZE + payloadLength > segment.capacity) {
+			if (segments.size() >= maxSegments) {
+				dropOldest();
+			}
+			segment = Segment.create(newSegmentFile(), segmentSize);
+			segments.addLast(segment);
+		}
+
+		final MappedByteBuffer buffer = segment.buffer;
+		final int pos = segment.writePos;
+		final int payloadPos = pos + RECORD_HEADER_SIZE;
+		buffer.put(payloadPos, type);
+		buffer.putLong(payloadPos + 1, expireAt);
+		buffer.putInt(payloadPos + 9, keyBytes.length);
+		final ByteBuffer view = buffer.duplicate();
+		view.position(payloadPos + PAYLOAD_HEADER_SIZE);
+		view.put(keyBytes);
+		view.put(valueBytes);
+		buffer.putInt(pos + 4, crc(buffer, payloadPos, (int) payloadLength));
+		buffer.putInt(pos, (int) payloadLength);
+		segment.writePos = payloadPos + (int) payloadLength;
+
+		return new Location(segment, payloadPos, (int) payloadLength, keyBytes.length, expireAt);
+	}
+
+	/**
+	 * 丢弃最早的段，同时从索引中移除位于此段的所有对象，需加写锁调用
+	 */
+	private void dropOldest() {
+		final Segment oldest = segments.pollFirst();
+		if (null != oldest) {
+			index.values().removeIf(location -> location.segment == oldest);
+			oldest.destroy();
+		}
+	}
+
+	/**
+	 * @return 新段的文件
+	 */
+	private File newSegmentFile() {
+		return segmentFile(nextSeq++);
+	}
+
+	/**
+	 * 序号对应的段文件，文件名补0使其按名称排序与序号一致
+	 *
+	 * @param seq 序号
+	 * @return 段文件
+	 */
+	private File segmentFile(long seq) {
+		return new File(dir, String.format("%019d", seq) + SEGMENT_SUFFIX);
+	}
+
+	/**
+	 * 计算指定范围内容的CRC32
+	 *
+	 * @param buffer 缓冲区
+	 * @param pos    开始位置
+	 * @param length 长度
+	 * @return CRC32
+	 */
+	private static int crc(ByteBuffer buffer, int pos, int length) {
+		final ByteBuffer view = buffer.duplicate();
+		view.limit(pos + length).position(pos);
+		final CRC32 crc32 = new CRC32();
+		crc32.update(view);
+		return (int) crc32.getValue();
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 段，对应一个映射的文件
+	 */
+	private static class Segment {
+		private final File file;
+		private final MappedByteBuffer buffer;
+		private final int capacity;
+		/** 下一条记录的写入位置 */
+		private int writePos;
+
+		private Segment(File file, MappedByteBuffer buffer) {
+			this.file = file;
+			this.buffer = buffer;
+			this.capacity = buffer.capacity();
+			this.writePos = SEGMENT_HEADER_SIZE;
+		}
+
+		/**
+		 * 创建新的段文件
+		 *
+		 * @param file 文件
+		 * @param size 大小
+		 * @return 段
+		 * @throws IORuntimeException IO异常
+		 */
+		private static Segment create(File file, int size) throws IORuntimeException {
+			final Segment segment = new Segment(file, map(file, size));
+			segment.buffer.putInt(0, MAGIC);
+			return segment;
+		}
+
+		/**
+		 * 打开已有的段文件
+		 *
+		 * @param file 文件
+		 * @return 段，文件无效时返回{@code null}
+		 * @throws IORuntimeException IO异常
+		 */
+		private static Segment open(File file) throws IORuntimeException {
+			final long length = file.length();
+			if (length < SEGMENT_HEADER_SIZE || length > Integer.MAX_VALUE) {
+				return null;
+			}
+			final MappedByteBuffer buffer = map(file, (int) length);
+			if (MAGIC != buffer.getInt(0)) {
+				return null;
+			}
+			return new Segment(file, buffer);
+		}
+
+		/**
+		 * 以读写方式映射文件，映射在通道关闭后依旧有效
+		 *
+		 * @param file 文件
+		 * @param size 映射大小
+		 * @return 映射的内容
+		 * @throws IORuntimeException IO异常
+		 */
+		private static MappedByteBuffer map(File file, int size) throws IORuntimeException {
+			try (final FileChannel channel = FileChannel.open(file.toPath(),
+					StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+				return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			} catch (IOException e) {
+				throw new IORuntimeException(e);
+			}
+		}
+
+		/**
+		 * 读取指定范围的内容
+		 *
+		 * @param pos    开始位置
+		 * @param length 长度
+		 * @return 内容
+		 */
+		private byte[] read(int pos, int length) {
+			final byte[] bytes = new byte[length];
+			final ByteBuffer view = buffer.duplicate();
+			view.position(pos);
+			view.get(bytes);
+			return bytes;
+		}
+
+		/**
+		 * 销毁段，先清除文件头标识再删除文件，这样即使文件因仍被映射而无法删除（如Windows），重新加载时也会被忽略
+		 */
+		private void destroy() {
+			buffer.putInt(0, 0);
+			//noinspection ResultOfMethodCallIgnored
+			file.delete();
+		}
+	}
+
+	/**
+	 * 记录位置
+	 */
+	private static class Location {
+		private final Segment segment;
+		/** 记录内容的开始位置 */
+		private final int payloadPos;
+		private final int payloadLength;
+		private final int keyLength;
+		private final long expireAt;
+
+		private Location(Segment segment, int payloadPos, int payloadLength, int keyLength, long expireAt) {
+			this.segment = segment;
+			this.payloadPos = payloadPos;
+			this.payloadLength = payloadLength;
+			this.keyLength = keyLength;
+			this.expireAt = expireAt;
+		}
+
+		private boolean isExpired() {
+			return expireAt > 0 && expireAt <= System.currentTimeMillis();
+		}
+
+		private byte[] readKey() {
+			return segment.read(payloadPos + PAYLOAD_HEADER_SIZE, keyLength);
+		}
+
+		private byte[] readValue() {
+			final int valuePos = payloadPos + PAYLOAD_HEADER_SIZE + keyLength;
+			return segment.read(valuePos, payloadLength - PAYLOAD_HEADER_SIZE - keyLength);
+		}
+	}
+}
@@ -2,6 +2,12 @@ package cn.hutool.cache.impl;
 
 import cn.hutool.cache.Cache;
 import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.Weigher;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.ConcurrentStatsRecorder;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.cache.stats.StatsRecorder;
+import cn.hutool.core.lang.Assert;
 import cn.hutool.core.lang.func.Func0;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.lang.mutable.MutableObj;
@@ -51,6 +57,19 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected boolean existCustomTimeout;
 
+	/**
+	 * 权重计算器，{@code null}表示不按照权重限制
+	 */
+	protected Weigher<K, V> weigher;
+	/**
+	 * 最大总权重
+	 */
+	protected long maxWeight;
+	/**
+	 * 当前总权重，在写锁内修改
+	 */
+	protected volatile long totalWeight;
+
 	/**
 	 * 命中数，即命中缓存计数
 	 */
@@ -60,6 +79,11 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 */
 	protected LongAdder missCount = new LongAdder();
 
+	/**
+	 * 统计记录器，记录加载和移除信息
+	 */
+	protected StatsRecorder statsRecorder = new ConcurrentStatsRecorder();
+
 	/**
 	 * 缓存监听
 	 */
@@ -84,19 +108,35 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		if (timeout != 0) {
 			existCustomTimeout = true;
 		}
+		if (null != weigher) {
+			co.weight = weigher.weigh(key, object);
+		}
 
 		final MutableObj<K> mKey = MutableObj.of(key);
 
 		// issue#3618 对于替换的键值对，不做满队列检查和清除
 		if (cacheMap.containsKey(mKey)) {
 			// 存在相同key，覆盖之
-			cacheMap.put(mKey, co);
+			final CacheObj<K, V> old = cacheMap.put(mKey, co);
+			if (null != weigher && null != old) {
+				totalWeight -= old.weight;
+			}
 		} else {
 			if (isFull()) {
 				pruneCache();
 			}
 			cacheMap.put(mKey, co);
 		}
+
+		if (null != weigher) {
+			totalWeight += co.weight;
+			// 超出总权重时持续清理，直到不超过或无法再清理
+			while (totalWeight > maxWeight && false == cacheMap.isEmpty()) {
+				if (pruneCache() == 0) {
+					break;
+				}
+			}
+		}
 	}
 	// ---------------------------------------------------------------- put end
 
@@ -134,7 +174,14 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 				v = get(key, isUpdateLastAccess);
 				if (null == v) {
 					// supplier的创建是一个耗时过程，此处创建与全局锁无关，而与key锁相关，这样就保证每个key只创建一个value，且互斥
-					v = supplier.callWithRuntimeException();
+					final long start = System.nanoTime();
+					try {
+						v = supplier.callWithRuntimeException();
+					} catch (Throwable e) {
+						statsRecorder.recordLoadFailure(System.nanoTime() - start);
+						throw e;
+					}
+					statsRecorder.recordLoadSuccess(System.nanoTime() - start);
 					put(key, v, timeout);
 				}
 			} finally {
@@ -197,6 +244,9 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	@Override
 	public boolean isFull() {
+		if (null != weigher && totalWeight > maxWeight) {
+			return true;
+		}
 		return (capacity > 0) && (cacheMap.size() >= capacity);
 	}
 
@@ -229,6 +279,59 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 		return this;
 	}
 
+	/**
+	 * 设置权重计算器，设置后缓存的总权重不超过maxWeight，超出时按照缓存自身的淘汰策略移除对象<br>
+	 * 支持{@link LRUCache}、{@link LFUCache}和{@link FIFOCache}，需在放入对象前设置，其它缓存抛出{@link UnsupportedOperationException}。
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public AbstractCache<K, V> setWeigher(Weigher<K, V> weigher, long maxWeight) {
+		Assert.isTrue(maxWeight >= 0, "Max weight must be not negative");
+		this.weigher = weigher;
+		this.maxWeight = maxWeight;
+		return this;
+	}
+
+	/**
+	 * 获取当前总权重，未设置权重计算器时为0
+	 *
+	 * @return 当前总权重
+	 * @since 5.8.35
+	 */
+	public long getWeight() {
+		return this.totalWeight;
+	}
+
+	/**
+	 * 获取最大总权重，未设置权重计算器时为0
+	 *
+	 * @return 最大总权重
+	 * @since 5.8.35
+	 */
+	public long getMaxWeight() {
+		return this.maxWeight;
+	}
+
+	/**
+	 * 设置统计记录器，传入{@link StatsRecorder#DISABLED}表示不记录
+	 *
+	 * @param statsRecorder 统计记录器
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public AbstractCache<K, V> setStatsRecorder(StatsRecorder statsRecorder) {
+		this.statsRecorder = statsRecorder;
+		return this;
+	}
+
+	@Override
+	public CacheStats getStats() {
+		return statsRecorder.snapshot(hitCount.sum(), missCount.sum());
+	}
+
 	/**
 	 * 返回所有键
 	 *
@@ -241,15 +344,29 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 
 	/**
 	 * 对象移除回调。默认无动作<br>
-	 * 子类可重写此方法用于监听移除事件，如果重写，listener将无效
+	 * 子类可重写此方法用于监听移除事件，重写后listener依旧有效
 	 *
 	 * @param key          键
 	 * @param cachedObject 被缓存的对象
 	 */
 	protected void onRemove(K key, V cachedObject) {
+		// 默认无动作，监听在onRemove(key, cachedObject, cause)中通知
+	}
+
+	/**
+	 * 对象移除回调，记录移除原因，调用{@link #onRemove(Object, Object)}后通知监听{@link CacheListener#onRemove(Object, Object, RemovalCause)}
+	 *
+	 * @param key          键
+	 * @param cachedObject 被缓存的对象
+	 * @param cause        移除原因
+	 * @since 5.8.35
+	 */
+	protected void onRemove(K key, V cachedObject, RemovalCause cause) {
+		statsRecorder.recordEviction(cause);
+		onRemove(key, cachedObject);
 		final CacheListener<K, V> listener = this.listener;
 		if (null != listener) {
-			listener.onRemove(key, cachedObject);
+			listener.onRemove(key, cachedObject, cause);
 		}
 	}
 
@@ -260,15 +377,64 @@ public abstract class AbstractCache<K, V> implements Cache<K, V> {
 	 * @return 移除的对象，无返回null
 	 */
 	protected CacheObj<K, V> removeWithoutLock(K key) {
-		return cacheMap.remove(MutableObj.of(key));
+		final CacheObj<K, V> co = cacheMap.remove(MutableObj.of(key));
+		releaseWeight(co);
+		return co;
 	}
 
 	/**
-	 * 获取所有{@link CacheObj}值的{@link Iterator}形式
+	 * 清空缓存，不加锁
+	 *
+	 * @since 5.8.35
+	 */
+	protected void clearWithoutLock() {
+		cacheMap.clear();
+		totalWeight = 0;
+	}
+
+	/**
+	 * 对象被移除后，从总权重中减去其权重，不加锁
+	 *
+	 * @param co 被移除的对象，{@code null}时忽略
+	 * @since 5.8.35
+	 */
+	protected void releaseWeight(CacheObj<K, V> co) {
+		if (null != weigher && null != co) {
+			totalWeight -= co.weight;
+		}
+	}
+
+	/**
+	 * 获取所有{@link CacheObj}值的{@link Iterator}形式<br>
+	 * 通过此迭代器移除对象时，同时减去其权重
+	 *
 	 * @return {@link Iterator}
 	 * @since 5.8.0
 	 */
 	protected Iterator<CacheObj<K, V>> cacheObjIter(){
-		return this.cacheMap.values().iterator();
+		final Iterator<CacheObj<K, V>> iterator = this.cacheMap.values().iterator();
+		if (null == weigher) {
+			return iterator;
+		}
+		return new Iterator<CacheObj<K, V>>() {
+			private CacheObj<K, V> current;
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public CacheObj<K, V> next() {
+				current = iterator.next();
+				return current;
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+				releaseWeight(current);
+			}
+		};
 	}
 }
@@ -31,6 +31,10 @@ public class CacheObj<K, V> implements Serializable {
 	 * 对象存活时长，0表示永久存活
 	 */
 	protected final long ttl;
+	/**
+	 * 对象权重，仅在缓存设置了{@link cn.hutool.cache.Weigher}时有效
+	 */
+	protected int weight;
 
 	/**
 	 * 构造
@@ -0,0 +1,303 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.cache.CacheListener;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.ConcurrentStatsRecorder;
+import cn.hutool.cache.stats.StatsRecorder;
+import cn.hutool.core.collection.IterChain;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.Func0;
+import cn.hutool.core.util.RuntimeUtil;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 分段锁的LRU (least recently used)最近最久未使用缓存<br>
+ * {@link LRUCache}基于访问顺序的LinkedHashMap，每次get都会改变链表结构，因此所有读写共用一把互斥锁，多核下锁竞争严重。<br>
+ * 此缓存将键按照hash分散到多个独立的{@link LRUCache}段中，每段各自持有锁，不同段之间的读写互不阻塞，读性能随核数近似线性增长。<br>
+ * 淘汰策略在每个段内执行，因此整体上是近似LRU：当某个段满时，淘汰的是此段内最久未使用的对象。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.35
+ */
+public class ConcurrentLRUCache<K, V> implements Cache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 默认分段数，为CPU核数的2倍
+	 */
+	public static final int DEFAULT_CONCURRENCY_LEVEL = RuntimeUtil.getProcessorCount() * 2;
+	/**
+	 * 最大分段数
+	 */
+	private static final int MAX_SEGMENTS = 1 << 16;
+
+	private final LRUCache<K, V>[] segments;
+	/**
+	 * 段选择掩码，段数为2的幂
+	 */
+	private final int segmentMask;
+	private final int capacity;
+	private final long timeout;
+	/**
+	 * 统计记录器，所有段共享
+	 */
+	private StatsRecorder statsRecorder = new ConcurrentStatsRecorder();
+
+	/**
+	 * 构造<br>
+	 * 默认无超时，分段数为{@link #DEFAULT_CONCURRENCY_LEVEL}
+	 *
+	 * @param capacity 容量
+	 */
+	public ConcurrentLRUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造<br>
+	 * 分段数为{@link #DEFAULT_CONCURRENCY_LEVEL}
+	 *
+	 * @param capacity 容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	public ConcurrentLRUCache(int capacity, long timeout) {
+		this(capacity, timeout, DEFAULT_CONCURRENCY_LEVEL);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity         容量，必须大于0
+	 * @param timeout          默认超时时间，单位：毫秒
+	 * @param concurrencyLevel 预估的并发线程数，实际分段数为不小于此值的2的幂，且不超过容量
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentLRUCache(int capacity, long timeout, int concurrencyLevel) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		Assert.isTrue(concurrencyLevel > 0, "Concurrency level must be greater than 0");
+
+		int segmentCount = 1;
+		while (segmentCount < concurrencyLevel && segmentCount < MAX_SEGMENTS && (segmentCount << 1) <= capacity) {
+			segmentCount <<= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+		this.segmentMask = segmentCount - 1;
+		this.segments = new LRUCache[segmentCount];
+
+		// 将容量尽量平均分配到各段，前remainder个段多分配1个
+		final int segmentCapacity = capacity / segmentCount;
+		final int remainder = capacity % segmentCount;
+		for (int i = 0; i < segmentCount; i++) {
+			this.segments[i] = new LRUCache<>(i < remainder ? segmentCapacity + 1 : segmentCapacity, timeout);
+			this.segments[i].setStatsRecorder(this.statsRecorder);
+		}
+	}
+
+	@Override
+	public int capacity() {
+		return this.capacity;
+	}
+
+	@Override
+	public long timeout() {
+		return this.timeout;
+	}
+
+	@Override
+	public void put(K key, V object) {
+		segmentFor(key).put(key, object);
+	}
+
+	@Override
+	public void put(K key, V object, long timeout) {
+		segmentFor(key).put(key, object, timeout);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, Func0<V> supplier) {
+		return segmentFor(key).get(key, isUpdateLastAccess, supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess, long timeout, Func0<V> supplier) {
+		return segmentFor(key).get(key, isUpdateLastAccess, timeout, supplier);
+	}
+
+	@Override
+	public V get(K key, boolean isUpdateLastAccess) {
+		return segmentFor(key).get(key, isUpdateLastAccess);
+	}
+
+	@Override
+	public Iterator<CacheObj<K, V>> cacheObjIterator() {
+		final IterChain<CacheObj<K, V>> chain = new IterChain<>();
+		for (final LRUCache<K, V> segment : this.segments) {
+			chain.addChain(segment.cacheObjIterator());
+		}
+		return new CacheObjIterator<>(chain);
+	}
+
+	@Override
+	public Iterator<V> iterator() {
+		return new CacheValuesIterator<>((CacheObjIterator<K, V>) cacheObjIterator());
+	}
+
+	@Override
+	public int prune() {
+		int count = 0;
+		for (final LRUCache<K, V> segment : this.segments) {
+			count += segment.prune();
+		}
+		return count;
+	}
+
+	@Override
+	public boolean isFull() {
+		return size() >= this.capacity;
+	}
+
+	@Override
+	public void remove(K key) {
+		segmentFor(key).remove(key);
+	}
+
+	@Override
+	public void clear() {
+		for (final LRUCache<K, V> segment : this.segments) {
+			segment.clear();
+		}
+	}
+
+	@Override
+	public int size() {
+		int size = 0;
+		for (final LRUCache<K, V> segment : this.segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for (final LRUCache<K, V> segment : this.segments) {
+			if (false == segment.isEmpty()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean containsKey(K key) {
+		return segmentFor(key).containsKey(key);
+	}
+
+	@Override
+	public ConcurrentLRUCache<K, V> setListener(CacheListener<K, V> listener) {
+		for (final LRUCache<K, V> segment : this.segments) {
+			segment.setListener(listener);
+		}
+		return this;
+	}
+
+	/**
+	 * 设置统计记录器，传入{@link StatsRecorder#DISABLED}表示不记录
+	 *
+	 * @param statsRecorder 统计记录器
+	 * @return this
+	 */
+	public ConcurrentLRUCache<K, V> setStatsRecorder(StatsRecorder statsRecorder) {
+		this.statsRecorder = statsRecorder;
+		for (final LRUCache<K, V> segment : this.segments) {
+			segment.setStatsRecorder(statsRecorder);
+		}
+		return this;
+	}
+
+	@Override
+	public CacheStats getStats() {
+		return this.statsRecorder.snapshot(getHitCount(), getMissCount());
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		long count = 0;
+		for (final LRUCache<K, V> segment : this.segments) {
+			count += segment.getHitCount();
+		}
+		return count;
+	}
+
+	/**
+	 * @return 丢失数
+	 */
+	public long getMissCount() {
+		long count = 0;
+		for (final LRUCache<K, V> segment : this.segments) {
+			count += segment.getMissCount();
+		}
+		return count;
+	}
+
+	/**
+	 * 获取分段数
+	 *
+	 * @return 分段数
+	 */
+	public int getSegmentCount() {
+		return this.segments.length;
+	}
+
+	/**
+	 * 返回所有键
+	 *
+	 * @return 所有键
+	 */
+	public Set<K> keySet() {
+		final Set<K> keys = new HashSet<>();
+		for (final LRUCache<K, V> segment : this.segments) {
+			keys.addAll(segment.keySet());
+		}
+		return keys;
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("{");
+		for (final LRUCache<K, V> segment : this.segments) {
+			final String str = segment.toString();
+			// 去掉每段的首尾括号后拼接
+			if (str.length() > 2) {
+				if (sb.length() > 1) {
+					sb.append(", ");
+				}
+				sb.append(str, 1, str.length() - 1);
+			}
+		}
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * 根据键的hash定位所在段
+	 *
+	 * @param key 键
+	 * @return 段
+	 */
+	private LRUCache<K, V> segmentFor(K key) {
+		int h = Objects.hashCode(key);
+		// 与ConcurrentHashMap一致，将高位扰动到低位，避免低位相同的hash集中到同一段
+		h ^= (h >>> 16);
+		return this.segments[h & this.segmentMask];
+	}
+}
@@ -0,0 +1,221 @@
+package cn.hutool.cache.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 缓存过期索引，多层时间轮实现，供{@link TimedCache}使用<br>
+ * 每个槽存放过期时间落在此槽范围内的缓存对象，超出本层范围的对象放入上层时间轮（槽跨度为本层总跨度）。<br>
+ * 与hutool-cron中的{@code TimingWheel}不同，此时间轮不持有线程，而是在每次清理时由调用方推进到当前时间，
+ * 取出所有到期槽中的对象，因此清理的开销只与到期的对象数有关，与缓存总大小无关。<br>
+ * 此类非线程安全，由调用方加锁保护。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.35
+ */
+class ExpirationWheel<K, V> implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 一个时间槽的范围，单位毫秒
+	 */
+	private final long tickMs;
+	/**
+	 * 时间轮大小，时间轮中时间槽的个数
+	 */
+	private final int wheelSize;
+	/**
+	 * 时间跨度，当前时间轮总间隔，即单个槽的跨度*槽个数
+	 */
+	private final long interval;
+	/**
+	 * 时间槽，懒加载
+	 */
+	private final List<CacheObj<K, V>>[] buckets;
+	/**
+	 * 当前时间，为tickMs的整数倍
+	 */
+	private long currentTime;
+	/**
+	 * 上层时间轮
+	 */
+	private ExpirationWheel<K, V> overflowWheel;
+	/**
+	 * 本层及上层时间轮中的对象总数
+	 */
+	private int size;
+
+	/**
+	 * 构造
+	 *
+	 * @param tickMs      一个时间槽的范围，单位毫秒
+	 * @param wheelSize   时间轮大小
+	 * @param currentTime 当前时间
+	 */
+	@SuppressWarnings("unchecked")
+	ExpirationWheel(long tickMs, int wheelSize, long currentTime) {
+		this.tickMs = tickMs;
+		this.wheelSize = wheelSize;
+		this.interval = tickMs * wheelSize;
+		this.buckets = new List[wheelSize];
+		this.currentTime = currentTime - (currentTime % tickMs);
+	}
+
+	/**
+	 * 按照缓存对象当前的过期时间加入时间轮<br>
+	 * 永不过期的对象忽略
+	 *
+	 * @param co 缓存对象
+	 */
+	void add(CacheObj<K, V> co) {
+		final long ttl = co.ttl;
+		if (ttl <= 0) {
+			return;
+		}
+		final long lastAccess = co.lastAccess;
+		if (ttl > Long.MAX_VALUE - lastAccess) {
+			// 过期时间溢出，视为永不过期
+			return;
+		}
+		add(co, lastAccess + ttl);
+	}
+
+	/**
+	 * 获取并移除所有到期槽中的对象，同时将时间轮推进到指定时间<br>
+	 * 返回的对象不一定已经过期（同槽内可能有稍晚过期的对象，或过期时间因访问而延后），调用方需重新检查并可再次加入。
+	 *
+	 * @param now 当前时间
+	 * @return 到期槽中的对象
+	 */
+	List<CacheObj<K, V>> advance(long now) {
+		final List<CacheObj<K, V>> result = new ArrayList<>();
+		advance(now, result);
+		return result;
+	}
+
+	/**
+	 * 获取时间轮中的对象总数，包括已被替换或移除但尚未到期的对象
+	 *
+	 * @return 对象总数
+	 */
+	int size() {
+		return this.size;
+	}
+
+	/**
+	 * 移除本层及上层时间轮中所有符合条件的对象，用于清理已被替换或移除的对象
+	 *
+	 * @param filter 过滤器，返回{@code true}的对象被移除
+	 * @return 移除的对象数
+	 */
+	int removeIf(Predicate<CacheObj<K, V>> filter) {
+		int count = 0;
+		List<CacheObj<K, V>> bucket;
+		for (int i = 0; i < wheelSize; i++) {
+			bucket = buckets[i];
+			if (null != bucket) {
+				final int bucketSize = bucket.size();
+				if (bucket.removeIf(filter)) {
+					count += bucketSize - bucket.size();
+					if (bucket.isEmpty()) {
+						buckets[i] = null;
+					}
+				}
+			}
+		}
+		if (null != overflowWheel) {
+			count += overflowWheel.removeIf(filter);
+		}
+		size -= count;
+		return count;
+	}
+
+	/**
+	 * 清空时间轮
+	 */
+	void clear() {
+		for (int i = 0; i < wheelSize; i++) {
+			buckets[i] = null;
+		}
+		overflowWheel = null;
+		size = 0;
+	}
+
+	/**
+	 * 加入时间轮，已到期的对象放入下一个槽，在下一次推进时取出
+	 *
+	 * @param co         缓存对象
+	 * @param expiration 过期时间
+	 */
+	private void add(CacheObj<K, V> co, long expiration) {
+		size++;
+		expiration = Math.max(expiration, currentTime + tickMs);
+		if (expiration < currentTime + interval) {
+			final int index = (int) ((expiration / tickMs) % wheelSize);
+			List<CacheObj<K, V>> bucket = buckets[index];
+			if (null == bucket) {
+				bucket = new ArrayList<>();
+				buckets[index] = bucket;
+			}
+			bucket.add(co);
+		} else {
+			// 放到上一层的时间轮
+			if (null == overflowWheel) {
+				overflowWheel = new ExpirationWheel<>(interval, wheelSize, currentTime);
+			}
+			overflowWheel.add(co, expiration);
+		}
+	}
+
+	/**
+	 * 推进时间，并收集到期槽中的对象
+	 *
+	 * @param now    当前时间
+	 * @param result 收集结果
+	 */
+	private void advance(long now, List<CacheObj<K, V>> result) {
+		if (now < currentTime + tickMs) {
+			// 本层未推进，上层槽跨度更大，也无需推进
+			return;
+		}
+
+		final long ticks = (now - currentTime) / tickMs;
+		if (ticks >= wheelSize) {
+			// 已经超过整个时间轮跨度，所有槽均到期
+			for (int i = 0; i < wheelSize; i++) {
+				drain(i, result);
+			}
+		} else {
+			final long startId = currentTime / tickMs;
+			for (long i = 1; i <= ticks; i++) {
+				drain((int) ((startId + i) % wheelSize), result);
+			}
+		}
+		currentTime = now - (now % tickMs);
+
+		if (null != overflowWheel) {
+			final int overflowSize = overflowWheel.size;
+			overflowWheel.advance(now, result);
+			size -= overflowSize - overflowWheel.size;
+		}
+	}
+
+	/**
+	 * 取出槽中的所有对象
+	 *
+	 * @param index  槽位置
+	 * @param result 收集结果
+	 */
+	private void drain(int index, List<CacheObj<K, V>> result) {
+		final List<CacheObj<K, V>> bucket = buckets[index];
+		if (null != bucket) {
+			result.addAll(bucket);
+			buckets[index] = null;
+			size -= bucket.size();
+		}
+	}
+}
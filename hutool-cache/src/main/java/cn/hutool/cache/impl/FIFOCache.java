@@ -1,5 +1,7 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
+
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 
@@ -57,7 +59,7 @@ public class FIFOCache<K, V> extends StampedCache<K, V> {
 				CacheObj<K, V> co = values.next();
 				if (co.isExpired()) {
 					values.remove();
-					onRemove(co.key, co.obj);
+					onRemove(co.key, co.obj, RemovalCause.EXPIRED);
 					count++;
 					continue;
 				}
@@ -72,7 +74,7 @@ public class FIFOCache<K, V> extends StampedCache<K, V> {
 		// 清理结束后依旧是满的，则删除第一个被缓存的对象
 		if (isFull() && null != first) {
 			removeWithoutLock(first.key);
-			onRemove(first.key, first.obj);
+			onRemove(first.key, first.obj, RemovalCause.SIZE);
 			count++;
 		}
 		return count;
@@ -0,0 +1,153 @@
+package cn.hutool.cache.impl;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 基于Count-Min Sketch的访问频率估算器，用于{@link TinyLFUCache}的准入判断<br>
+ * 每个计数器占4位，16个计数器压缩在一个long中，每个元素对应4个不同行的计数器，频率取其最小值。<br>
+ * 当累计的增量达到采样数（容量的10倍）时，所有计数器减半，使历史热点随时间衰减（老化）。<br>
+ * 此类非线程安全，由调用方加锁保护。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class FrequencySketch implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private static final long[] SEED = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+	private static final long RESET_MASK = 0x7777777777777777L;
+	private static final long ONE_MASK = 0x1111111111111111L;
+	/**
+	 * 计数表的最大长度（2^22个long，32MB），容量更大时多个元素共用计数器，只影响估算精度
+	 */
+	private static final int MAX_TABLE_SIZE = 1 << 22;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+	private int size;
+
+	/**
+	 * 构造
+	 *
+	 * @param maximumSize 预期最大元素数，用于决定计数表大小（最大{@link #MAX_TABLE_SIZE}）和老化周期
+	 */
+	public FrequencySketch(int maximumSize) {
+		final int maximum = Math.max(Math.min(maximumSize, 1 << 30), 8);
+		this.table = new long[ceilingPowerOfTwo(Math.min(maximum, MAX_TABLE_SIZE))];
+		this.tableMask = this.table.length - 1;
+		this.sampleSize = (int) Math.min(10L * maximum, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 获取元素的估算频率，最大为15
+	 *
+	 * @param e 元素
+	 * @return 估算频率
+	 */
+	public int frequency(Object e) {
+		final int hash = spread(e);
+		final int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+		for (int i = 0; i < 4; i++) {
+			final int index = indexOf(hash, i);
+			final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+			frequency = Math.min(frequency, count);
+		}
+		return frequency;
+	}
+
+	/**
+	 * 增加元素的访问频率，计数达到上限15后不再增加<br>
+	 * 累计增量达到采样数时执行一次老化
+	 *
+	 * @param e 元素
+	 */
+	public void increment(Object e) {
+		final int hash = spread(e);
+		final int start = (hash & 3) << 2;
+
+		boolean added = false;
+		for (int i = 0; i < 4; i++) {
+			added |= incrementAt(indexOf(hash, i), start + i);
+		}
+
+		if (added && (++size == sampleSize)) {
+			reset();
+		}
+	}
+
+	/**
+	 * 清空所有计数
+	 */
+	public void clear() {
+		Arrays.fill(table, 0L);
+		size = 0;
+	}
+
+	/**
+	 * 将指定位置的计数器加1
+	 *
+	 * @param i 表索引
+	 * @param j 计数器在long中的位置（0~15）
+	 * @return 是否增加成功，计数器已满返回{@code false}
+	 */
+	private boolean incrementAt(int i, int j) {
+		final int offset = j << 2;
+		final long mask = (0xfL << offset);
+		if ((table[i] & mask) != mask) {
+			table[i] += (1L << offset);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 老化，所有计数器减半
+	 */
+	private void reset() {
+		int count = 0;
+		for (int i = 0; i < table.length; i++) {
+			count += Long.bitCount(table[i] & ONE_MASK);
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+		size = (size - (count >>> 2)) - (size >>> 1);
+	}
+
+	/**
+	 * 计算第i行对应的表索引
+	 *
+	 * @param item 元素hash
+	 * @param i    行
+	 * @return 表索引
+	 */
+	private int indexOf(int item, int i) {
+		long hash = (item + SEED[i]) * SEED[i];
+		hash += (hash >>> 32);
+		return ((int) hash) & tableMask;
+	}
+
+	/**
+	 * 扰动hash，避免hashCode质量较差的对象集中在少数计数器上
+	 *
+	 * @param e 元素
+	 * @return 扰动后的hash
+	 */
+	private static int spread(Object e) {
+		int x = (null == e) ? 0 : e.hashCode();
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		x = ((x >>> 16) ^ x) * 0x45d9f3b;
+		return (x >>> 16) ^ x;
+	}
+
+	/**
+	 * 不小于给定值的最小2的幂
+	 *
+	 * @param x 值
+	 * @return 2的幂
+	 */
+	private static int ceilingPowerOfTwo(int x) {
+		return 1 << -Integer.numberOfLeadingZeros(x - 1);
+	}
+}
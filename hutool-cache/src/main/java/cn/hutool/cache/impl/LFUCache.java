@@ -1,5 +1,7 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
+
 import java.util.HashMap;
 import java.util.Iterator;
 
@@ -63,7 +65,7 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 			co = values.next();
 			if (co.isExpired() == true) {
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co.key, co.obj, RemovalCause.EXPIRED);
 				count++;
 				continue;
 			}
@@ -84,7 +86,7 @@ public class LFUCache<K, V> extends StampedCache<K, V> {
 				co1 = values.next();
 				if (co1.accessCount.addAndGet(-minAccessCount) <= 0) {
 					values.remove();
-					onRemove(co1.key, co1.obj);
+					onRemove(co1.key, co1.obj, RemovalCause.SIZE);
 					count++;
 				}
 			}
@@ -1,5 +1,7 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.Weigher;
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
 import cn.hutool.core.map.FixedLinkedHashMap;
 
@@ -45,31 +47,60 @@ public class LRUCache<K, V> extends ReentrantCache<K, V> {
 		//链表key按照访问顺序排序，调用get方法后，会将这次访问的元素移至头部
 		final FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>> fixedLinkedHashMap = new FixedLinkedHashMap<>(capacity);
 		fixedLinkedHashMap.setRemoveListener(entry -> {
-			if(null != listener){
-				listener.onRemove(entry.getKey().get(), entry.getValue().getValue());
-			}
+			releaseWeight(entry.getValue());
+			onRemove(entry.getKey().get(), entry.getValue().getValue(), RemovalCause.SIZE);
 		});
 		cacheMap = fixedLinkedHashMap;
 	}
 
+	/**
+	 * 设置权重计算器，容量为0时表示只按照权重限制
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重
+	 * @return this
+	 * @since 5.8.35
+	 */
+	@Override
+	public LRUCache<K, V> setWeigher(Weigher<K, V> weigher, long maxWeight) {
+		super.setWeigher(weigher, maxWeight);
+		if (capacity <= 0) {
+			// 不限制个数，避免FixedLinkedHashMap按照容量0淘汰
+			((FixedLinkedHashMap<Mutable<K>, CacheObj<K, V>>) cacheMap).setCapacity(Integer.MAX_VALUE);
+		}
+		return this;
+	}
+
 	// ---------------------------------------------------------------- prune
 
 	/**
-	 * 只清理超时对象，LRU的实现会交给{@code LinkedHashMap}
+	 * 清理超时对象，LRU的实现会交给{@code LinkedHashMap}<br>
+	 * 设置了权重计算器时，清理后总权重依旧超出的，移除最久未使用的对象
 	 */
 	@Override
 	protected int pruneCache() {
-		if (isPruneExpiredActive() == false) {
-			return 0;
-		}
 		int count = 0;
-		Iterator<CacheObj<K, V>> values = cacheObjIter();
-		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
-			if (co.isExpired()) {
+		if (isPruneExpiredActive()) {
+			Iterator<CacheObj<K, V>> values = cacheObjIter();
+			CacheObj<K, V> co;
+			while (values.hasNext()) {
+				co = values.next();
+				if (co.isExpired()) {
+					values.remove();
+					onRemove(co.key, co.obj, RemovalCause.EXPIRED);
+					count++;
+				}
+			}
+		}
+
+		if (null != weigher) {
+			// 访问顺序的链表头部即最久未使用的对象
+			final Iterator<CacheObj<K, V>> values = cacheObjIter();
+			CacheObj<K, V> co;
+			while (totalWeight > maxWeight && values.hasNext()) {
+				co = values.next();
 				values.remove();
-				onRemove(co.key, co.obj);
+				onRemove(co.key, co.obj, RemovalCause.SIZE);
 				count++;
 			}
 		}
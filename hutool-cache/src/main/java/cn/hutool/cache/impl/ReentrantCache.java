@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -73,7 +74,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			lock.unlock();
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co.key, co.obj, RemovalCause.EXPLICIT);
 		}
 	}
 
@@ -81,7 +82,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 	public void clear() {
 		lock.lock();
 		try {
-			cacheMap.clear();
+			clearWithoutLock();
 		} finally {
 			lock.unlock();
 		}
@@ -112,6 +113,7 @@ public abstract class ReentrantCache<K, V> extends AbstractCache<K, V> {
 			if(null != co && co.isExpired()){
 				//过期移除
 				removeWithoutLock(key);
+				statsRecorder.recordEviction(RemovalCause.EXPIRED);
 				co = null;
 			}
 		} finally {
@@ -1,5 +1,6 @@
 package cn.hutool.cache.impl;
 
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.collection.CopiedIter;
 
 import java.util.Iterator;
@@ -73,7 +74,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co.key, co.obj, RemovalCause.EXPLICIT);
 		}
 	}
 
@@ -81,7 +82,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 	public void clear() {
 		final long stamp = lock.writeLock();
 		try {
-			cacheMap.clear();
+			clearWithoutLock();
 		} finally {
 			lock.unlockWrite(stamp);
 		}
@@ -155,7 +156,7 @@ public abstract class StampedCache<K, V> extends AbstractCache<K, V> {
 			lock.unlockWrite(stamp);
 		}
 		if (null != co) {
-			onRemove(co.key, co.obj);
+			onRemove(co.key, co.obj, RemovalCause.EXPIRED);
 		}
 		return null;
 	}
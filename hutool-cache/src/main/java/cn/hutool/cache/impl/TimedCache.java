@@ -1,16 +1,19 @@
 package cn.hutool.cache.impl;
 
 import cn.hutool.cache.GlobalPruneTimer;
+import cn.hutool.cache.Weigher;
+import cn.hutool.cache.stats.RemovalCause;
 import cn.hutool.core.lang.mutable.Mutable;
+import cn.hutool.core.lang.mutable.MutableObj;
 
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ScheduledFuture;
 
 /**
  * 定时缓存<br>
- * 此缓存没有容量限制，对象只有在过期后才会被移除
+ * 此缓存没有容量限制，对象只有在过期后才会被移除<br>
+ * 对象的过期时间使用多层时间轮索引，清理时只处理到期槽中的对象，开销与过期对象数相关，与缓存大小无关
  *
  * @author Looly
  *
@@ -22,6 +25,8 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 
 	/** 正在执行的定时任务 */
 	private ScheduledFuture<?> pruneJobFuture;
+	/** 过期时间索引 */
+	private final ExpirationWheel<K, V> expirationWheel = new ExpirationWheel<>(1, 64, System.currentTimeMillis());
 
 	/**
 	 * 构造
@@ -44,28 +49,84 @@ public class TimedCache<K, V> extends StampedCache<K, V> {
 		this.cacheMap = map;
 	}
 
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		final CacheObj<K, V> co = new CacheObj<>(key, object, timeout);
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		cacheMap.put(MutableObj.of(key), co);
+		expirationWheel.add(co);
+		compactIfNecessary();
+	}
+
+	/**
+	 * 定时缓存的对象只按照过期时间清理，不支持按照权重限制大小
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重
+	 * @return this
+	 * @throws UnsupportedOperationException 始终抛出
+	 */
+	@Override
+	public TimedCache<K, V> setWeigher(Weigher<K, V> weigher, long maxWeight) {
+		throw new UnsupportedOperationException("TimedCache does not support weigher!");
+	}
+
+	@Override
+	protected CacheObj<K, V> removeWithoutLock(K key) {
+		final CacheObj<K, V> co = super.removeWithoutLock(key);
+		compactIfNecessary();
+		return co;
+	}
+
+	@Override
+	public void clear() {
+		final long stamp = lock.writeLock();
+		try {
+			clearWithoutLock();
+			expirationWheel.clear();
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
 	// ---------------------------------------------------------------- prune
 	/**
-	 * 清理过期对象
+	 * 清理过期对象<br>
+	 * 从时间轮中取出到期的对象，已被替换或移除的对象直接丢弃，因访问而延后过期的对象重新加入时间轮
 	 *
 	 * @return 清理数
 	 */
 	@Override
 	protected int pruneCache() {
 		int count = 0;
-		final Iterator<CacheObj<K, V>> values = cacheObjIter();
-		CacheObj<K, V> co;
-		while (values.hasNext()) {
-			co = values.next();
+		for (final CacheObj<K, V> co : expirationWheel.advance(System.currentTimeMillis())) {
+			if (co != getWithoutLock(co.key)) {
+				// 已被替换或移除
+				continue;
+			}
 			if (co.isExpired()) {
-				values.remove();
-				onRemove(co.key, co.obj);
+				removeWithoutLock(co.key);
+				onRemove(co.key, co.obj, RemovalCause.EXPIRED);
 				count++;
+			} else {
+				expirationWheel.add(co);
 			}
 		}
 		return count;
 	}
 
+	/**
+	 * 时间轮中已被替换或移除的对象在到期前不会被取出，会一直持有其值<br>
+	 * 当时间轮中的对象数超出缓存对象数一定数量时，移除所有非当前的对象，清理后时间轮中的对象数不超过缓存对象数，因此平摊开销为常数
+	 */
+	private void compactIfNecessary() {
+		if (expirationWheel.size() > (cacheMap.size() << 1) + 64) {
+			expirationWheel.removeIf((co) -> co != getWithoutLock(co.key));
+		}
+	}
+
 	// ---------------------------------------------------------------- auto prune
 	/**
 	 * 定时清理
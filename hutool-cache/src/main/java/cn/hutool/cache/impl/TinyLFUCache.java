@@ -0,0 +1,107 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.cache.Weigher;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.mutable.MutableObj;
+
+import java.util.Iterator;
+
+/**
+ * W-TinyLFU (Window Tiny Least Frequently Used) 缓存<br>
+ * 使用{@link FrequencySketch}估算每个键的访问频率，新对象先进入一个小的LRU窗口，
+ * 窗口溢出时与主区域（分段LRU）中最久未使用的对象比较频率，频率高者保留。<br>
+ * 与{@link LFUCache}相比，淘汰不再需要遍历所有对象查找最小访问数并逐个扣减，每次淘汰为O(1)，
+ * 频率的衰减由计数器周期性减半完成，适合大容量（百万级）且访问频率差异明显的场景。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.35
+ */
+public class TinyLFUCache<K, V> extends ReentrantCache<K, V> {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 构造<br>
+	 * 默认无超时
+	 *
+	 * @param capacity 容量，必须大于0
+	 */
+	public TinyLFUCache(int capacity) {
+		this(capacity, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量，必须大于0，W-TinyLFU依赖容量划分窗口和主区域，不支持无限制容量
+	 * @param timeout  默认超时时间，单位：毫秒
+	 */
+	public TinyLFUCache(int capacity, long timeout) {
+		Assert.isTrue(capacity > 0, "TinyLFUCache capacity must be greater than 0 but got {}", capacity);
+		if (Integer.MAX_VALUE == capacity) {
+			capacity -= 1;
+		}
+
+		this.capacity = capacity;
+		this.timeout = timeout;
+
+		final TinyLFUMap<K, V> tinyLFUMap = new TinyLFUMap<>(capacity);
+		tinyLFUMap.setEvictListener(co -> onRemove(co.key, co.obj, RemovalCause.SIZE));
+		cacheMap = tinyLFUMap;
+	}
+
+	/**
+	 * 加入元素，无锁<br>
+	 * 容量淘汰由{@link TinyLFUMap}在写入时以O(1)完成，此处不再在满时全量清理过期对象
+	 *
+	 * @param key     键
+	 * @param object  值
+	 * @param timeout 超时时长
+	 */
+	@Override
+	protected void putWithoutLock(K key, V object, long timeout) {
+		if (timeout != 0) {
+			existCustomTimeout = true;
+		}
+		cacheMap.put(MutableObj.of(key), new CacheObj<>(key, object, timeout));
+	}
+
+	/**
+	 * TinyLFU的淘汰由{@link TinyLFUMap}按照容量完成，不支持按照权重限制大小
+	 *
+	 * @param weigher   权重计算器
+	 * @param maxWeight 最大总权重
+	 * @return this
+	 * @throws UnsupportedOperationException 始终抛出
+	 */
+	@Override
+	public TinyLFUCache<K, V> setWeigher(Weigher<K, V> weigher, long maxWeight) {
+		throw new UnsupportedOperationException("TinyLFUCache does not support weigher!");
+	}
+
+	// ---------------------------------------------------------------- prune
+
+	/**
+	 * 只清理超时对象，容量淘汰交给{@link TinyLFUMap}
+	 */
+	@Override
+	protected int pruneCache() {
+		if (isPruneExpiredActive() == false) {
+			return 0;
+		}
+		int count = 0;
+		Iterator<CacheObj<K, V>> values = cacheObjIter();
+		CacheObj<K, V> co;
+		while (values.hasNext()) {
+			co = values.next();
+			if (co.isExpired()) {
+				values.remove();
+				onRemove(co.key, co.obj, RemovalCause.EXPIRED);
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,240 @@
+package cn.hutool.cache.impl;
+
+import cn.hutool.core.collection.IterChain;
+import cn.hutool.core.lang.mutable.Mutable;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * W-TinyLFU淘汰策略的Map实现，供{@link TinyLFUCache}使用<br>
+ * 存储分为三个区域，均为访问顺序的{@link LinkedHashMap}：
+ * <ul>
+ *     <li>window：约占容量1%的LRU窗口，新对象首先进入此区域，用于吸收突发访问</li>
+ *     <li>probation：主区域中的试用区，从窗口淘汰的对象经准入判断后进入此区域</li>
+ *     <li>protected：主区域中的保护区，约占主区域80%，在试用区被再次访问的对象晋升到此区域</li>
+ * </ul>
+ * 窗口溢出时，将窗口中最久未使用的对象（候选者）与试用区中最久未使用的对象（受害者）比较{@link FrequencySketch}估算频率，
+ * 频率高者留下，所有操作均为O(1)。<br>
+ * 此类非线程安全，由{@link TinyLFUCache}加锁保护。
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ * @author looly
+ * @since 5.8.35
+ */
+class TinyLFUMap<K, V> extends AbstractMap<Mutable<K>, CacheObj<K, V>> {
+
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> window;
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> probation;
+	private final LinkedHashMap<Mutable<K>, CacheObj<K, V>> protectedMap;
+	private final FrequencySketch sketch;
+
+	private final int windowCapacity;
+	private final int mainCapacity;
+	private final int protectedCapacity;
+
+	/**
+	 * 淘汰监听
+	 */
+	private Consumer<CacheObj<K, V>> evictListener;
+
+	/**
+	 * 构造
+	 *
+	 * @param capacity 容量
+	 */
+	TinyLFUMap(int capacity) {
+		this.windowCapacity = Math.max(1, capacity / 100);
+		this.mainCapacity = capacity - windowCapacity;
+		this.protectedCapacity = (int) (mainCapacity * 0.8);
+
+		this.window = new LinkedHashMap<>(16, 0.75f, true);
+		this.probation = new LinkedHashMap<>(16, 0.75f, true);
+		this.protectedMap = new LinkedHashMap<>(16, 0.75f, true);
+		this.sketch = new FrequencySketch(capacity);
+	}
+
+	/**
+	 * 设置淘汰监听，仅在因容量不足被淘汰时回调
+	 *
+	 * @param evictListener 淘汰监听
+	 */
+	void setEvictListener(Consumer<CacheObj<K, V>> evictListener) {
+		this.evictListener = evictListener;
+	}
+
+	@Override
+	public CacheObj<K, V> get(Object key) {
+		sketch.increment(key);
+
+		CacheObj<K, V> co = window.get(key);
+		if (null != co) {
+			return co;
+		}
+
+		co = protectedMap.get(key);
+		if (null != co) {
+			return co;
+		}
+
+		co = probation.remove(key);
+		if (null != co) {
+			// 试用区命中，晋升到保护区
+			@SuppressWarnings("unchecked") final Mutable<K> mKey = (Mutable<K>) key;
+			protectedMap.put(mKey, co);
+			demoteProtected();
+		}
+		return co;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return window.containsKey(key) || probation.containsKey(key) || protectedMap.containsKey(key);
+	}
+
+	@Override
+	public CacheObj<K, V> put(Mutable<K> key, CacheObj<K, V> value) {
+		// 已存在的键原地替换
+		if (window.containsKey(key)) {
+			return window.put(key, value);
+		} else if (probation.containsKey(key)) {
+			return probation.put(key, value);
+		} else if (protectedMap.containsKey(key)) {
+			return protectedMap.put(key, value);
+		}
+
+		sketch.increment(key);
+		window.put(key, value);
+		if (window.size() > windowCapacity) {
+			evictFromWindow();
+		}
+		return null;
+	}
+
+	@Override
+	public CacheObj<K, V> remove(Object key) {
+		CacheObj<K, V> co = window.remove(key);
+		if (null == co) {
+			co = probation.remove(key);
+			if (null == co) {
+				co = protectedMap.remove(key);
+			}
+		}
+		return co;
+	}
+
+	@Override
+	public int size() {
+		return window.size() + probation.size() + protectedMap.size();
+	}
+
+	@Override
+	public void clear() {
+		window.clear();
+		probation.clear();
+		protectedMap.clear();
+	}
+
+	@Override
+	public Set<Entry<Mutable<K>, CacheObj<K, V>>> entrySet() {
+		return new AbstractSet<Entry<Mutable<K>, CacheObj<K, V>>>() {
+			@Override
+			public Iterator<Entry<Mutable<K>, CacheObj<K, V>>> iterator() {
+				return new IterChain<Entry<Mutable<K>, CacheObj<K, V>>>()
+						.addChain(window.entrySet().iterator())
+						.addChain(probation.entrySet().iterator())
+						.addChain(protectedMap.entrySet().iterator());
+			}
+
+			@Override
+			public int size() {
+				return TinyLFUMap.this.size();
+			}
+		};
+	}
+
+	/**
+	 * 窗口溢出时，取出窗口中最久未使用的对象作为候选者，与主区域的受害者竞争
+	 */
+	private void evictFromWindow() {
+		final Map.Entry<Mutable<K>, CacheObj<K, V>> candidate = pollFirst(window);
+		if (probation.size() + protectedMap.size() < mainCapacity) {
+			// 主区域未满，直接进入试用区
+			probation.put(candidate.getKey(), candidate.getValue());
+			return;
+		}
+
+		final LinkedHashMap<Mutable<K>, CacheObj<K, V>> victimMap = probation.isEmpty() ? protectedMap : probation;
+		final Map.Entry<Mutable<K>, CacheObj<K, V>> victim = victimMap.isEmpty() ? null : victimMap.entrySet().iterator().next();
+		if (null == victim) {
+			// 主区域容量为0
+			onEvict(candidate.getValue());
+			return;
+		}
+
+		if (admit(candidate, victim)) {
+			victimMap.remove(victim.getKey());
+			probation.put(candidate.getKey(), candidate.getValue());
+			onEvict(victim.getValue());
+		} else {
+			onEvict(candidate.getValue());
+		}
+	}
+
+	/**
+	 * 准入判断，候选者估算频率高于受害者时准入，过期对象优先淘汰
+	 *
+	 * @param candidate 候选者
+	 * @param victim    受害者
+	 * @return 是否准入候选者
+	 */
+	private boolean admit(Map.Entry<Mutable<K>, CacheObj<K, V>> candidate, Map.Entry<Mutable<K>, CacheObj<K, V>> victim) {
+		if (victim.getValue().isExpired()) {
+			return true;
+		}
+		if (candidate.getValue().isExpired()) {
+			return false;
+		}
+		return sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey());
+	}
+
+	/**
+	 * 保护区溢出时，将最久未使用的对象降级到试用区
+	 */
+	private void demoteProtected() {
+		if (protectedMap.size() > protectedCapacity) {
+			final Map.Entry<Mutable<K>, CacheObj<K, V>> entry = pollFirst(protectedMap);
+			probation.put(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/**
+	 * 淘汰回调
+	 *
+	 * @param co 被淘汰的对象
+	 */
+	private void onEvict(CacheObj<K, V> co) {
+		if (null != evictListener) {
+			evictListener.accept(co);
+		}
+	}
+
+	/**
+	 * 移除并返回最久未使用的对象
+	 *
+	 * @param map 访问顺序的Map
+	 * @return 最久未使用的键值对
+	 */
+	private static <K, V> Map.Entry<K, V> pollFirst(LinkedHashMap<K, V> map) {
+		final Iterator<Map.Entry<K, V>> iterator = map.entrySet().iterator();
+		final Map.Entry<K, V> entry = iterator.next();
+		iterator.remove();
+		return entry;
+	}
+}
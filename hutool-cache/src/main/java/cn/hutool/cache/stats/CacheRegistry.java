@@ -0,0 +1,151 @@
+package cn.hutool.cache.stats;
+
+import cn.hutool.cache.Cache;
+import cn.hutool.core.util.StrUtil;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 缓存注册表，记录通过{@link cn.hutool.cache.CacheUtil}创建的缓存及使用者主动注册的缓存，用于统一获取统计信息<br>
+ * 频繁创建短生命周期缓存的场景可通过{@link #setAutoRegister(boolean)}关闭自动注册。
+ * 注册表只持有缓存的弱引用，不影响缓存被回收，已回收的缓存在注册或访问注册表时移除。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class CacheRegistry {
+
+	private static final Map<String, CacheReference> CACHES = new ConcurrentHashMap<>();
+	/**
+	 * 已被回收的缓存引用队列，注册时只移除队列中的引用，无需遍历整个注册表
+	 */
+	private static final ReferenceQueue<Cache<?, ?>> QUEUE = new ReferenceQueue<>();
+	private static final AtomicInteger SEQUENCE = new AtomicInteger();
+	/**
+	 * 是否自动注册通过{@link cn.hutool.cache.CacheUtil}创建的缓存
+	 */
+	private static volatile boolean autoRegister = true;
+
+	/**
+	 * 设置是否自动注册通过{@link cn.hutool.cache.CacheUtil}创建的缓存，默认开启<br>
+	 * 关闭后不影响已注册的缓存和{@link #register(String, Cache)}的主动注册
+	 *
+	 * @param autoRegister 是否自动注册
+	 */
+	public static void setAutoRegister(boolean autoRegister) {
+		CacheRegistry.autoRegister = autoRegister;
+	}
+
+	/**
+	 * @return 是否自动注册通过{@link cn.hutool.cache.CacheUtil}创建的缓存
+	 */
+	public static boolean isAutoRegister() {
+		return autoRegister;
+	}
+
+	/**
+	 * 开启自动注册时注册缓存，名称为缓存类名加序号，供{@link cn.hutool.cache.CacheUtil}使用
+	 *
+	 * @param <T>   缓存类型
+	 * @param cache 缓存
+	 * @return 缓存本身
+	 */
+	public static <T extends Cache<?, ?>> T autoRegister(T cache) {
+		return autoRegister ? register(cache) : cache;
+	}
+
+	/**
+	 * 注册缓存，名称为缓存类名加序号，如LRUCache-1
+	 *
+	 * @param <T>   缓存类型
+	 * @param cache 缓存
+	 * @return 缓存本身
+	 */
+	public static <T extends Cache<?, ?>> T register(T cache) {
+		return register(StrUtil.format("{}-{}", cache.getClass().getSimpleName(), SEQUENCE.incrementAndGet()), cache);
+	}
+
+	/**
+	 * 使用指定名称注册缓存，同名的缓存将被替换
+	 *
+	 * @param <T>   缓存类型
+	 * @param name  名称
+	 * @param cache 缓存
+	 * @return 缓存本身
+	 */
+	public static <T extends Cache<?, ?>> T register(String name, T cache) {
+		purge();
+		CACHES.put(name, new CacheReference(name, cache, QUEUE));
+		return cache;
+	}
+
+	/**
+	 * 取消注册
+	 *
+	 * @param name 名称
+	 */
+	public static void unregister(String name) {
+		CACHES.remove(name);
+	}
+
+	/**
+	 * 获取所有已注册且未被回收的缓存
+	 *
+	 * @return 名称和缓存的Map
+	 */
+	public static Map<String, Cache<?, ?>> getCaches() {
+		final Map<String, Cache<?, ?>> result = new LinkedHashMap<>();
+		purge();
+		final Iterator<Map.Entry<String, CacheReference>> iterator = CACHES.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<String, CacheReference> entry = iterator.next();
+			final Cache<?, ?> cache = entry.getValue().get();
+			if (null == cache) {
+				iterator.remove();
+			} else {
+				result.put(entry.getKey(), cache);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * 获取所有已注册缓存的统计信息快照
+	 *
+	 * @return 名称和统计信息快照的Map
+	 */
+	public static Map<String, CacheStats> getStats() {
+		final Map<String, CacheStats> result = new LinkedHashMap<>();
+		getCaches().forEach((name, cache) -> result.put(name, cache.getStats()));
+		return result;
+	}
+
+	/**
+	 * 移除引用队列中已被回收的缓存
+	 */
+	private static void purge() {
+		CacheReference reference;
+		while (null != (reference = (CacheReference) QUEUE.poll())) {
+			// 同名缓存可能已被重新注册，只移除对应的引用
+			CACHES.remove(reference.name, reference);
+		}
+	}
+
+	/**
+	 * 带名称的缓存弱引用，被回收后可根据名称从注册表移除
+	 */
+	private static class CacheReference extends WeakReference<Cache<?, ?>> {
+		private final String name;
+
+		CacheReference(String name, Cache<?, ?> cache, ReferenceQueue<Cache<?, ?>> queue) {
+			super(cache, queue);
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package cn.hutool.cache.stats;
+
+import cn.hutool.core.util.StrUtil;
+
+import java.io.Serializable;
+
+/**
+ * 缓存统计信息快照，不可变对象<br>
+ * 可以通过{@link #minus(CacheStats)}计算两个快照之间的差值，用于统计某一时间段内的数据。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class CacheStats implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final long hitCount;
+	private final long missCount;
+	private final long loadSuccessCount;
+	private final long loadFailureCount;
+	private final long totalLoadTime;
+	private final long[] evictionCounts;
+	private final long[] loadLatencyHistogram;
+
+	/**
+	 * 构造
+	 *
+	 * @param hitCount             命中数
+	 * @param missCount            丢失数
+	 * @param loadSuccessCount     加载成功数
+	 * @param loadFailureCount     加载失败数
+	 * @param totalLoadTime        总加载耗时，单位纳秒
+	 * @param evictionCounts       各移除原因的移除数，按照{@link RemovalCause#ordinal()}排列
+	 * @param loadLatencyHistogram 加载耗时直方图，见{@link ConcurrentStatsRecorder}
+	 */
+	public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount,
+					  long totalLoadTime, long[] evictionCounts, long[] loadLatencyHistogram) {
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+		this.loadSuccessCount = loadSuccessCount;
+		this.loadFailureCount = loadFailureCount;
+		this.totalLoadTime = totalLoadTime;
+		this.evictionCounts = evictionCounts;
+		this.loadLatencyHistogram = loadLatencyHistogram;
+	}
+
+	/**
+	 * @return 命中数
+	 */
+	public long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * @return 丢失数
+	 */
+	public long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * @return 请求数，即命中数与丢失数之和
+	 */
+	public long getRequestCount() {
+		return hitCount + missCount;
+	}
+
+	/**
+	 * @return 命中率，无请求时为1
+	 */
+	public double getHitRate() {
+		final long requestCount = getRequestCount();
+		return (requestCount == 0) ? 1.0 : (double) hitCount / requestCount;
+	}
+
+	/**
+	 * @return 加载成功数
+	 */
+	public long getLoadSuccessCount() {
+		return loadSuccessCount;
+	}
+
+	/**
+	 * @return 加载失败数
+	 */
+	public long getLoadFailureCount() {
+		return loadFailureCount;
+	}
+
+	/**
+	 * @return 总加载耗时，单位纳秒
+	 */
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	/**
+	 * @return 平均加载耗时，单位纳秒，无加载时为0
+	 */
+	public double getAverageLoadPenalty() {
+		final long loadCount = loadSuccessCount + loadFailureCount;
+		return (loadCount == 0) ? 0.0 : (double) totalLoadTime / loadCount;
+	}
+
+	/**
+	 * @return 总移除数
+	 */
+	public long getEvictionCount() {
+		long count = 0;
+		for (final long evictionCount : evictionCounts) {
+			count += evictionCount;
+		}
+		return count;
+	}
+
+	/**
+	 * 获取指定原因的移除数
+	 *
+	 * @param cause 移除原因
+	 * @return 移除数
+	 */
+	public long getEvictionCount(RemovalCause cause) {
+		return evictionCounts[cause.ordinal()];
+	}
+
+	/**
+	 * 获取加载耗时直方图，第i个元素为耗时在[2<sup>i-1</sup>, 2<sup>i</sup>)微秒之间的加载次数
+	 *
+	 * @return 加载耗时直方图
+	 */
+	public long[] getLoadLatencyHistogram() {
+		return loadLatencyHistogram.clone();
+	}
+
+	/**
+	 * 估算加载耗时的百分位数，返回所在桶的上界
+	 *
+	 * @param percentile 百分位，取值(0, 1]，例如0.99表示P99
+	 * @return 耗时上界，单位微秒，无加载时为0
+	 */
+	public long getLoadLatencyPercentile(double percentile) {
+		long total = 0;
+		for (final long count : loadLatencyHistogram) {
+			total += count;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		final long threshold = (long) Math.ceil(total * percentile);
+		long count = 0;
+		for (int i = 0; i < loadLatencyHistogram.length; i++) {
+			count += loadLatencyHistogram[i];
+			if (count >= threshold) {
+				return 1L << i;
+			}
+		}
+		return 1L << (loadLatencyHistogram.length - 1);
+	}
+
+	/**
+	 * 计算与之前快照的差值，即两个快照之间的统计数据
+	 *
+	 * @param other 之前的快照
+	 * @return 差值
+	 */
+	public CacheStats minus(CacheStats other) {
+		final long[] evictions = new long[evictionCounts.length];
+		for (int i = 0; i < evictions.length; i++) {
+			evictions[i] = Math.max(0, evictionCounts[i] - valueAt(other.evictionCounts, i));
+		}
+		final long[] histogram = new long[loadLatencyHistogram.length];
+		for (int i = 0; i < histogram.length; i++) {
+			histogram[i] = Math.max(0, loadLatencyHistogram[i] - valueAt(other.loadLatencyHistogram, i));
+		}
+		return new CacheStats(
+				Math.max(0, hitCount - other.hitCount),
+				Math.max(0, missCount - other.missCount),
+				Math.max(0, loadSuccessCount - other.loadSuccessCount),
+				Math.max(0, loadFailureCount - other.loadFailureCount),
+				Math.max(0, totalLoadTime - other.totalLoadTime),
+				evictions, histogram);
+	}
+
+	@Override
+	public String toString() {
+		return StrUtil.format("CacheStats [hitCount={}, missCount={}, loadSuccessCount={}, loadFailureCount={}, " +
+						"totalLoadTime={}, evictionCount={}, sizeEvictionCount={}, expiredEvictionCount={}, explicitEvictionCount={}]",
+				hitCount, missCount, loadSuccessCount, loadFailureCount, totalLoadTime, getEvictionCount(),
+				getEvictionCount(RemovalCause.SIZE), getEvictionCount(RemovalCause.EXPIRED), getEvictionCount(RemovalCause.EXPLICIT));
+	}
+
+	/**
+	 * 获取数组中的值，越界返回0
+	 *
+	 * @param array 数组
+	 * @param index 位置
+	 * @return 值
+	 */
+	private static long valueAt(long[] array, int index) {
+		return index < array.length ? array[index] : 0;
+	}
+}
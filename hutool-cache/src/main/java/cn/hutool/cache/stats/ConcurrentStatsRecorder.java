@@ -0,0 +1,92 @@
+package cn.hutool.cache.stats;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 线程安全的默认统计记录器，基于{@link LongAdder}，记录过程中不创建对象<br>
+ * 加载耗时按照微秒数的2的幂分桶统计为直方图，第i个桶记录耗时在[2<sup>i-1</sup>, 2<sup>i</sup>)微秒之间的加载次数。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class ConcurrentStatsRecorder implements StatsRecorder {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * 直方图桶数，最后一个桶记录所有超出范围的耗时
+	 */
+	public static final int BUCKET_COUNT = 40;
+
+	private final LongAdder loadSuccessCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder totalLoadTime = new LongAdder();
+	private final LongAdder[] evictionCounts;
+	private final AtomicLongArray loadLatencyHistogram = new AtomicLongArray(BUCKET_COUNT);
+
+	/**
+	 * 构造
+	 */
+	public ConcurrentStatsRecorder() {
+		final RemovalCause[] causes = RemovalCause.values();
+		this.evictionCounts = new LongAdder[causes.length];
+		for (int i = 0; i < causes.length; i++) {
+			this.evictionCounts[i] = new LongAdder();
+		}
+	}
+
+	@Override
+	public void recordLoadSuccess(long loadTime) {
+		loadSuccessCount.increment();
+		recordLoadTime(loadTime);
+	}
+
+	@Override
+	public void recordLoadFailure(long loadTime) {
+		loadFailureCount.increment();
+		recordLoadTime(loadTime);
+	}
+
+	@Override
+	public void recordEviction(RemovalCause cause) {
+		evictionCounts[cause.ordinal()].increment();
+	}
+
+	@Override
+	public CacheStats snapshot(long hitCount, long missCount) {
+		final long[] evictions = new long[evictionCounts.length];
+		for (int i = 0; i < evictions.length; i++) {
+			evictions[i] = evictionCounts[i].sum();
+		}
+		final long[] histogram = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			histogram[i] = loadLatencyHistogram.get(i);
+		}
+		return new CacheStats(hitCount, missCount, loadSuccessCount.sum(), loadFailureCount.sum(),
+				totalLoadTime.sum(), evictions, histogram);
+	}
+
+	/**
+	 * 记录加载耗时
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	private void recordLoadTime(long loadTime) {
+		totalLoadTime.add(loadTime);
+		loadLatencyHistogram.incrementAndGet(bucketIndex(TimeUnit.NANOSECONDS.toMicros(loadTime)));
+	}
+
+	/**
+	 * 计算耗时所在的桶
+	 *
+	 * @param micros 耗时，单位微秒
+	 * @return 桶位置
+	 */
+	static int bucketIndex(long micros) {
+		if (micros <= 0) {
+			return 0;
+		}
+		return Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+	}
+}
@@ -0,0 +1,22 @@
+package cn.hutool.cache.stats;
+
+/**
+ * 缓存对象被移除的原因
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public enum RemovalCause {
+	/**
+	 * 用户主动移除
+	 */
+	EXPLICIT,
+	/**
+	 * 对象过期
+	 */
+	EXPIRED,
+	/**
+	 * 缓存容量不足被淘汰
+	 */
+	SIZE
+}
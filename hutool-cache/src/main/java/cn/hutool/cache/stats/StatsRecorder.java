@@ -0,0 +1,69 @@
+package cn.hutool.cache.stats;
+
+import java.io.Serializable;
+
+/**
+ * 缓存统计记录器，用于记录加载和淘汰信息<br>
+ * 命中数和丢失数由缓存自身的计数器记录，不经过此接口，因此命中路径上没有额外开销。<br>
+ * 实现类必须是线程安全的，且需支持序列化（随缓存一起序列化）。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public interface StatsRecorder extends Serializable {
+
+	/**
+	 * 不记录任何信息的记录器
+	 */
+	StatsRecorder DISABLED = new StatsRecorder() {
+		@Override
+		public void recordLoadSuccess(long loadTime) {
+			// 跳过
+		}
+
+		@Override
+		public void recordLoadFailure(long loadTime) {
+			// 跳过
+		}
+
+		@Override
+		public void recordEviction(RemovalCause cause) {
+			// 跳过
+		}
+
+		@Override
+		public CacheStats snapshot(long hitCount, long missCount) {
+			return new CacheStats(hitCount, missCount, 0, 0, 0, new long[RemovalCause.values().length], new long[0]);
+		}
+	};
+
+	/**
+	 * 记录一次成功的加载
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	void recordLoadSuccess(long loadTime);
+
+	/**
+	 * 记录一次失败的加载（加载抛出异常）
+	 *
+	 * @param loadTime 加载耗时，单位纳秒
+	 */
+	void recordLoadFailure(long loadTime);
+
+	/**
+	 * 记录一次移除
+	 *
+	 * @param cause 移除原因
+	 */
+	void recordEviction(RemovalCause cause);
+
+	/**
+	 * 生成当前统计信息的快照
+	 *
+	 * @param hitCount  缓存的命中数
+	 * @param missCount 缓存的丢失数
+	 * @return 统计快照
+	 */
+	CacheStats snapshot(long hitCount, long missCount);
+}
@@ -0,0 +1,7 @@
+/**
+ * 缓存统计，提供命中、加载、淘汰等统计信息的记录和快照
+ *
+ * @author looly
+ *
+ */
+package cn.hutool.cache.stats;
@@ -0,0 +1,152 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AsyncLoadingCacheTest {
+
+	@Test
+	public void coalesceTest() {
+		final AtomicInteger loadCount = new AtomicInteger();
+		final AsyncLoadingCache<String, String> cache = CacheUtil.newAsyncLoadingCache(CacheUtil.newLRUCache(10), (key) -> {
+			loadCount.incrementAndGet();
+			ThreadUtil.sleep(100);
+			return key + "-value";
+		});
+
+		final List<CompletableFuture<String>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			futures.add(cache.get("key"));
+		}
+		for (final CompletableFuture<String> future : futures) {
+			assertEquals("key-value", future.join());
+		}
+		// 并发未命中只加载一次
+		assertEquals(1, loadCount.get());
+		assertEquals("key-value", cache.getIfPresent("key"));
+	}
+
+	@Test
+	public void refreshAfterWriteTest() {
+		final AtomicInteger version = new AtomicInteger();
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final AsyncLoadingCache<String, Integer> cache = new AsyncLoadingCache<String, Integer>(
+				CacheUtil.newLRUCache(10), (key) -> version.incrementAndGet(), executor)
+				.setRefreshAfterWrite(50);
+
+		assertEquals(1, cache.get("key").join());
+		ThreadUtil.sleep(100);
+		// 过期后返回旧值，同时后台刷新
+		assertEquals(1, cache.get("key").join());
+		cache.refresh("key").join();
+		assertTrue(cache.get("key").join() > 1);
+		executor.shutdown();
+	}
+
+	@Test
+	public void getAllTest() {
+		final AtomicInteger bulkCount = new AtomicInteger();
+		final AsyncLoadingCache<Integer, String> cache = CacheUtil.newAsyncLoadingCache(CacheUtil.<Integer, String>newLRUCache(10), String::valueOf);
+		cache.setBulkLoader((keys) -> {
+			bulkCount.incrementAndGet();
+			final Map<Integer, String> map = MapUtil.newHashMap();
+			for (final Integer key : keys) {
+				if (key != 3) {
+					map.put(key, "bulk-" + key);
+				}
+			}
+			return map;
+		});
+		cache.put(1, "1");
+
+		final Map<Integer, String> result = cache.getAll(Arrays.asList(1, 2, 3)).join();
+		assertEquals("1", result.get(1));
+		assertEquals("bulk-2", result.get(2));
+		assertNull(result.get(3));
+		assertEquals(1, bulkCount.get());
+	}
+
+	@Test
+	public void loadErrorTest() {
+		final AsyncLoadingCache<String, String> cache = CacheUtil.newAsyncLoadingCache(CacheUtil.newLRUCache(10), (key) -> {
+			throw new IllegalStateException("load error");
+		});
+		final CompletableFuture<String> future = cache.get("key");
+		assertThrows(Exception.class, future::join);
+		assertNull(cache.getIfPresent("key"));
+	}
+
+	@Test
+	public void invalidateWhileRefreshTest() throws InterruptedException {
+		final AtomicInteger version = new AtomicInteger();
+		final CountDownLatch latch = new CountDownLatch(1);
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		final AsyncLoadingCache<String, Integer> cache = new AsyncLoadingCache<String, Integer>(
+				CacheUtil.newLRUCache(10), (key) -> {
+			if (version.get() > 0) {
+				latch.await();
+			}
+			return version.incrementAndGet();
+		}, executor);
+
+		assertEquals(1, cache.get("key").join());
+		final CompletableFuture<Integer> refresh = cache.refresh("key");
+		cache.invalidate("key");
+		latch.countDown();
+
+		// 刷新结果返回给调用方，但不再放入缓存
+		assertEquals(2, refresh.join());
+		assertNull(cache.getIfPresent("key"));
+		executor.shutdown();
+	}
+
+	@Test
+	public void completeIndependentlyTest() throws Exception {
+		final CountDownLatch entered = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		final LRUCache<String, String> lruCache = new LRUCache<String, String>(10) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void put(String key, String object) {
+				if ("slow".equals(key)) {
+					entered.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						throw new RuntimeException(e);
+					}
+				}
+				super.put(key, object);
+			}
+		};
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		final AsyncLoadingCache<String, String> cache = new AsyncLoadingCache<>(lruCache, (key) -> key + "-value", executor);
+
+		final CompletableFuture<String> slow = cache.get("slow");
+		assertTrue(entered.await(5, TimeUnit.SECONDS));
+		// 一个键的结果放入缓存时，其它键的加载不受阻塞
+		assertEquals("fast-value", cache.get("fast").get(5, TimeUnit.SECONDS));
+		assertEquals("fast-value", cache.getIfPresent("fast"));
+
+		release.countDown();
+		assertEquals("slow-value", slow.join());
+		assertEquals("slow-value", cache.getIfPresent("slow"));
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,105 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.stats.CacheRegistry;
+import cn.hutool.cache.stats.CacheStats;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.cache.stats.StatsRecorder;
+import cn.hutool.core.thread.ThreadUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheStatsTest {
+
+	@Test
+	public void statsTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(2);
+		cache.get("key1", () -> "value1");
+		cache.get("key1", () -> "value1");
+		assertThrows(RuntimeException.class, () -> cache.get("key2", () -> {
+			throw new IllegalStateException("load error");
+		}));
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		cache.remove("key2");
+
+		final CacheStats stats = cache.getStats();
+		assertEquals(1, stats.getLoadSuccessCount());
+		assertEquals(1, stats.getLoadFailureCount());
+		assertTrue(stats.getTotalLoadTime() > 0);
+		assertEquals(1, stats.getEvictionCount(RemovalCause.SIZE));
+		assertEquals(1, stats.getEvictionCount(RemovalCause.EXPLICIT));
+		assertEquals(2, stats.getEvictionCount());
+		assertEquals(1, stats.getHitCount());
+
+		long loadCount = 0;
+		for (final long count : stats.getLoadLatencyHistogram()) {
+			loadCount += count;
+		}
+		assertEquals(2, loadCount);
+		assertTrue(stats.getLoadLatencyPercentile(0.99) > 0);
+	}
+
+	@Test
+	public void minusTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		final CacheStats before = cache.getStats();
+
+		cache.get("key1");
+		cache.get("key1");
+		cache.get("key2");
+		final CacheStats diff = cache.getStats().minus(before);
+		assertEquals(2, diff.getHitCount());
+		assertEquals(1, diff.getMissCount());
+		assertEquals(2.0 / 3, diff.getHitRate(), 0.0001);
+	}
+
+	@Test
+	public void expiredTest() {
+		final TimedCache<String, String> cache = CacheUtil.newTimedCache(1);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		ThreadUtil.sleep(10);
+		cache.prune();
+		assertEquals(2, cache.getStats().getEvictionCount(RemovalCause.EXPIRED));
+	}
+
+	@Test
+	public void disabledTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(1);
+		cache.setStatsRecorder(StatsRecorder.DISABLED);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		assertEquals(0, cache.getStats().getEvictionCount());
+	}
+
+	@Test
+	public void registryTest() {
+		final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+		cache.put("key1", "value1");
+		cache.get("key1");
+		// 通过CacheUtil创建的缓存自动注册
+		assertTrue(CacheRegistry.getCaches().containsValue(cache));
+		assertTrue(CacheRegistry.getStats().values().stream().anyMatch(stats -> stats.getHitCount() > 0));
+	}
+
+	@Test
+	public void disableAutoRegisterTest() {
+		CacheRegistry.setAutoRegister(false);
+		try {
+			final LRUCache<String, String> cache = CacheUtil.newLRUCache(10);
+			assertFalse(CacheRegistry.getCaches().containsValue(cache));
+
+			// 主动注册不受影响
+			CacheRegistry.register("disableAutoRegisterTest", cache);
+			assertTrue(CacheRegistry.getCaches().containsValue(cache));
+			CacheRegistry.unregister("disableAutoRegisterTest");
+		} finally {
+			CacheRegistry.setAutoRegister(true);
+		}
+	}
+}
@@ -7,6 +7,8 @@ import cn.hutool.core.util.RandomUtil;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
+
 /**
  * 缓存测试用例
  * @author Looly
@@ -121,4 +123,51 @@ public class CacheTest {
 		//取消定时清理
 		timedCache.cancelPruneSchedule();
 	}
+
+	@Test
+	public void timedCachePruneTest(){
+		final TimedCache<Integer, Integer> timedCache = CacheUtil.newTimedCache(1000);
+		for (int i = 0; i < 1000; i++) {
+			// 偶数200毫秒过期，奇数使用默认的1000毫秒过期
+			if (i % 2 == 0) {
+				timedCache.put(i, i, 200);
+			} else {
+				timedCache.put(i, i);
+			}
+		}
+		// 替换的对象按照新的过期时间计算
+		timedCache.put(0, 0, DateUnit.SECOND.getMillis() * 10);
+		assertEquals(0, timedCache.prune());
+
+		ThreadUtil.sleep(300);
+		assertEquals(499, timedCache.prune());
+		assertEquals(501, timedCache.size());
+
+		ThreadUtil.sleep(1000);
+		assertEquals(500, timedCache.prune());
+		assertEquals(0, timedCache.get(0));
+	}
+
+	@Test
+	public void timedCacheReplaceNotRetainTest(){
+		final TimedCache<String, Object> timedCache = CacheUtil.newTimedCache(DateUnit.HOUR.getMillis());
+		final WeakReference<Object> firstRef = putAndReference(timedCache, "key");
+		// 同一个key反复替换，被替换的对象不再被时间轮持有
+		for (int i = 0; i < 1000; i++) {
+			timedCache.put("key", new Object());
+		}
+		assertEquals(1, timedCache.size());
+
+		for (int i = 0; i < 10 && null != firstRef.get(); i++) {
+			System.gc();
+			ThreadUtil.sleep(10);
+		}
+		assertNull(firstRef.get());
+	}
+
+	private static WeakReference<Object> putAndReference(TimedCache<String, Object> timedCache, String key){
+		final Object value = new Object();
+		timedCache.put(key, value);
+		return new WeakReference<>(value);
+	}
 }
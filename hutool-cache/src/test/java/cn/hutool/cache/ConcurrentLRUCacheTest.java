@@ -0,0 +1,92 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.ConcurrentLRUCache;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentLRUCacheTest {
+
+	@Test
+	public void putGetTest() {
+		final ConcurrentLRUCache<String, Integer> cache = CacheUtil.newConcurrentLRUCache(100);
+		for (int i = 0; i < 100; i++) {
+			cache.put(StrUtil.format("key-{}", i), i);
+		}
+		assertEquals(100, cache.size());
+		assertTrue(cache.isFull());
+		assertEquals(50, cache.get("key-50"));
+		assertNull(cache.get("key-100"));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+
+		cache.remove("key-50");
+		assertFalse(cache.containsKey("key-50"));
+		assertEquals(99, cache.keySet().size());
+
+		cache.clear();
+		assertTrue(cache.isEmpty());
+	}
+
+	@Test
+	public void capacityTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final ConcurrentLRUCache<Integer, Integer> cache = new ConcurrentLRUCache<>(10, 0, 4);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+		assertEquals(4, cache.getSegmentCount());
+
+		for (int i = 0; i < 1000; i++) {
+			cache.put(i, i);
+		}
+		// 各段独立淘汰，总数不超过容量
+		assertEquals(10, cache.size());
+		assertEquals(990, removeCount.get());
+
+		int count = 0;
+		for (final Integer ignored : cache) {
+			count++;
+		}
+		assertEquals(10, count);
+	}
+
+	@Test
+	public void segmentCountTest() {
+		// 分段数不超过容量
+		assertEquals(2, new ConcurrentLRUCache<>(3, 0, 16).getSegmentCount());
+		assertEquals(16, new ConcurrentLRUCache<>(1000, 0, 10).getSegmentCount());
+	}
+
+	@Test
+	public void concurrentReadWriteTest() throws InterruptedException {
+		final ConcurrentLRUCache<Integer, Integer> cache = CacheUtil.newConcurrentLRUCache(1000);
+		final int threadCount = 16;
+		final CountDownLatch latch = new CountDownLatch(threadCount);
+		final AtomicReference<Throwable> error = new AtomicReference<>();
+		for (int t = 0; t < threadCount; t++) {
+			final int offset = t;
+			new Thread(() -> {
+				try {
+					for (int i = 0; i < 10000; i++) {
+						final int key = (i + offset) % 2000;
+						assertEquals(key, cache.get(key, () -> key));
+					}
+				} catch (Throwable e) {
+					// 线程中的断言失败不会使测试失败，记录后在主线程中抛出
+					error.compareAndSet(null, e);
+				} finally {
+					latch.countDown();
+				}
+			}).start();
+		}
+		latch.await();
+		if (null != error.get()) {
+			throw new AssertionError(error.get());
+		}
+		assertTrue(cache.size() <= 1000);
+	}
+}
@@ -85,4 +85,28 @@ public class LRUCacheTest {
 		assertEquals(7, removeCount.get());
 		assertEquals(3, cache.size());
 	}
+
+	@Test
+	public void overrideOnRemoveWithListenerTest() {
+		final AtomicInteger hookCount = new AtomicInteger();
+		final AtomicInteger listenerCount = new AtomicInteger();
+		final LRUCache<String, String> cache = new LRUCache<String, String>(2) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void onRemove(String key, String cachedObject) {
+				hookCount.incrementAndGet();
+			}
+		};
+		cache.setListener((key, value) -> listenerCount.incrementAndGet());
+
+		// 主动移除、容量淘汰均同时调用重写的回调和监听
+		cache.put("a", "1");
+		cache.remove("a");
+		cache.put("b", "2");
+		cache.put("c", "3");
+		cache.put("d", "4");
+		assertEquals(2, hookCount.get());
+		assertEquals(2, listenerCount.get());
+	}
 }
@@ -0,0 +1,66 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.file.MappedFileCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 内存映射文件缓存单元测试
+ */
+public class MappedFileCacheTest {
+
+	@Test
+	public void getFileBufferTest() {
+		final File file1 = FileUtil.writeUtf8String("0123456789", FileUtil.createTempFile());
+		final File file2 = FileUtil.writeUtf8String("abcdefghij", FileUtil.createTempFile());
+		final File file3 = FileUtil.writeUtf8String("ABCDEFGHIJ", FileUtil.createTempFile());
+
+		final MappedFileCache cache = new MappedFileCache(25, 20);
+		assertEquals("0123456789", read(cache.getFileBuffer(file1)));
+		assertEquals("abcdefghij", read(cache.getFileBuffer(file2)));
+		assertEquals(20, cache.getUsedSize());
+		assertEquals(2, cache.getCachedFilesCount());
+
+		// 访问file1，使file2成为最久未使用
+		cache.getFileBuffer(file1);
+		assertEquals("ABCDEFGHIJ", read(cache.getFileBuffer(file3)));
+		assertEquals(20, cache.getUsedSize());
+		assertEquals(2, cache.getCachedFilesCount());
+
+		// 返回只读视图
+		assertTrue(cache.getFileBuffer(file1).isReadOnly());
+
+		cache.clear();
+		assertEquals(0, cache.getUsedSize());
+		FileUtil.del(file1);
+		FileUtil.del(file2);
+		FileUtil.del(file3);
+	}
+
+	@Test
+	public void modifiedTest() {
+		final File file = FileUtil.writeUtf8String("0123456789", FileUtil.createTempFile());
+		final MappedFileCache cache = new MappedFileCache(100);
+		assertEquals("0123456789", read(cache.getFileBuffer(file)));
+
+		FileUtil.writeUtf8String("0123456789abc", file);
+		assertEquals("0123456789abc", read(cache.getFileBuffer(file)));
+		assertEquals(13, cache.getUsedSize());
+		assertEquals(1, cache.getCachedFilesCount());
+		cache.clear();
+		FileUtil.del(file);
+	}
+
+	private static String read(ByteBuffer buffer) {
+		final byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return StrUtil.str(bytes, CharsetUtil.CHARSET_UTF_8);
+	}
+}
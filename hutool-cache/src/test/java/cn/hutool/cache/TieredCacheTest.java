@@ -0,0 +1,171 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.file.CacheCodec;
+import cn.hutool.cache.file.MappedSegmentStore;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.core.io.FileUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 二级缓存单元测试
+ */
+public class TieredCacheTest {
+
+	private static final CacheCodec<String> UTF8_CODEC = new CacheCodec<String>() {
+		@Override
+		public byte[] encode(String data) {
+			return StrUtil.utf8Bytes(data);
+		}
+
+		@Override
+		public String decode(byte[] encoded) {
+			return StrUtil.utf8Str(encoded);
+		}
+	};
+
+	private File dir;
+
+	@BeforeEach
+	public void init() {
+		dir = FileUtil.file(FileUtil.getTmpDir(), "hutool-tiered-" + System.nanoTime());
+	}
+
+	@AfterEach
+	public void destroy() {
+		FileUtil.del(dir);
+	}
+
+	@Test
+	public void demoteAndPromoteTest() {
+		final TieredCache<String, String> cache = CacheUtil.newTieredCache(2, dir, 1024 * 1024);
+		cache.put("a", "1");
+		cache.put("b", "2");
+		cache.put("c", "3");
+
+		// a被淘汰，降级到二级缓存
+		assertEquals(1, cache.getDemoteCount());
+		assertFalse(cache.getL1().containsKey("a"));
+		assertTrue(cache.getL2().containsKey("a"));
+		assertEquals(3, cache.size());
+
+		// 二级缓存命中，升级到一级缓存，b被降级
+		assertEquals("1", cache.get("a"));
+		assertEquals(1, cache.getPromoteCount());
+		assertTrue(cache.getL1().containsKey("a"));
+		assertFalse(cache.getL2().containsKey("a"));
+		assertTrue(cache.getL2().containsKey("b"));
+
+		// 主动移除不降级
+		cache.remove("a");
+		assertFalse(cache.containsKey("a"));
+		assertEquals(2, cache.getDemoteCount());
+
+		// 写入时移除二级缓存中的旧值
+		cache.put("b", "22");
+		assertEquals("22", cache.get("b"));
+		assertFalse(cache.getL2().containsKey("b"));
+
+		assertEquals("x", cache.get("x", () -> "x"));
+		cache.close();
+	}
+
+	@Test
+	public void reopenTest() {
+		TieredCache<String, String> cache = CacheUtil.newTieredCache(2, dir, 1024 * 1024);
+		for (int i = 0; i < 100; i++) {
+			cache.put("key" + i, "value" + i);
+		}
+		cache.remove("key50");
+		cache.close();
+
+		cache = CacheUtil.newTieredCache(2, dir, 1024 * 1024);
+		assertEquals(99, cache.getL2().size());
+		assertEquals("value0", cache.get("key0"));
+		assertEquals("value99", cache.get("key99"));
+		assertNull(cache.get("key50"));
+		cache.close();
+	}
+
+	@Test
+	public void segmentRollTest() {
+		final MappedSegmentStore<String, String> store = new MappedSegmentStore<>(dir, 4096, 2,
+				UTF8_CODEC, UTF8_CODEC);
+		final TieredCache<String, String> cache = new TieredCache<>(new LRUCache<>(1), store);
+		for (int i = 0; i < 1000; i++) {
+			cache.put("key" + i, "value" + i);
+		}
+		// 段数达到上限后丢弃最早的段
+		assertEquals(2, store.getSegmentCount());
+		assertTrue(store.getUsedSize() <= 2 * 4096);
+		assertNull(cache.get("key0"));
+		assertEquals("value998", cache.get("key998"));
+		assertEquals("value999", cache.get("key999"));
+		cache.close();
+	}
+
+	@Test
+	public void smallMaxSizeTest() {
+		assertThrows(IllegalArgumentException.class, () -> new MappedSegmentStore<>(dir, 0));
+
+		// 最大空间小于默认段大小时至少分为2个段，滚动时保留一半的数据
+		final MappedSegmentStore<String, String> store = new MappedSegmentStore<>(dir, 8192);
+		final TieredCache<String, String> cache = new TieredCache<>(new LRUCache<>(1), store);
+		for (int i = 0; i < 1000; i++) {
+			cache.put("key" + i, "value" + i);
+		}
+		assertEquals(2, store.getSegmentCount());
+		assertEquals("value998", cache.get("key998"));
+		assertTrue(store.size() > 1);
+		cache.close();
+	}
+
+	@Test
+	public void expiredInL1NotDemoteTest() throws InterruptedException {
+		final TieredCache<String, String> cache = new TieredCache<>(new LRUCache<>(2, 100),
+				new MappedSegmentStore<>(dir, 1024 * 1024));
+		cache.put("a", "1");
+		Thread.sleep(200);
+		cache.put("b", "2");
+		// 一级缓存满，清理时a因过期被移除，不应降级
+		cache.put("c", "3");
+		assertFalse(cache.getL1().containsKey("a"));
+		assertEquals(0, cache.getDemoteCount());
+		assertFalse(cache.getL2().containsKey("a"));
+		assertNull(cache.get("a"));
+		assertEquals(0, cache.getPromoteCount());
+		cache.close();
+	}
+
+	@Test
+	public void flushKeepRemainTimeoutTest() throws InterruptedException {
+		final TieredCache<String, String> cache = new TieredCache<>(new LRUCache<>(2, 100),
+				new MappedSegmentStore<>(dir, 1024 * 1024));
+		cache.put("a", "1");
+		cache.flush();
+		assertTrue(cache.getL2().containsKey("a"));
+		Thread.sleep(200);
+		// 二级缓存中的副本保留了剩余过期时长
+		assertNull(cache.getL2().get("a"));
+		assertNull(cache.get("a"));
+		cache.close();
+	}
+
+	@Test
+	public void expireTest() throws InterruptedException {
+		final MappedSegmentStore<String, String> store = new MappedSegmentStore<>(dir, 1024 * 1024);
+		store.put("a", "1", 100);
+		store.put("b", "2");
+		assertEquals("1", store.get("a"));
+		Thread.sleep(200);
+		assertNull(store.get("a"));
+		assertEquals("2", store.get("b"));
+		store.close();
+	}
+}
@@ -0,0 +1,86 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.TinyLFUCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TinyLFUCacheTest {
+
+	@Test
+	public void putGetTest() {
+		final TinyLFUCache<String, String> cache = CacheUtil.newTinyLFUCache(3);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2");
+		cache.put("key3", "value3");
+		assertEquals(3, cache.size());
+		assertTrue(cache.isFull());
+		assertEquals("value1", cache.get("key1"));
+
+		// 覆盖已有键不淘汰
+		cache.put("key1", "value1-1");
+		assertEquals(3, cache.size());
+		assertEquals("value1-1", cache.get("key1"));
+
+		cache.remove("key1");
+		assertNull(cache.get("key1"));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void frequencyEvictTest() {
+		final AtomicInteger removeCount = new AtomicInteger();
+		final TinyLFUCache<Integer, Integer> cache = CacheUtil.newTinyLFUCache(100);
+		cache.setListener((key, value) -> removeCount.incrementAndGet());
+
+		// 热点键反复访问
+		for (int i = 0; i < 100; i++) {
+			cache.put(i, i);
+		}
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 50; i++) {
+				cache.get(i);
+			}
+		}
+
+		// 大量只访问一次的冷数据扫描
+		for (int i = 1000; i < 11000; i++) {
+			cache.put(i, i);
+		}
+
+		assertEquals(100, cache.size());
+		assertEquals(10000, removeCount.get());
+		// 热点键不被扫描冲掉
+		for (int i = 0; i < 50; i++) {
+			assertEquals(i, cache.get(i));
+		}
+	}
+
+	@Test
+	public void timeoutTest() {
+		final TinyLFUCache<String, String> cache = CacheUtil.newTinyLFUCache(10, 1);
+		cache.put("key1", "value1");
+		cache.put("key2", "value2", 100000);
+		try {
+			Thread.sleep(10);
+		} catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+		assertEquals(1, cache.prune());
+		assertEquals("value2", cache.get("key2"));
+	}
+
+	@Test
+	public void capacityTest() {
+		// 不支持无限制容量
+		assertThrows(IllegalArgumentException.class, () -> new TinyLFUCache<String, String>(0));
+		assertThrows(IllegalArgumentException.class, () -> new TinyLFUCache<String, String>(-1));
+
+		// 大容量时计数表有上限，不会预先分配过大的内存
+		final TinyLFUCache<String, String> cache = new TinyLFUCache<>(Integer.MAX_VALUE);
+		cache.put("key1", "value1");
+		assertEquals("value1", cache.get("key1"));
+	}
+}
@@ -0,0 +1,111 @@
+package cn.hutool.cache;
+
+import cn.hutool.cache.impl.AbstractCache;
+import cn.hutool.cache.impl.FIFOCache;
+import cn.hutool.cache.impl.LFUCache;
+import cn.hutool.cache.impl.LRUCache;
+import cn.hutool.cache.impl.TimedCache;
+import cn.hutool.cache.impl.TinyLFUCache;
+import cn.hutool.cache.impl.WeakCache;
+import cn.hutool.cache.stats.RemovalCause;
+import cn.hutool.core.collection.ListUtil;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 按照权重限制大小的缓存测试
+ */
+public class WeightedCacheTest {
+
+	@Test
+	public void lruTest() {
+		final LRUCache<String, byte[]> cache = new LRUCache<String, byte[]>(0)
+				.setWeigher((key, value) -> value.length, 100);
+
+		cache.put("a", new byte[30]);
+		cache.put("b", new byte[30]);
+		cache.put("c", new byte[30]);
+		assertEquals(90, cache.getWeight());
+
+		// 访问a，b成为最久未使用
+		cache.get("a");
+		cache.put("d", new byte[30]);
+		assertEquals(90, cache.getWeight());
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("a"));
+		assertEquals(1, cache.getStats().getEvictionCount(RemovalCause.SIZE));
+
+		// 大对象淘汰多个
+		cache.put("e", new byte[80]);
+		assertEquals(80, cache.getWeight());
+		assertEquals(1, cache.size());
+
+		// 覆盖时按照新值计算
+		cache.put("e", new byte[10]);
+		assertEquals(10, cache.getWeight());
+
+		cache.remove("e");
+		assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	public void fifoTest() {
+		final AbstractCache<String, byte[]> cache = new FIFOCache<String, byte[]>(0)
+				.setWeigher((key, value) -> value.length, 100);
+		cache.put("a", new byte[50]);
+		cache.put("b", new byte[40]);
+		cache.put("c", new byte[40]);
+		assertNull(cache.get("a"));
+		assertEquals(80, cache.getWeight());
+		assertEquals(2, cache.size());
+
+		cache.clear();
+		assertEquals(0, cache.getWeight());
+	}
+
+	@Test
+	public void lfuTest() {
+		final AbstractCache<String, byte[]> cache = new LFUCache<String, byte[]>(0)
+				.setWeigher((key, value) -> value.length, 100);
+		cache.put("a", new byte[50]);
+		cache.put("b", new byte[40]);
+		cache.get("a");
+		cache.put("c", new byte[40]);
+		// b访问最少被淘汰
+		assertNull(cache.get("b"));
+		assertNotNull(cache.get("a"));
+		assertTrue(cache.getWeight() <= 100);
+	}
+
+	@Test
+	public void reachMaxWeightTest() {
+		final LRUCache<String, byte[]> lruCache = new LRUCache<String, byte[]>(0)
+				.setWeigher((key, value) -> value.length, 100);
+		final AbstractCache<String, byte[]> fifoCache = new FIFOCache<String, byte[]>(0)
+				.setWeigher((key, value) -> value.length, 100);
+		final AbstractCache<String, byte[]> lfuCache = new LFUCache<String, byte[]>(0)
+				.setWeigher((key, value) -> value.length, 100);
+		for (final AbstractCache<String, byte[]> cache : ListUtil.of(lruCache, fifoCache, lfuCache)) {
+			cache.put("a", new byte[50]);
+			cache.put("b", new byte[50]);
+			// 总权重恰好等于最大权重时不淘汰
+			assertEquals(100, cache.getWeight());
+			assertEquals(2, cache.size());
+			assertFalse(cache.isFull());
+
+			cache.put("c", new byte[1]);
+			assertTrue(cache.getWeight() <= 100);
+		}
+	}
+
+	@Test
+	public void notSupportTest() {
+		assertThrows(UnsupportedOperationException.class,
+				() -> new TimedCache<String, byte[]>(1000).setWeigher((key, value) -> value.length, 100));
+		assertThrows(UnsupportedOperationException.class,
+				() -> new WeakCache<String, byte[]>(1000).setWeigher((key, value) -> value.length, 100));
+		assertThrows(UnsupportedOperationException.class,
+				() -> new TinyLFUCache<String, byte[]>(10).setWeigher((key, value) -> value.length, 100));
+	}
+}
@@ -0,0 +1,342 @@
+package cn.hutool.core.bean.copier;
+
+import cn.hutool.core.bean.BeanException;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.func.LambdaFactory;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.TypeUtil;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Bean到Bean的拷贝计划，供{@link BeanToBeanCopier}使用<br>
+ * 源属性与目标属性的匹配（字段名编辑、忽略属性、驼峰转换、可读写检查、目标泛型类型解析）只在创建计划时执行一次，
+ * Getter和Setter通过{@link LambdaFactory}生成直接调用的函数，避免每次拷贝都反射调用。<br>
+ * 计划按照源类、目标类、目标类型以及影响匹配的拷贝选项缓存；属性过滤器、值编辑器、类型转换器等在每次拷贝时执行，
+ * 因此不同的{@link CopyOptions}对象只要匹配相关的选项相同，即可共用一个计划。
+ * 设置了字段名编辑器（包括字段映射）时，由于无法判断编辑器是否相同，计划不缓存。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+final class BeanCopyPlan {
+
+	/**
+	 * 计划缓存，源类 -&gt; 计划键 -&gt; 计划
+	 */
+	private static final WeakConcurrentMap<Class<?>, Map<Key, BeanCopyPlan>> CACHE = new WeakConcurrentMap<>();
+	/**
+	 * 生成的Getter函数缓存，不同的计划共用
+	 */
+	private static final WeakConcurrentMap<Method, Function<Object, Object>> GETTERS = new WeakConcurrentMap<>();
+	/**
+	 * 生成的Setter函数缓存，不同的计划共用
+	 */
+	private static final WeakConcurrentMap<Method, BiConsumer<Object, Object>> SETTERS = new WeakConcurrentMap<>();
+
+	private final PropCopier[] props;
+
+	/**
+	 * 获取拷贝计划，可缓存时从缓存中获取
+	 *
+	 * @param sourceClass 源类
+	 * @param editable    目标类或限制的父类
+	 * @param targetType  目标类型，用于解析泛型属性
+	 * @param copyOptions 拷贝选项
+	 * @return 拷贝计划
+	 */
+	static BeanCopyPlan get(Class<?> sourceClass, Class<?> editable, Type targetType, CopyOptions copyOptions) {
+		if (null != copyOptions.getFieldNameEditor()) {
+			return new BeanCopyPlan(sourceClass, editable, targetType, copyOptions);
+		}
+		final Key key = new Key(editable, targetType, copyOptions);
+		return CACHE.computeIfAbsent(sourceClass, (k) -> new ConcurrentHashMap<>())
+				.computeIfAbsent(key, (k) -> new BeanCopyPlan(sourceClass, editable, targetType, copyOptions));
+	}
+
+	/**
+	 * 构造，匹配源属性和目标属性，规则与{@link BeanToBeanCopier}原有的逐个拷贝一致
+	 *
+	 * @param sourceClass 源类
+	 * @param editable    目标类或限制的父类
+	 * @param targetType  目标类型
+	 * @param copyOptions 拷贝选项
+	 */
+	private BeanCopyPlan(Class<?> sourceClass, Class<?> editable, Type targetType, CopyOptions copyOptions) {
+		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(editable).getPropMap(copyOptions.ignoreCase);
+		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(sourceClass).getPropMap(copyOptions.ignoreCase);
+
+		final List<PropCopier> props = new ArrayList<>(sourcePropDescMap.size());
+		sourcePropDescMap.forEach((sFieldName, sDesc) -> {
+			if (null == sFieldName || false == sDesc.isReadable(copyOptions.transientSupport)) {
+				// 字段空或不可读，跳过
+				return;
+			}
+
+			sFieldName = copyOptions.editFieldName(sFieldName);
+			// 对key做转换，转换后为null的跳过
+			if (null == sFieldName) {
+				return;
+			}
+
+			// 忽略不需要拷贝的 key,
+			if (false == copyOptions.testKeyFilter(sFieldName)) {
+				return;
+			}
+
+			// 检查目标字段可写性
+			final PropDesc tDesc = copyOptions.findPropDesc(targetPropDescMap, sFieldName);
+			if (null == tDesc || false == tDesc.isWritable(copyOptions.transientSupport)) {
+				// 字段不可写，跳过之
+				return;
+			}
+
+			props.add(new PropCopier(sFieldName, sDesc, tDesc, TypeUtil.getActualType(targetType, tDesc.getFieldType())));
+		});
+		this.props = props.toArray(new PropCopier[0]);
+	}
+
+	/**
+	 * 按照计划拷贝属性
+	 *
+	 * @param source      源Bean
+	 * @param target      目标Bean
+	 * @param copyOptions 拷贝选项
+	 */
+	void copy(Object source, Object target, CopyOptions copyOptions) {
+		final boolean defaultConvert = copyOptions.isDefaultConvert();
+		Object sValue;
+		for (final PropCopier prop : this.props) {
+			// 检查源对象属性是否过滤属性
+			sValue = prop.getter.apply(source);
+			if (false == copyOptions.testPropertyFilter(prop.sourceField, sValue)) {
+				continue;
+			}
+
+			// 转换源值，类型已匹配且使用默认转换器时转换结果即为原值，跳过
+			if (false == (defaultConvert && prop.isDirect(sValue))) {
+				sValue = copyOptions.convertField(prop.fieldType, sValue);
+			}
+			sValue = copyOptions.editFieldValue(prop.fieldName, sValue);
+
+			// 目标赋值
+			prop.setValue(target, sValue, copyOptions);
+		}
+	}
+
+	/**
+	 * 单个属性的拷贝
+	 */
+	private static class PropCopier {
+		private final String fieldName;
+		private final Field sourceField;
+		private final PropDesc targetDesc;
+		/**
+		 * 目标字段的真实类型
+		 */
+		private final Type fieldType;
+		/**
+		 * 目标字段类，值类型不匹配时转换为此类
+		 */
+		private final Class<?> propClass;
+		/**
+		 * 目标字段类的包装类，值为此类实例时无需转换
+		 */
+		private final Class<?> wrappedPropClass;
+		/**
+		 * 可直接赋值的类型，即非泛型、非集合、非Map、非数组的目标字段类型（原始类型为包装类型），转换器不会为此类型的值创建新的对象<br>
+		 * 其它类型为{@code null}
+		 */
+		private final Class<?> directClass;
+		private final Function<Object, Object> getter;
+		private final BiConsumer<Object, Object> setter;
+
+		PropCopier(String fieldName, PropDesc sourceDesc, PropDesc targetDesc, Type fieldType) {
+			this.fieldName = fieldName;
+			this.sourceField = sourceDesc.getField();
+			this.targetDesc = targetDesc;
+			this.fieldType = fieldType;
+			this.propClass = targetDesc.getFieldClass();
+			this.wrappedPropClass = BasicType.wrap(propClass);
+			this.directClass = isDirectType(fieldType) ? BasicType.wrap((Class<?>) fieldType) : null;
+			this.getter = buildGetter(sourceDesc);
+			this.setter = buildSetter(targetDesc);
+		}
+
+		/**
+		 * 值是否可以直接赋值，不需要经过转换器
+		 *
+		 * @param value 值
+		 * @return 是否可以直接赋值
+		 */
+		boolean isDirect(Object value) {
+			return null == value
+					|| (null != directClass && directClass.isInstance(value) && false == value instanceof IJSONTypeConverter);
+		}
+
+		/**
+		 * 是否为可直接赋值的类型
+		 *
+		 * @param fieldType 字段类型
+		 * @return 是否为可直接赋值的类型
+		 */
+		private static boolean isDirectType(Type fieldType) {
+			if (false == fieldType instanceof Class) {
+				return false;
+			}
+			final Class<?> fieldClass = (Class<?>) fieldType;
+			return false == fieldClass.isArray()
+					&& false == Collection.class.isAssignableFrom(fieldClass)
+					&& false == Map.class.isAssignableFrom(fieldClass);
+		}
+
+		/**
+		 * 设置属性值，规则与{@link PropDesc#setValue(Object, Object, boolean, boolean, boolean)}相同
+		 *
+		 * @param bean        目标Bean
+		 * @param value       值
+		 * @param copyOptions 拷贝选项
+		 */
+		void setValue(Object bean, Object value, CopyOptions copyOptions) {
+			if (null == value && copyOptions.ignoreNullValue) {
+				return;
+			}
+
+			// 非覆盖模式下，如果目标值存在，则跳过
+			if (false == copyOptions.override && null != targetDesc.getValue(bean)) {
+				return;
+			}
+
+			// 当类型不匹配的时候，执行默认转换
+			if (null != value && false == wrappedPropClass.isInstance(value)) {
+				value = Convert.convertWithCheck(propClass, value, null, copyOptions.ignoreError);
+			}
+
+			// 属性赋值
+			if (null != value || false == copyOptions.ignoreNullValue) {
+				try {
+					this.setter.accept(bean, value);
+				} catch (Exception e) {
+					if (false == copyOptions.ignoreError) {
+						throw new BeanException(e, "Set value of [{}] error!", targetDesc.getFieldName());
+					}
+					// 忽略注入失败
+				}
+			}
+		}
+
+		/**
+		 * 生成Getter函数，无Getter方法或生成失败时使用反射
+		 *
+		 * @param desc 属性描述
+		 * @return Getter函数
+		 */
+		@SuppressWarnings("unchecked")
+		private static Function<Object, Object> buildGetter(PropDesc desc) {
+			final Method getter = desc.getGetter();
+			if (null != getter && false == getter.isDefault()) {
+				return GETTERS.computeIfAbsent(getter, (method) -> {
+					try {
+						return LambdaFactory.build(Function.class, method);
+					} catch (UtilException e) {
+						// 无法访问的类等，使用反射
+						return desc::getValue;
+					}
+				});
+			}
+			return desc::getValue;
+		}
+
+		/**
+		 * 生成Setter函数，{@code null}值赋给原始类型时使用默认值，与{@link cn.hutool.core.util.ReflectUtil#invoke(Object, Method, Object...)}一致<br>
+		 * 无Setter方法、参数类型与属性类型不一致或生成失败时使用反射
+		 *
+		 * @param desc 属性描述
+		 * @return Setter函数
+		 */
+		@SuppressWarnings("unchecked")
+		private static BiConsumer<Object, Object> buildSetter(PropDesc desc) {
+			final Method setter = desc.getSetter();
+			if (null != setter && false == setter.isDefault() && setter.getParameterTypes()[0] == desc.getFieldClass()) {
+				return SETTERS.computeIfAbsent(setter, (method) -> {
+					final BiConsumer<Object, Object> consumer;
+					try {
+						consumer = LambdaFactory.build(BiConsumer.class, method);
+					} catch (UtilException e) {
+						// 无法访问的类等，使用反射
+						return desc::setValue;
+					}
+					final Class<?> paramType = method.getParameterTypes()[0];
+					if (paramType.isPrimitive()) {
+						final Object defaultValue = ClassUtil.getDefaultValue(paramType);
+						return (bean, value) -> consumer.accept(bean, null == value ? defaultValue : value);
+					}
+					return consumer;
+				});
+			}
+			return desc::setValue;
+		}
+	}
+
+	/**
+	 * 计划的缓存键，包含影响属性匹配的拷贝选项
+	 */
+	private static class Key {
+		private final Class<?> editable;
+		private final Type targetType;
+		private final boolean ignoreCase;
+		private final boolean transientSupport;
+		private final boolean autoTransCamelCase;
+		private final Set<String> ignoreKeySet;
+
+		Key(Class<?> editable, Type targetType, CopyOptions copyOptions) {
+			this.editable = editable;
+			this.targetType = targetType;
+			this.ignoreCase = copyOptions.ignoreCase;
+			this.transientSupport = copyOptions.transientSupport;
+			this.autoTransCamelCase = copyOptions.autoTransCamelCase;
+			final Set<String> ignoreKeySet = copyOptions.getIgnoreKeySet();
+			this.ignoreKeySet = null == ignoreKeySet ? Collections.emptySet() : new HashSet<>(ignoreKeySet);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (o == null || getClass() != o.getClass()) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return ignoreCase == key.ignoreCase
+					&& transientSupport == key.transientSupport
+					&& autoTransCamelCase == key.autoTransCamelCase
+					&& editable == key.editable
+					&& Objects.equals(targetType, key.targetType)
+					&& ignoreKeySet.equals(key.ignoreKeySet);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(editable, targetType, ignoreCase, transientSupport, autoTransCamelCase, ignoreKeySet);
+		}
+	}
+}
@@ -1,15 +1,12 @@
 package cn.hutool.core.bean.copier;
 
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.bean.PropDesc;
 import cn.hutool.core.lang.Assert;
-import cn.hutool.core.util.TypeUtil;
 
 import java.lang.reflect.Type;
-import java.util.Map;
 
 /**
- * Bean属性拷贝到Bean中的拷贝器
+ * Bean属性拷贝到Bean中的拷贝器<br>
+ * 属性的匹配和读写函数按照源类、目标类和拷贝选项编译为拷贝计划并缓存，每次拷贝只读取、转换和写入属性值
  *
  * @author Admin
  * @param <S> 源Bean类型
@@ -45,48 +42,7 @@ public class BeanToBeanCopier<S, T> extends AbsCopier<S, T> {
 					"Target class [{}] not assignable to Editable class [{}]", actualEditable.getName(), copyOptions.editable.getName());
 			actualEditable = copyOptions.editable;
 		}
-		final Map<String, PropDesc> targetPropDescMap = BeanUtil.getBeanDesc(actualEditable).getPropMap(copyOptions.ignoreCase);
-
-		final Map<String, PropDesc> sourcePropDescMap = BeanUtil.getBeanDesc(source.getClass()).getPropMap(copyOptions.ignoreCase);
-		sourcePropDescMap.forEach((sFieldName, sDesc) -> {
-			if (null == sFieldName || false == sDesc.isReadable(copyOptions.transientSupport)) {
-				// 字段空或不可读，跳过
-				return;
-			}
-
-			sFieldName = copyOptions.editFieldName(sFieldName);
-			// 对key做转换，转换后为null的跳过
-			if (null == sFieldName) {
-				return;
-			}
-
-			// 忽略不需要拷贝的 key,
-			if (false == copyOptions.testKeyFilter(sFieldName)) {
-				return;
-			}
-
-			// 检查目标字段可写性
-			final PropDesc tDesc = this.copyOptions.findPropDesc(targetPropDescMap, sFieldName);
-			if (null == tDesc || false == tDesc.isWritable(this.copyOptions.transientSupport)) {
-				// 字段不可写，跳过之
-				return;
-			}
-
-			// 检查源对象属性是否过滤属性
-			Object sValue = sDesc.getValue(this.source);
-			if (false == copyOptions.testPropertyFilter(sDesc.getField(), sValue)) {
-				return;
-			}
-
-			// 获取目标字段真实类型并转换源值
-			final Type fieldType = TypeUtil.getActualType(this.targetType, tDesc.getFieldType());
-			//sValue = Convert.convertWithCheck(fieldType, sValue, null, this.copyOptions.ignoreError);
-			sValue = this.copyOptions.convertField(fieldType, sValue);
-			sValue = copyOptions.editFieldValue(sFieldName, sValue);
-
-			// 目标赋值
-			tDesc.setValue(this.target, sValue, copyOptions.ignoreNullValue, copyOptions.ignoreError, copyOptions.override);
-		});
+		BeanCopyPlan.get(source.getClass(), actualEditable, this.targetType, this.copyOptions).copy(this.source, this.target, this.copyOptions);
 		return this.target;
 	}
 }
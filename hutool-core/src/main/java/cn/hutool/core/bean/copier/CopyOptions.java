@@ -84,9 +84,9 @@ public class CopyOptions implements Serializable {
 	private Set<String> ignoreKeySet;
 
 	/**
-	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 * 默认类型转换器，使用全局万能转换器转换
 	 */
-	protected TypeConverter converter = (type, value) -> {
+	private final TypeConverter defaultConverter = (type, value) -> {
 		if (null == value) {
 			return null;
 		}
@@ -98,6 +98,11 @@ public class CopyOptions implements Serializable {
 		return Convert.convertWithCheck(type, value, null, ignoreError);
 	};
 
+	/**
+	 * 自定义类型转换器，默认使用全局万能转换器转换
+	 */
+	protected TypeConverter converter = defaultConverter;
+
 	/**
 	 * 在Bean转换时，如果源是String，目标对象是Date或LocalDateTime，则可自定义转换格式
 	 */
@@ -414,6 +419,36 @@ public class CopyOptions implements Serializable {
 		return (null != this.fieldNameEditor) ? this.fieldNameEditor.edit(fieldName) : fieldName;
 	}
 
+	/**
+	 * 是否使用默认的类型转换器，且未设置日期格式，此时类型匹配的值转换后仍为原值，可以跳过转换
+	 *
+	 * @return 是否可以跳过类型匹配的值的转换
+	 * @since 5.8.35
+	 */
+	boolean isDefaultConvert() {
+		return this.converter == this.defaultConverter && null == this.formatIfDate;
+	}
+
+	/**
+	 * 获取字段名编辑器
+	 *
+	 * @return 字段名编辑器，未设置返回{@code null}
+	 * @since 5.8.35
+	 */
+	Editor<String> getFieldNameEditor() {
+		return this.fieldNameEditor;
+	}
+
+	/**
+	 * 获取忽略的属性列表
+	 *
+	 * @return 忽略的属性列表，未设置返回{@code null}
+	 * @since 5.8.35
+	 */
+	Set<String> getIgnoreKeySet() {
+		return this.ignoreKeySet;
+	}
+
 	/**
 	 * 测试是否保留字段，{@code true}保留，{@code false}不保留
 	 *
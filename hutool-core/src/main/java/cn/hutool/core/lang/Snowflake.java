@@ -7,6 +7,7 @@ import cn.hutool.core.util.StrUtil;
 
 import java.io.Serializable;
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Twitter的Snowflake 算法<br>
@@ -26,6 +27,9 @@ import java.util.Date;
  * <p>
  * 并且可以通过生成的id反推出生成时间,datacenterId和workerId
  * <p>
+ * 上次的时间戳和序号合并存储在一个{@link AtomicLong}中，通过CAS更新，生成ID时无需加锁。
+ * 可通过{@link #nextIds(int)}一次预留一段连续的ID，也可以在构造时指定每个线程预留的ID段大小，线程在自己的ID段用完前不再竞争。
+ * <p>
  * 参考：http://www.cnblogs.com/relucent/p/4955340.html<br>
  * 关于长度是18还是19的问题见：https://blog.csdn.net/unifirst/article/details/80408050
  *
@@ -84,10 +88,18 @@ public class Snowflake implements Serializable {
 	private final long randomSequenceLimit;
 
 	/**
-	 * 自增序号，当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
+	 * 每个线程预留的ID段大小，大于1时每个线程从自己预留的ID段中取ID
+	 */
+	private final int localBatchSize;
+
+	/**
+	 * 上次生成ID的状态，高位为时间戳，低12位为自增序号，当高频模式下时，同一毫秒内生成N个ID，则这个序号在同一毫秒下，自增以避免ID重复。
+	 */
+	private final AtomicLong state = new AtomicLong();
+	/**
+	 * 线程预留的ID段，反序列化后重新创建
 	 */
-	private long sequence = 0L;
-	private long lastTimestamp = -1L;
+	private transient volatile ThreadLocal<LocalRange> localRange;
 
 	/**
 	 * 构造，使用自动生成的工作节点ID和数据中心ID
@@ -160,12 +172,29 @@ public class Snowflake implements Serializable {
 	 */
 	public Snowflake(Date epochDate, long workerId, long dataCenterId,
 					 boolean isUseSystemClock, long timeOffset, long randomSequenceLimit) {
+		this(epochDate, workerId, dataCenterId, isUseSystemClock, timeOffset, randomSequenceLimit, 0);
+	}
+
+	/**
+	 * @param epochDate           初始化时间起点（null表示默认起始日期）,后期修改会导致id重复,如果要修改连workerId dataCenterId，慎用
+	 * @param workerId            工作机器节点id
+	 * @param dataCenterId        数据中心id
+	 * @param isUseSystemClock    是否使用{@link SystemClock} 获取当前时间戳
+	 * @param timeOffset          允许时间回拨的毫秒数
+	 * @param randomSequenceLimit 限定一个随机上限，在不同毫秒下生成序号时，给定一个随机数，避免偶数问题，0表示无随机，上限不包括值本身。
+	 * @param localBatchSize      每个线程预留的ID段大小，大于1时每个线程一次预留一段ID，用完前不再竞争，此时ID只在同一线程内有序，
+	 *                            且ID中的时间为预留时的时间；0或1表示不预留
+	 * @since 5.8.35
+	 */
+	public Snowflake(Date epochDate, long workerId, long dataCenterId,
+					 boolean isUseSystemClock, long timeOffset, long randomSequenceLimit, int localBatchSize) {
 		this.twepoch = (null != epochDate) ? epochDate.getTime() : DEFAULT_TWEPOCH;
 		this.workerId = Assert.checkBetween(workerId, 0, MAX_WORKER_ID);
 		this.dataCenterId = Assert.checkBetween(dataCenterId, 0, MAX_DATA_CENTER_ID);
 		this.useSystemClock = isUseSystemClock;
 		this.timeOffset = timeOffset;
 		this.randomSequenceLimit = Assert.checkBetween(randomSequenceLimit, 0, SEQUENCE_MASK);
+		this.localBatchSize = Assert.checkBetween(localBatchSize, 0, (int) SEQUENCE_MASK + 1);
 	}
 
 	/**
@@ -237,51 +266,154 @@ public class Snowflake implements Serializable {
 	 *
 	 * @return ID
 	 */
-	public synchronized long nextId() {
-		long timestamp = genTime();
-		if (timestamp < this.lastTimestamp) {
-			if (this.lastTimestamp - timestamp < timeOffset) {
-				// 容忍指定的回拨，避免NTP校时造成的异常
-				timestamp = lastTimestamp;
-			} else {
-				// 如果服务器时间有问题(时钟后退) 报错。
-				throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+	public long nextId() {
+		if (localBatchSize > 1) {
+			final LocalRange range = getLocalRange().get();
+			if (range.next > range.end) {
+				final long first = reserve(localBatchSize);
+				range.next = first;
+				range.end = first + reservedCount(first, localBatchSize) - 1;
 			}
+			return toId(range.next++);
 		}
+		return toId(reserve(1));
+	}
 
-		if (timestamp == this.lastTimestamp) {
-			final long sequence = (this.sequence + 1) & SEQUENCE_MASK;
-			if (sequence == 0) {
-				timestamp = tilNextMillis(lastTimestamp);
+	/**
+	 * 批量获取ID，一次预留一段连续的序号，同一毫秒内的序号用完时顺延到下一毫秒
+	 *
+	 * @param count ID个数
+	 * @return ID数组，按生成顺序排列
+	 * @since 5.8.35
+	 */
+	public long[] nextIds(int count) {
+		Assert.isTrue(count >= 0, "Count must be >= 0 but got {}", count);
+		final long[] ids = new long[count];
+		int index = 0;
+		while (index < count) {
+			final long first = reserve(count - index);
+			final int reserved = reservedCount(first, count - index);
+			for (int i = 0; i < reserved; i++) {
+				ids[index++] = toId(first + i);
 			}
-			this.sequence = sequence;
-		} else {
-			// issue#I51EJY
-			if (randomSequenceLimit > 1) {
-				sequence = RandomUtil.randomLong(randomSequenceLimit);
+		}
+		return ids;
+	}
+
+	/**
+	 * 下一个ID（字符串形式）
+	 *
+	 * @return ID 字符串形式
+	 */
+	public String nextIdStr() {
+		return Long.toString(nextId());
+	}
+
+	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+
+	/**
+	 * 通过CAS预留一段同一毫秒内的连续序号，最多预留count个，实际个数见{@link #reservedCount(long, int)}
+	 *
+	 * @param count 期望预留的个数，必须大于0
+	 * @return 第一个序号的状态值（时间戳左移12位 | 序号）
+	 */
+	private long reserve(int count) {
+		while (true) {
+			final long last = this.state.get();
+			final long lastTimestamp = last >>> SEQUENCE_BITS;
+			long timestamp = genTime();
+			if (timestamp < lastTimestamp) {
+				if (lastTimestamp - timestamp < timeOffset) {
+					// 容忍指定的回拨，避免NTP校时造成的异常
+					timestamp = lastTimestamp;
+				} else {
+					// 如果服务器时间有问题(时钟后退) 报错。
+					throw new IllegalStateException(StrUtil.format("Clock moved backwards. Refusing to generate id for {}ms", lastTimestamp - timestamp));
+				}
+			}
+
+			long sequence;
+			if (timestamp == lastTimestamp) {
+				sequence = (last & SEQUENCE_MASK) + 1;
+				if (sequence > SEQUENCE_MASK) {
+					timestamp = tilNextMillis(lastTimestamp);
+					sequence = firstSequence();
+				}
 			} else {
-				sequence = 0L;
+				sequence = firstSequence();
+			}
+
+			final long first = (timestamp << SEQUENCE_BITS) | sequence;
+			if (this.state.compareAndSet(last, first + reservedCount(first, count) - 1)) {
+				return first;
 			}
 		}
+	}
 
-		lastTimestamp = timestamp;
+	/**
+	 * 计算从给定状态开始，同一毫秒内可预留的序号个数
+	 *
+	 * @param first 第一个序号的状态值
+	 * @param count 期望预留的个数
+	 * @return 实际预留的个数
+	 */
+	private static int reservedCount(long first, int count) {
+		return (int) Math.min(count, SEQUENCE_MASK - (first & SEQUENCE_MASK) + 1);
+	}
 
-		return ((timestamp - twepoch) << TIMESTAMP_LEFT_SHIFT)
+	/**
+	 * 新的毫秒中第一个序号
+	 *
+	 * @return 序号
+	 */
+	private long firstSequence() {
+		// issue#I51EJY
+		return randomSequenceLimit > 1 ? RandomUtil.randomLong(randomSequenceLimit) : 0L;
+	}
+
+	/**
+	 * 根据状态值（时间戳左移12位 | 序号）生成ID
+	 *
+	 * @param state 状态值
+	 * @return ID
+	 */
+	private long toId(long state) {
+		return (((state >>> SEQUENCE_BITS) - twepoch) << TIMESTAMP_LEFT_SHIFT)
 				| (dataCenterId << DATA_CENTER_ID_SHIFT)
 				| (workerId << WORKER_ID_SHIFT)
-				| sequence;
+				| (state & SEQUENCE_MASK);
 	}
 
 	/**
-	 * 下一个ID（字符串形式）
+	 * 获取线程预留的ID段，不存在时创建
 	 *
-	 * @return ID 字符串形式
+	 * @return 线程预留的ID段
 	 */
-	public String nextIdStr() {
-		return Long.toString(nextId());
+	private ThreadLocal<LocalRange> getLocalRange() {
+		ThreadLocal<LocalRange> localRange = this.localRange;
+		if (null == localRange) {
+			synchronized (this) {
+				localRange = this.localRange;
+				if (null == localRange) {
+					localRange = ThreadLocal.withInitial(LocalRange::new);
+					this.localRange = localRange;
+				}
+			}
+		}
+		return localRange;
 	}
 
-	// ------------------------------------------------------------------------------------------------------------------------------------ Private method start
+	/**
+	 * 反序列化旧版本（序号和时间戳为单独字段）的对象时，{@link #state}不存在而为{@code null}，此时按照相同配置重新创建
+	 *
+	 * @return 反序列化后的对象
+	 */
+	private Object readResolve() {
+		if (null == this.state) {
+			return new Snowflake(new Date(twepoch), workerId, dataCenterId, useSystemClock, timeOffset, randomSequenceLimit, localBatchSize);
+		}
+		return this;
+	}
 
 	/**
 	 * 循环等待下一个时间
@@ -312,4 +444,12 @@ public class Snowflake implements Serializable {
 		return this.useSystemClock ? SystemClock.now() : System.currentTimeMillis();
 	}
 	// ------------------------------------------------------------------------------------------------------------------------------------ Private method end
+
+	/**
+	 * 线程预留的ID段，next和end为状态值，next大于end表示已用完
+	 */
+	private static class LocalRange {
+		private long next = 1;
+		private long end = 0;
+	}
 }
@@ -0,0 +1,128 @@
+package cn.hutool.core.lang.func;
+
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.exceptions.UtilException;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.reflect.LookupFactory;
+import cn.hutool.core.util.ModifierUtil;
+import cn.hutool.core.util.StrUtil;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 以{@link LambdaMetafactory}动态生成函数式接口实现的工厂<br>
+ * 生成的实现直接调用目标方法，性能与手写的Lambda相当，远高于反射调用，适用于需要反复调用同一方法的场景，如Bean属性的读写。<br>
+ * 生成过程开销较大，调用方应缓存生成的结果。
+ *
+ * <pre>
+ * Function&lt;Object, Object&gt; getter = LambdaFactory.build(Function.class, User.class.getMethod("getName"));
+ * BiConsumer&lt;Object, Object&gt; setter = LambdaFactory.build(BiConsumer.class, User.class.getMethod("setName", String.class));
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class LambdaFactory {
+
+	/**
+	 * 生成函数式接口的实现，实现调用给定的方法<br>
+	 * 对象方法的第一个参数为调用对象，其余为方法参数；函数式接口的参数和返回值为对象类型时，自动装箱或拆箱；接口无返回值时忽略方法的返回值。
+	 *
+	 * @param <F>                    函数式接口类型
+	 * @param functionInterfaceType 函数式接口，如{@link java.util.function.Function}
+	 * @param method                 被调用的方法
+	 * @return 函数式接口的实现
+	 * @throws UtilException 方法无法访问或签名与接口不匹配
+	 */
+	@SuppressWarnings("unchecked")
+	public static <F> F build(Class<F> functionInterfaceType, Method method) throws UtilException {
+		Assert.notNull(functionInterfaceType);
+		Assert.notNull(method);
+		final Method invokeMethod = getInvokeMethod(functionInterfaceType);
+		final MethodType samType = MethodType.methodType(invokeMethod.getReturnType(), invokeMethod.getParameterTypes());
+
+		final Class<?> declaringClass = method.getDeclaringClass();
+		final MethodType instantiatedType = instantiatedType(samType, method);
+		try {
+			final MethodHandles.Lookup lookup = LookupFactory.lookup(declaringClass);
+			final MethodHandle implMethod = lookup.unreflect(method);
+			final CallSite callSite = LambdaMetafactory.metafactory(
+					lookup,
+					invokeMethod.getName(),
+					MethodType.methodType(functionInterfaceType),
+					samType,
+					implMethod,
+					instantiatedType);
+			return (F) callSite.getTarget().invoke();
+		} catch (Throwable e) {
+			throw new UtilException(e, "Build [{}] for method [{}] error!", functionInterfaceType.getName(), method);
+		}
+	}
+
+	/**
+	 * 获取函数式接口中唯一的抽象方法
+	 *
+	 * @param functionInterfaceType 函数式接口
+	 * @return 抽象方法
+	 */
+	private static Method getInvokeMethod(Class<?> functionInterfaceType) {
+		Assert.isTrue(functionInterfaceType.isInterface(), "[{}] is not an interface!", functionInterfaceType.getName());
+		Method invokeMethod = null;
+		for (Method method : functionInterfaceType.getMethods()) {
+			if (Modifier.isAbstract(method.getModifiers()) && false == isObjectMethod(method)) {
+				Assert.isNull(invokeMethod, "[{}] has more than one abstract method!", functionInterfaceType.getName());
+				invokeMethod = method;
+			}
+		}
+		return Assert.notNull(invokeMethod, "[{}] has no abstract method!", functionInterfaceType.getName());
+	}
+
+	/**
+	 * 根据接口方法的签名和实际方法计算具体化的方法签名，接口参数为对象类型时，原始类型参数使用包装类型
+	 *
+	 * @param samType 接口方法签名
+	 * @param method  实际方法
+	 * @return 具体化的方法签名
+	 */
+	private static MethodType instantiatedType(MethodType samType, Method method) {
+		final boolean isStatic = ModifierUtil.isStatic(method);
+		final Class<?>[] methodParams = method.getParameterTypes();
+		final int paramCount = methodParams.length + (isStatic ? 0 : 1);
+		if (samType.parameterCount() != paramCount) {
+			throw new UtilException(StrUtil.format("Parameter count of [{}] is not match with {}", method, samType));
+		}
+
+		final Class<?>[] params = new Class<?>[paramCount];
+		for (int i = 0; i < paramCount; i++) {
+			final Class<?> param = (isStatic || i > 0) ? methodParams[isStatic ? i : i - 1] : method.getDeclaringClass();
+			params[i] = samType.parameterType(i).isPrimitive() ? param : BasicType.wrap(param);
+		}
+
+		Class<?> returnType = samType.returnType();
+		if (void.class != returnType) {
+			returnType = returnType.isPrimitive() ? method.getReturnType() : BasicType.wrap(method.getReturnType());
+		}
+		return MethodType.methodType(returnType, params);
+	}
+
+	/**
+	 * 是否为{@link Object}中的方法，函数式接口可以重新声明这些方法
+	 *
+	 * @param method 方法
+	 * @return 是否为Object中的方法
+	 */
+	private static boolean isObjectMethod(Method method) {
+		try {
+			Object.class.getMethod(method.getName(), method.getParameterTypes());
+			return true;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+}
@@ -1,10 +1,15 @@
 package cn.hutool.core.bean.copier;
 
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
 import lombok.Data;
 import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.util.HashMap;
+import java.util.List;
 
 public class BeanCopierTest {
 
@@ -75,6 +80,61 @@ public class BeanCopierTest {
 		assertEquals("abc", b.getValue());
 	}
 
+	@Test
+	public void beanToBeanPlanTest() {
+		final C c = new C();
+		c.setId(1);
+		c.setAge("18");
+		c.setName("hutool");
+		c.setScores(ListUtil.of("1", "2"));
+
+		// 相同选项多次拷贝复用拷贝计划，结果一致
+		for (int i = 0; i < 2; i++) {
+			final D d = BeanCopier.create(c, new D(), CopyOptions.create()).copy();
+			assertEquals(Long.valueOf(1), d.getId());
+			assertEquals(18, d.getAge());
+			assertEquals("hutool", d.getName());
+			assertEquals(ListUtil.of(1, 2), d.getScores());
+		}
+
+		// null写入原始类型字段时使用默认值
+		c.setAge(null);
+		final D d = new D();
+		d.setAge(20);
+		BeanCopier.create(c, d, CopyOptions.create()).copy();
+		assertEquals(0, d.getAge());
+
+		// 忽略字段和忽略null值
+		d.setAge(20);
+		d.setName("abc");
+		BeanCopier.create(c, d, CopyOptions.create().setIgnoreProperties("name").ignoreNullValue()).copy();
+		assertEquals(20, d.getAge());
+		assertEquals("abc", d.getName());
+
+		// 字段名编辑器
+		final D d2 = BeanCopier.create(c, new D(), CopyOptions.create()
+				.setFieldNameEditor(name -> "name".equals(name) ? null : name)).copy();
+		assertNull(d2.getName());
+		assertEquals(Long.valueOf(1), d2.getId());
+	}
+
+	@Test
+	@Disabled
+	public void beanToBeanBenchmarkTest() {
+		final C c = new C();
+		c.setId(1);
+		c.setAge("18");
+		c.setName("hutool");
+		final int count = 1000000;
+		final StopWatch stopWatch = new StopWatch();
+		stopWatch.start("copy");
+		for (int i = 0; i < count; i++) {
+			BeanCopier.create(c, new D(), CopyOptions.create()).copy();
+		}
+		stopWatch.stop();
+		Console.log(stopWatch.prettyPrint());
+	}
+
 	@Data
 	private static class A {
 		private String value;
@@ -84,4 +144,20 @@ public class BeanCopierTest {
 	private static class B {
 		private String value;
 	}
+
+	@Data
+	public static class C {
+		private int id;
+		private String age;
+		private String name;
+		private List<String> scores;
+	}
+
+	@Data
+	public static class D {
+		private Long id;
+		private int age;
+		private String name;
+		private List<Integer> scores;
+	}
 }
@@ -1,15 +1,19 @@
 package cn.hutool.core.lang;
 
 import cn.hutool.core.collection.ConcurrentHashSet;
+import cn.hutool.core.date.StopWatch;
 import cn.hutool.core.exceptions.UtilException;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.ObjectUtil;
 import cn.hutool.core.util.RandomUtil;
+import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -127,4 +131,102 @@ public class SnowflakeTest {
 			}
 		});
 	}
+
+	@Test
+	public void nextIdsTest() {
+		final Snowflake snowflake = new Snowflake(1, 2);
+		final long[] ids = snowflake.nextIds(10000);
+		assertEquals(10000, ids.length);
+		for (int i = 1; i < ids.length; i++) {
+			// 批量生成的ID连续递增，跨越毫秒时继续递增
+			assertTrue(ids[i] > ids[i - 1]);
+			assertEquals(1, snowflake.getWorkerId(ids[i]));
+			assertEquals(2, snowflake.getDataCenterId(ids[i]));
+		}
+		assertTrue(snowflake.nextId() > ids[ids.length - 1]);
+		assertEquals(0, snowflake.nextIds(0).length);
+	}
+
+	@Test
+	public void localBatchTest() {
+		final Snowflake snowflake = new Snowflake(null, 0, 0,
+				false, Snowflake.DEFAULT_TIME_OFFSET, 0, 100);
+		final long[] ids = new long[1000];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = snowflake.nextId();
+		}
+		// 同一线程内有序
+		final long[] sorted = ids.clone();
+		Arrays.sort(sorted);
+		assertArrayEquals(sorted, ids);
+		assertEquals(1000, Arrays.stream(ids).distinct().count());
+	}
+
+	@Test
+	public void uniqueOfConcurrentBatchTest() {
+		final Snowflake snowflake = new Snowflake(null, 0, 0,
+				false, Snowflake.DEFAULT_TIME_OFFSET, 0, 64);
+
+		final Set<Long> ids = new ConcurrentHashSet<>();
+		ThreadUtil.concurrencyTest(16, () -> {
+			for (int i = 0; i < 5000; i++) {
+				if (false == ids.add(snowflake.nextId())) {
+					throw new UtilException("重复ID！");
+				}
+			}
+			for (final long id : snowflake.nextIds(1000)) {
+				if (false == ids.add(id)) {
+					throw new UtilException("重复ID！");
+				}
+			}
+		});
+		assertEquals(16 * 6000, ids.size());
+	}
+
+	@Test
+	public void serializeTest() {
+		final Snowflake snowflake = new Snowflake(null, 3, 5, false, Snowflake.DEFAULT_TIME_OFFSET, 0, 16);
+		final long id = snowflake.nextId();
+		final Snowflake cloned = ObjectUtil.cloneByStream(snowflake);
+		assertEquals(3, cloned.getWorkerId(cloned.nextId()));
+		assertTrue(cloned.nextId() > id);
+
+		// 模拟旧版本序列化的对象，反序列化后state为null
+		ReflectUtil.setFieldValue(snowflake, "state", null);
+		final Snowflake old = ObjectUtil.cloneByStream(snowflake);
+		final long oldId = old.nextId();
+		assertEquals(3, old.getWorkerId(oldId));
+		assertEquals(5, old.getDataCenterId(oldId));
+	}
+
+	@Test
+	@Disabled
+	public void concurrencyBenchmarkTest() {
+		final Snowflake snowflake = new Snowflake(0, 0);
+		final Snowflake localSnowflake = new Snowflake(null, 0, 0,
+				false, Snowflake.DEFAULT_TIME_OFFSET, 0, 256);
+		final StopWatch stopWatch = new StopWatch();
+		stopWatch.start("nextId");
+		ThreadUtil.concurrencyTest(8, () -> {
+			for (int i = 0; i < 100000; i++) {
+				snowflake.nextId();
+			}
+		});
+		stopWatch.stop();
+		stopWatch.start("nextId with local batch");
+		ThreadUtil.concurrencyTest(8, () -> {
+			for (int i = 0; i < 100000; i++) {
+				localSnowflake.nextId();
+			}
+		});
+		stopWatch.stop();
+		stopWatch.start("nextIds");
+		ThreadUtil.concurrencyTest(8, () -> {
+			for (int i = 0; i < 1000; i++) {
+				snowflake.nextIds(100);
+			}
+		});
+		stopWatch.stop();
+		Console.log(stopWatch.prettyPrint());
+	}
 }
@@ -18,6 +18,22 @@ public class CronConfig {
 	 * 是否支持秒匹配
 	 */
 	protected boolean matchSecond;
+	/**
+	 * 是否使用下次执行时间索引
+	 */
+	protected boolean useFireTimeIndex;
+	/**
+	 * 同一个任务的执行策略
+	 */
+	protected ExecutionPolicy executionPolicy = ExecutionPolicy.CONCURRENT;
+	/**
+	 * 同一个任务的最大并发数，小于等于0表示不限制
+	 */
+	protected int maxConcurrentPerTask;
+	/**
+	 * 是否使用虚拟线程执行任务
+	 */
+	protected boolean useVirtualThread;
 
 	public CronConfig(){
 	}
@@ -61,4 +77,97 @@ public class CronConfig {
 		this.matchSecond = isMatchSecond;
 		return this;
 	}
+
+	/**
+	 * 是否使用下次执行时间索引
+	 *
+	 * @return {@code true}使用，{@code false}不使用
+	 * @since 5.8.35
+	 */
+	public boolean isUseFireTimeIndex() {
+		return this.useFireTimeIndex;
+	}
+
+	/**
+	 * 设置是否使用下次执行时间索引，默认不使用<br>
+	 * 默认每次检查都会将所有任务的表达式与当前时间逐个匹配，任务数很多（如上万个动态任务）时检查本身的耗时可能超过检查间隔。
+	 * 使用索引时，每个任务的下次执行时间通过{@link cn.hutool.cron.pattern.CronPattern#nextMatchAfter(java.util.Calendar)}计算并放入优先队列，
+	 * 每次检查只取出到期的任务。
+	 *
+	 * @param useFireTimeIndex {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public CronConfig setUseFireTimeIndex(boolean useFireTimeIndex) {
+		this.useFireTimeIndex = useFireTimeIndex;
+		return this;
+	}
+
+	/**
+	 * 获取同一个任务的执行策略
+	 *
+	 * @return 执行策略
+	 * @since 5.8.35
+	 */
+	public ExecutionPolicy getExecutionPolicy() {
+		return this.executionPolicy;
+	}
+
+	/**
+	 * 设置同一个任务的执行策略，即任务到达执行时间而上一次执行尚未结束时的处理方式，默认{@link ExecutionPolicy#CONCURRENT}
+	 *
+	 * @param executionPolicy 执行策略，{@code null}表示{@link ExecutionPolicy#CONCURRENT}
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public CronConfig setExecutionPolicy(ExecutionPolicy executionPolicy) {
+		this.executionPolicy = null == executionPolicy ? ExecutionPolicy.CONCURRENT : executionPolicy;
+		return this;
+	}
+
+	/**
+	 * 获取同一个任务的最大并发数
+	 *
+	 * @return 最大并发数，小于等于0表示不限制
+	 * @since 5.8.35
+	 */
+	public int getMaxConcurrentPerTask() {
+		return this.maxConcurrentPerTask;
+	}
+
+	/**
+	 * 设置同一个任务的最大并发数，仅在{@link ExecutionPolicy#CONCURRENT}策略下有效，达到上限时本次执行被跳过，默认不限制<br>
+	 * 用于避免执行时间较长的任务被频繁触发而不断占用新的线程
+	 *
+	 * @param maxConcurrentPerTask 最大并发数，小于等于0表示不限制
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public CronConfig setMaxConcurrentPerTask(int maxConcurrentPerTask) {
+		this.maxConcurrentPerTask = maxConcurrentPerTask;
+		return this;
+	}
+
+	/**
+	 * 是否使用虚拟线程执行任务
+	 *
+	 * @return {@code true}使用，{@code false}不使用
+	 * @since 5.8.35
+	 */
+	public boolean isUseVirtualThread() {
+		return this.useVirtualThread;
+	}
+
+	/**
+	 * 设置是否使用虚拟线程执行任务，默认不使用<br>
+	 * 仅在JDK21及以上版本且未自定义线程池时有效，低版本JDK下仍使用默认线程池。虚拟线程均为守护线程。
+	 *
+	 * @param useVirtualThread {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public CronConfig setUseVirtualThread(boolean useVirtualThread) {
+		this.useVirtualThread = useVirtualThread;
+		return this;
+	}
 }
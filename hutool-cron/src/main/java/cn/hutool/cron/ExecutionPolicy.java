@@ -0,0 +1,25 @@
+package cn.hutool.cron;
+
+/**
+ * 同一个任务的执行策略，即任务到达执行时间而上一次执行尚未结束时的处理方式
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public enum ExecutionPolicy {
+
+	/**
+	 * 并发执行，默认策略<br>
+	 * 可通过{@link CronConfig#setMaxConcurrentPerTask(int)}限制同一个任务的最大并发数，达到上限时本次执行被跳过
+	 */
+	CONCURRENT,
+	/**
+	 * 上一次执行尚未结束时，跳过本次执行
+	 */
+	SKIP_IF_RUNNING,
+	/**
+	 * 上一次执行尚未结束时，本次执行进入等待，在上一次执行结束后立即执行<br>
+	 * 最多只保留一次等待中的执行，多次到达执行时间只会补执行一次
+	 */
+	QUEUE_ONE
+}
@@ -0,0 +1,197 @@
+package cn.hutool.cron;
+
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import cn.hutool.cron.task.Task;
+import cn.hutool.log.StaticLog;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TimeZone;
+
+/**
+ * 下次执行时间索引，供{@link TaskTable}在{@link CronConfig#isUseFireTimeIndex()}模式下使用<br>
+ * 每个任务通过{@link CronPattern#nextMatchAfter(Calendar)}计算下次执行时间，按照时间放入优先队列，
+ * 每次检查时只取出已到期的任务，执行后重新计算下次执行时间，因此检查的开销只与到期的任务数有关，与任务总数无关。<br>
+ * 无法计算下次执行时间的任务（如表达式永远不会匹配）退回到逐个匹配模式，每次检查时单独匹配。<br>
+ * 不匹配秒时与{@link CronPattern#match(Calendar, boolean)}一致忽略秒部分，下次执行时间按分计算，取匹配时间所在分的起始时间。<br>
+ * 移除的任务只做标记，在出队时丢弃。此类非线程安全，由{@link TaskTable}加锁保护。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+class FireTimeIndex {
+
+	private final TimeZone timezone;
+	private final boolean matchSecond;
+	private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+	private final Map<String, Entry> entryMap = new HashMap<>();
+	/**
+	 * 无法计算下次执行时间的任务，每次检查时逐个匹配
+	 */
+	private final Map<String, Entry> matchEntryMap = new LinkedHashMap<>();
+	/**
+	 * 检查过的最大时间，用于发现系统时间被向前调整
+	 */
+	private long lastMillis;
+
+	/**
+	 * 构造
+	 *
+	 * @param timezone    时区
+	 * @param matchSecond 是否匹配秒
+	 */
+	FireTimeIndex(TimeZone timezone, boolean matchSecond) {
+		this.timezone = timezone;
+		this.matchSecond = matchSecond;
+	}
+
+	/**
+	 * @return 时区
+	 */
+	TimeZone getTimeZone() {
+		return this.timezone;
+	}
+
+	/**
+	 * @return 是否匹配秒
+	 */
+	boolean isMatchSecond() {
+		return this.matchSecond;
+	}
+
+	/**
+	 * @return 检查过的最大时间，任务表变更时以此时间为起点计算下次执行时间，使得变更从下一次检查起生效
+	 */
+	long getLastMillis() {
+		return this.lastMillis;
+	}
+
+	/**
+	 * 加入任务，已存在相同ID的任务时替换之
+	 *
+	 * @param id      ID
+	 * @param pattern 表达式
+	 * @param task    任务
+	 * @param millis  起始时间，下次执行时间为此时间之后第一个匹配的时间
+	 */
+	void add(String id, CronPattern pattern, Task task, long millis) {
+		remove(id);
+		final Entry entry = new Entry(id, pattern, task);
+		entryMap.put(id, entry);
+		schedule(entry, millis);
+	}
+
+	/**
+	 * 移除任务
+	 *
+	 * @param id ID
+	 */
+	void remove(String id) {
+		final Entry entry = entryMap.remove(id);
+		if (null != entry) {
+			entry.cancelled = true;
+		}
+		matchEntryMap.remove(id);
+	}
+
+	/**
+	 * 取出所有在指定时间之前到期的任务，并重新计算这些任务的下次执行时间
+	 *
+	 * @param millis 当前时间
+	 * @return 到期的任务
+	 */
+	List<CronTask> pollDue(long millis) {
+		this.lastMillis = Math.max(this.lastMillis, millis);
+		final List<CronTask> result = new ArrayList<>();
+		for (final Entry matchEntry : matchEntryMap.values()) {
+			if (matchEntry.pattern.match(timezone, millis, matchSecond)) {
+				result.add(new CronTask(matchEntry.id, matchEntry.pattern, matchEntry.task));
+			}
+		}
+
+		Entry entry;
+		while (null != (entry = queue.peek()) && entry.nextFireTime <= millis) {
+			queue.poll();
+			if (entry.cancelled) {
+				continue;
+			}
+			result.add(new CronTask(entry.id, entry.pattern, entry.task));
+			schedule(entry, millis);
+		}
+		return result;
+	}
+
+	/**
+	 * 是否需要重建，系统时间被向前调整时，已计算的执行时间全部失效<br>
+	 * 允许一定的误差，避免启动器乱序执行导致的重建
+	 *
+	 * @param millis    当前时间
+	 * @param tolerance 允许的误差，单位毫秒
+	 * @return 是否需要重建
+	 */
+	boolean isExpired(long millis, long tolerance) {
+		return millis < this.lastMillis - tolerance;
+	}
+
+	/**
+	 * 计算任务在指定时间之后的下次执行时间并入队<br>
+	 * 无法计算或计算结果不在此时间之后（如表达式永远不会匹配）时不入队，改为每次检查时逐个匹配
+	 *
+	 * @param entry  任务
+	 * @param millis 时间
+	 */
+	private void schedule(Entry entry, long millis) {
+		final Calendar calendar = Calendar.getInstance(timezone);
+		calendar.setTimeInMillis(millis);
+		if (false == matchSecond) {
+			// 不匹配秒时本分钟已检查过，从本分钟最后一刻之后查找
+			calendar.set(Calendar.SECOND, 59);
+			calendar.set(Calendar.MILLISECOND, 999);
+		}
+		Calendar next;
+		try {
+			next = entry.pattern.nextMatchAfter(calendar);
+			if (null != next && false == matchSecond) {
+				next.set(Calendar.SECOND, 0);
+				next.set(Calendar.MILLISECOND, 0);
+			}
+		} catch (Exception e) {
+			StaticLog.debug("Can not compute next fire time of task [{}] with pattern [{}]: {}", entry.id, entry.pattern, e.getMessage());
+			next = null;
+		}
+		if (null != next && next.getTimeInMillis() > millis) {
+			entry.nextFireTime = next.getTimeInMillis();
+			queue.offer(entry);
+		} else {
+			matchEntryMap.put(entry.id, entry);
+		}
+	}
+
+	/**
+	 * 索引项
+	 */
+	private static class Entry implements Comparable<Entry> {
+		private final String id;
+		private final CronPattern pattern;
+		private final Task task;
+		private long nextFireTime;
+		private boolean cancelled;
+
+		private Entry(String id, CronPattern pattern, Task task) {
+			this.id = id;
+			this.pattern = pattern;
+			this.task = task;
+		}
+
+		@Override
+		public int compareTo(Entry o) {
+			return Long.compare(this.nextFireTime, o.nextFireTime);
+		}
+	}
+}
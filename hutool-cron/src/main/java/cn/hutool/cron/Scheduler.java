@@ -5,6 +5,8 @@ import cn.hutool.core.thread.ExecutorBuilder;
 import cn.hutool.core.thread.ThreadFactoryBuilder;
 import cn.hutool.core.util.CharUtil;
 import cn.hutool.core.util.IdUtil;
+import cn.hutool.core.util.JdkUtil;
+import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.listener.TaskListener;
 import cn.hutool.cron.listener.TaskListenerManager;
@@ -16,10 +18,12 @@ import cn.hutool.log.StaticLog;
 import cn.hutool.setting.Setting;
 
 import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import java.util.TimeZone;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -167,6 +171,65 @@ public class Scheduler implements Serializable {
 		return this;
 	}
 
+	/**
+	 * 设置是否使用下次执行时间索引，默认不使用，任务数很多时建议使用
+	 *
+	 * @param useFireTimeIndex {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @see CronConfig#setUseFireTimeIndex(boolean)
+	 * @since 5.8.35
+	 */
+	public Scheduler setUseFireTimeIndex(boolean useFireTimeIndex) {
+		this.config.setUseFireTimeIndex(useFireTimeIndex);
+		return this;
+	}
+
+	/**
+	 * 设置同一个任务的执行策略，默认{@link ExecutionPolicy#CONCURRENT}
+	 *
+	 * @param executionPolicy 执行策略
+	 * @return this
+	 * @see CronConfig#setExecutionPolicy(ExecutionPolicy)
+	 * @since 5.8.35
+	 */
+	public Scheduler setExecutionPolicy(ExecutionPolicy executionPolicy) {
+		this.config.setExecutionPolicy(executionPolicy);
+		return this;
+	}
+
+	/**
+	 * 设置同一个任务的最大并发数，默认不限制
+	 *
+	 * @param maxConcurrentPerTask 最大并发数，小于等于0表示不限制
+	 * @return this
+	 * @see CronConfig#setMaxConcurrentPerTask(int)
+	 * @since 5.8.35
+	 */
+	public Scheduler setMaxConcurrentPerTask(int maxConcurrentPerTask) {
+		this.config.setMaxConcurrentPerTask(maxConcurrentPerTask);
+		return this;
+	}
+
+	/**
+	 * 设置是否使用虚拟线程执行任务（JDK21+），默认不使用
+	 *
+	 * @param useVirtualThread {@code true}使用，{@code false}不使用
+	 * @return this
+	 * @throws CronException 定时任务已经启动抛出此异常
+	 * @see CronConfig#setUseVirtualThread(boolean)
+	 * @since 5.8.35
+	 */
+	public Scheduler setUseVirtualThread(boolean useVirtualThread) throws CronException {
+		lock.lock();
+		try {
+			checkStarted();
+			this.config.setUseVirtualThread(useVirtualThread);
+		} finally {
+			lock.unlock();
+		}
+		return this;
+	}
+
 	/**
 	 * 增加监听器
 	 *
@@ -409,6 +472,9 @@ public class Scheduler implements Serializable {
 		try {
 			checkStarted();
 
+			if(null == this.threadExecutor && this.config.isUseVirtualThread()){
+				this.threadExecutor = createVirtualThreadExecutor();
+			}
 			if(null == this.threadExecutor){
 				// 无界线程池，确保每一个需要执行的线程都可以及时运行，同时复用已有线程避免线程重复创建
 				this.threadExecutor = ExecutorBuilder.create().useSynchronousQueue().setThreadFactory(//
@@ -486,4 +552,22 @@ public class Scheduler implements Serializable {
 			throw new CronException("Scheduler already started!");
 		}
 	}
+
+	/**
+	 * 创建每个任务一个虚拟线程的线程池，JDK21以下版本返回{@code null}<br>
+	 * 为兼容低版本JDK，通过反射调用{@code Executors.newVirtualThreadPerTaskExecutor()}
+	 *
+	 * @return 线程池或{@code null}
+	 */
+	private static ExecutorService createVirtualThreadExecutor() {
+		if (JdkUtil.JVM_VERSION < 21) {
+			StaticLog.warn("Virtual thread is not supported in JDK {}, use default thread pool.", JdkUtil.JVM_VERSION);
+			return null;
+		}
+		final Method method = ReflectUtil.getMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+		if (null == method) {
+			return null;
+		}
+		return ReflectUtil.invokeStatic(method);
+	}
 }
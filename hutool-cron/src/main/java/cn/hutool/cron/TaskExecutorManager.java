@@ -2,18 +2,26 @@ package cn.hutool.cron;
 
 import cn.hutool.cron.task.CronTask;
 import cn.hutool.cron.task.Task;
+import cn.hutool.log.StaticLog;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 作业执行管理器<br>
  * 负责管理作业的启动、停止等
  *
  * <p>
- * 此类用于管理正在运行的作业情况，作业启动后加入任务列表，任务结束移除
+ * 此类用于管理正在运行的作业情况，作业启动后加入任务列表，任务结束移除<br>
+ * 执行器注册表基于{@link ConcurrentHashMap}，启动和结束作业时无全局锁。
+ * 同一个任务的并发控制遵循{@link CronConfig#getExecutionPolicy()}和{@link CronConfig#getMaxConcurrentPerTask()}，
+ * 仅在需要限制时按照任务ID记录运行状态。
  * </p>
  *
  * @author Looly
@@ -26,7 +34,11 @@ public class TaskExecutorManager implements Serializable {
 	/**
 	 * 执行器列表
 	 */
-	private final List<TaskExecutor> executors = new ArrayList<>();
+	private final Set<TaskExecutor> executors = ConcurrentHashMap.newKeySet();
+	/**
+	 * 受限任务的运行状态，key为任务ID，任务无运行中和等待中的执行时移除
+	 */
+	private final Map<String, RunningState> runningStates = new ConcurrentHashMap<>();
 
 	public TaskExecutorManager(Scheduler scheduler) {
 		this.scheduler = scheduler;
@@ -39,37 +51,147 @@ public class TaskExecutorManager implements Serializable {
 	 * @since 4.6.7
 	 */
 	public List<TaskExecutor> getExecutors() {
-		return Collections.unmodifiableList(this.executors);
+		return Collections.unmodifiableList(new ArrayList<>(this.executors));
+	}
+
+	/**
+	 * 获取指定任务正在执行的个数，仅在{@link ExecutionPolicy#SKIP_IF_RUNNING}、{@link ExecutionPolicy#QUEUE_ONE}
+	 * 或设置了最大并发数时记录，否则返回0
+	 *
+	 * @param id 任务ID
+	 * @return 正在执行的个数
+	 * @since 5.8.35
+	 */
+	public int getRunningCount(String id) {
+		final RunningState state = runningStates.get(id);
+		return null == state ? 0 : state.running;
 	}
 
 	/**
-	 * 启动 执行器TaskExecutor，即启动作业
+	 * 启动 执行器TaskExecutor，即启动作业<br>
+	 * 如果根据{@link ExecutionPolicy}本次执行被跳过或进入等待，返回{@code null}
 	 *
 	 * @param task {@link Task}
-	 * @return {@link TaskExecutor}
+	 * @return {@link TaskExecutor}，未启动返回{@code null}
 	 */
 	public TaskExecutor spawnExecutor(CronTask task) {
-		final TaskExecutor executor = new TaskExecutor(this.scheduler, task);
-		synchronized (this.executors) {
-			this.executors.add(executor);
+		final int limit = getConcurrentLimit();
+		if (limit > 0) {
+			final boolean queueOne = ExecutionPolicy.QUEUE_ONE == this.scheduler.config.getExecutionPolicy();
+			final boolean[] acquired = new boolean[1];
+			// compute对同一个任务ID的操作是原子的，不同任务之间互不影响
+			runningStates.compute(task.getId(), (id, state) -> {
+				if (null == state) {
+					state = new RunningState();
+				}
+				if (state.running < limit) {
+					state.running++;
+					acquired[0] = true;
+				} else if (queueOne) {
+					state.pending = true;
+				}
+				return state;
+			});
+			if (false == acquired[0]) {
+				return null;
+			}
 		}
-		// 子线程是否为deamon线程取决于父线程，因此此处无需显示调用
-		// executor.setDaemon(this.scheduler.daemon);
-//		executor.start();
-		this.scheduler.threadExecutor.execute(executor);
-		return executor;
+		return execute(task);
 	}
 
 	/**
-	 * 执行器执行完毕调用此方法，将执行器从执行器列表移除，此方法由{@link TaskExecutor}对象调用，用于通知管理器自身已完成执行
+	 * 执行器执行完毕调用此方法，将执行器从执行器列表移除，此方法由{@link TaskExecutor}对象调用，用于通知管理器自身已完成执行<br>
+	 * {@link ExecutionPolicy#QUEUE_ONE}策略下，如果有等待中的执行，立即启动；线程池已关闭或拒绝时放弃等待中的执行
 	 *
 	 * @param executor 执行器 {@link TaskExecutor}
 	 * @return this
 	 */
 	public TaskExecutorManager notifyExecutorCompleted(TaskExecutor executor) {
-		synchronized (executors) {
+		try {
+			if (release(executor.getCronTask().getId(), true)) {
+				try {
+					execute(executor.getCronTask());
+				} catch (RejectedExecutionException e) {
+					// 调度器已停止，execute中已释放等待中的执行占用的名额，异常不再抛给执行完毕的工作线程
+					StaticLog.debug("Pending execution of task [{}] is rejected: {}", executor.getCronTask().getId(), e.getMessage());
+				}
+			}
+		} finally {
+			// 等待中的执行启动后再移除，保证执行器列表不会出现短暂的空档
 			executors.remove(executor);
 		}
 		return this;
 	}
+
+	/**
+	 * 创建执行器并提交到线程池
+	 *
+	 * @param task {@link CronTask}
+	 * @return {@link TaskExecutor}
+	 */
+	private TaskExecutor execute(CronTask task) {
+		final TaskExecutor executor = new TaskExecutor(this.scheduler, task);
+		this.executors.add(executor);
+		// 子线程是否为deamon线程取决于父线程，因此此处无需显示调用
+		// executor.setDaemon(this.scheduler.daemon);
+//		executor.start();
+		try {
+			this.scheduler.threadExecutor.execute(executor);
+		} catch (RejectedExecutionException e) {
+			// 线程池已关闭或已满，释放占用的名额后抛出
+			this.executors.remove(executor);
+			release(task.getId(), false);
+			throw e;
+		}
+		return executor;
+	}
+
+	/**
+	 * 释放任务占用的执行名额
+	 *
+	 * @param id          任务ID
+	 * @param takePending 是否将等待中的执行转为运行中
+	 * @return 是否有等待中的执行需要立即启动，{@code true}时名额已被占用
+	 */
+	private boolean release(String id, boolean takePending) {
+		final boolean[] runPending = new boolean[1];
+		runningStates.computeIfPresent(id, (key, state) -> {
+			if (takePending && state.pending) {
+				// 名额直接转给等待中的执行，运行数不变
+				state.pending = false;
+				runPending[0] = true;
+				return state;
+			}
+			state.running--;
+			return state.running > 0 || state.pending ? state : null;
+		});
+		return runPending[0];
+	}
+
+	/**
+	 * 根据配置获取同一个任务的并发上限
+	 *
+	 * @return 并发上限，0表示不限制
+	 */
+	private int getConcurrentLimit() {
+		final CronConfig config = this.scheduler.config;
+		if (ExecutionPolicy.CONCURRENT == config.getExecutionPolicy()) {
+			return Math.max(0, config.getMaxConcurrentPerTask());
+		}
+		return 1;
+	}
+
+	/**
+	 * 任务运行状态，只在{@link ConcurrentHashMap#compute}中修改
+	 */
+	private static class RunningState {
+		/**
+		 * 运行中的执行数
+		 */
+		private volatile int running;
+		/**
+		 * 是否有等待中的执行
+		 */
+		private boolean pending;
+	}
 }
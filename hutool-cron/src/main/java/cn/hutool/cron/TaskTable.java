@@ -1,5 +1,6 @@
 package cn.hutool.cron;
 
+import cn.hutool.core.date.DateUnit;
 import cn.hutool.core.util.StrUtil;
 import cn.hutool.cron.pattern.CronPattern;
 import cn.hutool.cron.task.CronTask;
@@ -9,6 +10,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.TimeZone;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -16,7 +18,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 /**
  * 定时任务表<br>
  * 任务表将ID、表达式、任务一一对应，定时任务执行过程中，会周期性检查定时任务表中的所有任务表达式匹配情况，从而执行其对应的任务<br>
- * 任务的添加、移除使用读写锁保证线程安全性
+ * 任务的添加、移除使用读写锁保证线程安全性<br>
+ * 当{@link CronConfig#isUseFireTimeIndex()}为{@code true}时，不再逐个匹配所有任务，而是按照下次执行时间索引只取出到期的任务
  *
  * @author Looly
  */
@@ -31,6 +34,10 @@ public class TaskTable implements Serializable {
 	private final List<CronPattern> patterns;
 	private final List<Task> tasks;
 	private int size;
+	/**
+	 * 下次执行时间索引，首次按照索引检查时创建，之后随任务的增删改同步更新
+	 */
+	private transient FireTimeIndex fireTimeIndex;
 
 	/**
 	 * 构造
@@ -71,6 +78,9 @@ public class TaskTable implements Serializable {
 			patterns.add(pattern);
 			tasks.add(task);
 			size++;
+			if (null != fireTimeIndex) {
+				fireTimeIndex.add(id, pattern, task, fireTimeIndex.getLastMillis());
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -143,6 +153,9 @@ public class TaskTable implements Serializable {
 			patterns.remove(index);
 			ids.remove(index);
 			size--;
+			if (null != fireTimeIndex) {
+				fireTimeIndex.remove(id);
+			}
 		} finally {
 			writeLock.unlock();
 		}
@@ -164,6 +177,9 @@ public class TaskTable implements Serializable {
 			final int index = ids.indexOf(id);
 			if (index > -1) {
 				patterns.set(index, pattern);
+				if (null != fireTimeIndex) {
+					fireTimeIndex.add(id, pattern, tasks.get(index), fireTimeIndex.getLastMillis());
+				}
 				return true;
 			}
 		} finally {
@@ -263,6 +279,18 @@ public class TaskTable implements Serializable {
 	 * @param millis 时间毫秒
 	 */
 	public void executeTaskIfMatch(Scheduler scheduler, long millis) {
+		if (scheduler.config.isUseFireTimeIndex()) {
+			// 取出到期任务时会修改索引，使用写锁
+			final Lock writeLock = lock.writeLock();
+			writeLock.lock();
+			try {
+				executeDueTaskInternal(scheduler, millis);
+			} finally {
+				writeLock.unlock();
+			}
+			return;
+		}
+
 		final Lock readLock = lock.readLock();
 		readLock.lock();
 		try {
@@ -296,4 +324,32 @@ public class TaskTable implements Serializable {
 			}
 		}
 	}
+
+	/**
+	 * 按照下次执行时间索引执行到期的Task，无锁<br>
+	 * 索引不存在、时区或是否匹配秒变更、系统时间被向前调整时重建索引
+	 *
+	 * @param scheduler {@link Scheduler}
+	 * @param millis 时间毫秒
+	 * @since 5.8.35
+	 */
+	protected void executeDueTaskInternal(Scheduler scheduler, long millis) {
+		final TimeZone timezone = scheduler.config.timezone;
+		final boolean matchSecond = scheduler.config.matchSecond;
+		final long timerUnit = matchSecond ? DateUnit.SECOND.getMillis() : DateUnit.MINUTE.getMillis();
+		if (null == fireTimeIndex || false == fireTimeIndex.getTimeZone().equals(timezone)
+				|| fireTimeIndex.isMatchSecond() != matchSecond
+				|| fireTimeIndex.isExpired(millis, 2 * timerUnit)) {
+			fireTimeIndex = new FireTimeIndex(timezone, matchSecond);
+			// 从上一个检查点开始计算，使得与本次检查时间匹配的任务同样被执行
+			final long start = millis - timerUnit;
+			for (int i = 0; i < size; i++) {
+				fireTimeIndex.add(ids.get(i), patterns.get(i), tasks.get(i), start);
+			}
+		}
+
+		for (final CronTask cronTask : fireTimeIndex.pollDue(millis)) {
+			scheduler.taskExecutorManager.spawnExecutor(cronTask);
+		}
+	}
 }
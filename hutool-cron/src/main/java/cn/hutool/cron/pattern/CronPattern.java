@@ -2,6 +2,7 @@ package cn.hutool.cron.pattern;
 
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.date.CalendarUtil;
+import cn.hutool.cron.CronException;
 import cn.hutool.cron.pattern.matcher.PatternMatcher;
 import cn.hutool.cron.pattern.parser.PatternParser;
 
@@ -70,6 +71,11 @@ import java.util.TimeZone;
  */
 public class CronPattern {
 
+	/**
+	 * 查找下一个匹配时间时最多尝试的天数，格里高利历每400年循环一次，超出仍未匹配表示表达式永远不会匹配（如2月30日）
+	 */
+	private static final int MAX_NEXT_MATCH_DAYS = 400 * 366;
+
 	private final String pattern;
 	private final List<PatternMatcher> matchers;
 
@@ -147,8 +153,9 @@ public class CronPattern {
 	 *
 	 * @param calendar 时间
 	 * @return 匹配到的下一个时间
+	 * @throws CronException 表达式永远不会匹配
 	 */
-	public Calendar nextMatchAfter(Calendar calendar) {
+	public Calendar nextMatchAfter(Calendar calendar) throws CronException {
 		// issue#I9FQUA，当提供的时间已经匹配表达式时，增加1秒以匹配下一个时间
 		if(match(calendar, true)){
 			final Calendar newCalendar = Calendar.getInstance(calendar.getTimeZone());
@@ -164,17 +171,22 @@ public class CronPattern {
 	 *
 	 * @param calendar 时间
 	 * @return 匹配到的下一个时间
+	 * @throws CronException 表达式永远不会匹配
 	 * @since 5.8.30
 	 */
-	public Calendar nextMatch(final Calendar calendar) {
-		Calendar next = nextMatchAfter(PatternUtil.getFields(calendar, true), calendar.getTimeZone());
-		if (match(next, true)) {
-			return next;
-		}
+	public Calendar nextMatch(final Calendar calendar) throws CronException {
+		Calendar next = calendar;
+		// 日期部分不匹配时（如周不匹配）从下一天开始重新查找，使用循环代替递归，避免栈溢出
+		for (int i = 0; i < MAX_NEXT_MATCH_DAYS; i++) {
+			next = nextMatchAfter(PatternUtil.getFields(next, true), next.getTimeZone());
+			if (match(next, true)) {
+				return next;
+			}
 
-		next.set(Calendar.DAY_OF_MONTH, next.get(Calendar.DAY_OF_MONTH) + 1);
-		next = CalendarUtil.beginOfDay(next);
-		return nextMatch(next);
+			next.set(Calendar.DAY_OF_MONTH, next.get(Calendar.DAY_OF_MONTH) + 1);
+			next = CalendarUtil.beginOfDay(next);
+		}
+		throw new CronException("Pattern [{}] never matches after {}", this.pattern, calendar.getTime());
 	}
 
 	@Override
@@ -0,0 +1,107 @@
+package cn.hutool.cron;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class FireTimeIndexTest {
+
+	@Test
+	public void pollDueTest() {
+		final TimeZone timeZone = TimeZone.getDefault();
+		final long start = DateUtil.parse("2022-04-12 00:00:00").getTime();
+		final FireTimeIndex index = new FireTimeIndex(timeZone, true);
+		index.add("every10", new CronPattern("*/10 * * * * *"), () -> {}, start);
+		index.add("every30", new CronPattern("*/30 * * * * *"), () -> {}, start);
+
+		// 未到期
+		assertTrue(index.pollDue(start + 5_000).isEmpty());
+
+		List<CronTask> due = index.pollDue(start + 10_000);
+		assertEquals(1, due.size());
+		assertEquals("every10", due.get(0).getId());
+
+		due = index.pollDue(start + 30_000);
+		assertEquals(2, due.size());
+
+		// 重新计算后的下次执行时间
+		due = index.pollDue(start + 40_000);
+		assertEquals(1, due.size());
+		assertEquals("every10", due.get(0).getId());
+	}
+
+	@Test
+	public void removeAndReplaceTest() {
+		final long start = DateUtil.parse("2022-04-12 00:00:00").getTime();
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), true);
+		index.add("a", new CronPattern("*/10 * * * * *"), () -> {}, start);
+		index.add("b", new CronPattern("*/10 * * * * *"), () -> {}, start);
+		index.remove("a");
+		// 替换表达式
+		index.add("b", new CronPattern("*/20 * * * * *"), () -> {}, start);
+
+		assertTrue(index.pollDue(start + 10_000).isEmpty());
+		final List<CronTask> due = index.pollDue(start + 20_000);
+		assertEquals(1, due.size());
+		assertEquals("b", due.get(0).getId());
+	}
+
+	@Test
+	public void neverMatchTest() {
+		final long start = DateUtil.parse("2022-04-12 00:00:00").getTime();
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), true);
+		// 2月30日永远不会匹配，退回逐个匹配模式，不影响其它任务
+		index.add("never", new CronPattern("0 0 0 30 2 ?"), () -> {}, start);
+		index.add("every10", new CronPattern("*/10 * * * * *"), () -> {}, start);
+
+		final List<CronTask> due = index.pollDue(start + 10_000);
+		assertEquals(1, due.size());
+		assertEquals("every10", due.get(0).getId());
+	}
+
+	@Test
+	public void notMatchSecondTest() {
+		final TimeZone timeZone = TimeZone.getDefault();
+		final long start = DateUtil.parse("2022-04-12 00:00:00").getTime();
+		final CronPattern[] patterns = {
+				new CronPattern("30 * * * * *"),
+				new CronPattern("15,45 */2 * * * *"),
+				new CronPattern("0 */3 * * *"),
+				new CronPattern("59 59 0 * * *")
+		};
+		final FireTimeIndex index = new FireTimeIndex(timeZone, false);
+		for (int i = 0; i < patterns.length; i++) {
+			index.add(String.valueOf(i), patterns[i], () -> {}, start - 60_000);
+		}
+
+		// 不匹配秒时，每分钟检查一次，与逐个匹配的结果一致，不会因秒部分延迟到下一分钟
+		long millis;
+		List<CronTask> due;
+		for (int minute = 0; minute < 180; minute++) {
+			millis = start + minute * 60_000L;
+			due = index.pollDue(millis);
+			for (int i = 0; i < patterns.length; i++) {
+				final String id = String.valueOf(i);
+				assertEquals(patterns[i].match(timeZone, millis, false),
+						due.stream().anyMatch(task -> id.equals(task.getId())), "minute " + minute + ", pattern " + patterns[i]);
+			}
+		}
+	}
+
+	@Test
+	public void isExpiredTest() {
+		final long start = DateUtil.parse("2022-04-12 00:00:00").getTime();
+		final FireTimeIndex index = new FireTimeIndex(TimeZone.getDefault(), true);
+		index.pollDue(start);
+		assertFalse(index.isExpired(start - 1_000, 2_000));
+		assertTrue(index.isExpired(start - 60_000, 2_000));
+	}
+}
@@ -0,0 +1,135 @@
+package cn.hutool.cron;
+
+import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TaskExecutorManagerTest {
+
+	private Scheduler scheduler;
+	private TaskExecutorManager manager;
+
+	@BeforeEach
+	public void init() {
+		scheduler = new Scheduler();
+		scheduler.threadExecutor = Executors.newCachedThreadPool();
+		manager = new TaskExecutorManager(scheduler);
+		scheduler.taskExecutorManager = manager;
+	}
+
+	@AfterEach
+	public void destroy() {
+		scheduler.threadExecutor.shutdownNow();
+	}
+
+	@Test
+	public void skipIfRunningTest() throws InterruptedException {
+		scheduler.config.setExecutionPolicy(ExecutionPolicy.SKIP_IF_RUNNING);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger count = new AtomicInteger();
+		final CronTask task = newTask(count, release);
+
+		assertNotNull(manager.spawnExecutor(task));
+		assertNull(manager.spawnExecutor(task));
+		assertNull(manager.spawnExecutor(task));
+		assertEquals(1, manager.getRunningCount("test"));
+
+		release.countDown();
+		waitIdle();
+		assertEquals(1, count.get());
+		assertEquals(0, manager.getRunningCount("test"));
+	}
+
+	@Test
+	public void queueOneTest() throws InterruptedException {
+		scheduler.config.setExecutionPolicy(ExecutionPolicy.QUEUE_ONE);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger count = new AtomicInteger();
+		final CronTask task = newTask(count, release);
+
+		assertNotNull(manager.spawnExecutor(task));
+		// 多次到达执行时间，只补执行一次
+		assertNull(manager.spawnExecutor(task));
+		assertNull(manager.spawnExecutor(task));
+
+		release.countDown();
+		waitIdle();
+		assertEquals(2, count.get());
+		assertEquals(0, manager.getRunningCount("test"));
+	}
+
+	@Test
+	public void queueOneAfterShutdownTest() throws InterruptedException {
+		final AtomicReference<Throwable> uncaught = new AtomicReference<>();
+		scheduler.threadExecutor = Executors.newCachedThreadPool(runnable -> {
+			final Thread thread = new Thread(runnable);
+			thread.setUncaughtExceptionHandler((t, e) -> uncaught.set(e));
+			return thread;
+		});
+		scheduler.config.setExecutionPolicy(ExecutionPolicy.QUEUE_ONE);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger count = new AtomicInteger();
+		final CronTask task = newTask(count, release);
+
+		assertNotNull(manager.spawnExecutor(task));
+		assertNull(manager.spawnExecutor(task));
+
+		// 调度器停止后，等待中的执行被放弃，拒绝异常不抛给工作线程
+		scheduler.threadExecutor.shutdown();
+		release.countDown();
+		waitIdle();
+		assertTrue(scheduler.threadExecutor.awaitTermination(10, TimeUnit.SECONDS));
+		assertEquals(1, count.get());
+		assertEquals(0, manager.getRunningCount("test"));
+		assertNull(uncaught.get());
+	}
+
+	@Test
+	public void maxConcurrentTest() throws InterruptedException {
+		scheduler.config.setMaxConcurrentPerTask(2);
+		final CountDownLatch release = new CountDownLatch(1);
+		final AtomicInteger count = new AtomicInteger();
+		final CronTask task = newTask(count, release);
+
+		assertNotNull(manager.spawnExecutor(task));
+		assertNotNull(manager.spawnExecutor(task));
+		assertNull(manager.spawnExecutor(task));
+		assertEquals(2, manager.getExecutors().size());
+
+		release.countDown();
+		waitIdle();
+		assertEquals(2, count.get());
+	}
+
+	private static CronTask newTask(AtomicInteger count, CountDownLatch release) {
+		return new CronTask("test", new CronPattern("* * * * *"), () -> {
+			try {
+				assertTrue(release.await(10, TimeUnit.SECONDS));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			count.incrementAndGet();
+		});
+	}
+
+	private void waitIdle() throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + 10_000;
+		while (false == manager.getExecutors().isEmpty() && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertTrue(manager.getExecutors().isEmpty());
+	}
+}
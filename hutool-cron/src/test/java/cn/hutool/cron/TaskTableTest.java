@@ -1,11 +1,20 @@
 package cn.hutool.cron;
 
+import cn.hutool.core.date.DateUtil;
 import cn.hutool.core.lang.Console;
 import cn.hutool.core.util.IdUtil;
 import cn.hutool.cron.pattern.CronPattern;
+import cn.hutool.cron.task.CronTask;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 public class TaskTableTest {
 
 	@Test
@@ -18,4 +27,71 @@ public class TaskTableTest {
 
 		Console.log(taskTable);
 	}
+
+	@Test
+	public void fireTimeIndexTest() {
+		final long start = DateUtil.parse("2022-04-12 00:00:00").getTime();
+		final List<String> indexFired = runSchedule(true, start);
+		final List<String> matchFired = runSchedule(false, start);
+
+		// 两种模式在任务增删改前后执行的任务完全一致
+		assertEquals(matchFired, indexFired);
+
+		// 每个匹配的秒只执行一次
+		assertEquals(new HashSet<>(indexFired).size(), indexFired.size());
+
+		assertTrue(indexFired.contains("a@0"));
+		assertTrue(indexFired.contains("a@20"));
+		// a在第30秒被移除
+		assertFalse(indexFired.contains("a@30"));
+		assertFalse(indexFired.contains("a@40"));
+		// c在第20秒加入，加入当秒起生效
+		assertFalse(indexFired.contains("c@15"));
+		assertTrue(indexFired.contains("c@25"));
+		assertTrue(indexFired.contains("c@55"));
+		// b在第30秒由每15秒改为每20秒
+		assertTrue(indexFired.contains("b@15"));
+		assertFalse(indexFired.contains("b@45"));
+		assertTrue(indexFired.contains("b@40"));
+		assertEquals(8, indexFired.stream().filter(s -> s.startsWith("c@")).count());
+	}
+
+	/**
+	 * 模拟启动器每秒检查一次任务表，检查时间带有少量延迟，检查过程中增删改任务
+	 *
+	 * @param useFireTimeIndex 是否使用下次执行时间索引
+	 * @param start            开始时间
+	 * @return 执行的任务，格式为：ID@秒
+	 */
+	private static List<String> runSchedule(boolean useFireTimeIndex, long start) {
+		final List<String> fired = new ArrayList<>();
+		final Scheduler scheduler = new Scheduler();
+		scheduler.setMatchSecond(true);
+		scheduler.setUseFireTimeIndex(useFireTimeIndex);
+		final long[] current = new long[1];
+		scheduler.taskExecutorManager = new TaskExecutorManager(scheduler) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public TaskExecutor spawnExecutor(CronTask task) {
+				fired.add(task.getId() + "@" + (current[0] - start) / 1000);
+				return null;
+			}
+		};
+
+		final TaskTable taskTable = new TaskTable();
+		taskTable.add("a", new CronPattern("*/10 * * * * *"), () -> {});
+		taskTable.add("b", new CronPattern("*/15 * * * * *"), () -> {});
+		for (int second = 0; second < 60; second++) {
+			if (20 == second) {
+				taskTable.add("c", new CronPattern("*/5 * * * * *"), () -> {});
+			} else if (30 == second) {
+				assertTrue(taskTable.remove("a"));
+				assertTrue(taskTable.updatePattern("b", new CronPattern("*/20 * * * * *")));
+			}
+			current[0] = start + second * 1000L + (second % 3) * 7;
+			taskTable.executeTaskIfMatch(scheduler, current[0]);
+		}
+		return fired;
+	}
 }
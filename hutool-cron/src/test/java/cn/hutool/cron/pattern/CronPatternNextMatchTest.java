@@ -3,6 +3,7 @@ package cn.hutool.cron.pattern;
 import cn.hutool.core.date.DateField;
 import cn.hutool.core.date.DateTime;
 import cn.hutool.core.date.DateUtil;
+import cn.hutool.cron.CronException;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
@@ -228,4 +229,12 @@ public class CronPatternNextMatchTest {
 			}
 		}
 	}
+
+	@Test
+	public void nextMatchNeverMatchTest() {
+		// 2月30日永远不会匹配，抛出异常而非栈溢出
+		final CronPattern pattern = new CronPattern("0 0 0 30 2 ?");
+		final DateTime date = DateUtil.parse("2022-04-08 07:44:16");
+		assertThrows(CronException.class, () -> pattern.nextMatchAfter(date.toCalendar()));
+	}
 }
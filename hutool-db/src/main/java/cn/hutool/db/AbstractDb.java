@@ -2,12 +2,15 @@ package cn.hutool.db;
 
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.lang.func.Func1;
+import cn.hutool.core.lang.func.VoidFunc1;
 import cn.hutool.db.dialect.Dialect;
 import cn.hutool.db.handler.*;
+import cn.hutool.db.sql.BatchWriter;
 import cn.hutool.db.sql.Condition;
 import cn.hutool.db.sql.Condition.LikeType;
 import cn.hutool.db.sql.LogicalOperator;
 import cn.hutool.db.sql.Query;
+import cn.hutool.db.sql.ResultSetIter;
 import cn.hutool.db.sql.SqlBuilder;
 import cn.hutool.db.sql.SqlExecutor;
 import cn.hutool.db.sql.SqlUtil;
@@ -17,10 +20,16 @@ import javax.sql.DataSource;
 import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 抽象数据库操作类<br>
@@ -32,6 +41,11 @@ import java.util.Map;
 public abstract class AbstractDb implements Serializable {
 	private static final long serialVersionUID = 3858951941916349062L;
 
+	/**
+	 * 流式查询默认每次读取的行数
+	 */
+	public static final int DEFAULT_STREAM_FETCH_SIZE = 1000;
+
 	protected final DataSource ds;
 	/**
 	 * 是否支持事务
@@ -222,6 +236,90 @@ public abstract class AbstractDb implements Serializable {
 		}
 	}
 
+	/**
+	 * 流式查询，结果按照游标逐行读取为{@link Entity}，内存占用与结果行数无关，适用于大量数据的导出等场景<br>
+	 * 返回的流持有数据库连接，使用完毕后须关闭（建议使用try-with-resources），读取完毕时也会自动释放资源
+	 *
+	 * <pre>
+	 * try (Stream&lt;Entity&gt; stream = db.queryStream("select * from user where age &gt; ?", 18)) {
+	 *     stream.forEach(entity -&gt; ...);
+	 * }
+	 * </pre>
+	 *
+	 * @param sql    查询语句
+	 * @param params 参数
+	 * @return 结果流
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.35
+	 */
+	public Stream<Entity> queryStream(String sql, Object... params) throws SQLException {
+		return queryStream(DEFAULT_STREAM_FETCH_SIZE, Entity.class, sql, params);
+	}
+
+	/**
+	 * 流式查询，结果按照游标逐行读取并转换为Bean，内存占用与结果行数无关，适用于大量数据的导出等场景<br>
+	 * 返回的流持有数据库连接，使用完毕后须关闭（建议使用try-with-resources），读取完毕时也会自动释放资源
+	 *
+	 * @param <T>       Bean类型
+	 * @param sql       查询语句
+	 * @param beanClass 元素Bean类型
+	 * @param params    参数
+	 * @return 结果流
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.35
+	 */
+	public <T> Stream<T> queryStream(String sql, Class<T> beanClass, Object... params) throws SQLException {
+		return queryStream(DEFAULT_STREAM_FETCH_SIZE, beanClass, sql, params);
+	}
+
+	/**
+	 * 流式查询，结果按照游标逐行读取并转换为Bean，内存占用与结果行数无关，适用于大量数据的导出等场景<br>
+	 * fetchSize的设置由方言决定，见{@link Dialect#setStreamFetchSize(Connection, java.sql.Statement, int)}。
+	 * 返回的流持有数据库连接，使用完毕后须关闭（建议使用try-with-resources），读取完毕时也会自动释放资源
+	 *
+	 * @param <T>       Bean类型，{@link Entity}表示按照Entity读取
+	 * @param fetchSize 每次从数据库读取的行数
+	 * @param beanClass 元素Bean类型
+	 * @param sql       查询语句
+	 * @param params    参数
+	 * @return 结果流
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.35
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> Stream<T> queryStream(int fetchSize, Class<T> beanClass, String sql, Object... params) throws SQLException {
+		final Connection conn = this.getStreamConnection();
+		final boolean autoCommit;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+		try {
+			autoCommit = conn.getAutoCommit();
+		} catch (SQLException e) {
+			this.closeStreamConnection(conn);
+			throw e;
+		}
+		try {
+			ps = StatementUtil.prepareStatement(conn, sql, params);
+			runner.getDialect().setStreamFetchSize(conn, ps, fetchSize);
+			rs = ps.executeQuery();
+
+			final ResultSetMetaData meta = rs.getMetaData();
+			final int columnCount = meta.getColumnCount();
+			final boolean caseInsensitive = this.caseInsensitive;
+			final Func1<ResultSet, T> rowHandler = Entity.class == beanClass
+					? (row) -> (T) HandleHelper.handleRow(columnCount, meta, row, caseInsensitive)
+					: BeanRowMapper.of(beanClass, meta)::map;
+
+			final ResultSetIter<T> iter = new ResultSetIter<>(ps, rs, rowHandler, () -> releaseStreamConnection(conn, autoCommit));
+			return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iter, Spliterator.ORDERED | Spliterator.NONNULL), false)
+					.onClose(iter::close);
+		} catch (SQLException | RuntimeException e) {
+			DbUtil.close(rs, ps);
+			releaseStreamConnection(conn, autoCommit);
+			throw e;
+		}
+	}
+
 	/**
 	 * 执行非查询语句<br>
 	 * 语句包括 插入、更新、删除
@@ -335,6 +433,60 @@ public abstract class AbstractDb implements Serializable {
 		}
 	}
 
+	/**
+	 * 分批次流式执行非查询语句，每batchSize行执行一次批量操作，避免所有参数堆积在一个批次中<br>
+	 * 方言支持时（MySQL、PostgreSQL），INSERT语句会被改写为多行VALUES形式执行
+	 *
+	 * @param sql         SQL
+	 * @param paramsBatch 批量的参数，可以为逐行读取的数据源
+	 * @param batchSize   每批次的行数
+	 * @return 执行的行数
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.35
+	 */
+	public long executeBatch(String sql, Iterable<Object[]> paramsBatch, int batchSize) throws SQLException {
+		return batchWrite(sql, writer -> writer.setBatchSize(batchSize).addAll(paramsBatch)).getCount();
+	}
+
+	/**
+	 * 使用{@link BatchWriter}分批次流式写入，写入函数执行成功后执行剩余批次并关闭写入器，写入函数抛出异常时丢弃未执行的行<br>
+	 * 方言支持时（MySQL、PostgreSQL），默认开启多行VALUES改写，可在写入函数中通过{@link BatchWriter}的setter修改批次大小、提交方式等
+	 *
+	 * <pre>
+	 * BatchWriter writer = db.batchWrite("INSERT INTO user(name, age) VALUES (?, ?)", w -&gt; {
+	 *     w.setBatchSize(500).setCommitPerBatch(true);
+	 *     for (User user : users) {
+	 *         w.add(user.getName(), user.getAge());
+	 *     }
+	 * });
+	 * Console.log("{} rows, {} rows/s", writer.getCount(), writer.getRowsPerSecond());
+	 * </pre>
+	 *
+	 * @param sql  SQL，使用"?"做为占位符
+	 * @param func 写入函数
+	 * @return 已关闭的写入器，可用于获取写入行数、耗时等统计
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.35
+	 */
+	public BatchWriter batchWrite(String sql, VoidFunc1<BatchWriter> func) throws SQLException {
+		Connection conn = null;
+		try {
+			conn = this.getConnection();
+			try (final BatchWriter writer = new BatchWriter(conn, sql)
+					.setMultiRowValues(runner.getDialect().isSupportMultiRowValues())) {
+				func.call(writer);
+				writer.flush();
+				return writer;
+			}
+		} catch (SQLException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new SQLException(e);
+		} finally {
+			this.closeConnection(conn);
+		}
+	}
+
 	// ---------------------------------------------------------------------------- CRUD start
 
 	/**
@@ -1092,5 +1244,44 @@ public abstract class AbstractDb implements Serializable {
 			throw new DbRuntimeException("Transaction not supported for current database!");
 		}
 	}
+	/**
+	 * 获取流式查询使用的连接，流关闭时通过{@link #closeStreamConnection(Connection)}关闭<br>
+	 * 流在关闭前一直占用连接，且可能在其它线程中读取和关闭，因此默认从数据源获取独立的连接，不使用线程绑定的连接
+	 *
+	 * @return 连接
+	 * @throws SQLException 连接获取异常
+	 * @since 5.8.35
+	 */
+	protected Connection getStreamConnection() throws SQLException {
+		return this.ds.getConnection();
+	}
+
+	/**
+	 * 关闭流式查询使用的连接
+	 *
+	 * @param conn 连接
+	 * @since 5.8.35
+	 */
+	protected void closeStreamConnection(Connection conn) {
+		DbUtil.close(conn);
+	}
+
+	/**
+	 * 恢复流式查询连接的自动提交状态（方言可能为了使用游标关闭自动提交），并关闭连接
+	 *
+	 * @param conn       连接
+	 * @param autoCommit 查询前的自动提交状态
+	 */
+	private void releaseStreamConnection(Connection conn, boolean autoCommit) {
+		try {
+			if (autoCommit && false == conn.getAutoCommit()) {
+				conn.setAutoCommit(true);
+			}
+		} catch (SQLException e) {
+			// ignore
+		} finally {
+			this.closeStreamConnection(conn);
+		}
+	}
 	// ---------------------------------------------------------------------------- protected method end
 }
@@ -300,6 +300,23 @@ public class Session extends AbstractDb implements Closeable {
 		ThreadLocalConnection.INSTANCE.close(this.ds);
 	}
 
+	/**
+	 * Session的流式查询使用线程绑定的连接，事务中可读取未提交的数据，流应在当前线程中读取和关闭
+	 *
+	 * @return 连接
+	 * @throws SQLException 连接获取异常
+	 * @since 5.8.35
+	 */
+	@Override
+	protected Connection getStreamConnection() throws SQLException {
+		return getConnection();
+	}
+
+	@Override
+	protected void closeStreamConnection(Connection conn) {
+		closeConnection(conn);
+	}
+
 	@Override
 	public void close() {
 		closeConnection(null);
@@ -11,6 +11,7 @@ import java.io.Serializable;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * SQL方言，不同的数据库由于在某些SQL上有所区别，故为每种数据库配置不同的方言。<br>
@@ -172,6 +173,31 @@ public interface Dialect extends Serializable {
 		throw new SQLException("Unsupported upsert operation of " + dialectName());
 	}
 
+	/**
+	 * 是否支持多行VALUES的INSERT语句，即{@code INSERT INTO t(a, b) VALUES (?, ?), (?, ?)}<br>
+	 * 支持时批量插入可将多行合并为一条语句执行，见{@link cn.hutool.db.sql.BatchWriter}
+	 *
+	 * @return 是否支持多行VALUES
+	 * @since 5.8.35
+	 */
+	default boolean isSupportMultiRowValues() {
+		return false;
+	}
+
+	/**
+	 * 设置流式查询语句的fetchSize，使驱动按批次（或逐行）从数据库读取结果，而非一次读取全部结果到内存<br>
+	 * 部分数据库需要特殊设置，如MySQL使用{@link Integer#MIN_VALUE}开启逐行读取，PostgreSQL须在事务中（非自动提交）才使用游标
+	 *
+	 * @param conn      数据库连接
+	 * @param statement 执行查询前的语句
+	 * @param fetchSize 每次读取的行数
+	 * @throws SQLException SQL执行异常
+	 * @since 5.8.35
+	 */
+	default void setStreamFetchSize(Connection conn, Statement statement, int fetchSize) throws SQLException {
+		statement.setFetchSize(fetchSize);
+	}
+
 
 	/**
 	 * 方言名
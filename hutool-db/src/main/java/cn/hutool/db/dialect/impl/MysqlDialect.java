@@ -11,6 +11,7 @@ import cn.hutool.db.sql.Wrapper;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 /**
  * MySQL方言
@@ -89,4 +90,22 @@ public class MysqlDialect extends AnsiSqlDialect{
 
 		return StatementUtil.prepareStatement(conn, builder);
 	}
+
+	@Override
+	public boolean isSupportMultiRowValues() {
+		return true;
+	}
+
+	/**
+	 * MySQL驱动默认一次读取全部结果，fetchSize为{@link Integer#MIN_VALUE}时开启逐行读取（流式结果集），此时忽略给定的fetchSize
+	 *
+	 * @param conn      数据库连接
+	 * @param statement 执行查询前的语句
+	 * @param fetchSize 每次读取的行数，此参数无效
+	 * @throws SQLException SQL执行异常
+	 */
+	@Override
+	public void setStreamFetchSize(Connection conn, Statement statement, int fetchSize) throws SQLException {
+		statement.setFetchSize(Integer.MIN_VALUE);
+	}
 }
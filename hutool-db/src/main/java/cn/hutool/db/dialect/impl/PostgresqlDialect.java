@@ -12,6 +12,7 @@ import cn.hutool.db.sql.Wrapper;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 
 
 /**
@@ -79,4 +80,25 @@ public class PostgresqlDialect extends AnsiSqlDialect{
 
 		return StatementUtil.prepareStatement(conn, builder);
 	}
+
+	@Override
+	public boolean isSupportMultiRowValues() {
+		return true;
+	}
+
+	/**
+	 * PostgreSQL只在非自动提交模式下使用游标按fetchSize读取，否则一次读取全部结果，因此连接为自动提交时关闭自动提交
+	 *
+	 * @param conn      数据库连接
+	 * @param statement 执行查询前的语句
+	 * @param fetchSize 每次读取的行数
+	 * @throws SQLException SQL执行异常
+	 */
+	@Override
+	public void setStreamFetchSize(Connection conn, Statement statement, int fetchSize) throws SQLException {
+		if (conn.getAutoCommit()) {
+			conn.setAutoCommit(false);
+		}
+		statement.setFetchSize(fetchSize);
+	}
 }
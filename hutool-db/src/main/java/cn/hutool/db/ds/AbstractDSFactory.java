@@ -119,7 +119,12 @@ public abstract class AbstractDSFactory extends DSFactory {
 		final String user = config.getAndRemoveStr(KEY_ALIAS_USER);
 		final String pass = config.getAndRemoveStr(KEY_ALIAS_PASSWORD);
 
-		return DataSourceWrapper.wrap(createDataSource(url, driver, user, pass, config), driver);
+		// 语句缓存由Hutool实现，不传递给连接池，since 5.8.35
+		final int statementCacheSize = config.getInt(KEY_STATEMENT_CACHE_SIZE, 0);
+		config.remove(KEY_STATEMENT_CACHE_SIZE);
+
+		return DataSourceWrapper.wrap(createDataSource(url, driver, user, pass, config), driver)
+				.setStatementCacheSize(statementCacheSize);
 	}
 
 	/**
@@ -40,6 +40,8 @@ public abstract class DSFactory implements Closeable, Serializable{
 	public static final String[] KEY_ALIAS_USER = { "user", "username" };
 	/** 别名字段名：密码 */
 	public static final String[] KEY_ALIAS_PASSWORD = { "pass", "password" };
+	/** 每个连接缓存的PreparedStatement数，由Hutool处理，不传递给连接池 */
+	public static final String KEY_STATEMENT_CACHE_SIZE = "statementCacheSize";
 
 	/** 数据源名 */
 	protected final String dataSourceName;
@@ -2,6 +2,7 @@ package cn.hutool.db.ds;
 
 import cn.hutool.core.clone.CloneRuntimeException;
 import cn.hutool.core.io.IoUtil;
+import cn.hutool.db.ds.pooled.PooledDataSource;
 
 import javax.sql.DataSource;
 import java.io.Closeable;
@@ -9,6 +10,7 @@ import java.io.PrintWriter;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.logging.Logger;
 
 /**
@@ -16,6 +18,7 @@ import java.util.logging.Logger;
  *
  * <pre>
  * 1. 提供驱动名的持有，用于确定数据库方言
+ * 2. 提供PreparedStatement缓存
  * </pre>
  *
  * @author looly
@@ -25,6 +28,9 @@ public class DataSourceWrapper implements DataSource, Closeable, Cloneable {
 
 	private final DataSource ds;
 	private final String driver;
+	private int statementCacheSize;
+	private final LongAdder statementHitCount = new LongAdder();
+	private final LongAdder statementMissCount = new LongAdder();
 
 	/**
 	 * 包装指定的DataSource
@@ -57,6 +63,51 @@ public class DataSourceWrapper implements DataSource, Closeable, Cloneable {
 		return this.driver;
 	}
 
+	/**
+	 * 设置每个连接缓存的PreparedStatement数，0表示不缓存<br>
+	 * 内置连接池{@link PooledDataSource}的缓存随连接保留在池中；第三方连接池的缓存只在一次借出期间有效，
+	 * 跨借出的缓存请使用连接池或驱动自身的语句缓存。
+	 *
+	 * @param statementCacheSize 缓存的语句数
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public DataSourceWrapper setStatementCacheSize(int statementCacheSize) {
+		if (this.ds instanceof PooledDataSource) {
+			// 内置连接池的连接在首次预编译时创建缓存
+			((PooledDataSource) this.ds).getConfig().setStatementCacheSize(statementCacheSize);
+		} else {
+			this.statementCacheSize = statementCacheSize;
+		}
+		return this;
+	}
+
+	/**
+	 * 获取PreparedStatement缓存命中次数
+	 *
+	 * @return 命中次数
+	 * @since 5.8.35
+	 */
+	public long getStatementCacheHitCount() {
+		if (this.ds instanceof PooledDataSource) {
+			return ((PooledDataSource) this.ds).getStatementCacheHitCount();
+		}
+		return statementHitCount.sum();
+	}
+
+	/**
+	 * 获取PreparedStatement缓存未命中（新预编译）次数
+	 *
+	 * @return 未命中次数
+	 * @since 5.8.35
+	 */
+	public long getStatementCacheMissCount() {
+		if (this.ds instanceof PooledDataSource) {
+			return ((PooledDataSource) this.ds).getStatementCacheMissCount();
+		}
+		return statementMissCount.sum();
+	}
+
 	/**
 	 * 获取原始的数据源
 	 *
@@ -103,12 +154,12 @@ public class DataSourceWrapper implements DataSource, Closeable, Cloneable {
 
 	@Override
 	public Connection getConnection() throws SQLException {
-		return ds.getConnection();
+		return wrapConnection(ds.getConnection());
 	}
 
 	@Override
 	public Connection getConnection(String username, String password) throws SQLException {
-		return ds.getConnection(username, password);
+		return wrapConnection(ds.getConnection(username, password));
 	}
 
 	@Override
@@ -118,6 +169,19 @@ public class DataSourceWrapper implements DataSource, Closeable, Cloneable {
 		}
 	}
 
+	/**
+	 * 配置了语句缓存时，包装连接以缓存PreparedStatement
+	 *
+	 * @param conn 连接
+	 * @return 连接
+	 */
+	private Connection wrapConnection(Connection conn) {
+		if (this.statementCacheSize > 0) {
+			return new StatementCachedConnection(conn, this.statementCacheSize, statementHitCount, statementMissCount);
+		}
+		return conn;
+	}
+
 	@Override
 	public DataSourceWrapper clone() {
 		try {
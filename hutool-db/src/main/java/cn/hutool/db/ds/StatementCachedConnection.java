@@ -0,0 +1,59 @@
+package cn.hutool.db.ds;
+
+import cn.hutool.db.ds.pooled.ConnectionWraper;
+import cn.hutool.db.ds.pooled.StatementCache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 带{@link PreparedStatement}缓存的连接包装，用于第三方连接池<br>
+ * 第三方连接池在连接归还时会关闭其上的语句，因此缓存只在一次借出期间有效（如事务或批量操作中重复执行的SQL），连接关闭时关闭缓存的语句。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class StatementCachedConnection extends ConnectionWraper {
+
+	private final StatementCache statementCache;
+
+	/**
+	 * 构造
+	 *
+	 * @param conn      连接池中的连接
+	 * @param capacity  最多缓存的语句数
+	 * @param hitCount  命中计数
+	 * @param missCount 未命中计数
+	 */
+	public StatementCachedConnection(Connection conn, int capacity, LongAdder hitCount, LongAdder missCount) {
+		this.raw = conn;
+		this.statementCache = new StatementCache(conn, capacity, hitCount, missCount);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		return statementCache.prepareStatement(sql, Statement.NO_GENERATED_KEYS);
+	}
+
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		return statementCache.prepareStatement(sql, autoGeneratedKeys);
+	}
+
+	/**
+	 * 关闭缓存的语句后关闭（归还）连接
+	 */
+	@Override
+	public void close() throws SQLException {
+		statementCache.close();
+		raw.close();
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return raw.isClosed();
+	}
+}
@@ -22,6 +22,11 @@ public class DbConfig {
 	private int minIdle;            //最小闲置连接数
 	private int maxActive;        //最大活跃连接数
 	private long maxWait;        //获取连接的超时等待
+	private boolean testOnBorrow;        //获取连接时是否检查连接有效性
+	private long validationTimeout = 3000;        //检查连接有效性的超时毫秒数
+	private long maxIdleTime;        //连接最大闲置毫秒数，超过后被回收，0表示不回收
+	private long evictionInterval = 30000;        //回收闲置连接和补充最小闲置连接的间隔毫秒数
+	private int statementCacheSize;        //每个连接缓存的PreparedStatement数，0表示不缓存
 
 	// 连接配置
 	private Properties connProps;
@@ -127,6 +132,107 @@ public class DbConfig {
 		this.maxWait = maxWait;
 	}
 
+	/**
+	 * 获取连接时是否检查连接有效性（{@link java.sql.Connection#isValid(int)}）
+	 *
+	 * @return 是否检查连接有效性
+	 * @since 5.8.35
+	 */
+	public boolean isTestOnBorrow() {
+		return testOnBorrow;
+	}
+
+	/**
+	 * 设置获取连接时是否检查连接有效性（{@link java.sql.Connection#isValid(int)}）
+	 *
+	 * @param testOnBorrow 是否检查连接有效性
+	 * @since 5.8.35
+	 */
+	public void setTestOnBorrow(boolean testOnBorrow) {
+		this.testOnBorrow = testOnBorrow;
+	}
+
+	/**
+	 * 获取检查连接有效性的超时毫秒数
+	 *
+	 * @return 超时毫秒数
+	 * @since 5.8.35
+	 */
+	public long getValidationTimeout() {
+		return validationTimeout;
+	}
+
+	/**
+	 * 设置检查连接有效性的超时毫秒数，驱动只支持秒级超时，不足1秒按1秒计
+	 *
+	 * @param validationTimeout 超时毫秒数
+	 * @since 5.8.35
+	 */
+	public void setValidationTimeout(long validationTimeout) {
+		this.validationTimeout = validationTimeout;
+	}
+
+	/**
+	 * 获取连接最大闲置毫秒数，超过后被回收，0表示不回收
+	 *
+	 * @return 最大闲置毫秒数
+	 * @since 5.8.35
+	 */
+	public long getMaxIdleTime() {
+		return maxIdleTime;
+	}
+
+	/**
+	 * 设置连接最大闲置毫秒数，超过后被回收，0表示不回收，回收时保留{@link #getMinIdle()}个闲置连接
+	 *
+	 * @param maxIdleTime 最大闲置毫秒数
+	 * @since 5.8.35
+	 */
+	public void setMaxIdleTime(long maxIdleTime) {
+		this.maxIdleTime = maxIdleTime;
+	}
+
+	/**
+	 * 获取回收闲置连接和补充最小闲置连接的间隔毫秒数
+	 *
+	 * @return 间隔毫秒数
+	 * @since 5.8.35
+	 */
+	public long getEvictionInterval() {
+		return evictionInterval;
+	}
+
+	/**
+	 * 设置回收闲置连接和补充最小闲置连接的间隔毫秒数
+	 *
+	 * @param evictionInterval 间隔毫秒数
+	 * @since 5.8.35
+	 */
+	public void setEvictionInterval(long evictionInterval) {
+		this.evictionInterval = evictionInterval;
+	}
+
+	/**
+	 * 获取每个连接缓存的{@link java.sql.PreparedStatement}数，0表示不缓存
+	 *
+	 * @return 缓存的语句数
+	 * @since 5.8.35
+	 */
+	public int getStatementCacheSize() {
+		return statementCacheSize;
+	}
+
+	/**
+	 * 设置每个连接缓存的{@link java.sql.PreparedStatement}数，0表示不缓存<br>
+	 * 缓存按照SQL和是否返回自动生成的主键区分，随连接一同保留在池中，连接关闭时关闭缓存的语句
+	 *
+	 * @param statementCacheSize 缓存的语句数
+	 * @since 5.8.35
+	 */
+	public void setStatementCacheSize(int statementCacheSize) {
+		this.statementCacheSize = statementCacheSize;
+	}
+
 	public Properties getConnProps() {
 		return connProps;
 	}
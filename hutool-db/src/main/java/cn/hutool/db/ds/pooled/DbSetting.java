@@ -70,6 +70,11 @@ public class DbSetting {
 		dbConfig.setMinIdle(setting.getInt("minIdle", group, 0));
 		dbConfig.setMaxActive(setting.getInt("maxActive", group, 8));
 		dbConfig.setMaxWait(setting.getLong("maxWait", group, 6000L));
+		dbConfig.setTestOnBorrow(setting.getBool("testOnBorrow", group, false));
+		dbConfig.setValidationTimeout(setting.getLong("validationTimeout", group, 3000L));
+		dbConfig.setMaxIdleTime(setting.getLong("maxIdleTime", group, 0L));
+		dbConfig.setEvictionInterval(setting.getLong("evictionInterval", group, 30000L));
+		dbConfig.setStatementCacheSize(setting.getInt(DSFactory.KEY_STATEMENT_CACHE_SIZE, group, 0));
 
 		// remarks等特殊配置，since 5.3.8
 		String connValue;
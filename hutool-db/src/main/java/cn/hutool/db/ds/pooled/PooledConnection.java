@@ -8,7 +8,9 @@ import cn.hutool.setting.dialect.Props;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Properties;
 
 /**
@@ -19,7 +21,9 @@ import java.util.Properties;
 public class PooledConnection extends ConnectionWraper{
 
 	private final PooledDataSource ds;
-	private boolean isClosed;
+	private volatile boolean isClosed;
+	private volatile long lastFreeTime;
+	private StatementCache statementCache;
 
 	/**
 	 * 构造
@@ -66,12 +70,40 @@ public class PooledConnection extends ConnectionWraper{
 	}
 
 	/**
-	 * 重写关闭连接，实际操作是归还到连接池中
+	 * 重写关闭连接，实际操作是归还到连接池中，重复关闭时忽略
 	 */
 	@Override
 	public void close() {
-		this.ds.free(this);
+		if (this.isClosed) {
+			return;
+		}
+		// 先标记关闭再归还，避免归还后被其它线程获取时状态被覆盖
 		this.isClosed = true;
+		this.ds.free(this);
+	}
+
+	/**
+	 * 预编译语句，配置了语句缓存时从缓存中获取，语句关闭时归还到缓存
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql) throws SQLException {
+		final StatementCache statementCache = getStatementCache();
+		if (null != statementCache) {
+			return statementCache.prepareStatement(sql, Statement.NO_GENERATED_KEYS);
+		}
+		return raw.prepareStatement(sql);
+	}
+
+	/**
+	 * 预编译语句，配置了语句缓存时从缓存中获取，语句关闭时归还到缓存
+	 */
+	@Override
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		final StatementCache statementCache = getStatementCache();
+		if (null != statementCache) {
+			return statementCache.prepareStatement(sql, autoGeneratedKeys);
+		}
+		return raw.prepareStatement(sql, autoGeneratedKeys);
 	}
 
 	/**
@@ -93,11 +125,46 @@ public class PooledConnection extends ConnectionWraper{
 		return this;
 	}
 
+	/**
+	 * 获取上次归还到连接池的时间
+	 *
+	 * @return 上次归还的时间戳
+	 * @since 5.8.35
+	 */
+	protected long getLastFreeTime() {
+		return this.lastFreeTime;
+	}
+
+	/**
+	 * 设置上次归还到连接池的时间
+	 *
+	 * @param lastFreeTime 上次归还的时间戳
+	 * @since 5.8.35
+	 */
+	protected void setLastFreeTime(long lastFreeTime) {
+		this.lastFreeTime = lastFreeTime;
+	}
+
+	/**
+	 * 获取语句缓存，首次使用时创建，连接同一时间只被一个线程使用
+	 *
+	 * @return 语句缓存，未配置缓存时返回{@code null}
+	 */
+	private StatementCache getStatementCache() {
+		if (null == this.statementCache) {
+			this.statementCache = this.ds.createStatementCache(this.raw);
+		}
+		return this.statementCache;
+	}
+
 	/**
 	 * 释放连接
 	 * @return this
 	 */
 	protected PooledConnection release() {
+		if (null != this.statementCache) {
+			this.statementCache.close();
+		}
 		DbUtil.close(this.raw);
 		return this;
 	}
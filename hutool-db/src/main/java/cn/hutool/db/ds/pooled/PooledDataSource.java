@@ -1,6 +1,5 @@
 package cn.hutool.db.ds.pooled;
 
-import cn.hutool.core.collection.CollectionUtil;
 import cn.hutool.core.io.IoUtil;
 import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
@@ -9,19 +8,43 @@ import cn.hutool.db.ds.simple.AbstractDataSource;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * 池化数据源
+ * 池化数据源<br>
+ * 闲置连接存放于无锁的双端队列中，最近归还的连接优先被使用；活跃连接数由公平的{@link Semaphore}限制，
+ * 连接池耗尽时获取连接的线程按顺序等待，有连接归还时立即被唤醒，直到超过最大等待时间。<br>
+ * 配置了最小闲置连接数或最大闲置时间时，后台线程定时回收超时的闲置连接并补充最小闲置连接。
  *
  * @author Looly
  *
  */
 public class PooledDataSource extends AbstractDataSource {
 
-	private Queue<PooledConnection> freePool;
-	private int activeCount; // 活跃连接数
+	/**
+	 * 闲置连接，最近归还的连接在队首
+	 */
+	private final ConcurrentLinkedDeque<PooledConnection> freePool;
+	/**
+	 * 活跃连接许可，公平模式保证等待的线程按顺序获得连接
+	 */
+	private final Semaphore permits;
+	private final AtomicInteger activeCount = new AtomicInteger(); // 活跃连接数
+	private final AtomicInteger totalCount = new AtomicInteger(); // 物理连接总数
+	private final LongAdder borrowCount = new LongAdder();
+	private final LongAdder borrowNanos = new LongAdder();
+	private final AtomicLong maxBorrowNanos = new AtomicLong();
+	private final LongAdder statementHitCount = new LongAdder();
+	private final LongAdder statementMissCount = new LongAdder();
+	private volatile boolean closed;
+	private ScheduledThreadPoolExecutor evictor;
 
 	private final DbConfig config;
 
@@ -78,15 +101,22 @@ public class PooledDataSource extends AbstractDataSource {
 	 */
 	public PooledDataSource(DbConfig config) {
 		this.config = config;
-		freePool = new LinkedList<>();
-		int initialSize = config.getInitialSize();
+		this.freePool = new ConcurrentLinkedDeque<>();
+		this.permits = new Semaphore(Math.max(config.getMaxActive(), 0), true);
+		int initialSize = Math.max(config.getInitialSize(), config.getMinIdle());
 		try {
 			while (initialSize-- > 0) {
-				freePool.offer(newConnection());
+				freePool.offerLast(createConnection());
 			}
 		} catch (SQLException e) {
 			throw new DbRuntimeException(e);
 		}
+
+		if ((config.getMinIdle() > 0 || config.getMaxIdleTime() > 0) && config.getEvictionInterval() > 0) {
+			this.evictor = new ScheduledThreadPoolExecutor(1, ThreadUtil.newNamedThreadFactory("hutool-pool-evictor-", true));
+			this.evictor.scheduleWithFixedDelay(this::evict,
+					config.getEvictionInterval(), config.getEvictionInterval(), TimeUnit.MILLISECONDS);
+		}
 	}
 	// -------------------------------------------------------------------- Constructor start
 
@@ -94,7 +124,7 @@ public class PooledDataSource extends AbstractDataSource {
 	 * 从数据库连接池中获取数据库连接对象
 	 */
 	@Override
-	public synchronized Connection getConnection() throws SQLException {
+	public Connection getConnection() throws SQLException {
 		return getConnection(config.getMaxWait());
 	}
 
@@ -109,9 +139,34 @@ public class PooledDataSource extends AbstractDataSource {
 	 * @param conn 连接
 	 * @return 释放成功与否
 	 */
-	protected synchronized boolean free(PooledConnection conn) {
-		activeCount--;
-		return freePool.offer(conn);
+	protected boolean free(PooledConnection conn) {
+		activeCount.decrementAndGet();
+		try {
+			if (closed) {
+				// 连接池已关闭，归还的连接直接关闭
+				destroy(conn);
+				return false;
+			}
+			conn.setLastFreeTime(System.currentTimeMillis());
+			freePool.offerFirst(conn);
+			return true;
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * 为连接创建{@link java.sql.PreparedStatement}缓存，命中情况计入连接池
+	 *
+	 * @param raw 真正的连接
+	 * @return 语句缓存，未配置缓存时返回{@code null}
+	 */
+	StatementCache createStatementCache(Connection raw) {
+		final int statementCacheSize = config.getStatementCacheSize();
+		if (statementCacheSize <= 0) {
+			return null;
+		}
+		return new StatementCache(raw, statementCacheSize, statementHitCount, statementMissCount);
 	}
 
 	/**
@@ -129,28 +184,135 @@ public class PooledDataSource extends AbstractDataSource {
 	}
 
 	/**
-	 * 获取连接对象
+	 * 获取连接对象<br>
+	 * 池中无可用连接时，按顺序等待其它线程归还连接，有连接归还时立即返回
 	 *
 	 * @param wait 当池中无连接等待的毫秒数
 	 * @return 连接对象
 	 * @throws SQLException SQL异常
 	 */
 	public PooledConnection getConnection(long wait) throws SQLException {
+		final long start = System.nanoTime();
+		checkClosed();
 		try {
-			return getConnectionDirect();
-		} catch (Exception e) {
-			ThreadUtil.sleep(wait);
+			if (false == permits.tryAcquire(Math.max(wait, 0), TimeUnit.MILLISECONDS)) {
+				throw new SQLException(StrUtil.format(
+						"In used Connection is more than Max Active, wait timeout after {}ms, active: {}, idle: {}, waiting: {}",
+						wait, getActiveCount(), getIdleCount(), getWaitingCount()));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException("Interrupted while waiting for connection", e);
 		}
-		return getConnectionDirect();
+
+		final PooledConnection conn;
+		try {
+			checkClosed();
+			conn = getConnectionDirect();
+		} catch (SQLException | RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		activeCount.incrementAndGet();
+
+		final long borrowTime = System.nanoTime() - start;
+		borrowCount.increment();
+		borrowNanos.add(borrowTime);
+		maxBorrowNanos.accumulateAndGet(borrowTime, Math::max);
+		return conn.open();
+	}
+
+	/**
+	 * 获取活跃（已借出）的连接数
+	 *
+	 * @return 活跃连接数
+	 * @since 5.8.35
+	 */
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	/**
+	 * 获取池中闲置的连接数
+	 *
+	 * @return 闲置连接数
+	 * @since 5.8.35
+	 */
+	public int getIdleCount() {
+		return freePool.size();
+	}
+
+	/**
+	 * 获取正在等待连接的线程数（估计值）
+	 *
+	 * @return 等待线程数
+	 * @since 5.8.35
+	 */
+	public int getWaitingCount() {
+		return permits.getQueueLength();
+	}
+
+	/**
+	 * 获取已获取连接的总次数
+	 *
+	 * @return 获取连接的次数
+	 * @since 5.8.35
+	 */
+	public long getBorrowCount() {
+		return borrowCount.sum();
+	}
+
+	/**
+	 * 获取获取连接的平均耗时（毫秒），包括等待和创建、检查连接的时间
+	 *
+	 * @return 平均耗时毫秒数
+	 * @since 5.8.35
+	 */
+	public double getAvgBorrowMillis() {
+		final long count = borrowCount.sum();
+		return count == 0 ? 0 : borrowNanos.sum() / (count * 1_000_000D);
+	}
+
+	/**
+	 * 获取获取连接的最大耗时（毫秒），包括等待和创建、检查连接的时间
+	 *
+	 * @return 最大耗时毫秒数
+	 * @since 5.8.35
+	 */
+	public double getMaxBorrowMillis() {
+		return maxBorrowNanos.get() / 1_000_000D;
+	}
+
+	/**
+	 * 获取所有连接的{@link java.sql.PreparedStatement}缓存命中次数
+	 *
+	 * @return 命中次数
+	 * @since 5.8.35
+	 */
+	public long getStatementCacheHitCount() {
+		return statementHitCount.sum();
+	}
+
+	/**
+	 * 获取所有连接的{@link java.sql.PreparedStatement}缓存未命中（新预编译）次数
+	 *
+	 * @return 未命中次数
+	 * @since 5.8.35
+	 */
+	public long getStatementCacheMissCount() {
+		return statementMissCount.sum();
 	}
 
 	@Override
-	synchronized public void close() {
-		if (CollectionUtil.isNotEmpty(this.freePool)) {
-			this.freePool.forEach(PooledConnection::release);
-			this.freePool.clear();
-			this.freePool = null;
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (null != this.evictor) {
+			this.evictor.shutdownNow();
 		}
+		destroyIdle();
 	}
 
 	@Override
@@ -159,28 +321,119 @@ public class PooledDataSource extends AbstractDataSource {
 	}
 
 	/**
-	 * 直接从连接池中获取连接，如果池中无连接直接抛出异常
+	 * 直接从连接池中获取连接，无闲置连接或闲置连接均失效时创建新连接，调用前须已获得许可
 	 *
 	 * @return PooledConnection
 	 * @throws SQLException SQL异常
 	 */
 	private PooledConnection getConnectionDirect() throws SQLException {
-		if (null == freePool) {
-			throw new SQLException("PooledDataSource is closed!");
+		PooledConnection conn;
+		while (null != (conn = freePool.pollFirst())) {
+			if (isValid(conn)) {
+				return conn;
+			}
+			destroy(conn);
+		}
+		return createConnection();
+	}
+
+	/**
+	 * 检查闲置连接是否有效
+	 *
+	 * @param conn 连接
+	 * @return 是否有效
+	 */
+	private boolean isValid(PooledConnection conn) {
+		try {
+			final Connection raw = conn.getRaw();
+			if (raw.isClosed()) {
+				return false;
+			}
+			if (config.isTestOnBorrow()) {
+				// isValid超时单位为秒，0表示不超时
+				return raw.isValid((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(config.getValidationTimeout() + 999)));
+			}
+			return true;
+		} catch (SQLException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 创建新的物理连接并计数
+	 *
+	 * @return 新连接
+	 * @throws SQLException SQL异常
+	 */
+	private PooledConnection createConnection() throws SQLException {
+		final PooledConnection conn = newConnection();
+		totalCount.incrementAndGet();
+		return conn;
+	}
+
+	/**
+	 * 关闭物理连接
+	 *
+	 * @param conn 连接
+	 */
+	private void destroy(PooledConnection conn) {
+		totalCount.decrementAndGet();
+		conn.release();
+	}
+
+	/**
+	 * 回收超过最大闲置时间的连接，并补充连接到最小闲置连接数
+	 */
+	private void evict() {
+		final long maxIdleTime = config.getMaxIdleTime();
+		final int minIdle = config.getMinIdle();
+		if (maxIdleTime > 0) {
+			final long now = System.currentTimeMillis();
+			// 最久未使用的连接在队尾
+			final Iterator<PooledConnection> iterator = freePool.descendingIterator();
+			PooledConnection conn;
+			while (iterator.hasNext() && freePool.size() > minIdle) {
+				conn = iterator.next();
+				if (now - conn.getLastFreeTime() > maxIdleTime && freePool.removeLastOccurrence(conn)) {
+					destroy(conn);
+				}
+			}
 		}
 
 		final int maxActive = config.getMaxActive();
-		if (maxActive <= 0 || maxActive < this.activeCount) {
-			// 超过最大使用限制
-			throw new SQLException("In used Connection is more than Max Active.");
+		try {
+			while (false == closed && freePool.size() < minIdle && totalCount.get() < maxActive) {
+				final PooledConnection conn = createConnection();
+				conn.setLastFreeTime(System.currentTimeMillis());
+				freePool.offerLast(conn);
+			}
+		} catch (Exception e) {
+			// 补充失败时等待下次执行
 		}
+		if (closed) {
+			// 补充过程中连接池被关闭
+			destroyIdle();
+		}
+	}
 
-		PooledConnection conn = freePool.poll();
-		if (null == conn || conn.open().isClosed()) {
-			conn = this.newConnection();
+	/**
+	 * 关闭所有闲置连接
+	 */
+	private void destroyIdle() {
+		PooledConnection conn;
+		while (null != (conn = freePool.pollFirst())) {
+			destroy(conn);
 		}
-		activeCount++;
-		return conn;
 	}
 
+	/**
+	 * 检查连接池是否已关闭
+	 *
+	 * @throws SQLException 已关闭
+	 */
+	private void checkClosed() throws SQLException {
+		if (closed) {
+			throw new SQLException("PooledDataSource is closed!");
+		}
+	}
 }
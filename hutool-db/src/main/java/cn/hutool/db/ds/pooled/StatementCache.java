@@ -0,0 +1,249 @@
+package cn.hutool.db.ds.pooled;
+
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.FixedLinkedHashMap;
+import cn.hutool.db.DbUtil;
+import cn.hutool.db.sql.StatementWrapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PreparedStatement}缓存，按照SQL和是否返回自动生成的主键缓存一个连接上的预编译语句<br>
+ * 获取的语句调用{@link PreparedStatement#close()}时并不关闭，而是重置参数后放回缓存，超过容量时关闭最久未使用的语句。
+ * 正在使用的语句不在缓存中，因此同一SQL同时使用时会预编译新的语句。
+ * 每次获取都返回新的包装对象，已关闭的包装对象重复关闭时忽略，不影响之后获取到同一语句的使用者。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class StatementCache {
+
+	private final Connection conn;
+	private final FixedLinkedHashMap<Key, CachedStatement> cache;
+	private final LongAdder hitCount;
+	private final LongAdder missCount;
+	private boolean closed;
+
+	/**
+	 * 构造
+	 *
+	 * @param conn      真正的连接
+	 * @param capacity  最多缓存的语句数
+	 * @param hitCount  命中计数
+	 * @param missCount 未命中计数
+	 */
+	public StatementCache(Connection conn, int capacity, LongAdder hitCount, LongAdder missCount) {
+		Assert.isTrue(capacity > 0, "Statement cache capacity must be greater than 0!");
+		this.conn = conn;
+		this.cache = new FixedLinkedHashMap<>(capacity);
+		this.cache.setRemoveListener((entry) -> entry.getValue().closeRaw());
+		this.hitCount = hitCount;
+		this.missCount = missCount;
+	}
+
+	/**
+	 * 获取预编译语句，缓存中无此语句时创建
+	 *
+	 * @param sql               SQL
+	 * @param autoGeneratedKeys 是否返回自动生成的主键，{@link Statement#RETURN_GENERATED_KEYS}或{@link Statement#NO_GENERATED_KEYS}
+	 * @return {@link PreparedStatement}
+	 * @throws SQLException SQL异常
+	 */
+	public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+		final Key key = new Key(sql, Statement.RETURN_GENERATED_KEYS == autoGeneratedKeys);
+		final CachedStatement cached;
+		synchronized (this) {
+			cached = this.cache.remove(key);
+		}
+		if (null != cached) {
+			hitCount.increment();
+			return new StatementHandle(this, cached);
+		}
+
+		missCount.increment();
+		final PreparedStatement raw = key.returnGeneratedKeys
+				? conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+				: conn.prepareStatement(sql);
+		final CachedStatement created;
+		try {
+			created = new CachedStatement(key, raw);
+		} catch (SQLException e) {
+			DbUtil.close(raw);
+			throw e;
+		}
+		return new StatementHandle(this, created);
+	}
+
+	/**
+	 * 获取缓存中闲置的语句数
+	 *
+	 * @return 语句数
+	 */
+	public synchronized int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * 关闭缓存中所有语句，正在使用的语句在调用{@link PreparedStatement#close()}时关闭
+	 */
+	public void close() {
+		final List<CachedStatement> statements;
+		synchronized (this) {
+			this.closed = true;
+			statements = new ArrayList<>(this.cache.values());
+			this.cache.clear();
+		}
+		for (CachedStatement statement : statements) {
+			statement.closeRaw();
+		}
+	}
+
+	/**
+	 * 归还语句到缓存，重置失败或缓存已关闭时直接关闭语句
+	 *
+	 * @param statement 语句
+	 */
+	private void free(CachedStatement statement) {
+		if (false == statement.reset()) {
+			statement.closeRaw();
+			return;
+		}
+		final CachedStatement replaced;
+		synchronized (this) {
+			if (this.closed) {
+				replaced = statement;
+			} else {
+				// 同一SQL的多个语句同时使用时只保留最后归还的
+				replaced = this.cache.put(statement.key, statement);
+			}
+		}
+		if (null != replaced) {
+			replaced.closeRaw();
+		}
+	}
+
+	/**
+	 * 缓存的键，包括SQL和是否返回自动生成的主键
+	 */
+	private static class Key {
+		private final String sql;
+		private final boolean returnGeneratedKeys;
+
+		Key(String sql, boolean returnGeneratedKeys) {
+			this.sql = sql;
+			this.returnGeneratedKeys = returnGeneratedKeys;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (false == o instanceof Key) {
+				return false;
+			}
+			final Key key = (Key) o;
+			return returnGeneratedKeys == key.returnGeneratedKeys && sql.equals(key.sql);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(sql, returnGeneratedKeys);
+		}
+	}
+
+	/**
+	 * 被缓存的语句，记录语句的初始设置，归还时恢复
+	 */
+	private static class CachedStatement {
+		private final Key key;
+		private final PreparedStatement raw;
+		private final int fetchSize;
+		private final int maxRows;
+		private final int queryTimeout;
+
+		CachedStatement(Key key, PreparedStatement raw) throws SQLException {
+			this.key = key;
+			this.raw = raw;
+			this.fetchSize = raw.getFetchSize();
+			this.maxRows = raw.getMaxRows();
+			this.queryTimeout = raw.getQueryTimeout();
+		}
+
+		/**
+		 * 关闭未读取完的结果集，清除参数并恢复语句设置
+		 *
+		 * @return 是否重置成功，失败的语句不再缓存
+		 */
+		boolean reset() {
+			try {
+				if (raw.isClosed()) {
+					return false;
+				}
+				final ResultSet rs = raw.getResultSet();
+				if (null != rs) {
+					rs.close();
+				}
+				raw.clearParameters();
+				raw.clearBatch();
+				raw.clearWarnings();
+				if (raw.getFetchSize() != this.fetchSize) {
+					raw.setFetchSize(this.fetchSize);
+				}
+				if (raw.getMaxRows() != this.maxRows) {
+					raw.setMaxRows(this.maxRows);
+				}
+				if (raw.getQueryTimeout() != this.queryTimeout) {
+					raw.setQueryTimeout(this.queryTimeout);
+				}
+				return true;
+			} catch (SQLException e) {
+				return false;
+			}
+		}
+
+		/**
+		 * 关闭真正的语句
+		 */
+		void closeRaw() {
+			DbUtil.close(this.raw);
+		}
+	}
+
+	/**
+	 * 一次获取得到的语句包装，关闭时将语句归还到缓存，重复关闭时忽略
+	 */
+	private static class StatementHandle extends StatementWrapper {
+		private final StatementCache statementCache;
+		private final CachedStatement cached;
+		private volatile boolean isClosed;
+
+		StatementHandle(StatementCache statementCache, CachedStatement cached) {
+			super(cached.raw);
+			this.statementCache = statementCache;
+			this.cached = cached;
+		}
+
+		@Override
+		public void close() {
+			if (this.isClosed) {
+				return;
+			}
+			this.isClosed = true;
+			this.statementCache.free(this.cached);
+		}
+
+		@Override
+		public boolean isClosed() throws SQLException {
+			return this.isClosed || this.cached.raw.isClosed();
+		}
+	}
+}
@@ -0,0 +1,384 @@
+package cn.hutool.db.handler;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.BasicType;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.func.LambdaFactory;
+import cn.hutool.core.map.WeakConcurrentMap;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.db.DbRuntimeException;
+import cn.hutool.db.Entity;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * 预编译的行映射器，将{@link ResultSet}的一行转换为Bean<br>
+ * 按照Bean类型和结果集的列（列名及类型）编译一次并缓存：每列对应的setter（通过{@link LambdaFactory}生成）及按类型读取列值的方法在编译时确定，
+ * 映射每一行时不再读取{@link ResultSetMetaData}、查找属性或反射调用。
+ *
+ * <p>
+ * 非普通Bean类型（数组、集合、String、Entity及其父类）不编译，映射时按照{@link HandleHelper#handleRow(int, ResultSetMetaData, ResultSet, Class)}处理。
+ *
+ * <pre>
+ * BeanRowMapper&lt;User&gt; mapper = BeanRowMapper.of(User.class, rs.getMetaData());
+ * while (rs.next()) {
+ *     list.add(mapper.map(rs));
+ * }
+ * </pre>
+ *
+ * @param <T> Bean类型
+ * @author looly
+ * @since 5.8.35
+ */
+public class BeanRowMapper<T> {
+
+	/**
+	 * 缓存，key为Bean类型，value为列签名（列名及类型）与映射器的对应
+	 */
+	private static final WeakConcurrentMap<Class<?>, Map<String, BeanRowMapper<?>>> CACHE = new WeakConcurrentMap<>();
+
+	private final Class<T> beanClass;
+	private final int columnCount;
+	private final ResultSetMetaData meta;
+	private final Constructor<T> constructor;
+	private final ColumnMapper[] columnMappers;
+
+	/**
+	 * 获取Bean类型与结果集对应的行映射器，普通Bean按照列签名缓存
+	 *
+	 * @param <T>       Bean类型
+	 * @param beanClass Bean类型
+	 * @param meta      结果集元数据
+	 * @return 行映射器
+	 * @throws SQLException SQL异常
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> BeanRowMapper<T> of(Class<T> beanClass, ResultSetMetaData meta) throws SQLException {
+		Assert.notNull(beanClass, "Bean Class must be not null !");
+		if (false == isPlainBean(beanClass)) {
+			return new BeanRowMapper<>(beanClass, meta, false);
+		}
+
+		final String signature = signature(meta);
+		final Map<String, BeanRowMapper<?>> mappers = CACHE.computeIfAbsent(beanClass, (key) -> new ConcurrentHashMap<>());
+		BeanRowMapper<?> mapper = mappers.get(signature);
+		if (null == mapper) {
+			mapper = new BeanRowMapper<>(beanClass, meta, true);
+			final BeanRowMapper<?> existing = mappers.putIfAbsent(signature, mapper);
+			if (null != existing) {
+				mapper = existing;
+			}
+		}
+		return (BeanRowMapper<T>) mapper;
+	}
+
+	/**
+	 * 清空缓存的映射器
+	 */
+	public static void clearCache() {
+		CACHE.clear();
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param beanClass Bean类型
+	 * @param meta      结果集元数据
+	 * @param compile   是否编译，否则按照{@link HandleHelper}逐行处理
+	 * @throws SQLException SQL异常
+	 */
+	private BeanRowMapper(Class<T> beanClass, ResultSetMetaData meta, boolean compile) throws SQLException {
+		this.beanClass = beanClass;
+		this.columnCount = meta.getColumnCount();
+		if (compile) {
+			this.meta = null;
+			this.constructor = ReflectUtil.getConstructor(beanClass);
+			this.columnMappers = compile(beanClass, meta, this.columnCount);
+		} else {
+			this.meta = meta;
+			this.constructor = null;
+			this.columnMappers = null;
+		}
+	}
+
+	/**
+	 * 将结果集的当前行转换为Bean
+	 *
+	 * @param rs 结果集，已指向需要转换的行
+	 * @return Bean
+	 * @throws SQLException SQL异常
+	 */
+	public T map(ResultSet rs) throws SQLException {
+		if (null == this.columnMappers) {
+			return HandleHelper.handleRow(this.columnCount, this.meta, rs, this.beanClass);
+		}
+
+		final T bean = newInstance();
+		for (ColumnMapper columnMapper : this.columnMappers) {
+			columnMapper.setter.accept(bean, columnMapper.read(rs));
+		}
+		return bean;
+	}
+
+	// ------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 创建Bean实例
+	 *
+	 * @return Bean
+	 */
+	private T newInstance() {
+		if (null != this.constructor) {
+			try {
+				return this.constructor.newInstance();
+			} catch (Exception e) {
+				throw new DbRuntimeException(e, "Instance class [{}] error!", this.beanClass.getName());
+			}
+		}
+		return ReflectUtil.newInstanceIfPossible(this.beanClass);
+	}
+
+	/**
+	 * 是否为普通Bean，与{@link HandleHelper#handleRow(int, ResultSetMetaData, ResultSet, Class)}中的判断一致
+	 *
+	 * @param beanClass 类型
+	 * @return 是否为普通Bean
+	 */
+	private static boolean isPlainBean(Class<?> beanClass) {
+		return false == beanClass.isArray()
+				&& false == Iterable.class.isAssignableFrom(beanClass)
+				&& false == beanClass.isAssignableFrom(Entity.class)
+				&& String.class != beanClass;
+	}
+
+	/**
+	 * 结果集的列签名，由列名和列类型组成
+	 *
+	 * @param meta 结果集元数据
+	 * @return 列签名
+	 * @throws SQLException SQL异常
+	 */
+	private static String signature(ResultSetMetaData meta) throws SQLException {
+		final int columnCount = meta.getColumnCount();
+		final StringBuilder builder = new StringBuilder(columnCount * 16);
+		for (int i = 1; i <= columnCount; i++) {
+			builder.append(meta.getColumnLabel(i)).append(':').append(meta.getColumnType(i)).append(',');
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 编译每列对应的setter及读取方法，无对应属性的列忽略
+	 *
+	 * @param beanClass   Bean类型
+	 * @param meta        结果集元数据
+	 * @param columnCount 列数
+	 * @return 列映射
+	 * @throws SQLException SQL异常
+	 */
+	private static ColumnMapper[] compile(Class<?> beanClass, ResultSetMetaData meta, int columnCount) throws SQLException {
+		//忽略字段大小写
+		final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(true);
+		final List<ColumnMapper> columnMappers = new ArrayList<>(columnCount);
+		String columnLabel;
+		PropDesc pd;
+		Method setter;
+		for (int i = 1; i <= columnCount; i++) {
+			columnLabel = meta.getColumnLabel(i);
+			pd = propMap.get(columnLabel);
+			if (null == pd) {
+				// 尝试驼峰命名风格
+				pd = propMap.get(StrUtil.toCamelCase(columnLabel));
+			}
+			setter = (null == pd) ? null : pd.getSetter();
+			if (null != setter) {
+				columnMappers.add(new ColumnMapper(i, meta.getColumnType(i), setter));
+			}
+		}
+		return columnMappers.toArray(new ColumnMapper[0]);
+	}
+	// ------------------------------------------------------------------------------------------- Private method end
+
+	/**
+	 * 单列的映射，包括列值的读取方式及属性的setter
+	 */
+	private static class ColumnMapper {
+		/**
+		 * 按照类型直接读取，读取结果与{@link ResultSet#getObject(int)}后转换一致
+		 */
+		private static final int READ_OBJECT = 0;
+		private static final int READ_STRING = 1;
+		private static final int READ_INT = 2;
+		private static final int READ_LONG = 3;
+		private static final int READ_DOUBLE = 4;
+		private static final int READ_BIG_DECIMAL = 5;
+		private static final int READ_BOOLEAN = 6;
+
+		private final int columnIndex;
+		private final int columnType;
+		private final Type targetType;
+		private final Class<?> targetClass;
+		private final int readMode;
+		private final Object nullValue;
+		private final BiConsumer<Object, Object> setter;
+
+		ColumnMapper(int columnIndex, int columnType, Method setter) {
+			this.columnIndex = columnIndex;
+			this.columnType = columnType;
+			this.targetType = TypeUtil.getFirstParamType(setter);
+			final Class<?> paramClass = setter.getParameterTypes()[0];
+			this.targetClass = BasicType.wrap(paramClass);
+			this.readMode = readMode(columnType, this.targetClass, this.targetType);
+			// 参数是原始类型，而值为null时赋予默认值
+			this.nullValue = paramClass.isPrimitive() ? ClassUtil.getDefaultValue(paramClass) : null;
+			this.setter = createSetter(setter);
+		}
+
+		/**
+		 * 读取列值并转换为setter参数类型
+		 *
+		 * @param rs 结果集
+		 * @return 列值
+		 * @throws SQLException SQL异常
+		 */
+		Object read(ResultSet rs) throws SQLException {
+			final Object value;
+			switch (readMode) {
+				case READ_STRING:
+					value = rs.getString(columnIndex);
+					break;
+				case READ_INT:
+					value = wasNull(rs, rs.getInt(columnIndex));
+					break;
+				case READ_LONG:
+					value = wasNull(rs, rs.getLong(columnIndex));
+					break;
+				case READ_DOUBLE:
+					value = wasNull(rs, rs.getDouble(columnIndex));
+					break;
+				case READ_BIG_DECIMAL:
+					value = rs.getBigDecimal(columnIndex);
+					break;
+				case READ_BOOLEAN:
+					value = wasNull(rs, rs.getBoolean(columnIndex));
+					break;
+				default:
+					value = readObject(rs);
+			}
+			return null == value ? nullValue : value;
+		}
+
+		/**
+		 * 按照通用方式读取列值，类型不匹配时转换
+		 *
+		 * @param rs 结果集
+		 * @return 列值
+		 * @throws SQLException SQL异常
+		 */
+		private Object readObject(ResultSet rs) throws SQLException {
+			Object rawValue = null;
+			switch (columnType) {
+				case Types.TIMESTAMP:
+					try {
+						rawValue = rs.getTimestamp(columnIndex);
+					} catch (SQLException ignore) {
+						// issue#776@Github
+						// 当数据库中日期为0000-00-00 00:00:00报错，转为null
+					}
+					break;
+				case Types.TIME:
+					rawValue = rs.getTime(columnIndex);
+					break;
+				default:
+					rawValue = rs.getObject(columnIndex);
+			}
+			if (Object.class == targetType || (targetType instanceof Class && targetClass.isInstance(rawValue))) {
+				return rawValue;
+			}
+			return Convert.convert(targetType, rawValue);
+		}
+
+		/**
+		 * 原始类型读取后，如果列值为null返回null
+		 *
+		 * @param rs    结果集
+		 * @param value 读取的值
+		 * @return 值或null
+		 * @throws SQLException SQL异常
+		 */
+		private static Object wasNull(ResultSet rs, Object value) throws SQLException {
+			return rs.wasNull() ? null : value;
+		}
+
+		/**
+		 * 根据列类型和目标类型决定读取方式，只有类型明确对应时才直接读取
+		 *
+		 * @param columnType  列类型，见{@link Types}
+		 * @param targetClass 目标类型（包装类型）
+		 * @param targetType  目标类型
+		 * @return 读取方式
+		 */
+		private static int readMode(int columnType, Class<?> targetClass, Type targetType) {
+			if (false == targetType instanceof Class) {
+				return READ_OBJECT;
+			}
+			switch (columnType) {
+				case Types.CHAR:
+				case Types.VARCHAR:
+				case Types.LONGVARCHAR:
+				case Types.NCHAR:
+				case Types.NVARCHAR:
+				case Types.LONGNVARCHAR:
+					return String.class == targetClass ? READ_STRING : READ_OBJECT;
+				case Types.INTEGER:
+				case Types.SMALLINT:
+					return Integer.class == targetClass ? READ_INT : (Long.class == targetClass ? READ_LONG : READ_OBJECT);
+				case Types.BIGINT:
+					return Long.class == targetClass ? READ_LONG : READ_OBJECT;
+				case Types.DOUBLE:
+				case Types.FLOAT:
+					return Double.class == targetClass ? READ_DOUBLE : READ_OBJECT;
+				case Types.DECIMAL:
+				case Types.NUMERIC:
+					return BigDecimal.class == targetClass ? READ_BIG_DECIMAL : READ_OBJECT;
+				case Types.BOOLEAN:
+					return Boolean.class == targetClass ? READ_BOOLEAN : READ_OBJECT;
+				default:
+					return READ_OBJECT;
+			}
+		}
+
+		/**
+		 * 创建setter调用，优先使用{@link LambdaFactory}生成，失败时使用反射
+		 *
+		 * @param setter setter方法
+		 * @return setter调用
+		 */
+		@SuppressWarnings("unchecked")
+		private static BiConsumer<Object, Object> createSetter(Method setter) {
+			try {
+				return LambdaFactory.build(BiConsumer.class, setter);
+			} catch (Exception e) {
+				ReflectUtil.setAccessible(setter);
+				return (bean, value) -> ReflectUtil.invoke(bean, setter, value);
+			}
+		}
+	}
+}
@@ -1,16 +1,11 @@
 package cn.hutool.db.handler;
 
-import cn.hutool.core.bean.BeanUtil;
-import cn.hutool.core.bean.PropDesc;
 import cn.hutool.core.convert.Convert;
 import cn.hutool.core.lang.Assert;
 import cn.hutool.core.util.ArrayUtil;
-import cn.hutool.core.util.ReflectUtil;
 import cn.hutool.core.util.StrUtil;
-import cn.hutool.core.util.TypeUtil;
 import cn.hutool.db.Entity;
 
-import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -19,7 +14,6 @@ import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 数据结果集处理辅助类
@@ -82,28 +76,8 @@ public class HandleHelper {
 			return (T) StrUtil.join(", ", objRow);
 		}
 
-		//普通bean
-		final T bean = ReflectUtil.newInstanceIfPossible(beanClass);
-		//忽略字段大小写
-		final Map<String, PropDesc> propMap = BeanUtil.getBeanDesc(beanClass).getPropMap(true);
-		String columnLabel;
-		PropDesc pd;
-		Method setter;
-		Object value;
-		for (int i = 1; i <= columnCount; i++) {
-			columnLabel = meta.getColumnLabel(i);
-			pd = propMap.get(columnLabel);
-			if(null == pd) {
-				// 尝试驼峰命名风格
-				pd = propMap.get(StrUtil.toCamelCase(columnLabel));
-			}
-			setter = (null == pd) ? null : pd.getSetter();
-			if(null != setter) {
-				value = getColumnValue(rs, i,  meta.getColumnType(i), TypeUtil.getFirstParamType(setter));
-				ReflectUtil.invokeWithCheck(bean, setter, value);
-			}
-		}
-		return bean;
+		//普通bean，按照列编译映射器并缓存
+		return BeanRowMapper.of(beanClass, meta).map(rs);
 	}
 
 	/**
@@ -252,11 +226,9 @@ public class HandleHelper {
 	 * @since 3.1.0
 	 */
 	public static <E, T extends Collection<E>> T handleRsToBeanList(ResultSet rs, T collection, Class<E> elementBeanType) throws SQLException {
-		final ResultSetMetaData meta = rs.getMetaData();
-		final int columnCount = meta.getColumnCount();
-
+		final BeanRowMapper<E> mapper = BeanRowMapper.of(elementBeanType, rs.getMetaData());
 		while (rs.next()) {
-			collection.add(handleRow(columnCount, meta, rs, elementBeanType));
+			collection.add(mapper.map(rs));
 		}
 
 		return collection;
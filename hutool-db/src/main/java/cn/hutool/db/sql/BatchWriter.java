@@ -0,0 +1,517 @@
+package cn.hutool.db.sql;
+
+import cn.hutool.core.collection.ArrayIter;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.db.DbUtil;
+import cn.hutool.db.StatementUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 流式批量写入器<br>
+ * 逐行添加参数，每累积指定行数（或指定的估算字节数）执行一次批量操作，避免所有数据堆积在一个JDBC批次中。
+ * 各批次复用同一个{@link PreparedStatement}及null参数类型缓存，可选每个批次单独提交，某个批次失败时已提交的批次不受影响。
+ *
+ * <p>
+ * 开启多行VALUES改写时（MySQL、PostgreSQL），形如{@code INSERT INTO t(a, b) VALUES (?, ?)}的语句会被改写为
+ * {@code INSERT INTO t(a, b) VALUES (?, ?), (?, ?), ...}，一个批次只需执行一条语句。
+ * VALUES之后还有其它子句（如ON DUPLICATE KEY UPDATE、ON CONFLICT、RETURNING）或不符合此格式的语句按照普通批量执行。
+ *
+ * <p>
+ * 添加完毕后须调用{@link #flush()}执行剩余的批次，{@link #close()}只释放语句，未执行的行被丢弃，
+ * 因此写入过程中抛出异常时不会写入不完整的最后批次。
+ *
+ * <pre>
+ * try (BatchWriter writer = new BatchWriter(conn, "INSERT INTO user(name, age) VALUES (?, ?)").setBatchSize(500)) {
+ *     for (User user : users) {
+ *         writer.add(user.getName(), user.getAge());
+ *     }
+ *     writer.flush();
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class BatchWriter implements AutoCloseable {
+
+	/**
+	 * 默认每批次的行数
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 1000;
+	/**
+	 * 多行VALUES语句中参数的最大个数，PostgreSQL限制为32767，MySQL限制为65535，取较小值
+	 */
+	private static final int MAX_MULTI_ROW_PARAMS = 32767;
+	/**
+	 * 匹配VALUES关键字及其后的左括号
+	 */
+	private static final Pattern VALUES_PATTERN = Pattern.compile("\\bVALUES\\s*\\(", Pattern.CASE_INSENSITIVE);
+
+	private final Connection conn;
+	private final String sql;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private long maxBatchBytes;
+	private boolean commitPerBatch;
+	private boolean multiRowValues;
+
+	private boolean initialized;
+	private boolean closed;
+	/**
+	 * 写入前连接的自动提交状态，null表示未修改
+	 */
+	private Boolean originalAutoCommit;
+	private PreparedStatement ps;
+	/**
+	 * null参数的类型缓存，各批次复用同一个语句，因此缓存在批次之间共享
+	 */
+	private final Map<Integer, Integer> nullTypeMap = new HashMap<>();
+
+	// 多行VALUES改写
+	private String valuesPrefix;
+	private String valuesTuple;
+	private int tupleParamCount;
+	private int rowsPerStatement;
+	private List<Object[]> rows;
+
+	// 当前批次
+	private int batchRows;
+	private long batchBytes;
+
+	// 统计
+	private long count;
+	private int batchCount;
+	private long startNanos;
+	private long elapsedNanos;
+
+	/**
+	 * 构造
+	 *
+	 * @param conn 数据库连接，写入器关闭时不关闭连接
+	 * @param sql  SQL语句，使用"?"做为占位符
+	 */
+	public BatchWriter(Connection conn, String sql) {
+		this.conn = Assert.notNull(conn, "Connection must be not null!");
+		this.sql = Assert.notBlank(sql, "Sql String must be not blank!").trim();
+	}
+
+	/**
+	 * 设置每批次的行数，默认{@link #DEFAULT_BATCH_SIZE}
+	 *
+	 * @param batchSize 每批次的行数
+	 * @return this
+	 */
+	public BatchWriter setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0, "Batch size must be > 0 but got {}", batchSize);
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * 设置每批次参数的最大估算字节数，达到后即执行批次，0表示不限制<br>
+	 * 字符串按照字符数估算，byte[]按照长度估算，其它类型按照8字节估算
+	 *
+	 * @param maxBatchBytes 最大估算字节数
+	 * @return this
+	 */
+	public BatchWriter setMaxBatchBytes(long maxBatchBytes) {
+		this.maxBatchBytes = maxBatchBytes;
+		return this;
+	}
+
+	/**
+	 * 设置是否每个批次单独提交<br>
+	 * 仅在连接为自动提交模式时有效，写入时关闭自动提交并在关闭写入器时恢复；连接已在事务中时由外部事务提交
+	 *
+	 * @param commitPerBatch 是否每个批次单独提交
+	 * @return this
+	 */
+	public BatchWriter setCommitPerBatch(boolean commitPerBatch) {
+		this.commitPerBatch = commitPerBatch;
+		return this;
+	}
+
+	/**
+	 * 设置是否将INSERT语句改写为多行VALUES形式，数据库须支持此语法，如MySQL、PostgreSQL
+	 *
+	 * @param multiRowValues 是否改写为多行VALUES
+	 * @return this
+	 */
+	public BatchWriter setMultiRowValues(boolean multiRowValues) {
+		this.multiRowValues = multiRowValues;
+		return this;
+	}
+
+	/**
+	 * 添加一行参数，达到批次大小时执行批次<br>
+	 * 参数在添加时即被读取或复制，调用方可复用同一个数组传入多行
+	 *
+	 * @param params "?"对应的参数
+	 * @return this
+	 * @throws SQLException SQL执行异常
+	 */
+	public BatchWriter add(Object... params) throws SQLException {
+		if (closed) {
+			throw new SQLException("BatchWriter is closed!");
+		}
+		init();
+
+		if (null != this.rows) {
+			if (params.length != this.tupleParamCount) {
+				throw new SQLException(StrUtil.format("Params count {} is not match with VALUES {}", params.length, this.valuesTuple));
+			}
+			// 调用方可能复用同一个数组传入每一行，缓存时复制
+			this.rows.add(params.clone());
+		} else {
+			StatementUtil.fillParams(this.ps, new ArrayIter<>(params), this.nullTypeMap);
+			this.ps.addBatch();
+		}
+
+		this.batchRows++;
+		if (this.maxBatchBytes > 0) {
+			this.batchBytes += estimateBytes(params);
+		}
+		if (this.batchRows >= this.batchSize || (this.maxBatchBytes > 0 && this.batchBytes >= this.maxBatchBytes)) {
+			flush();
+		}
+		return this;
+	}
+
+	/**
+	 * 添加多行参数，逐行添加，达到批次大小时执行批次
+	 *
+	 * @param paramsBatch 多行参数
+	 * @return this
+	 * @throws SQLException SQL执行异常
+	 */
+	public BatchWriter addAll(Iterable<Object[]> paramsBatch) throws SQLException {
+		for (Object[] params : paramsBatch) {
+			add(params);
+		}
+		return this;
+	}
+
+	/**
+	 * 执行当前批次，每个批次单独提交时提交当前批次，失败时回滚当前批次
+	 *
+	 * @return this
+	 * @throws SQLException SQL执行异常
+	 */
+	public BatchWriter flush() throws SQLException {
+		if (0 == this.batchRows) {
+			return this;
+		}
+
+		final int batchRows = this.batchRows;
+		try {
+			if (null != this.rows) {
+				executeMultiRow();
+			} else {
+				this.ps.executeBatch();
+			}
+			if (isCommitPerBatch()) {
+				this.conn.commit();
+			}
+		} catch (SQLException e) {
+			if (isCommitPerBatch()) {
+				quietRollback();
+			}
+			throw new SQLException(StrUtil.format("Execute batch {} failed, {} rows written before.", this.batchCount + 1, this.count), e);
+		} finally {
+			// 失败的批次直接丢弃，不再重复执行
+			clearBatch();
+		}
+
+		this.count += batchRows;
+		this.batchCount++;
+		return this;
+	}
+
+	/**
+	 * 获取已写入的行数，不包括未执行的批次
+	 *
+	 * @return 已写入的行数
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * 获取已执行的批次数
+	 *
+	 * @return 批次数
+	 */
+	public int getBatchCount() {
+		return this.batchCount;
+	}
+
+	/**
+	 * 获取从第一行添加到关闭（未关闭时为当前）的耗时毫秒数
+	 *
+	 * @return 耗时毫秒数
+	 */
+	public long getElapsedMillis() {
+		if (false == this.initialized) {
+			return 0;
+		}
+		final long elapsedNanos = this.closed ? this.elapsedNanos : System.nanoTime() - this.startNanos;
+		return elapsedNanos / 1_000_000;
+	}
+
+	/**
+	 * 获取写入速度，即每秒写入的行数
+	 *
+	 * @return 每秒写入的行数
+	 */
+	public double getRowsPerSecond() {
+		final long elapsedMillis = getElapsedMillis();
+		return 0 == elapsedMillis ? this.count : this.count * 1000D / elapsedMillis;
+	}
+
+	/**
+	 * 关闭语句，并恢复连接的自动提交状态，不关闭连接<br>
+	 * 未通过{@link #flush()}执行的行被丢弃
+	 *
+	 * @throws SQLException SQL执行异常
+	 */
+	@Override
+	public void close() throws SQLException {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		if (initialized) {
+			this.elapsedNanos = System.nanoTime() - this.startNanos;
+		}
+		clearBatch();
+		DbUtil.close(this.ps);
+		if (null != this.originalAutoCommit) {
+			this.conn.setAutoCommit(this.originalAutoCommit);
+		}
+	}
+
+	// ------------------------------------------------------------------------------------------- Private method start
+
+	/**
+	 * 首次添加时初始化语句及事务状态
+	 *
+	 * @throws SQLException SQL异常
+	 */
+	private void init() throws SQLException {
+		if (initialized) {
+			return;
+		}
+
+		if (multiRowValues) {
+			initMultiRow();
+		}
+
+		SqlLog.INSTANCE.logForBatch(this.sql);
+		if (null == this.rows) {
+			this.ps = this.conn.prepareStatement(this.sql);
+		}
+
+		if (this.commitPerBatch && this.conn.getAutoCommit()) {
+			this.conn.setAutoCommit(false);
+			this.originalAutoCommit = true;
+		}
+
+		this.startNanos = System.nanoTime();
+		this.initialized = true;
+	}
+
+	/**
+	 * 解析VALUES部分，只有VALUES后的括号组为语句的最后部分时才改写为多行VALUES，
+	 * 如{@code ON DUPLICATE KEY UPDATE b = VALUES(b)}等后续子句存在时按照普通批量执行
+	 */
+	private void initMultiRow() {
+		final Matcher matcher = VALUES_PATTERN.matcher(this.sql);
+		if (false == matcher.find()) {
+			return;
+		}
+		final int tupleStart = matcher.end() - 1;
+		final int tupleEnd = indexOfClosingParen(this.sql, tupleStart);
+		if (tupleEnd < 0) {
+			return;
+		}
+		// 括号组之后只允许空白和结尾的分号
+		final String tail = StrUtil.trim(this.sql.substring(tupleEnd + 1));
+		if (false == tail.isEmpty() && false == ";".equals(tail)) {
+			return;
+		}
+
+		final String tuple = this.sql.substring(tupleStart, tupleEnd + 1);
+		final int paramCount = StrUtil.count(tuple, '?');
+		if (paramCount > 0) {
+			this.valuesPrefix = this.sql.substring(0, tupleStart);
+			this.valuesTuple = tuple;
+			this.tupleParamCount = paramCount;
+			this.rowsPerStatement = Math.max(1, Math.min(this.batchSize, MAX_MULTI_ROW_PARAMS / paramCount));
+			this.rows = new ArrayList<>(Math.min(this.batchSize, 1024));
+		}
+	}
+
+	/**
+	 * 查找与指定左括号匹配的右括号位置，忽略字符串常量和引用标识符中的括号
+	 *
+	 * @param sql   SQL
+	 * @param start 左括号位置
+	 * @return 右括号位置，无匹配返回-1
+	 */
+	private static int indexOfClosingParen(String sql, int start) {
+		int depth = 0;
+		char quote = 0;
+		char c;
+		for (int i = start; i < sql.length(); i++) {
+			c = sql.charAt(i);
+			if (0 != quote) {
+				if (c == quote) {
+					quote = 0;
+				}
+			} else if (c == '\'' || c == '"' || c == '`') {
+				quote = c;
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				if (--depth == 0) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 以多行VALUES语句执行当前批次，满行的语句复用并批量执行，不足一条语句的剩余行单独执行
+	 *
+	 * @throws SQLException SQL执行异常
+	 */
+	private void executeMultiRow() throws SQLException {
+		final int size = this.rows.size();
+		int index = 0;
+		if (size >= this.rowsPerStatement) {
+			if (null == this.ps) {
+				this.ps = this.conn.prepareStatement(multiRowSql(this.rowsPerStatement));
+			}
+			while (size - index >= this.rowsPerStatement) {
+				fillRows(this.ps, index, this.rowsPerStatement, this.nullTypeMap);
+				this.ps.addBatch();
+				index += this.rowsPerStatement;
+			}
+			this.ps.executeBatch();
+		}
+
+		final int remain = size - index;
+		if (remain > 0) {
+			try (final PreparedStatement remainPs = this.conn.prepareStatement(multiRowSql(remain))) {
+				fillRows(remainPs, index, remain, new HashMap<>());
+				remainPs.executeUpdate();
+			}
+		}
+	}
+
+	/**
+	 * 构建包含指定行数的多行VALUES语句
+	 *
+	 * @param rowCount 行数
+	 * @return SQL
+	 */
+	private String multiRowSql(int rowCount) {
+		final StringBuilder builder = new StringBuilder(this.valuesPrefix.length() + (this.valuesTuple.length() + 2) * rowCount);
+		builder.append(this.valuesPrefix);
+		for (int i = 0; i < rowCount; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(this.valuesTuple);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 将缓存的多行参数依次填充到多行VALUES语句中
+	 *
+	 * @param ps            多行VALUES语句
+	 * @param from          起始行
+	 * @param rowCount      行数
+	 * @param nullTypeCache null参数的类型缓存
+	 * @throws SQLException SQL异常
+	 */
+	private void fillRows(PreparedStatement ps, int from, int rowCount, Map<Integer, Integer> nullTypeCache) throws SQLException {
+		final Object[] params = new Object[rowCount * this.tupleParamCount];
+		for (int i = 0; i < rowCount; i++) {
+			System.arraycopy(this.rows.get(from + i), 0, params, i * this.tupleParamCount, this.tupleParamCount);
+		}
+		StatementUtil.fillParams(ps, new ArrayIter<>(params), nullTypeCache);
+	}
+
+	/**
+	 * 清除当前批次中未执行的参数
+	 */
+	private void clearBatch() {
+		this.batchRows = 0;
+		this.batchBytes = 0;
+		if (null != this.rows) {
+			this.rows.clear();
+		}
+		if (null != this.ps) {
+			try {
+				this.ps.clearBatch();
+			} catch (SQLException e) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * 是否每个批次单独提交，仅在写入器关闭了自动提交时有效
+	 *
+	 * @return 是否每个批次单独提交
+	 */
+	private boolean isCommitPerBatch() {
+		return null != this.originalAutoCommit;
+	}
+
+	/**
+	 * 静默回滚当前批次
+	 */
+	private void quietRollback() {
+		try {
+			this.conn.rollback();
+		} catch (SQLException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * 估算一行参数的字节数
+	 *
+	 * @param params 参数
+	 * @return 估算的字节数
+	 */
+	private static long estimateBytes(Object[] params) {
+		long size = 0;
+		for (Object param : params) {
+			if (null == param) {
+				size += 1;
+			} else if (param instanceof CharSequence) {
+				size += ((CharSequence) param).length();
+			} else if (param instanceof byte[]) {
+				size += ((byte[]) param).length;
+			} else {
+				size += 8;
+			}
+		}
+		return size;
+	}
+	// ------------------------------------------------------------------------------------------- Private method end
+}
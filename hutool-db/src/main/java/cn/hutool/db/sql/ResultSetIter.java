@@ -0,0 +1,76 @@
+package cn.hutool.db.sql;
+
+import cn.hutool.core.collection.ComputeIter;
+import cn.hutool.core.lang.func.Func1;
+import cn.hutool.db.DbRuntimeException;
+import cn.hutool.db.DbUtil;
+
+import java.io.Closeable;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * 基于游标逐行读取{@link ResultSet}的迭代器<br>
+ * 每次迭代读取一行并通过行处理函数转换，结果不在内存中累积。读取完毕、出错或调用{@link #close()}时关闭结果集和语句，并执行关闭钩子（如释放连接）。
+ *
+ * @param <T> 行对象类型
+ * @author looly
+ * @since 5.8.35
+ */
+public class ResultSetIter<T> extends ComputeIter<T> implements Closeable {
+
+	private final Statement statement;
+	private final ResultSet rs;
+	private final Func1<ResultSet, T> rowHandler;
+	private final Runnable closeHook;
+	private boolean closed;
+
+	/**
+	 * 构造
+	 *
+	 * @param statement  语句，关闭时一并关闭，可以为{@code null}
+	 * @param rs         结果集
+	 * @param rowHandler 行处理函数，将结果集当前行转换为对象，不能返回{@code null}
+	 * @param closeHook  关闭结果集和语句后执行的钩子，可以为{@code null}
+	 */
+	public ResultSetIter(Statement statement, ResultSet rs, Func1<ResultSet, T> rowHandler, Runnable closeHook) {
+		this.statement = statement;
+		this.rs = rs;
+		this.rowHandler = rowHandler;
+		this.closeHook = closeHook;
+	}
+
+	@Override
+	protected T computeNext() {
+		if (closed) {
+			return null;
+		}
+		try {
+			if (rs.next()) {
+				return rowHandler.call(rs);
+			}
+		} catch (Exception e) {
+			close();
+			throw (e instanceof DbRuntimeException) ? (DbRuntimeException) e : new DbRuntimeException(e);
+		}
+		// 读取完毕，尽早释放资源
+		close();
+		return null;
+	}
+
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		finish();
+		try {
+			DbUtil.close(rs, statement);
+		} finally {
+			if (null != closeHook) {
+				closeHook.run();
+			}
+		}
+	}
+}
@@ -1,13 +1,19 @@
 package cn.hutool.db;
 
+import cn.hutool.core.collection.ListUtil;
 import cn.hutool.core.map.CaseInsensitiveMap;
 import cn.hutool.core.map.MapUtil;
+import cn.hutool.db.ds.pooled.DbConfig;
+import cn.hutool.db.ds.pooled.PooledDataSource;
+import lombok.Data;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -62,4 +68,43 @@ public class H2Test {
 		Entity a1=db.get("test","a",1);
 		assertEquals(Long.valueOf(111),a1.getLong("b"));
 	}
+
+	@Test
+	public void queryStreamTest() throws SQLException {
+		try (final Stream<Entity> stream = Db.use(DS_GROUP_NAME).queryStream("select * from test where a > ? order by a", 1)) {
+			assertEquals(ListUtil.of(2, 3, 4), stream.map(entity -> entity.getInt("a")).collect(Collectors.toList()));
+		}
+
+		try (final Stream<TestBean> stream = Db.use(DS_GROUP_NAME).queryStream("select * from test order by a", TestBean.class)) {
+			final List<TestBean> beans = stream.collect(Collectors.toList());
+			assertEquals(4, beans.size());
+			assertEquals(Integer.valueOf(4), beans.get(3).getA());
+			assertEquals(Long.valueOf(41), beans.get(3).getB());
+		}
+	}
+
+	@Test
+	public void queryStreamReleaseTest() throws SQLException {
+		final DbConfig config = new DbConfig("jdbc:h2:mem:h2_hutool", "sa", "");
+		config.setMaxActive(2);
+		try (final PooledDataSource ds = new PooledDataSource(config)) {
+			final Db db = Db.use(ds);
+			// 关闭流时释放连接
+			final Stream<Entity> stream = db.queryStream(10, Entity.class, "select * from test");
+			assertEquals(1, ds.getActiveCount());
+			stream.findFirst();
+			stream.close();
+			assertEquals(0, ds.getActiveCount());
+
+			// 读取完毕时释放连接
+			assertEquals(4, db.queryStream("select * from test").count());
+			assertEquals(0, ds.getActiveCount());
+		}
+	}
+
+	@Data
+	public static class TestBean {
+		private Integer a;
+		private Long b;
+	}
 }
@@ -4,6 +4,10 @@ import cn.hutool.db.ds.simple.SimpleDataSource;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
 public class DataSourceWrapperTest {
 
 	@Test
@@ -15,4 +19,25 @@ public class DataSourceWrapperTest {
 		assertEquals("test.driver", clone.getDriver());
 		assertEquals(simpleDataSource, clone.getRaw());
 	}
+
+	@Test
+	public void statementCacheTest() throws SQLException {
+		final SimpleDataSource simpleDataSource = new SimpleDataSource("jdbc:h2:mem:h2_wrapper", "sa", "");
+		final DataSourceWrapper wrapper = DataSourceWrapper.wrap(simpleDataSource, "org.h2.Driver").setStatementCacheSize(2);
+
+		try (final Connection conn = wrapper.getConnection()) {
+			final PreparedStatement ps1 = conn.prepareStatement("select 1");
+			final PreparedStatement raw1 = ps1.unwrap(PreparedStatement.class);
+			ps1.close();
+			assertTrue(ps1.isClosed());
+			// 同一次借出中重复预编译命中缓存，复用真正的语句
+			final PreparedStatement ps2 = conn.prepareStatement("select 1");
+			assertNotSame(ps1, ps2);
+			assertSame(raw1, ps2.unwrap(PreparedStatement.class));
+			assertFalse(ps2.isClosed());
+			ps2.close();
+		}
+		assertEquals(1, wrapper.getStatementCacheHitCount());
+		assertEquals(1, wrapper.getStatementCacheMissCount());
+	}
 }
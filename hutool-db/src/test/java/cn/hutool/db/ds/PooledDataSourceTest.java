@@ -0,0 +1,221 @@
+package cn.hutool.db.ds;
+
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.db.ds.pooled.DbConfig;
+import cn.hutool.db.ds.pooled.PooledDataSource;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 内置连接池单元测试
+ */
+public class PooledDataSourceTest {
+
+	@Test
+	public void borrowAndFreeTest() throws SQLException {
+		final DbConfig config = createConfig(2);
+		config.setInitialSize(1);
+		config.setTestOnBorrow(true);
+		try (final PooledDataSource ds = new PooledDataSource(config)) {
+			assertEquals(1, ds.getIdleCount());
+
+			final Connection conn1 = ds.getConnection();
+			final Connection conn2 = ds.getConnection();
+			assertEquals(2, ds.getActiveCount());
+			assertEquals(0, ds.getIdleCount());
+
+			conn1.close();
+			// 重复关闭不会重复归还
+			conn1.close();
+			assertEquals(1, ds.getActiveCount());
+			assertEquals(1, ds.getIdleCount());
+
+			conn2.close();
+			assertEquals(0, ds.getActiveCount());
+			assertEquals(2, ds.getIdleCount());
+			assertEquals(2, ds.getBorrowCount());
+		}
+	}
+
+	@Test
+	public void waitTimeoutTest() throws SQLException {
+		final DbConfig config = createConfig(1);
+		config.setMaxWait(50);
+		try (final PooledDataSource ds = new PooledDataSource(config)) {
+			final Connection conn = ds.getConnection();
+			assertThrows(SQLException.class, ds::getConnection);
+			conn.close();
+			ds.getConnection().close();
+		}
+	}
+
+	@Test
+	public void handOffTest() throws SQLException, InterruptedException {
+		final DbConfig config = createConfig(1);
+		config.setMaxWait(5000);
+		try (final PooledDataSource ds = new PooledDataSource(config)) {
+			final Connection conn = ds.getConnection();
+			final CountDownLatch latch = new CountDownLatch(1);
+			final AtomicInteger borrowed = new AtomicInteger();
+			ThreadUtil.execAsync(() -> {
+				try (final Connection ignored = ds.getConnection()) {
+					borrowed.incrementAndGet();
+				} catch (SQLException e) {
+					throw new RuntimeException(e);
+				}
+				latch.countDown();
+			});
+			while (ds.getWaitingCount() == 0) {
+				ThreadUtil.sleep(1);
+			}
+			// 连接归还后等待的线程立即获得连接，不需要等待maxWait
+			final long start = System.currentTimeMillis();
+			conn.close();
+			latch.await();
+			assertTrue(System.currentTimeMillis() - start < 1000);
+			assertEquals(1, borrowed.get());
+		}
+	}
+
+	@Test
+	public void concurrentTest() {
+		final DbConfig config = createConfig(4);
+		config.setMaxWait(10000);
+		try (final PooledDataSource ds = new PooledDataSource(config)) {
+			final AtomicInteger maxActive = new AtomicInteger();
+			ThreadUtil.concurrencyTest(16, () -> {
+				for (int i = 0; i < 50; i++) {
+					try (final Connection ignored = ds.getConnection()) {
+						maxActive.accumulateAndGet(ds.getActiveCount(), Math::max);
+					} catch (SQLException e) {
+						throw new RuntimeException(e);
+					}
+				}
+			});
+			assertTrue(maxActive.get() <= 4);
+			assertEquals(0, ds.getActiveCount());
+			assertEquals(16 * 50, ds.getBorrowCount());
+		}
+	}
+
+	@Test
+	public void evictTest() throws SQLException {
+		final DbConfig config = createConfig(4);
+		config.setMinIdle(1);
+		config.setMaxIdleTime(10);
+		config.setEvictionInterval(20);
+		try (final PooledDataSource ds = new PooledDataSource(config)) {
+			// 初始化时补充最小闲置连接
+			assertEquals(1, ds.getIdleCount());
+
+			final Connection conn1 = ds.getConnection();
+			final Connection conn2 = ds.getConnection();
+			final Connection conn3 = ds.getConnection();
+			conn1.close();
+			conn2.close();
+			conn3.close();
+			assertEquals(3, ds.getIdleCount());
+
+			// 超过闲置时间的连接被回收，保留最小闲置连接
+			final long start = System.currentTimeMillis();
+			while (ds.getIdleCount() > 1 && System.currentTimeMillis() - start < 5000) {
+				ThreadUtil.sleep(10);
+			}
+			assertEquals(1, ds.getIdleCount());
+		}
+	}
+
+	@Test
+	public void closeTest() throws SQLException {
+		final PooledDataSource ds = new PooledDataSource(createConfig(2));
+		final Connection conn = ds.getConnection();
+		ds.close();
+		assertThrows(SQLException.class, ds::getConnection);
+		conn.close();
+		assertEquals(0, ds.getIdleCount());
+	}
+
+	@Test
+	public void statementCacheTest() throws SQLException {
+		final DbConfig config = createConfig(1);
+		config.setStatementCacheSize(2);
+		try (final PooledDataSource ds = new PooledDataSource(config)) {
+			final PreparedStatement ps;
+			final PreparedStatement raw;
+			final int defaultFetchSize;
+			try (final Connection conn = ds.getConnection()) {
+				ps = conn.prepareStatement("select ?");
+				raw = ps.unwrap(PreparedStatement.class);
+				ps.setInt(1, 1);
+				defaultFetchSize = ps.getFetchSize();
+				ps.setFetchSize(defaultFetchSize + 10);
+				try (final ResultSet rs = ps.executeQuery()) {
+					assertTrue(rs.next());
+					assertEquals(1, rs.getInt(1));
+				}
+				ps.close();
+				assertTrue(ps.isClosed());
+			}
+
+			// 连接归还后缓存依旧有效，参数和设置已重置
+			try (final Connection conn = ds.getConnection();
+				 final PreparedStatement cached = conn.prepareStatement("select ?")) {
+				// 复用真正的语句，每次获取的包装对象不同
+				assertNotSame(ps, cached);
+				assertSame(raw, cached.unwrap(PreparedStatement.class));
+				assertEquals(defaultFetchSize, cached.getFetchSize());
+				assertThrows(SQLException.class, cached::executeQuery);
+
+				// 之前的使用者重复关闭不影响当前使用者
+				cached.setInt(1, 2);
+				ps.close();
+				assertFalse(cached.isClosed());
+				try (final ResultSet rs = cached.executeQuery()) {
+					assertTrue(rs.next());
+					assertEquals(2, rs.getInt(1));
+				}
+				// 是否返回主键不同，不共用语句
+				try (final PreparedStatement withKeys = conn.prepareStatement("select ?", Statement.RETURN_GENERATED_KEYS)) {
+					assertNotSame(cached, withKeys);
+				}
+			}
+			assertEquals(1, ds.getStatementCacheHitCount());
+			assertEquals(2, ds.getStatementCacheMissCount());
+		}
+	}
+
+	@Test
+	public void statementCacheEvictTest() throws SQLException {
+		final DbConfig config = createConfig(1);
+		config.setStatementCacheSize(2);
+		try (final PooledDataSource ds = new PooledDataSource(config);
+			 final Connection conn = ds.getConnection()) {
+			final PreparedStatement ps1 = conn.prepareStatement("select 1");
+			final PreparedStatement raw1 = ps1.unwrap(PreparedStatement.class);
+			ps1.close();
+			assertFalse(raw1.isClosed());
+			conn.prepareStatement("select 2").close();
+			conn.prepareStatement("select 3").close();
+			// 超过容量时最久未使用的语句被关闭
+			assertTrue(raw1.isClosed());
+			assertNotSame(raw1, conn.prepareStatement("select 1").unwrap(PreparedStatement.class));
+			assertEquals(4, ds.getStatementCacheMissCount());
+		}
+	}
+
+	private static DbConfig createConfig(int maxActive) {
+		final DbConfig config = new DbConfig("jdbc:h2:mem:h2_pool", "sa", "");
+		config.setMaxActive(maxActive);
+		config.setMaxWait(1000);
+		return config;
+	}
+}
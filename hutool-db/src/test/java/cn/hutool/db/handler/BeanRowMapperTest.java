@@ -0,0 +1,139 @@
+package cn.hutool.db.handler;
+
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.db.Db;
+import cn.hutool.db.Entity;
+import lombok.Data;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link BeanRowMapper}单元测试，使用H2数据库
+ */
+public class BeanRowMapperTest {
+
+	private static final String DS_GROUP_NAME = "h2";
+
+	@BeforeAll
+	public static void init() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		db.execute("CREATE TABLE mapper_test(id INTEGER, user_name VARCHAR(20), score DOUBLE, amount DECIMAL(10, 2), " +
+				"active BOOLEAN, age INTEGER, created TIMESTAMP, remark VARCHAR(20))");
+		db.insert(Entity.create("mapper_test").set("id", 1).set("user_name", "looly").set("score", 1.5D)
+				.set("amount", new BigDecimal("12.30")).set("active", true).set("age", 18)
+				.set("created", DateUtil.parse("2024-01-01 12:00:00")).set("remark", "r1"));
+		db.insert(Entity.create("mapper_test").set("id", 2).set("user_name", null).set("score", null)
+				.set("amount", null).set("active", null).set("age", null)
+				.set("created", null).set("remark", null));
+	}
+
+	@Test
+	public void mapTest() throws SQLException {
+		final List<MapperBean> list = Db.use(DS_GROUP_NAME).query("select * from mapper_test order by id", MapperBean.class);
+		assertEquals(2, list.size());
+
+		final MapperBean bean1 = list.get(0);
+		assertEquals(1L, bean1.getId());
+		assertEquals("looly", bean1.getUserName());
+		assertEquals(1.5D, bean1.getScore());
+		assertEquals(new BigDecimal("12.30"), bean1.getAmount());
+		assertTrue(bean1.getActive());
+		assertEquals(18, bean1.getAge());
+		assertEquals(DateUtil.parse("2024-01-01 12:00:00"), bean1.getCreated());
+
+		final MapperBean bean2 = list.get(1);
+		assertEquals(2L, bean2.getId());
+		assertNull(bean2.getUserName());
+		assertNull(bean2.getScore());
+		assertNull(bean2.getAmount());
+		assertNull(bean2.getActive());
+		// 原始类型null值赋予默认值
+		assertEquals(0, bean2.getAge());
+		assertNull(bean2.getCreated());
+	}
+
+	@Test
+	public void cacheTest() throws SQLException {
+		try (final Connection conn = Db.use(DS_GROUP_NAME).getConnection();
+			 final PreparedStatement ps1 = conn.prepareStatement("select id, user_name from mapper_test");
+			 final PreparedStatement ps2 = conn.prepareStatement("select id, user_name from mapper_test where id = 1");
+			 final PreparedStatement ps3 = conn.prepareStatement("select id, age from mapper_test")) {
+			final BeanRowMapper<MapperBean> mapper1 = BeanRowMapper.of(MapperBean.class, ps1.getMetaData());
+			// 相同列的结果集共用映射器
+			assertSame(mapper1, BeanRowMapper.of(MapperBean.class, ps2.getMetaData()));
+			assertNotSame(mapper1, BeanRowMapper.of(MapperBean.class, ps3.getMetaData()));
+		}
+	}
+
+	@Test
+	public void notBeanTest() throws SQLException {
+		try (final Connection conn = Db.use(DS_GROUP_NAME).getConnection();
+			 final PreparedStatement ps = conn.prepareStatement("select id, user_name from mapper_test where id = 1");
+			 final ResultSet rs = ps.executeQuery()) {
+			assertTrue(rs.next());
+			assertEquals("1, looly", BeanRowMapper.of(String.class, rs.getMetaData()).map(rs));
+			assertArrayEquals(new Object[]{1, "looly"}, BeanRowMapper.of(Object[].class, rs.getMetaData()).map(rs));
+		}
+	}
+
+	@Test
+	@Disabled
+	public void mapBenchmarkTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		db.execute("CREATE TABLE mapper_bench(id INTEGER, user_name VARCHAR(20), score DOUBLE, amount DECIMAL(10, 2), " +
+				"active BOOLEAN, age INTEGER, created TIMESTAMP, remark VARCHAR(20))");
+		final int count = 200_000;
+		final List<Object[]> rows = new ArrayList<>(count);
+		final Date now = new Date();
+		for (int i = 0; i < count; i++) {
+			rows.add(new Object[]{i, "name" + i, i * 1.5D, new BigDecimal(i), i % 2 == 0, i % 100, now, "remark"});
+		}
+		db.executeBatch("INSERT INTO mapper_bench VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows, 5000);
+
+		final StopWatch stopWatch = new StopWatch();
+		for (int round = 0; round < 3; round++) {
+			stopWatch.start("HandleHelper.handleRow round " + round);
+			assertEquals(count, db.query("select * from mapper_bench",
+					(RsHandler<Integer>) rs -> {
+						final int columnCount = rs.getMetaData().getColumnCount();
+						int size = 0;
+						while (rs.next()) {
+							HandleHelper.handleRow(columnCount, rs.getMetaData(), rs, MapperBean.class);
+							size++;
+						}
+						return size;
+					}).intValue());
+			stopWatch.stop();
+
+			stopWatch.start("BeanListHandler round " + round);
+			assertEquals(count, db.query("select * from mapper_bench", MapperBean.class).size());
+			stopWatch.stop();
+		}
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	@Data
+	public static class MapperBean {
+		private Long id;
+		private String userName;
+		private Double score;
+		private BigDecimal amount;
+		private Boolean active;
+		private int age;
+		private Date created;
+	}
+}
@@ -0,0 +1,157 @@
+package cn.hutool.db.sql;
+
+import cn.hutool.db.Db;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link BatchWriter}单元测试，使用H2数据库（支持多行VALUES）
+ */
+public class BatchWriterTest {
+
+	private static final String DS_GROUP_NAME = "h2";
+	private static final String INSERT_SQL = "INSERT INTO batch_test(id, name) VALUES (?, ?)";
+
+	@BeforeAll
+	public static void init() throws SQLException {
+		Db.use(DS_GROUP_NAME).execute("CREATE TABLE batch_test(id INTEGER PRIMARY KEY, name VARCHAR(20))");
+	}
+
+	@BeforeEach
+	public void clear() throws SQLException {
+		Db.use(DS_GROUP_NAME).execute("DELETE FROM batch_test");
+	}
+
+	@Test
+	public void executeBatchTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		final long count = db.executeBatch(INSERT_SQL, rows(0, 2500), 1000);
+		assertEquals(2500, count);
+		assertEquals(2500, db.count("SELECT * FROM batch_test"));
+		assertNull(db.queryString("SELECT name FROM batch_test WHERE id = 7"));
+	}
+
+	@Test
+	public void batchWriteTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		final BatchWriter writer = db.batchWrite(INSERT_SQL, w -> {
+			w.setBatchSize(300).setMaxBatchBytes(1000);
+			for (int i = 0; i < 1000; i++) {
+				w.add(i, "name" + i);
+			}
+		});
+		assertEquals(1000, writer.getCount());
+		// 字节数限制先于行数限制触发
+		assertTrue(writer.getBatchCount() > 4);
+		assertTrue(writer.getRowsPerSecond() > 0);
+		assertEquals(1000, db.count("SELECT * FROM batch_test"));
+	}
+
+	@Test
+	public void multiRowValuesTest() throws SQLException {
+		try (final Connection conn = Db.use(DS_GROUP_NAME).getConnection()) {
+			try (final BatchWriter writer = new BatchWriter(conn, INSERT_SQL).setMultiRowValues(true).setBatchSize(100)) {
+				writer.addAll(rows(0, 250));
+				assertEquals(200, writer.getCount());
+				assertEquals(2, writer.getBatchCount());
+				assertThrows(SQLException.class, () -> writer.add(1));
+				writer.flush();
+			}
+		}
+		assertEquals(250, Db.use(DS_GROUP_NAME).count("SELECT * FROM batch_test"));
+		assertEquals("name8", Db.use(DS_GROUP_NAME).queryString("SELECT name FROM batch_test WHERE id = 8"));
+	}
+
+	@Test
+	public void reuseParamsArrayTest() throws SQLException {
+		for (final boolean multiRow : new boolean[]{false, true}) {
+			clear();
+			try (final Connection conn = Db.use(DS_GROUP_NAME).getConnection()) {
+				try (final BatchWriter writer = new BatchWriter(conn, INSERT_SQL).setMultiRowValues(multiRow).setBatchSize(100)) {
+					// 复用同一个数组传入每一行
+					final Object[] params = new Object[2];
+					for (int i = 0; i < 5; i++) {
+						params[0] = i;
+						params[1] = "name" + i;
+						writer.add(params);
+					}
+					writer.flush();
+				}
+			}
+			assertEquals(5, Db.use(DS_GROUP_NAME).count("SELECT * FROM batch_test"));
+			assertEquals("name0", Db.use(DS_GROUP_NAME).queryString("SELECT name FROM batch_test WHERE id = 0"));
+			assertEquals("name3", Db.use(DS_GROUP_NAME).queryString("SELECT name FROM batch_test WHERE id = 3"));
+		}
+	}
+
+	@Test
+	public void commitPerBatchTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		final List<Object[]> rows = rows(0, 250);
+		// 第三个批次主键重复
+		rows.set(220, new Object[]{1, "dup"});
+		final SQLException e = assertThrows(SQLException.class,
+				() -> db.batchWrite(INSERT_SQL, w -> w.setBatchSize(100).setCommitPerBatch(true).addAll(rows)));
+		assertTrue(e.getMessage().contains("200 rows written"));
+		// 之前的批次已提交，失败的批次被回滚
+		assertEquals(200, db.count("SELECT * FROM batch_test"));
+
+		try (final Connection conn = db.getConnection()) {
+			assertTrue(conn.getAutoCommit());
+		}
+	}
+
+	@Test
+	public void upsertNotRewriteTest() throws SQLException {
+		final String upsertSql = "INSERT INTO upsert_test(id, name) VALUES (?, ?) ON DUPLICATE KEY UPDATE name = VALUES(name)";
+		// H2的MySQL模式支持ON DUPLICATE KEY UPDATE
+		try (final Connection conn = DriverManager.getConnection("jdbc:h2:mem:h2_batch_mysql;MODE=MySQL", "sa", "")) {
+			try (final Statement st = conn.createStatement()) {
+				st.execute("CREATE TABLE upsert_test(id INTEGER PRIMARY KEY, name VARCHAR(20))");
+			}
+			// VALUES之后有其它子句，不改写为多行VALUES，按照普通批量执行
+			try (final BatchWriter writer = new BatchWriter(conn, upsertSql).setMultiRowValues(true).setBatchSize(3)) {
+				writer.addAll(rows(0, 5));
+				writer.add(1, "updated");
+				writer.flush();
+				assertEquals(6, writer.getCount());
+			}
+			try (final Statement st = conn.createStatement();
+				 final ResultSet rs = st.executeQuery("SELECT COUNT(*), MAX(CASE WHEN id = 1 THEN name END) FROM upsert_test")) {
+				assertTrue(rs.next());
+				assertEquals(5, rs.getInt(1));
+				assertEquals("updated", rs.getString(2));
+			}
+		}
+	}
+
+	@Test
+	public void discardOnErrorTest() throws SQLException {
+		final Db db = Db.use(DS_GROUP_NAME);
+		assertThrows(SQLException.class, () -> db.batchWrite(INSERT_SQL, w -> {
+			w.addAll(rows(0, 10));
+			throw new IllegalStateException("stop");
+		}));
+		// 写入函数异常时未执行的行被丢弃
+		assertEquals(0, db.count("SELECT * FROM batch_test"));
+	}
+
+	private static List<Object[]> rows(int from, int to) {
+		final List<Object[]> rows = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			rows.add(new Object[]{i, i % 7 == 0 ? null : "name" + i});
+		}
+		return rows;
+	}
+}
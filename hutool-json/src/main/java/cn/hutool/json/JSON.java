@@ -1,6 +1,5 @@
 package cn.hutool.json;
 
-import cn.hutool.core.bean.BeanPath;
 import cn.hutool.core.bean.copier.IJSONTypeConverter;
 import cn.hutool.core.lang.TypeReference;
 
@@ -29,7 +28,9 @@ public interface JSON extends Cloneable, Serializable, IJSONTypeConverter {
 	 * <ol>
 	 * <li>.表达式，可以获取Bean对象中的属性（字段）值或者Map中key对应的值</li>
 	 * <li>[]表达式，可以获取集合等对象中对应index的值</li>
+	 * <li>*、[start:end:step]、[?(@.a &gt; 1)]表达式，通配、切片和过滤，返回匹配值的列表</li>
 	 * </ol>
+	 * 表达式编译后被缓存，见{@link JSONPath}
 	 * <p>
 	 * 表达式栗子：
 	 *
@@ -38,11 +39,13 @@ public interface JSON extends Cloneable, Serializable, IJSONTypeConverter {
 	 * persion.name
 	 * persons[3]
 	 * person.friends[5].name
+	 * persons[*].name
+	 * persons[?(@.age &gt;= 18)].name
 	 * </pre>
 	 *
 	 * @param expression 表达式
 	 * @return 对象
-	 * @see BeanPath#get(Object)
+	 * @see JSONPath#getValue(Object)
 	 * @since 4.0.6
 	 */
 	Object getByPath(String expression);
@@ -75,7 +78,9 @@ public interface JSON extends Cloneable, Serializable, IJSONTypeConverter {
 	 * <ol>
 	 * <li>.表达式，可以获取Bean对象中的属性（字段）值或者Map中key对应的值</li>
 	 * <li>[]表达式，可以获取集合等对象中对应index的值</li>
+	 * <li>*、[start:end:step]、[?(@.a &gt; 1)]表达式，通配、切片和过滤，返回匹配值的列表</li>
 	 * </ol>
+	 * 表达式编译后被缓存，见{@link JSONPath}
 	 * <p>
 	 * 表达式栗子：
 	 *
@@ -84,6 +89,8 @@ public interface JSON extends Cloneable, Serializable, IJSONTypeConverter {
 	 * persion.name
 	 * persons[3]
 	 * person.friends[5].name
+	 * persons[*].name
+	 * persons[?(@.age &gt;= 18)].name
 	 * </pre>
 	 * <p>
 	 * 获取表达式对应值后转换为对应类型的值
@@ -92,7 +99,7 @@ public interface JSON extends Cloneable, Serializable, IJSONTypeConverter {
 	 * @param expression 表达式
 	 * @param resultType 返回值类型
 	 * @return 对象
-	 * @see BeanPath#get(Object)
+	 * @see JSONPath#getValue(Object)
 	 * @since 4.0.6
 	 */
 	<T> T getByPath(String expression, Class<T> resultType);
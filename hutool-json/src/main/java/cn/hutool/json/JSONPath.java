@@ -0,0 +1,952 @@
+package cn.hutool.json;
+
+import cn.hutool.core.bean.BeanPath;
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.map.FixedLinkedHashMap;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.NumberUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.stream.JSONStreamReader;
+import cn.hutool.json.stream.JSONToken;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 预编译的JSON路径表达式<br>
+ * 表达式只在编译时解析一次，之后可在多个线程中重复使用。{@link #of(String)}会将编译结果放入分段的LRU缓存，
+ * {@link JSON#getByPath(String)}和{@link JSON#putByPath(String, Object)}均通过此缓存获取表达式。<br>
+ * 兼容{@link BeanPath}的语法，并增加以下语法：
+ * <ul>
+ *     <li>{@code *}或{@code [*]}：通配符，匹配对象的所有值或数组的所有元素</li>
+ *     <li>{@code [start:end:step]}：切片，start和end可省略，支持负数</li>
+ *     <li>{@code [?(@.price > 10 && @.name != 'a')]}：过滤器，支持==、!=、&gt;、&gt;=、&lt;、&lt;=、&amp;&amp;、||，无运算符时表示属性存在</li>
+ * </ul>
+ * 包含通配符或过滤器的表达式返回所有匹配值组成的列表，其后的路径作用于每个匹配值，不存在的值被忽略。
+ *
+ * <pre>
+ * person.friends[5].name
+ * $.store.book[*].author
+ * $.store.book[?(@.price &lt; 10)].title
+ * $.store.book[-2:]
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class JSONPath {
+
+	/**
+	 * 默认缓存的表达式数量
+	 */
+	public static final int DEFAULT_CACHE_CAPACITY = 512;
+
+	/**
+	 * 缓存分段数，每段为独立加锁的LRU，不同段的读写互不阻塞
+	 */
+	private static final int CACHE_SEGMENTS = 16;
+	@SuppressWarnings("unchecked")
+	private static final FixedLinkedHashMap<String, JSONPath>[] CACHE = new FixedLinkedHashMap[CACHE_SEGMENTS];
+
+	static {
+		for (int i = 0; i < CACHE_SEGMENTS; i++) {
+			CACHE[i] = new FixedLinkedHashMap<>(segmentCapacity(DEFAULT_CACHE_CAPACITY));
+		}
+	}
+
+	private final String expression;
+	/**
+	 * 是否以$开头，以$开头时第一个节点不与对象类名匹配
+	 */
+	private final boolean isStartWith;
+	private final Segment[] segments;
+	/**
+	 * 是否为确定路径，即结果为单个值
+	 */
+	private final boolean definite;
+	/**
+	 * 用于设置值的路径，延迟创建
+	 */
+	private volatile BeanPath beanPath;
+
+	/**
+	 * 获取编译后的表达式，编译结果被缓存，缓存满时移除所在分段中最久未使用的表达式<br>
+	 * 缓存按照表达式的hash分段，只锁定表达式所在的分段
+	 *
+	 * @param expression 表达式
+	 * @return JSONPath
+	 * @throws IllegalArgumentException 表达式语法错误
+	 */
+	public static JSONPath of(String expression) throws IllegalArgumentException {
+		final FixedLinkedHashMap<String, JSONPath> segment = CACHE[segmentIndex(expression)];
+		JSONPath path;
+		synchronized (segment) {
+			path = segment.get(expression);
+		}
+		if (null == path) {
+			// 编译在锁外执行，并发时可能重复编译，结果相同
+			path = compile(expression);
+			synchronized (segment) {
+				final JSONPath exist = segment.putIfAbsent(expression, path);
+				if (null != exist) {
+					path = exist;
+				}
+			}
+		}
+		return path;
+	}
+
+	/**
+	 * 编译表达式，不使用缓存
+	 *
+	 * @param expression 表达式
+	 * @return JSONPath
+	 * @throws IllegalArgumentException 表达式语法错误
+	 */
+	public static JSONPath compile(String expression) throws IllegalArgumentException {
+		return new JSONPath(expression);
+	}
+
+	/**
+	 * 设置缓存容量，容量平均分配到各分段（每段至少1个），超出的表达式按照最久未使用移除
+	 *
+	 * @param capacity 容量，必须大于0
+	 */
+	public static void setCacheCapacity(int capacity) {
+		Assert.isTrue(capacity > 0, "Cache capacity must be greater than 0 but got {}", capacity);
+		final int segmentCapacity = segmentCapacity(capacity);
+		for (final FixedLinkedHashMap<String, JSONPath> segment : CACHE) {
+			synchronized (segment) {
+				segment.setCapacity(segmentCapacity);
+				// 访问顺序的链表头部即最久未使用的表达式
+				final Iterator<String> iterator = segment.keySet().iterator();
+				while (segment.size() > segmentCapacity) {
+					iterator.next();
+					iterator.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 清空缓存
+	 */
+	public static void clearCache() {
+		for (final FixedLinkedHashMap<String, JSONPath> segment : CACHE) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * 获取表达式所在的缓存分段
+	 *
+	 * @param expression 表达式
+	 * @return 分段序号
+	 */
+	private static int segmentIndex(String expression) {
+		final int h = expression.hashCode();
+		return (h ^ (h >>> 16)) & (CACHE_SEGMENTS - 1);
+	}
+
+	/**
+	 * 计算每个分段的容量
+	 *
+	 * @param capacity 总容量
+	 * @return 分段容量
+	 */
+	private static int segmentCapacity(int capacity) {
+		return Math.max(1, (capacity + CACHE_SEGMENTS - 1) / CACHE_SEGMENTS);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param expression 表达式
+	 * @throws IllegalArgumentException 表达式语法错误
+	 */
+	private JSONPath(String expression) throws IllegalArgumentException {
+		this.expression = expression;
+		this.isStartWith = StrUtil.startWith(expression, '$');
+		this.segments = parse(expression, isStartWith ? 1 : 0).toArray(new Segment[0]);
+		boolean definite = true;
+		for (Segment segment : this.segments) {
+			if (false == segment instanceof KeySegment) {
+				definite = false;
+				break;
+			}
+		}
+		this.definite = definite;
+	}
+
+	/**
+	 * 获取表达式
+	 *
+	 * @return 表达式
+	 */
+	public String getExpression() {
+		return this.expression;
+	}
+
+	/**
+	 * 是否为确定路径，即只包含属性名和下标，结果为单个值
+	 *
+	 * @return 是否为确定路径
+	 */
+	public boolean isDefinite() {
+		return this.definite;
+	}
+
+	/**
+	 * 获取表达式对应的值
+	 *
+	 * @param json JSON、Bean、Map或集合等
+	 * @return 值，不存在返回{@code null}，包含通配符或过滤器时返回匹配值的列表
+	 */
+	public Object getValue(Object json) {
+		return eval(json, 0);
+	}
+
+	/**
+	 * 设置表达式对应的值，规则与{@link BeanPath#set(Object, Object)}相同，不支持通配符和过滤器
+	 *
+	 * @param json  JSON、Bean、Map或集合等
+	 * @param value 值
+	 */
+	public void setValue(Object json, Object value) {
+		BeanPath beanPath = this.beanPath;
+		if (null == beanPath) {
+			beanPath = BeanPath.create(this.expression);
+			this.beanPath = beanPath;
+		}
+		beanPath.set(json, value);
+	}
+
+	/**
+	 * 在流式解析过程中获取表达式对应的值，只有匹配的值被读入内存，其它的对象和数组直接跳过<br>
+	 * 结果与将整个文档解析为JSON后调用{@link #getValue(Object)}相同。确定路径找到值后立即返回，读取器停留在该值的最后一个Token，
+	 * 其余内容不再读取。
+	 *
+	 * @param reader {@link JSONStreamReader}，当前Token为值的第一个Token或未开始读取
+	 * @return 值，不存在返回{@code null}，包含通配符或过滤器时返回匹配值的列表
+	 */
+	public Object read(JSONStreamReader reader) {
+		if (null == reader.currentToken() || JSONToken.FIELD_NAME == reader.currentToken()) {
+			reader.next();
+		}
+		if (JSONToken.END_DOCUMENT == reader.currentToken()) {
+			return null;
+		}
+		return streamEval(reader, 0);
+	}
+
+	@Override
+	public String toString() {
+		return this.expression;
+	}
+
+	// ---------------------------------------------------------------- eval start
+
+	/**
+	 * 单值模式下从指定节点开始求值
+	 *
+	 * @param value 当前值
+	 * @param index 节点下标
+	 * @return 值
+	 */
+	private Object eval(Object value, int index) {
+		final Object root = value;
+		Segment segment;
+		for (int i = index; i < segments.length; i++) {
+			segment = segments[i];
+			if (segment.isMulti()) {
+				final List<Object> result = new ArrayList<>();
+				final int next = i + 1;
+				segment.each(value, (element) -> collect(element, next, result));
+				return result;
+			}
+			value = segment.get(value);
+			if (null == value) {
+				// 支持表达式的第一个节点为对象本身（若用户定义表达式$开头，则不做此操作）
+				if (0 == i && false == isStartWith && segment instanceof KeySegment
+						&& BeanUtil.isMatchName(root, ((KeySegment) segment).key, true)) {
+					value = root;
+				} else {
+					return null;
+				}
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * 多值模式下从指定节点开始求值，结果加入列表
+	 *
+	 * @param value  当前值
+	 * @param index  节点下标
+	 * @param result 结果列表
+	 */
+	private void collect(Object value, int index, List<Object> result) {
+		if (index == segments.length) {
+			if (null != value) {
+				result.add(value);
+			}
+			return;
+		}
+		final Segment segment = segments[index];
+		if (segment.isMulti()) {
+			segment.each(value, (element) -> collect(element, index + 1, result));
+		} else {
+			final Object next = segment.get(value);
+			if (null != next) {
+				collect(next, index + 1, result);
+			}
+		}
+	}
+
+	/**
+	 * 流式单值模式下从指定节点开始求值，当前Token为值的第一个Token
+	 *
+	 * @param reader {@link JSONStreamReader}
+	 * @param index  节点下标
+	 * @return 值
+	 */
+	private Object streamEval(JSONStreamReader reader, int index) {
+		if (index == segments.length) {
+			return reader.readTree();
+		}
+		final Segment segment = segments[index];
+		if (segment.isMulti()) {
+			final List<Object> result = new ArrayList<>();
+			streamEach(reader, segment, index + 1, result);
+			return result;
+		}
+		// 第一个节点可能为对象本身的类名，此时需要整体读取后求值
+		if (segment instanceof KeySegment && ((KeySegment) segment).isStreamable(reader.currentToken())
+				&& (index > 0 || isStartWith || false == ((KeySegment) segment).isJSONClassName())) {
+			if (seekKey(reader, (KeySegment) segment)) {
+				return streamEval(reader, index + 1);
+			}
+			return null;
+		}
+		return eval(reader.readTree(), index);
+	}
+
+	/**
+	 * 流式多值模式下从指定节点开始求值，结果加入列表，求值后当前Token为值的最后一个Token
+	 *
+	 * @param reader {@link JSONStreamReader}
+	 * @param index  节点下标
+	 * @param result 结果列表
+	 */
+	private void streamCollect(JSONStreamReader reader, int index, List<Object> result) {
+		if (index == segments.length) {
+			result.add(reader.readTree());
+			return;
+		}
+		final Segment segment = segments[index];
+		if (segment.isMulti()) {
+			streamEach(reader, segment, index + 1, result);
+		} else if (segment instanceof KeySegment && ((KeySegment) segment).isStreamable(reader.currentToken())) {
+			final JSONToken endToken = JSONToken.START_OBJECT == reader.currentToken() ? JSONToken.END_OBJECT : JSONToken.END_ARRAY;
+			if (seekKey(reader, (KeySegment) segment)) {
+				streamCollect(reader, index + 1, result);
+				// 跳过剩余部分
+				while (endToken != reader.next()) {
+					reader.skipChildren();
+				}
+			}
+		} else {
+			collect(reader.readTree(), index, result);
+		}
+	}
+
+	/**
+	 * 流式遍历多值节点匹配的元素
+	 *
+	 * @param reader  {@link JSONStreamReader}
+	 * @param segment 多值节点
+	 * @param next    下一个节点下标
+	 * @param result  结果列表
+	 */
+	private void streamEach(JSONStreamReader reader, Segment segment, int next, List<Object> result) {
+		final JSONToken token = reader.currentToken();
+		if (JSONToken.START_OBJECT != token && JSONToken.START_ARRAY != token) {
+			return;
+		}
+		final JSONToken endToken = JSONToken.START_OBJECT == token ? JSONToken.END_OBJECT : JSONToken.END_ARRAY;
+		while (endToken != reader.next()) {
+			if (JSONToken.FIELD_NAME == reader.currentToken()) {
+				reader.next();
+			}
+			if (segment instanceof FilterSegment) {
+				final Object element = reader.readTree();
+				if (((FilterSegment) segment).test(element)) {
+					collect(element, next, result);
+				}
+			} else {
+				streamCollect(reader, next, result);
+			}
+		}
+	}
+
+	/**
+	 * 在当前对象或数组中查找键或下标对应的值，找到后当前Token为值的第一个Token，未找到时为对象或数组的结束Token
+	 *
+	 * @param reader  {@link JSONStreamReader}
+	 * @param segment 节点
+	 * @return 是否找到
+	 */
+	private static boolean seekKey(JSONStreamReader reader, KeySegment segment) {
+		if (JSONToken.START_OBJECT == reader.currentToken()) {
+			while (JSONToken.END_OBJECT != reader.next()) {
+				if (segment.key.equals(reader.getText())) {
+					reader.next();
+					return true;
+				}
+				reader.skipChildren();
+			}
+		} else {
+			int i = 0;
+			while (JSONToken.END_ARRAY != reader.next()) {
+				if (i++ == segment.index) {
+					return true;
+				}
+				reader.skipChildren();
+			}
+		}
+		return false;
+	}
+	// ---------------------------------------------------------------- eval end
+
+	// ---------------------------------------------------------------- parse start
+
+	/**
+	 * 解析表达式
+	 *
+	 * @param expression 表达式
+	 * @param start      开始位置
+	 * @return 节点列表
+	 */
+	private static List<Segment> parse(String expression, int start) {
+		final List<Segment> segments = new ArrayList<>();
+		final int length = expression.length();
+		final StringBuilder builder = new StringBuilder();
+		boolean isInWrap = false;
+		char c;
+		for (int i = start; i < length; i++) {
+			c = expression.charAt(i);
+			if ('\'' == c) {
+				isInWrap = (false == isInWrap);
+				continue;
+			}
+			if (isInWrap) {
+				builder.append(c);
+				continue;
+			}
+			switch (c) {
+				case '.':
+					addKey(segments, builder);
+					break;
+				case '[':
+					addKey(segments, builder);
+					final int end = indexOfBracketEnd(expression, i);
+					if (end < 0) {
+						throw new IllegalArgumentException(StrUtil.format("Bad expression '{}':{}, we find '[' but no ']' !", expression, i));
+					}
+					segments.add(parseBracket(expression, expression.substring(i + 1, end)));
+					i = end;
+					break;
+				case ']':
+					throw new IllegalArgumentException(StrUtil.format("Bad expression '{}':{}, we find ']' but no '[' !", expression, i));
+				default:
+					builder.append(c);
+			}
+		}
+		addKey(segments, builder);
+		return segments;
+	}
+
+	/**
+	 * 将已读取的名称加入节点列表，{@code *}为通配符
+	 *
+	 * @param segments 节点列表
+	 * @param builder  名称
+	 */
+	private static void addKey(List<Segment> segments, StringBuilder builder) {
+		if (builder.length() > 0) {
+			final String key = builder.toString();
+			segments.add("*".equals(key) ? WildcardSegment.INSTANCE : new KeySegment(key));
+			builder.setLength(0);
+		}
+	}
+
+	/**
+	 * 解析中括号中的内容
+	 *
+	 * @param expression 表达式
+	 * @param body       中括号中的内容
+	 * @return 节点
+	 */
+	private static Segment parseBracket(String expression, String body) {
+		final String trimmed = body.trim();
+		if ("*".equals(trimmed)) {
+			return WildcardSegment.INSTANCE;
+		}
+		if (trimmed.startsWith("?")) {
+			if (false == (trimmed.startsWith("?(") && trimmed.endsWith(")"))) {
+				throw new IllegalArgumentException(StrUtil.format("Bad filter '{}' in expression '{}', filter must be like '?(...)' !", body, expression));
+			}
+			return new FilterSegment(expression, trimmed.substring(2, trimmed.length() - 1));
+		}
+		if (indexOfOutside(body, ':', 0) >= 0) {
+			return new SliceSegment(StrUtil.split(body, ':', -1, true, false));
+		}
+		if (indexOfOutside(body, ',', 0) >= 0) {
+			return new MultiKeySegment(StrUtil.splitTrim(body, ','));
+		}
+		return new KeySegment(StrUtil.unWrap(body, '\''));
+	}
+
+	/**
+	 * 查找与指定位置的'['对应的']'，忽略引号和括号中的内容
+	 *
+	 * @param expression 表达式
+	 * @param start      '['的位置
+	 * @return ']'的位置，未找到返回-1
+	 */
+	private static int indexOfBracketEnd(String expression, int start) {
+		boolean isInWrap = false;
+		int parenDepth = 0;
+		char c;
+		for (int i = start + 1; i < expression.length(); i++) {
+			c = expression.charAt(i);
+			if ('\'' == c || '"' == c) {
+				isInWrap = (false == isInWrap);
+			} else if (false == isInWrap) {
+				if ('(' == c) {
+					parenDepth++;
+				} else if (')' == c) {
+					parenDepth--;
+				} else if (']' == c && parenDepth <= 0) {
+					return i;
+				}
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 查找引号之外的字符串
+	 *
+	 * @param str    字符串
+	 * @param search 被查找的字符串
+	 * @param start  开始位置
+	 * @return 位置，未找到返回-1
+	 */
+	private static int indexOfOutside(String str, String search, int start) {
+		boolean isInWrap = false;
+		char c;
+		for (int i = start; i < str.length(); i++) {
+			c = str.charAt(i);
+			if ('\'' == c || '"' == c) {
+				isInWrap = (false == isInWrap);
+			} else if (false == isInWrap && str.startsWith(search, i)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 查找引号之外的字符
+	 *
+	 * @param str    字符串
+	 * @param search 被查找的字符
+	 * @param start  开始位置
+	 * @return 位置，未找到返回-1
+	 */
+	private static int indexOfOutside(String str, char search, int start) {
+		boolean isInWrap = false;
+		char c;
+		for (int i = start; i < str.length(); i++) {
+			c = str.charAt(i);
+			if ('\'' == c || '"' == c) {
+				isInWrap = (false == isInWrap);
+			} else if (false == isInWrap && search == c) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 按照引号之外的分隔符切分字符串
+	 *
+	 * @param str       字符串
+	 * @param separator 分隔符
+	 * @return 切分后的字符串
+	 */
+	private static List<String> splitOutside(String str, String separator) {
+		final List<String> result = new ArrayList<>();
+		int start = 0;
+		int index;
+		while ((index = indexOfOutside(str, separator, start)) >= 0) {
+			result.add(str.substring(start, index).trim());
+			start = index + separator.length();
+		}
+		result.add(str.substring(start).trim());
+		return result;
+	}
+	// ---------------------------------------------------------------- parse end
+
+	// ---------------------------------------------------------------- segment start
+
+	/**
+	 * 路径节点
+	 */
+	private interface Segment {
+		/**
+		 * 是否为多值节点，多值节点之后的节点作用于每个匹配值
+		 *
+		 * @return 是否为多值节点
+		 */
+		default boolean isMulti() {
+			return false;
+		}
+
+		/**
+		 * 获取单值节点对应的值
+		 *
+		 * @param value 当前值
+		 * @return 值
+		 */
+		default Object get(Object value) {
+			throw new UnsupportedOperationException();
+		}
+
+		/**
+		 * 遍历多值节点匹配的值
+		 *
+		 * @param value    当前值
+		 * @param consumer 匹配值处理
+		 */
+		default void each(Object value, Consumer<Object> consumer) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * 属性名或下标节点，规则与{@link BeanUtil#getFieldValue(Object, String)}相同
+	 */
+	private static class KeySegment implements Segment {
+		private final String key;
+		/**
+		 * 键为整数时的下标，否则为{@code null}
+		 */
+		private final Integer index;
+
+		KeySegment(String key) {
+			this.key = key;
+			this.index = NumberUtil.isInteger(key) ? Integer.parseInt(key) : null;
+		}
+
+		@Override
+		public Object get(Object value) {
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).get(key);
+			}
+			if (null != index && value instanceof List) {
+				return CollUtil.get((List<?>) value, index);
+			}
+			return BeanUtil.getFieldValue(value, key);
+		}
+
+		/**
+		 * 流式读取时是否可以直接查找，对象按照键查找，数组只支持非负下标
+		 *
+		 * @param token 当前Token
+		 * @return 是否可以直接查找
+		 */
+		boolean isStreamable(JSONToken token) {
+			return JSONToken.START_OBJECT == token
+					|| (JSONToken.START_ARRAY == token && null != index && index >= 0);
+		}
+
+		/**
+		 * 键是否为JSONObject或JSONArray的类名，规则与{@link BeanUtil#isMatchName(Object, String, boolean)}相同
+		 *
+		 * @return 是否为JSON的类名
+		 */
+		boolean isJSONClassName() {
+			final String className = StrUtil.upperFirst(key);
+			return JSONObject.class.getSimpleName().equals(className) || JSONArray.class.getSimpleName().equals(className);
+		}
+	}
+
+	/**
+	 * 多个属性名或下标节点，{@code [0,1]}或{@code ['a','b']}，规则与{@link BeanPath}相同
+	 */
+	private static class MultiKeySegment implements Segment {
+		private final List<String> keys;
+		private final String[] unWrappedKeys;
+
+		MultiKeySegment(List<String> keys) {
+			this.keys = keys;
+			this.unWrappedKeys = new String[keys.size()];
+			for (int i = 0; i < unWrappedKeys.length; i++) {
+				unWrappedKeys[i] = StrUtil.unWrap(keys.get(i), '\'');
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Object get(Object value) {
+			if (value instanceof Collection) {
+				return CollUtil.getAny((Collection<?>) value, Convert.convert(int[].class, keys));
+			} else if (ArrayUtil.isArray(value)) {
+				return ArrayUtil.getAny(value, Convert.convert(int[].class, keys));
+			} else if (value instanceof Map) {
+				// 只支持String为key的Map
+				return MapUtil.getAny((Map<String, ?>) value, unWrappedKeys);
+			} else if (null != value) {
+				return MapUtil.getAny(BeanUtil.beanToMap(value), unWrappedKeys);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * 切片节点，{@code [start:end:step]}
+	 */
+	private static class SliceSegment implements Segment {
+		private final int start;
+		private final int end;
+		private final int step;
+
+		SliceSegment(List<String> parts) {
+			this.start = parts.isEmpty() || parts.get(0).isEmpty() ? 0 : Integer.parseInt(parts.get(0));
+			this.end = parts.size() < 2 || parts.get(1).isEmpty() ? Integer.MAX_VALUE : Integer.parseInt(parts.get(1));
+			this.step = parts.size() < 3 || parts.get(2).isEmpty() ? 1 : Integer.parseInt(parts.get(2));
+		}
+
+		@Override
+		public Object get(Object value) {
+			if (value instanceof Collection) {
+				return CollUtil.sub((Collection<?>) value, start, end, step);
+			} else if (ArrayUtil.isArray(value)) {
+				final int length = ArrayUtil.length(value);
+				return ArrayUtil.sub(value, start, Math.min(end, length), step);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * 通配符节点，匹配Map的所有值、集合或数组的所有元素
+	 */
+	private static class WildcardSegment implements Segment {
+		static final WildcardSegment INSTANCE = new WildcardSegment();
+
+		@Override
+		public boolean isMulti() {
+			return true;
+		}
+
+		@Override
+		public void each(Object value, Consumer<Object> consumer) {
+			if (value instanceof Map) {
+				((Map<?, ?>) value).values().forEach(consumer);
+			} else if (value instanceof Iterable) {
+				((Iterable<?>) value).forEach(consumer);
+			} else if (ArrayUtil.isArray(value)) {
+				for (int i = 0; i < ArrayUtil.length(value); i++) {
+					consumer.accept(ArrayUtil.get(value, i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * 过滤器节点，{@code [?(@.a > 1 && @.b == 'x' || @.c)]}，{@code &&}优先于{@code ||}
+	 */
+	private static class FilterSegment implements Segment {
+		/**
+		 * 条件，外层为或，内层为与
+		 */
+		private final List<List<Condition>> conditions;
+
+		FilterSegment(String expression, String filter) {
+			this.conditions = new ArrayList<>();
+			for (String or : splitOutside(filter, "||")) {
+				final List<Condition> and = new ArrayList<>();
+				for (String condition : splitOutside(or, "&&")) {
+					if (condition.isEmpty()) {
+						throw new IllegalArgumentException(StrUtil.format("Bad filter '{}' in expression '{}', empty condition !", filter, expression));
+					}
+					and.add(new Condition(condition));
+				}
+				this.conditions.add(and);
+			}
+		}
+
+		@Override
+		public boolean isMulti() {
+			return true;
+		}
+
+		@Override
+		public void each(Object value, Consumer<Object> consumer) {
+			WildcardSegment.INSTANCE.each(value, (element) -> {
+				if (test(element)) {
+					consumer.accept(element);
+				}
+			});
+		}
+
+		/**
+		 * 元素是否满足条件
+		 *
+		 * @param element 元素
+		 * @return 是否满足条件
+		 */
+		boolean test(Object element) {
+			for (List<Condition> and : conditions) {
+				boolean match = true;
+				for (Condition condition : and) {
+					if (false == condition.test(element)) {
+						match = false;
+						break;
+					}
+				}
+				if (match) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * 过滤条件
+	 */
+	private static class Condition {
+		private static final String[] OPERATORS = {"==", "!=", ">=", "<=", ">", "<"};
+
+		private final Object left;
+		private final String operator;
+		private final Object right;
+
+		Condition(String condition) {
+			for (String operator : OPERATORS) {
+				final int index = indexOfOutside(condition, operator, 0);
+				if (index > 0) {
+					this.left = parseOperand(condition.substring(0, index).trim());
+					this.operator = operator;
+					this.right = parseOperand(condition.substring(index + operator.length()).trim());
+					return;
+				}
+			}
+			this.left = parseOperand(condition);
+			this.operator = null;
+			this.right = null;
+		}
+
+		/**
+		 * 元素是否满足条件
+		 *
+		 * @param element 元素
+		 * @return 是否满足条件
+		 */
+		boolean test(Object element) {
+			final Object leftValue = valueOf(left, element);
+			if (null == operator) {
+				// 属性存在
+				return null != leftValue;
+			}
+			return compare(unwrapNull(leftValue), operator, unwrapNull(valueOf(right, element)));
+		}
+
+		/**
+		 * 解析操作数，@开头为相对于当前元素的路径，否则为字符串、数字、布尔或null
+		 *
+		 * @param operand 操作数
+		 * @return 路径或值
+		 */
+		private static Object parseOperand(String operand) {
+			if (operand.startsWith("@")) {
+				return compile("$" + operand.substring(1));
+			}
+			if (StrUtil.isWrap(operand, '\'') || StrUtil.isWrap(operand, '"')) {
+				return operand.substring(1, operand.length() - 1);
+			}
+			if ("true".equals(operand) || "false".equals(operand)) {
+				return Boolean.valueOf(operand);
+			}
+			if ("null".equals(operand)) {
+				return null;
+			}
+			if (NumberUtil.isNumber(operand)) {
+				return new BigDecimal(operand);
+			}
+			throw new IllegalArgumentException(StrUtil.format("Bad operand '{}' in filter !", operand));
+		}
+
+		private static Object valueOf(Object operand, Object element) {
+			return operand instanceof JSONPath ? ((JSONPath) operand).getValue(element) : operand;
+		}
+
+		private static Object unwrapNull(Object value) {
+			return value instanceof JSONNull ? null : value;
+		}
+
+		/**
+		 * 比较两个值，数字按照数值比较，字符串按照字典顺序比较，其它类型只支持==和!=
+		 *
+		 * @param left     左值
+		 * @param operator 运算符
+		 * @param right    右值
+		 * @return 是否满足
+		 */
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		private static boolean compare(Object left, String operator, Object right) {
+			final Integer compare;
+			if (left instanceof Number && right instanceof Number) {
+				compare = NumberUtil.toBigDecimal((Number) left).compareTo(NumberUtil.toBigDecimal((Number) right));
+			} else if (left instanceof String && right instanceof String) {
+				compare = ((String) left).compareTo((String) right);
+			} else if (null != left && null != right && left.getClass() == right.getClass() && left instanceof Comparable) {
+				compare = ((Comparable) left).compareTo(right);
+			} else {
+				compare = null;
+			}
+
+			switch (operator) {
+				case "==":
+					return null == compare ? ObjectUtil.equals(left, right) : 0 == compare;
+				case "!=":
+					return null == compare ? false == ObjectUtil.equals(left, right) : 0 != compare;
+				case ">":
+					return null != compare && compare > 0;
+				case ">=":
+					return null != compare && compare >= 0;
+				case "<":
+					return null != compare && compare < 0;
+				default:
+					return null != compare && compare <= 0;
+			}
+		}
+	}
+	// ---------------------------------------------------------------- segment end
+}
@@ -10,9 +10,15 @@ import cn.hutool.json.serialize.GlobalSerializeMapping;
 import cn.hutool.json.serialize.JSONArraySerializer;
 import cn.hutool.json.serialize.JSONDeserializer;
 import cn.hutool.json.serialize.JSONObjectSerializer;
+import cn.hutool.json.stream.JSONStreamReader;
+import cn.hutool.json.stream.JSONStreamWriter;
+import cn.hutool.json.stream.JSONToken;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
@@ -376,6 +382,36 @@ public class JSONUtil {
 		}
 	}
 
+	/**
+	 * 流式转换为JSON字符串并写出到writer，Bean、集合、Map直接写出，不构建中间的JSONObject或JSONArray<br>
+	 * 写出后刷新writer，但不关闭
+	 *
+	 * @param obj    被转为JSON的对象
+	 * @param writer Writer
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @throws IORuntimeException IO异常
+	 * @see JSONStreamWriter
+	 * @since 5.8.35
+	 */
+	public static void write(Object obj, Writer writer, JSONConfig config) throws IORuntimeException {
+		JSONStreamWriter.of(writer, config).write(obj).flush();
+	}
+
+	/**
+	 * 流式转换为JSON字符串并以UTF-8编码写出到流，Bean、集合、Map直接写出，不构建中间的JSONObject或JSONArray<br>
+	 * 写出后刷新流，但不关闭
+	 *
+	 * @param obj    被转为JSON的对象
+	 * @param out    输出流
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @throws IORuntimeException IO异常
+	 * @see JSONStreamWriter
+	 * @since 5.8.35
+	 */
+	public static void write(Object obj, OutputStream out, JSONConfig config) throws IORuntimeException {
+		JSONStreamWriter.of(out, config).write(obj).flush();
+	}
+
 	/**
 	 * 转换为格式化后的JSON字符串
 	 *
@@ -504,6 +540,73 @@ public class JSONUtil {
 	}
 	// -------------------------------------------------------------------- toBean end
 
+	// -------------------------------------------------------------------- bind start
+
+	/**
+	 * JSON字符串直接绑定为实体类对象，转换异常将被抛出<br>
+	 * 与{@link #toBean(String, Class)}不同，此方法不构建中间的JSONObject，而是在解析的同时通过缓存的属性描述直接赋值，
+	 * 内存占用和耗时更低。
+	 *
+	 * @param <T>       Bean类型
+	 * @param jsonStr   JSON字符串
+	 * @param beanClass 实体类对象
+	 * @return 实体类对象
+	 * @see JSONStreamReader#readValue(Type)
+	 * @since 5.8.35
+	 */
+	public static <T> T bind(CharSequence jsonStr, Class<T> beanClass) {
+		return bind(jsonStr, beanClass, null);
+	}
+
+	/**
+	 * JSON字符串直接绑定为指定类型对象，支持如{@code List<Bean>}、{@code Map<String, Bean>}等泛型类型
+	 *
+	 * @param <T>           Bean类型
+	 * @param jsonStr       JSON字符串
+	 * @param typeReference {@link TypeReference}类型参考子类，可以获取其泛型参数中的Type类型
+	 * @return 实体类对象
+	 * @since 5.8.35
+	 */
+	public static <T> T bind(CharSequence jsonStr, TypeReference<T> typeReference) {
+		return bind(jsonStr, typeReference.getType(), null);
+	}
+
+	/**
+	 * JSON字符串直接绑定为指定类型对象
+	 *
+	 * @param <T>     Bean类型
+	 * @param jsonStr JSON字符串
+	 * @param type    目标类型
+	 * @param config  JSON配置，{@code null}表示默认配置
+	 * @return 实体类对象，JSON字符串为空时返回{@code null}
+	 * @since 5.8.35
+	 */
+	public static <T> T bind(CharSequence jsonStr, Type type, JSONConfig config) {
+		if (StrUtil.isBlank(jsonStr)) {
+			return null;
+		}
+		return bind(new StringReader(jsonStr.toString()), type, config);
+	}
+
+	/**
+	 * 从{@link Reader}中读取JSON并直接绑定为指定类型对象，读取后不关闭Reader
+	 *
+	 * @param <T>    Bean类型
+	 * @param reader {@link Reader}
+	 * @param type   目标类型
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return 实体类对象，没有内容时返回{@code null}
+	 * @since 5.8.35
+	 */
+	public static <T> T bind(Reader reader, Type type, JSONConfig config) {
+		final JSONStreamReader streamReader = new JSONStreamReader(reader, config);
+		if (JSONToken.END_DOCUMENT == streamReader.next()) {
+			return null;
+		}
+		return streamReader.readValue(type);
+	}
+	// -------------------------------------------------------------------- bind end
+
 	/**
 	 * 将JSONArray字符串转换为Bean的List，默认为ArrayList
 	 *
@@ -618,6 +721,39 @@ public class JSONUtil {
 		json.putByPath(expression, value);
 	}
 
+	/**
+	 * 在解析JSON字符串的同时获取表达式对应的值，只有匹配的值被读入内存，不构建整个文档的JSONObject或JSONArray<br>
+	 * 表达式规则见{@link JSONPath}
+	 *
+	 * @param jsonStr    JSON字符串
+	 * @param expression 表达式
+	 * @return 值，不存在返回{@code null}，包含通配符或过滤器时返回匹配值的列表
+	 * @see JSONPath#read(JSONStreamReader)
+	 * @since 5.8.35
+	 */
+	public static Object readByPath(CharSequence jsonStr, String expression) {
+		if (StrUtil.isBlank(jsonStr)) {
+			return null;
+		}
+		return readByPath(new StringReader(jsonStr.toString()), expression, null);
+	}
+
+	/**
+	 * 在读取JSON的同时获取表达式对应的值，只有匹配的值被读入内存，不构建整个文档的JSONObject或JSONArray<br>
+	 * 确定路径找到值后不再读取剩余内容，此方法不关闭reader<br>
+	 * 表达式规则见{@link JSONPath}
+	 *
+	 * @param reader     {@link Reader}
+	 * @param expression 表达式
+	 * @param config     JSON配置，{@code null}使用默认配置
+	 * @return 值，不存在返回{@code null}，包含通配符或过滤器时返回匹配值的列表
+	 * @see JSONPath#read(JSONStreamReader)
+	 * @since 5.8.35
+	 */
+	public static Object readByPath(Reader reader, String expression, JSONConfig config) {
+		return JSONPath.of(expression).read(new JSONStreamReader(reader, config));
+	}
+
 	/**
 	 * 对所有双引号做转义处理（使用双反斜杠做转义）<br>
 	 * 为了能在HTML中较好的显示，会将&lt;/转义为&lt;\/<br>
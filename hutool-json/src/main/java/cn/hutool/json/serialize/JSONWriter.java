@@ -192,6 +192,27 @@ public class JSONWriter extends Writer {
 		return this;
 	}
 
+	/**
+	 * 写出值之前的内容，JSONArray模式下为分隔符和缩进，JSONObject模式下为冒号（需先调用{@link #writeKey(String)}）<br>
+	 * 调用后可直接向底层Writer写出嵌套的对象或数组，嵌套内容的缩进量为缩进因子与本级别缩进量之和
+	 *
+	 * @return this
+	 * @since 5.8.35
+	 */
+	public JSONWriter writeValuePrefix() {
+		if (arrayMode) {
+			if (needSeparator) {
+				writeRaw(CharUtil.COMMA);
+			}
+			// 换行缩进
+			writeLF().writeSpace(indentFactor + indent);
+		} else {
+			writeRaw(CharUtil.COLON).writeSpace(1);
+		}
+		needSeparator = true;
+		return this;
+	}
+
 	@Override
 	public void write(char[] cbuf, int off, int len) throws IOException {
 		this.writer.write(cbuf, off, len);
@@ -220,17 +241,7 @@ public class JSONWriter extends Writer {
 	 * @return this
 	 */
 	private JSONWriter writeValueDirect(Object value, Filter<MutablePair<Object, Object>> filter) {
-		if (arrayMode) {
-			if (needSeparator) {
-				writeRaw(CharUtil.COMMA);
-			}
-			// 换行缩进
-			writeLF().writeSpace(indentFactor + indent);
-		} else {
-			writeRaw(CharUtil.COLON).writeSpace(1);
-		}
-		needSeparator = true;
-		return writeObjValue(value, filter);
+		return writeValuePrefix().writeObjValue(value, filter);
 	}
 
 	/**
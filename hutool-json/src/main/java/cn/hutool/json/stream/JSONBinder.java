@@ -0,0 +1,320 @@
+package cn.hutool.json.stream;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.codec.Base64;
+import cn.hutool.core.collection.CollUtil;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.convert.ConvertException;
+import cn.hutool.core.lang.SimpleCache;
+import cn.hutool.core.map.CaseInsensitiveMap;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.core.util.ReflectUtil;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.core.util.TypeUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONBeanParser;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONNull;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON直接绑定器，从{@link JSONStreamReader}读取Token并直接构建目标对象，不经过JSONObject或JSONArray<br>
+ * <ul>
+ *     <li>Bean：通过{@link cn.hutool.core.bean.BeanDesc}获取可写属性，按照键名（支持{@link cn.hutool.core.annotation.Alias}）缓存，逐个绑定属性值</li>
+ *     <li>Map：键转换为泛型参数中的键类型，值递归绑定</li>
+ *     <li>Collection和数组：元素递归绑定</li>
+ *     <li>简单值：通过{@link Convert}转换</li>
+ * </ul>
+ * 目标类型为Object、JSON、{@link JSONBeanParser}或注册了{@link cn.hutool.json.serialize.JSONDeserializer}时，
+ * 只将当前值读取为JSON后按照原有的方式转换，保证结果一致。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+final class JSONBinder {
+
+	/**
+	 * 可写属性缓存，按照是否忽略大小写、是否支持transient分为4个
+	 */
+	@SuppressWarnings("unchecked")
+	private static final SimpleCache<Class<?>, Map<String, PropDesc>>[] PROP_CACHES = new SimpleCache[]{
+			new SimpleCache<>(), new SimpleCache<>(), new SimpleCache<>(), new SimpleCache<>()
+	};
+
+	/**
+	 * 非Bean类的缓存标记
+	 */
+	private static final Map<String, PropDesc> NOT_BEAN = Collections.emptyMap();
+
+	private JSONBinder() {
+	}
+
+	/**
+	 * 将读取器的当前值绑定为指定类型，绑定后当前Token为值的最后一个Token
+	 *
+	 * @param <T>    目标类型
+	 * @param reader {@link JSONStreamReader}，当前Token为值的第一个Token
+	 * @param type   目标类型
+	 * @return 值
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> T bind(JSONStreamReader reader, Type type) {
+		return (T) bindValue(reader, type, reader.getConfig());
+	}
+
+	/**
+	 * 绑定当前值
+	 *
+	 * @param reader {@link JSONStreamReader}
+	 * @param type   目标类型
+	 * @param config JSON配置
+	 * @return 值
+	 */
+	private static Object bindValue(JSONStreamReader reader, Type type, JSONConfig config) {
+		final JSONToken token = reader.currentToken();
+		if (JSONToken.VALUE_NULL == token) {
+			return null;
+		}
+
+		final Class<?> rawClass = TypeUtil.getClass(type);
+		if (null == rawClass || Object.class == rawClass || isFallbackType(rawClass, type)) {
+			return fallback(reader, type, rawClass);
+		}
+
+		switch (token) {
+			case START_OBJECT:
+				if (Map.class.isAssignableFrom(rawClass)) {
+					return bindMap(reader, type, rawClass, config);
+				}
+				final Map<String, PropDesc> propMap = getPropMap(rawClass, config);
+				if (null != propMap) {
+					final Object bean = ReflectUtil.newInstanceIfPossible(rawClass);
+					if (null != bean) {
+						return bindBean(reader, type, bean, propMap, config);
+					}
+				}
+				return fallback(reader, type, rawClass);
+			case START_ARRAY:
+				if (rawClass.isArray()) {
+					return bindArray(reader, rawClass.getComponentType(), config);
+				}
+				if (Collection.class.isAssignableFrom(rawClass)) {
+					return bindCollection(reader, type, rawClass, config);
+				}
+				return fallback(reader, type, rawClass);
+			default:
+				return convertScalar(reader.getValue(), type, rawClass, config.isIgnoreError());
+		}
+	}
+
+	/**
+	 * 绑定Bean，未知的键和不可写的属性直接跳过，键未直接匹配时尝试其驼峰形式
+	 *
+	 * @param reader   {@link JSONStreamReader}
+	 * @param beanType Bean类型，用于解析泛型属性
+	 * @param bean     Bean对象
+	 * @param propMap  可写属性
+	 * @param config   JSON配置
+	 * @return Bean
+	 */
+	private static Object bindBean(JSONStreamReader reader, Type beanType, Object bean, Map<String, PropDesc> propMap, JSONConfig config) {
+		final boolean ignoreNull = config.isIgnoreNullValue();
+		final boolean ignoreError = config.isIgnoreError();
+		String key;
+		PropDesc prop;
+		Type fieldType;
+		Object value;
+		while (JSONToken.END_OBJECT != reader.next()) {
+			key = reader.getText();
+			prop = propMap.get(key);
+			if (null == prop) {
+				// 与toBean一致，尝试驼峰形式的键，如user_name对应userName
+				final String camelCaseKey = StrUtil.toCamelCase(key);
+				if (false == StrUtil.equals(key, camelCaseKey)) {
+					prop = propMap.get(camelCaseKey);
+				}
+			}
+			reader.next();
+			if (null == prop) {
+				reader.skipChildren();
+				continue;
+			}
+			fieldType = prop.getFieldType();
+			if (false == fieldType instanceof Class) {
+				fieldType = ObjectUtil.defaultIfNull(TypeUtil.getActualType(beanType, fieldType), fieldType);
+			}
+			value = bindValue(reader, fieldType, config);
+			prop.setValue(bean, value, ignoreNull, ignoreError);
+		}
+		return bean;
+	}
+
+	/**
+	 * 绑定Map
+	 *
+	 * @param reader   {@link JSONStreamReader}
+	 * @param mapType  Map类型
+	 * @param rawClass Map原始类型
+	 * @param config   JSON配置
+	 * @return Map
+	 */
+	private static Map<Object, Object> bindMap(JSONStreamReader reader, Type mapType, Class<?> rawClass, JSONConfig config) {
+		final Map<Object, Object> map = MapUtil.createMap(rawClass);
+		final Type keyType = TypeUtil.getTypeArgument(mapType, 0);
+		final Type valueType = TypeUtil.getTypeArgument(mapType, 1);
+		final Class<?> keyClass = null == keyType ? null : TypeUtil.getClass(keyType);
+		Object key;
+		while (JSONToken.END_OBJECT != reader.next()) {
+			key = reader.getText();
+			if (null != keyClass && String.class != keyClass && Object.class != keyClass) {
+				key = Convert.convertWithCheck(keyType, key, null, config.isIgnoreError());
+			}
+			reader.next();
+			map.put(key, bindValue(reader, null == valueType ? Object.class : valueType, config));
+		}
+		return map;
+	}
+
+	/**
+	 * 绑定集合
+	 *
+	 * @param reader         {@link JSONStreamReader}
+	 * @param collectionType 集合类型
+	 * @param rawClass       集合原始类型
+	 * @param config         JSON配置
+	 * @return 集合
+	 */
+	private static Collection<Object> bindCollection(JSONStreamReader reader, Type collectionType, Class<?> rawClass, JSONConfig config) {
+		Type elementType = TypeUtil.getTypeArgument(collectionType, 0);
+		if (null == elementType) {
+			elementType = Object.class;
+		}
+		@SuppressWarnings("unchecked")
+		final Collection<Object> collection = (Collection<Object>) CollUtil.create(rawClass, TypeUtil.getClass(elementType));
+		while (JSONToken.END_ARRAY != reader.next()) {
+			collection.add(bindValue(reader, elementType, config));
+		}
+		return collection;
+	}
+
+	/**
+	 * 绑定数组，原始类型数组中的{@code null}元素保持默认值
+	 *
+	 * @param reader        {@link JSONStreamReader}
+	 * @param componentType 元素类型
+	 * @param config        JSON配置
+	 * @return 数组
+	 */
+	private static Object bindArray(JSONStreamReader reader, Class<?> componentType, JSONConfig config) {
+		final List<Object> list = new ArrayList<>();
+		while (JSONToken.END_ARRAY != reader.next()) {
+			list.add(bindValue(reader, componentType, config));
+		}
+		final Object array = Array.newInstance(componentType, list.size());
+		Object element;
+		for (int i = 0; i < list.size(); i++) {
+			element = list.get(i);
+			if (null != element || false == componentType.isPrimitive()) {
+				Array.set(array, i, element);
+			}
+		}
+		return array;
+	}
+
+	/**
+	 * 转换简单值，规则与{@link cn.hutool.json.JSONConverter}一致
+	 *
+	 * @param value       值
+	 * @param type        目标类型
+	 * @param rawClass    目标原始类型
+	 * @param ignoreError 是否忽略错误
+	 * @return 转换后的值
+	 */
+	private static Object convertScalar(Object value, Type type, Class<?> rawClass, boolean ignoreError) {
+		if (null == value || rawClass.isInstance(value)) {
+			return value;
+		}
+		if (byte[].class == rawClass && value instanceof CharSequence) {
+			// issue#I59LW4
+			return Base64.decode((CharSequence) value);
+		}
+		final Object targetValue = Convert.convertWithCheck(type, value, null, ignoreError);
+		if (null == targetValue && false == ignoreError && false == StrUtil.isBlankIfStr(value)) {
+			throw new ConvertException("Can not convert {} to type {}", value, rawClass);
+		}
+		return targetValue;
+	}
+
+	/**
+	 * 将当前值读取为JSON后按照原有方式转换
+	 *
+	 * @param reader   {@link JSONStreamReader}
+	 * @param type     目标类型
+	 * @param rawClass 目标原始类型，可能为{@code null}
+	 * @return 值
+	 */
+	private static Object fallback(JSONStreamReader reader, Type type, Class<?> rawClass) {
+		final Object tree = reader.readTree();
+		if (JSONNull.NULL == tree) {
+			return null;
+		}
+		if (null == rawClass || rawClass.isInstance(tree)) {
+			return tree;
+		}
+		if (tree instanceof JSON) {
+			return ((JSON) tree).toBean(type);
+		}
+		return convertScalar(tree, type, rawClass, reader.getConfig().isIgnoreError());
+	}
+
+	/**
+	 * 是否需要按照原有方式转换的类型
+	 *
+	 * @param rawClass 原始类型
+	 * @param type     类型
+	 * @return 是否需要按照原有方式转换
+	 */
+	private static boolean isFallbackType(Class<?> rawClass, Type type) {
+		return JSON.class.isAssignableFrom(rawClass)
+				|| JSONBeanParser.class.isAssignableFrom(rawClass)
+				|| null != GlobalSerializeMapping.getDeserializer(type);
+	}
+
+	/**
+	 * 获取Bean的可写属性，键为JSON中的键名，结果按照类缓存，避免每次判断是否为Bean时反射获取方法列表
+	 *
+	 * @param beanClass Bean类
+	 * @param config    JSON配置
+	 * @return 可写属性，非Bean返回{@code null}
+	 */
+	private static Map<String, PropDesc> getPropMap(Class<?> beanClass, JSONConfig config) {
+		final boolean ignoreCase = config.isIgnoreCase();
+		final boolean transientSupport = config.isTransientSupport();
+		final int index = (ignoreCase ? 1 : 0) | (transientSupport ? 2 : 0);
+		final Map<String, PropDesc> propMap = PROP_CACHES[index].get(beanClass, () -> {
+			if (Map.Entry.class.isAssignableFrom(beanClass) || false == BeanUtil.isBean(beanClass)) {
+				return NOT_BEAN;
+			}
+			final Collection<PropDesc> props = BeanUtil.getBeanDesc(beanClass).getProps();
+			final Map<String, PropDesc> map = ignoreCase ? new CaseInsensitiveMap<>() : new HashMap<>();
+			for (final PropDesc prop : props) {
+				if (prop.isWritable(transientSupport)) {
+					map.put(prop.getFieldName(), prop);
+				}
+			}
+			return map;
+		});
+		return NOT_BEAN == propMap ? null : propMap;
+	}
+}
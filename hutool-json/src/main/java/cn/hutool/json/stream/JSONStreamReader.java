@@ -0,0 +1,732 @@
+package cn.hutool.json.stream;
+
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.util.StrUtil;
+import cn.hutool.json.InternalJSONUtil;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONNull;
+import cn.hutool.json.JSONObject;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+/**
+ * JSON流式读取器（Pull Parser）<br>
+ * 按照事件（{@link JSONToken}）逐个读取JSON，读取过程中只保留当前的Token和嵌套层级，不构建JSONObject或JSONArray，
+ * 因此内存占用与文档大小无关，适用于超大JSON或JSON Lines（多个JSON连续存放）格式的日志等。<br>
+ * 字符从{@link Reader}批量读入复用的{@code char[]}缓冲区，不计算行列号，出错时给出字符偏移位置。
+ *
+ * <pre>
+ * try (JSONStreamReader reader = JSONStreamReader.of(inputStream)) {
+ *     reader.next(); // START_ARRAY
+ *     while (reader.next() != JSONToken.END_ARRAY) {
+ *         final User user = reader.readValue(User.class); // 只将当前元素转为Bean
+ *     }
+ * }
+ * </pre>
+ * <p>
+ * 与{@link cn.hutool.json.JSONTokener}一样兼容单引号字符串、无引号的键、尾后逗号等非标准格式。
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class JSONStreamReader implements Closeable {
+
+	/**
+	 * 默认缓冲区大小
+	 */
+	public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+	// ---------------------------------------------------------------- 层级状态
+	/** 文档开始，尚未读取任何值 */
+	private static final int EMPTY_DOCUMENT = 0;
+	/** 已读取过顶层值，之后可以结束或继续读取下一个顶层值 */
+	private static final int NONEMPTY_DOCUMENT = 1;
+	/** 对象开始，尚未读取键 */
+	private static final int EMPTY_OBJECT = 2;
+	/** 已读取键，等待值 */
+	private static final int DANGLING_NAME = 3;
+	/** 对象中已读取过键值对 */
+	private static final int NONEMPTY_OBJECT = 4;
+	/** 数组开始，尚未读取元素 */
+	private static final int EMPTY_ARRAY = 5;
+	/** 数组中已读取过元素 */
+	private static final int NONEMPTY_ARRAY = 6;
+
+	/**
+	 * 无引号的字符串的结束字符，与{@link cn.hutool.json.JSONTokener}保持一致
+	 */
+	private static final String UNQUOTED_DELIMITERS = ",:]}/\\\"[{;=#";
+
+	private final Reader reader;
+	private final JSONConfig config;
+
+	private final char[] buffer;
+	private int pos;
+	private int limit;
+	/**
+	 * 缓冲区之前已读取的字符数
+	 */
+	private long bufferOffset;
+
+	private int[] scopes = new int[32];
+	private String[] pathNames = new String[32];
+	private int[] pathIndices = new int[32];
+	private int stackSize;
+
+	private JSONToken token;
+	/**
+	 * 当前Token的文本，仅对键、字符串和数字有效
+	 */
+	private String text;
+	/**
+	 * 当前Token的值，仅对简单值有效
+	 */
+	private Object value;
+	/**
+	 * 读取字符串复用的StringBuilder
+	 */
+	private final StringBuilder sb = new StringBuilder();
+	/**
+	 * 跳过模式下不保存字符串内容
+	 */
+	private boolean skipping;
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param json JSON字符串
+	 * @return JSONStreamReader
+	 */
+	public static JSONStreamReader of(CharSequence json) {
+		return new JSONStreamReader(new StringReader(StrUtil.str(json)), null);
+	}
+
+	/**
+	 * 创建读取器，使用UTF-8编码
+	 *
+	 * @param in 输入流
+	 * @return JSONStreamReader
+	 */
+	public static JSONStreamReader of(InputStream in) {
+		return new JSONStreamReader(IoUtil.getUtf8Reader(in), null);
+	}
+
+	/**
+	 * 创建读取器
+	 *
+	 * @param reader {@link Reader}
+	 * @return JSONStreamReader
+	 */
+	public static JSONStreamReader of(Reader reader) {
+		return new JSONStreamReader(reader, null);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader {@link Reader}
+	 * @param config JSON配置，用于{@link #readTree()}等构建JSON时，{@code null}表示默认配置
+	 */
+	public JSONStreamReader(Reader reader, JSONConfig config) {
+		this(reader, config, DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param reader     {@link Reader}
+	 * @param config     JSON配置，用于{@link #readTree()}等构建JSON时，{@code null}表示默认配置
+	 * @param bufferSize 缓冲区大小
+	 */
+	public JSONStreamReader(Reader reader, JSONConfig config, int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "Buffer size must be greater than 0");
+		this.reader = Assert.notNull(reader, "Reader must be not null!");
+		this.config = null == config ? JSONConfig.create() : config;
+		this.buffer = new char[bufferSize];
+		this.scopes[stackSize++] = EMPTY_DOCUMENT;
+	}
+
+	/**
+	 * @return JSON配置
+	 */
+	public JSONConfig getConfig() {
+		return this.config;
+	}
+
+	/**
+	 * 读取下一个Token
+	 *
+	 * @return Token，没有更多内容时返回{@link JSONToken#END_DOCUMENT}
+	 * @throws JSONException 语法错误或IO异常
+	 */
+	public JSONToken next() throws JSONException {
+		this.text = null;
+		this.value = null;
+		this.token = doNext();
+		return this.token;
+	}
+
+	/**
+	 * 当前Token
+	 *
+	 * @return Token，未读取时返回{@code null}
+	 */
+	public JSONToken currentToken() {
+		return this.token;
+	}
+
+	/**
+	 * 当前的嵌套层级，顶层为0，每进入一层对象或数组加1
+	 *
+	 * @return 嵌套层级
+	 */
+	public int getDepth() {
+		return this.stackSize - 1;
+	}
+
+	/**
+	 * 获取当前Token的文本，对于{@link JSONToken#FIELD_NAME}为键，对于字符串和数字为原始文本，其它返回{@code null}
+	 *
+	 * @return 文本
+	 */
+	public String getText() {
+		return this.text;
+	}
+
+	/**
+	 * 获取当前简单值，字符串为String，数字为Integer、Long或BigDecimal，布尔为Boolean，null为{@code null}
+	 *
+	 * @return 值
+	 */
+	public Object getValue() {
+		return this.value;
+	}
+
+	/**
+	 * 获取当前数字值
+	 *
+	 * @return 数字，当前不是数字时返回{@code null}
+	 */
+	public Number getNumber() {
+		return this.value instanceof Number ? (Number) this.value : null;
+	}
+
+	/**
+	 * 获取当前值所在的路径，如{@code $.store.book[0].title}，用于定位和调试
+	 *
+	 * @return 路径
+	 */
+	public String getPath() {
+		final StringBuilder path = new StringBuilder("$");
+		for (int i = 1; i < stackSize; i++) {
+			switch (scopes[i]) {
+				case EMPTY_ARRAY:
+				case NONEMPTY_ARRAY:
+					if (pathIndices[i] >= 0) {
+						path.append('[').append(pathIndices[i]).append(']');
+					}
+					break;
+				case DANGLING_NAME:
+				case NONEMPTY_OBJECT:
+					if (null != pathNames[i]) {
+						path.append('.').append(pathNames[i]);
+					}
+					break;
+				default:
+					break;
+			}
+		}
+		return path.toString();
+	}
+
+	/**
+	 * 获取指定层级中当前的键，该层级不是对象时返回{@code null}
+	 *
+	 * @param depth 层级，1表示顶层对象
+	 * @return 键
+	 */
+	public String getPathName(int depth) {
+		return depth > 0 && depth < stackSize ? pathNames[depth] : null;
+	}
+
+	/**
+	 * 获取指定层级中当前元素的下标，该层级不是数组时返回-1
+	 *
+	 * @param depth 层级，1表示顶层数组
+	 * @return 下标
+	 */
+	public int getPathIndex(int depth) {
+		if (depth > 0 && depth < stackSize && (EMPTY_ARRAY == scopes[depth] || NONEMPTY_ARRAY == scopes[depth])) {
+			return pathIndices[depth];
+		}
+		return -1;
+	}
+
+	/**
+	 * 跳过当前对象或数组的所有子节点，跳过后当前Token为对应的{@link JSONToken#END_OBJECT}或{@link JSONToken#END_ARRAY}<br>
+	 * 当前Token为{@link JSONToken#FIELD_NAME}时，跳过其对应的值；为简单值时不做任何操作。跳过的字符串不会被保存。
+	 *
+	 * @return this
+	 */
+	public JSONStreamReader skipChildren() {
+		if (JSONToken.FIELD_NAME == this.token) {
+			next();
+		}
+		if (JSONToken.START_OBJECT != this.token && JSONToken.START_ARRAY != this.token) {
+			return this;
+		}
+		final int targetSize = this.stackSize - 1;
+		this.skipping = true;
+		try {
+			while (this.stackSize > targetSize) {
+				if (JSONToken.END_DOCUMENT == next()) {
+					throw syntaxError("Unexpected end of document");
+				}
+			}
+		} finally {
+			this.skipping = false;
+		}
+		return this;
+	}
+
+	/**
+	 * 将当前值读取为JSON对象，读取后当前Token为值的最后一个Token<br>
+	 * 当前Token为{@link JSONToken#FIELD_NAME}时，读取其对应的值。<br>
+	 * 对象返回{@link JSONObject}，数组返回{@link JSONArray}，简单值返回对应的Java对象，null返回{@link JSONNull#NULL}
+	 *
+	 * @return 值
+	 */
+	public Object readTree() {
+		if (JSONToken.FIELD_NAME == this.token || null == this.token) {
+			next();
+		}
+		switch (this.token) {
+			case START_OBJECT:
+				final JSONObject jsonObject = new JSONObject(this.config);
+				while (JSONToken.END_OBJECT != next()) {
+					final String key = this.text;
+					next();
+					jsonObject.set(key, readTree(), null, this.config.isCheckDuplicate());
+				}
+				return jsonObject;
+			case START_ARRAY:
+				final JSONArray jsonArray = new JSONArray(this.config);
+				while (JSONToken.END_ARRAY != next()) {
+					jsonArray.add(readTree());
+				}
+				return jsonArray;
+			case VALUE_NULL:
+				return JSONNull.NULL;
+			case END_DOCUMENT:
+				throw syntaxError("Unexpected end of document");
+			default:
+				if (false == this.token.isScalarValue()) {
+					throw syntaxError("Unexpected token " + this.token);
+				}
+				return this.value;
+		}
+	}
+
+	/**
+	 * 将当前值直接绑定为指定类型，读取后当前Token为值的最后一个Token<br>
+	 * 当前Token为{@link JSONToken#FIELD_NAME}时，读取其对应的值。<br>
+	 * 只有当前值（如数组中的一个元素）被读入内存，且Bean、Map、集合等直接从Token构建，不生成中间的JSONObject或JSONArray，
+	 * 适用于逐个处理大数组中的元素。
+	 *
+	 * @param <T>  目标类型
+	 * @param type 目标类型
+	 * @return 值
+	 */
+	public <T> T readValue(Type type) {
+		if (JSONToken.FIELD_NAME == this.token || null == this.token) {
+			next();
+		}
+		if (JSONToken.END_DOCUMENT == this.token) {
+			throw syntaxError("Unexpected end of document");
+		}
+		if (false == this.token.isValue()) {
+			throw syntaxError("Unexpected token " + this.token);
+		}
+		return JSONBinder.bind(this, type);
+	}
+
+	/**
+	 * 将当前值转换为指定类型，读取后当前Token为值的最后一个Token
+	 *
+	 * @param <T>   目标类型
+	 * @param clazz 目标类型
+	 * @return 值
+	 */
+	public <T> T readValue(Class<T> clazz) {
+		return readValue((Type) clazz);
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+
+	@Override
+	public String toString() {
+		return StrUtil.format("{} at {} [character {}]", this.token, getPath(), position());
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 根据当前所在层级的状态读取下一个Token
+	 *
+	 * @return Token
+	 */
+	private JSONToken doNext() {
+		final int top = stackSize - 1;
+		int c;
+		switch (scopes[top]) {
+			case EMPTY_DOCUMENT:
+			case NONEMPTY_DOCUMENT:
+				c = nextClean();
+				if (-1 == c) {
+					return JSONToken.END_DOCUMENT;
+				}
+				scopes[top] = NONEMPTY_DOCUMENT;
+				return readValueToken(c);
+			case EMPTY_ARRAY:
+				scopes[top] = NONEMPTY_ARRAY;
+				c = nextClean();
+				if (']' == c) {
+					return pop(JSONToken.END_ARRAY);
+				}
+				pathIndices[top]++;
+				return readArrayValue(c);
+			case NONEMPTY_ARRAY:
+				c = nextClean();
+				if (']' == c) {
+					return pop(JSONToken.END_ARRAY);
+				}
+				if (',' != c) {
+					throw syntaxError("Expected a ',' or ']'");
+				}
+				c = nextClean();
+				if (']' == c) {
+					// 尾后逗号
+					return pop(JSONToken.END_ARRAY);
+				}
+				pathIndices[top]++;
+				return readArrayValue(c);
+			case EMPTY_OBJECT:
+				c = nextClean();
+				if ('}' == c) {
+					return pop(JSONToken.END_OBJECT);
+				}
+				return readName(top, c);
+			case NONEMPTY_OBJECT:
+				c = nextClean();
+				if ('}' == c) {
+					return pop(JSONToken.END_OBJECT);
+				}
+				if (',' != c && ';' != c) {
+					throw syntaxError("Expected a ',' or '}'");
+				}
+				c = nextClean();
+				if ('}' == c) {
+					// 尾后逗号
+					return pop(JSONToken.END_OBJECT);
+				}
+				return readName(top, c);
+			case DANGLING_NAME:
+				if (':' != nextClean()) {
+					throw syntaxError("Expected a ':' after a key");
+				}
+				scopes[top] = NONEMPTY_OBJECT;
+				c = nextClean();
+				if (-1 == c) {
+					throw syntaxError("Missing value");
+				}
+				return readValueToken(c);
+			default:
+				throw new IllegalStateException("Unknown scope: " + scopes[top]);
+		}
+	}
+
+	/**
+	 * 读取数组中的值，兼容连续逗号表示的null值
+	 *
+	 * @param c 值的第一个字符
+	 * @return Token
+	 */
+	private JSONToken readArrayValue(int c) {
+		if (',' == c) {
+			back();
+			return JSONToken.VALUE_NULL;
+		}
+		if (-1 == c) {
+			throw syntaxError("A JSONArray text must end with ']'");
+		}
+		return readValueToken(c);
+	}
+
+	/**
+	 * 读取键
+	 *
+	 * @param top 当前层级
+	 * @param c   键的第一个字符
+	 * @return {@link JSONToken#FIELD_NAME}
+	 */
+	private JSONToken readName(int top, int c) {
+		switch (c) {
+			case -1:
+				throw syntaxError("A JSONObject text must end with '}'");
+			case '{':
+			case '[':
+				throw syntaxError("Sting value must be not begin with a '{' or '['");
+			case '"':
+			case '\'':
+				this.text = readString((char) c);
+				break;
+			default:
+				this.text = readUnquoted(c);
+		}
+		pathNames[top] = this.text;
+		scopes[top] = DANGLING_NAME;
+		return JSONToken.FIELD_NAME;
+	}
+
+	/**
+	 * 读取值
+	 *
+	 * @param c 值的第一个字符
+	 * @return Token
+	 */
+	private JSONToken readValueToken(int c) {
+		switch (c) {
+			case '{':
+				push(EMPTY_OBJECT);
+				return JSONToken.START_OBJECT;
+			case '[':
+				push(EMPTY_ARRAY);
+				return JSONToken.START_ARRAY;
+			case '"':
+			case '\'':
+				this.text = readString((char) c);
+				this.value = this.text;
+				return JSONToken.VALUE_STRING;
+			default:
+				final String str = readUnquoted(c);
+				final Object v = InternalJSONUtil.stringToValue(str);
+				if (JSONNull.NULL == v) {
+					return JSONToken.VALUE_NULL;
+				}
+				if (v instanceof Boolean) {
+					this.value = v;
+					return (Boolean) v ? JSONToken.VALUE_TRUE : JSONToken.VALUE_FALSE;
+				}
+				this.text = str;
+				this.value = v;
+				return v instanceof Number ? JSONToken.VALUE_NUMBER : JSONToken.VALUE_STRING;
+		}
+	}
+
+	/**
+	 * 读取引号包围的字符串，直接在缓冲区中查找结束引号和转义符，批量复制
+	 *
+	 * @param quote 引号
+	 * @return 字符串，跳过模式下返回{@code null}
+	 */
+	private String readString(char quote) {
+		final StringBuilder sb = this.sb;
+		sb.setLength(0);
+		while (true) {
+			int start = pos;
+			while (pos < limit) {
+				final char c = buffer[pos];
+				if (c == quote || c == '\\' || c == '\n' || c == '\r') {
+					break;
+				}
+				pos++;
+			}
+			if (false == skipping && pos > start) {
+				sb.append(buffer, start, pos - start);
+			}
+			if (pos >= limit) {
+				if (false == fill()) {
+					throw syntaxError("Unterminated string");
+				}
+				continue;
+			}
+
+			final char c = buffer[pos++];
+			if (c == quote) {
+				return skipping ? null : sb.toString();
+			}
+			if (c != '\\') {
+				throw syntaxError("Unterminated string");
+			}
+			final char escaped = readEscape();
+			if (false == skipping) {
+				sb.append(escaped);
+			}
+		}
+	}
+
+	/**
+	 * 读取转义符后的字符
+	 *
+	 * @return 转义后的字符
+	 */
+	private char readEscape() {
+		final int c = read();
+		switch (c) {
+			case 'b':
+				return '\b';
+			case 't':
+				return '\t';
+			case 'n':
+				return '\n';
+			case 'f':
+				return '\f';
+			case 'r':
+				return '\r';
+			case 'u':
+				int unicode = 0;
+				for (int i = 0; i < 4; i++) {
+					final int digit = Character.digit(read(), 16);
+					if (digit < 0) {
+						throw syntaxError("Illegal escape.");
+					}
+					unicode = (unicode << 4) | digit;
+				}
+				return (char) unicode;
+			case '"':
+			case '\'':
+			case '\\':
+			case '/':
+				return (char) c;
+			default:
+				throw syntaxError("Illegal escape.");
+		}
+	}
+
+	/**
+	 * 读取无引号的文本，可能为true、false、null、数字或非标准的字符串
+	 *
+	 * @param c 第一个字符
+	 * @return 文本
+	 */
+	private String readUnquoted(int c) {
+		final StringBuilder sb = this.sb;
+		sb.setLength(0);
+		while (c >= ' ' && UNQUOTED_DELIMITERS.indexOf(c) < 0) {
+			sb.append((char) c);
+			c = read();
+		}
+		if (-1 != c) {
+			back();
+		}
+		final String str = StrUtil.trim(sb);
+		if (str.isEmpty()) {
+			throw syntaxError("Missing value");
+		}
+		return str;
+	}
+
+	private void push(int scope) {
+		if (stackSize == scopes.length) {
+			final int newLength = stackSize * 2;
+			scopes = Arrays.copyOf(scopes, newLength);
+			pathNames = Arrays.copyOf(pathNames, newLength);
+			pathIndices = Arrays.copyOf(pathIndices, newLength);
+		}
+		scopes[stackSize] = scope;
+		pathNames[stackSize] = null;
+		pathIndices[stackSize] = -1;
+		stackSize++;
+	}
+
+	private JSONToken pop(JSONToken token) {
+		stackSize--;
+		pathNames[stackSize] = null;
+		return token;
+	}
+
+	/**
+	 * 读取下一个非空白字符
+	 *
+	 * @return 字符，-1表示结束
+	 */
+	private int nextClean() {
+		while (true) {
+			if (pos >= limit && false == fill()) {
+				return -1;
+			}
+			final char c = buffer[pos++];
+			if (c > ' ') {
+				return c;
+			}
+		}
+	}
+
+	/**
+	 * 读取下一个字符
+	 *
+	 * @return 字符，-1表示结束
+	 */
+	private int read() {
+		if (pos >= limit && false == fill()) {
+			return -1;
+		}
+		return buffer[pos++];
+	}
+
+	/**
+	 * 回退一个字符，只能在读取字符后调用一次，读取的字符一定还在缓冲区中
+	 */
+	private void back() {
+		pos--;
+	}
+
+	/**
+	 * 从Reader中读取字符填充缓冲区
+	 *
+	 * @return 是否读取到字符
+	 */
+	private boolean fill() {
+		bufferOffset += limit;
+		pos = 0;
+		limit = 0;
+		int n;
+		try {
+			n = reader.read(buffer, 0, buffer.length);
+			while (0 == n) {
+				n = reader.read(buffer, 0, buffer.length);
+			}
+		} catch (IOException e) {
+			throw new JSONException(e);
+		}
+		if (n < 0) {
+			return false;
+		}
+		limit = n;
+		return true;
+	}
+
+	/**
+	 * @return 当前读取到的字符位置
+	 */
+	private long position() {
+		return bufferOffset + pos;
+	}
+
+	private JSONException syntaxError(String message) {
+		return new JSONException("{} at {} [character {}]", message, getPath(), position());
+	}
+	// ---------------------------------------------------------------- private method end
+}
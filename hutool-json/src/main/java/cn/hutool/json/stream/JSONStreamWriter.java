@@ -0,0 +1,525 @@
+package cn.hutool.json.stream;
+
+import cn.hutool.core.bean.BeanUtil;
+import cn.hutool.core.bean.PropDesc;
+import cn.hutool.core.convert.Convert;
+import cn.hutool.core.io.IORuntimeException;
+import cn.hutool.core.io.IoUtil;
+import cn.hutool.core.lang.Assert;
+import cn.hutool.core.lang.Opt;
+import cn.hutool.core.lang.SimpleCache;
+import cn.hutool.core.lang.mutable.MutablePair;
+import cn.hutool.core.util.ArrayUtil;
+import cn.hutool.core.util.ClassUtil;
+import cn.hutool.core.util.ObjectUtil;
+import cn.hutool.json.JSON;
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONNull;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONString;
+import cn.hutool.json.serialize.GlobalSerializeMapping;
+import cn.hutool.json.serialize.JSONArraySerializer;
+import cn.hutool.json.serialize.JSONObjectSerializer;
+import cn.hutool.json.serialize.JSONSerializer;
+import cn.hutool.json.serialize.JSONWriter;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.sql.SQLException;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * JSON流式写出器<br>
+ * 直接遍历Bean、Map、集合和数组，通过{@link JSONWriter}逐个写出键值，不构建中间的JSONObject或JSONArray，
+ * 适用于将大量对象序列化到文件或网络流。<br>
+ * 输出结果与{@link cn.hutool.json.JSONUtil#toJsonStr(Object, JSONConfig)}一致，同样遵循{@link JSONConfig}中的日期格式、
+ * 忽略null值、键排序等配置，以及{@link GlobalSerializeMapping}中注册的自定义序列化器（序列化器产生的JSON仅包含当前对象）。<br>
+ * 写出的字符先进入复用的缓冲区，缓冲区满或调用{@link #flush()}时才写入目标，嵌套对象结束时不会触发目标的flush。
+ *
+ * <pre>
+ * try (JSONStreamWriter writer = JSONStreamWriter.of(outputStream, JSONConfig.create())) {
+ *     writer.write(userList);
+ * }
+ * </pre>
+ *
+ * @author looly
+ * @since 5.8.35
+ */
+public class JSONStreamWriter implements Closeable, Flushable {
+
+	/**
+	 * 可读属性缓存，按照是否支持transient分为2个
+	 */
+	@SuppressWarnings("unchecked")
+	private static final SimpleCache<Class<?>, PropDesc[]>[] PROP_CACHES = new SimpleCache[]{
+			new SimpleCache<>(), new SimpleCache<>()
+	};
+
+	private final BufferWriter writer;
+	private final JSONConfig config;
+	private final int indentFactor;
+
+	/**
+	 * 创建写出器
+	 *
+	 * @param writer {@link Writer}
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return JSONStreamWriter
+	 */
+	public static JSONStreamWriter of(Writer writer, JSONConfig config) {
+		return new JSONStreamWriter(writer, config, 0);
+	}
+
+	/**
+	 * 创建写出器，使用UTF-8编码
+	 *
+	 * @param out    {@link OutputStream}
+	 * @param config JSON配置，{@code null}表示默认配置
+	 * @return JSONStreamWriter
+	 */
+	public static JSONStreamWriter of(OutputStream out, JSONConfig config) {
+		return new JSONStreamWriter(IoUtil.getUtf8Writer(out), config, 0);
+	}
+
+	/**
+	 * 构造
+	 *
+	 * @param writer       {@link Writer}
+	 * @param config       JSON配置，{@code null}表示默认配置
+	 * @param indentFactor 缩进因子，定义每一级别增加的缩进量，0表示不格式化
+	 */
+	public JSONStreamWriter(Writer writer, JSONConfig config, int indentFactor) {
+		this.writer = new BufferWriter(Assert.notNull(writer, "Writer must be not null!"));
+		this.config = null == config ? JSONConfig.create() : config;
+		this.indentFactor = indentFactor;
+	}
+
+	/**
+	 * 写出对象，Bean和Map写出为JSON对象，集合、迭代器和数组写出为JSON数组，其它值写出为对应的JSON值（字符串包装引号）<br>
+	 * 写出后内容可能仍在缓冲区中，需调用{@link #flush()}或{@link #close()}
+	 *
+	 * @param value 对象
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONStreamWriter write(Object value) throws IORuntimeException {
+		if (isNested(value)) {
+			writeNested(value, 0);
+			return this;
+		}
+		value = toScalar(value, config.isIgnoreError());
+		if (null == value || value instanceof JSONNull) {
+			writeRaw(JSONNull.NULL.toString());
+		} else {
+			// 顶层的简单值借助数组模式的JSONWriter格式化后去掉方括号，保证与嵌套值的格式一致
+			final StringWriter scalarWriter = new StringWriter();
+			JSONWriter.of(scalarWriter, 0, 0, this.config).beginArray()
+					.writeValue(value).end();
+			final StringBuffer buffer = scalarWriter.getBuffer();
+			writeRaw(buffer.substring(1, buffer.length() - 1));
+		}
+		return this;
+	}
+
+	/**
+	 * 写出原始字符串，不做任何处理，可用于写出多个对象之间的分隔符，如JSON Lines的换行符
+	 *
+	 * @param str 字符串
+	 * @return this
+	 * @throws IORuntimeException IO异常
+	 */
+	public JSONStreamWriter writeRaw(String str) throws IORuntimeException {
+		try {
+			this.writer.write(str);
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+		return this;
+	}
+
+	/**
+	 * 将缓冲区中的内容写入目标并刷新目标
+	 *
+	 * @throws IORuntimeException IO异常
+	 */
+	@Override
+	public void flush() throws IORuntimeException {
+		try {
+			this.writer.flushBuffer();
+			this.writer.target.flush();
+		} catch (IOException e) {
+			throw new IORuntimeException(e);
+		}
+	}
+
+	/**
+	 * 写入缓冲区中的内容并关闭目标
+	 *
+	 * @throws IOException IO异常
+	 */
+	@Override
+	public void close() throws IOException {
+		this.writer.close();
+	}
+
+	// ---------------------------------------------------------------- private method start
+
+	/**
+	 * 写出嵌套的对象或数组
+	 *
+	 * @param value  值，{@link #isNested(Object)}为{@code true}
+	 * @param indent 本级别缩进量
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	private void writeNested(Object value, int indent) {
+		if (value instanceof JSON) {
+			((JSON) value).write(this.writer, indentFactor, indent);
+			return;
+		}
+
+		final JSONSerializer serializer = GlobalSerializeMapping.getSerializer(value.getClass());
+		if (serializer instanceof JSONObjectSerializer) {
+			final JSONObject json = new JSONObject(this.config);
+			serializer.serialize(json, value);
+			json.write(this.writer, indentFactor, indent);
+			return;
+		}
+		if (serializer instanceof JSONArraySerializer) {
+			final JSONArray json = new JSONArray(this.config);
+			serializer.serialize(json, value);
+			json.write(this.writer, indentFactor, indent);
+			return;
+		}
+
+		if (value instanceof Map) {
+			writeMap((Map<?, ?>) value, indent);
+		} else if (value instanceof Map.Entry) {
+			writeMap(Collections.singletonMap(((Map.Entry<?, ?>) value).getKey(), ((Map.Entry<?, ?>) value).getValue()), indent);
+		} else if (value instanceof Iterable) {
+			writeArray(((Iterable<?>) value).iterator(), indent);
+		} else if (value instanceof Iterator) {
+			writeArray((Iterator<?>) value, indent);
+		} else if (ArrayUtil.isArray(value)) {
+			writeArray(value, indent);
+		} else {
+			writeBean(value, indent);
+		}
+	}
+
+	/**
+	 * 写出Map为JSON对象，{@code null}键被忽略
+	 *
+	 * @param map    Map
+	 * @param indent 本级别缩进量
+	 */
+	private void writeMap(Map<?, ?> map, int indent) {
+		final JSONWriter jsonWriter = JSONWriter.of(this.writer, indentFactor, indent, config).beginObj();
+		final Comparator<String> keyComparator = config.getKeyComparator();
+		if (null != keyComparator) {
+			final Map<String, Object> sorted = new TreeMap<>(keyComparator);
+			for (final Map.Entry<?, ?> entry : map.entrySet()) {
+				if (null != entry.getKey()) {
+					sorted.put(Convert.toStr(entry.getKey()), entry.getValue());
+				}
+			}
+			for (final Map.Entry<String, Object> entry : sorted.entrySet()) {
+				writeField(jsonWriter, entry.getKey(), entry.getValue(), indent);
+			}
+		} else {
+			for (final Map.Entry<?, ?> entry : map.entrySet()) {
+				if (null != entry.getKey()) {
+					writeField(jsonWriter, Convert.toStr(entry.getKey()), entry.getValue(), indent);
+				}
+			}
+		}
+		jsonWriter.end();
+	}
+
+	/**
+	 * 写出Bean为JSON对象，通过缓存的可读属性获取值，{@link Optional}和{@link Opt}属性写出其包含的值
+	 *
+	 * @param bean   Bean
+	 * @param indent 本级别缩进量
+	 */
+	private void writeBean(Object bean, int indent) {
+		final PropDesc[] props = getProps(bean.getClass());
+		final boolean ignoreError = config.isIgnoreError();
+		final Comparator<String> keyComparator = config.getKeyComparator();
+		final Map<String, Object> sorted = null == keyComparator ? null : new TreeMap<>(keyComparator);
+
+		final JSONWriter jsonWriter = JSONWriter.of(this.writer, indentFactor, indent, config).beginObj();
+		Object value;
+		for (final PropDesc prop : props) {
+			try {
+				value = prop.getValue(bean);
+			} catch (Exception e) {
+				if (ignoreError) {
+					continue;
+				}
+				throw e;
+			}
+			// 与toJsonStr中Bean转Map一致，Optional和Opt属性写出其包含的值
+			if (value instanceof Optional) {
+				value = ((Optional<?>) value).orElse(null);
+			} else if (value instanceof Opt) {
+				value = ((Opt<?>) value).get();
+			}
+			if (null != sorted) {
+				sorted.put(prop.getFieldName(), value);
+			} else {
+				writeField(jsonWriter, prop.getFieldName(), value, indent);
+			}
+		}
+		if (null != sorted) {
+			for (final Map.Entry<String, Object> entry : sorted.entrySet()) {
+				writeField(jsonWriter, entry.getKey(), entry.getValue(), indent);
+			}
+		}
+		jsonWriter.end();
+	}
+
+	/**
+	 * 写出迭代器为JSON数组
+	 *
+	 * @param iterator 迭代器
+	 * @param indent   本级别缩进量
+	 */
+	private void writeArray(Iterator<?> iterator, int indent) {
+		final JSONWriter jsonWriter = JSONWriter.of(this.writer, indentFactor, indent, config).beginArray();
+		while (iterator.hasNext()) {
+			writeElement(jsonWriter, iterator.next(), indent);
+		}
+		jsonWriter.end();
+	}
+
+	/**
+	 * 写出数组（包括原始类型数组）为JSON数组
+	 *
+	 * @param array  数组
+	 * @param indent 本级别缩进量
+	 */
+	private void writeArray(Object array, int indent) {
+		final JSONWriter jsonWriter = JSONWriter.of(this.writer, indentFactor, indent, config).beginArray();
+		final int length = Array.getLength(array);
+		for (int i = 0; i < length; i++) {
+			writeElement(jsonWriter, Array.get(array, i), indent);
+		}
+		jsonWriter.end();
+	}
+
+	/**
+	 * 写出JSON对象中的键值对
+	 *
+	 * @param jsonWriter 本级别的{@link JSONWriter}
+	 * @param key        键
+	 * @param value      值
+	 * @param indent     本级别缩进量
+	 */
+	private void writeField(JSONWriter jsonWriter, String key, Object value, int indent) {
+		if (isNested(value)) {
+			jsonWriter.writeKey(key).writeValuePrefix();
+			writeNested(value, indentFactor + indent);
+		} else {
+			jsonWriter.writeField(new MutablePair<>(key, toScalar(value, config.isIgnoreError())), null);
+		}
+	}
+
+	/**
+	 * 写出JSON数组中的元素
+	 *
+	 * @param jsonWriter 本级别的{@link JSONWriter}
+	 * @param value      值
+	 * @param indent     本级别缩进量
+	 */
+	private void writeElement(JSONWriter jsonWriter, Object value, int indent) {
+		if (isNested(value)) {
+			jsonWriter.writeValuePrefix();
+			writeNested(value, indentFactor + indent);
+		} else {
+			jsonWriter.writeValue(toScalar(value, config.isIgnoreError()));
+		}
+	}
+
+	/**
+	 * 是否为需要写出为JSON对象或数组的值，判断顺序与{@link cn.hutool.json.JSONUtil#wrap(Object, JSONConfig)}一致
+	 *
+	 * @param value 值
+	 * @return 是否为JSON对象或数组
+	 */
+	private static boolean isNested(Object value) {
+		if (null == value
+				|| value instanceof JSONNull
+				|| value instanceof JSONString
+				|| value instanceof CharSequence
+				|| value instanceof Number
+				|| ObjectUtil.isBasicType(value)
+				|| value instanceof SQLException) {
+			return false;
+		}
+		if (value instanceof JSON
+				|| value instanceof Iterable
+				|| value instanceof Iterator
+				|| value instanceof Map
+				|| value instanceof Map.Entry
+				|| ArrayUtil.isArray(value)) {
+			return true;
+		}
+		return false == (value instanceof Date
+				|| value instanceof Calendar
+				|| value instanceof TemporalAccessor
+				|| value instanceof Enum
+				|| value instanceof Class
+				|| ClassUtil.isJdkClass(value.getClass()));
+	}
+
+	/**
+	 * 简单值转换为{@link JSONWriter}可写出的值，规则与{@link cn.hutool.json.JSONUtil#wrap(Object, JSONConfig)}一致<br>
+	 * 非有限数字（NaN、Infinity）在忽略错误时转换为{@code null}，否则抛出异常
+	 *
+	 * @param value       值
+	 * @param ignoreError 是否忽略错误
+	 * @return 转换后的值
+	 */
+	private static Object toScalar(Object value, boolean ignoreError) {
+		if (false == ObjectUtil.isValidIfNumber(value)) {
+			if (ignoreError) {
+				return null;
+			}
+			throw new JSONException("JSON does not allow non-finite numbers.");
+		}
+		if (value instanceof Class) {
+			return ((Class<?>) value).getName();
+		}
+		if (value instanceof SQLException) {
+			return value.toString();
+		}
+		return value;
+	}
+
+	/**
+	 * 获取Bean的可读属性
+	 *
+	 * @param beanClass Bean类
+	 * @return 可读属性
+	 */
+	private PropDesc[] getProps(Class<?> beanClass) {
+		final boolean transientSupport = config.isTransientSupport();
+		return PROP_CACHES[transientSupport ? 1 : 0].get(beanClass, () -> {
+			if (false == BeanUtil.isReadableBean(beanClass)) {
+				return new PropDesc[0];
+			}
+			final Collection<PropDesc> props = BeanUtil.getBeanDesc(beanClass).getProps();
+			final List<PropDesc> readable = new ArrayList<>(props.size());
+			for (final PropDesc prop : props) {
+				if (prop.isReadable(transientSupport)) {
+					readable.add(prop);
+				}
+			}
+			return readable.toArray(new PropDesc[0]);
+		});
+	}
+	// ---------------------------------------------------------------- private method end
+
+	/**
+	 * 带缓冲的Writer，{@link #flush()}不做任何操作，避免每个嵌套对象结束时刷新目标
+	 */
+	private static class BufferWriter extends Writer {
+		private static final int BUFFER_SIZE = 8192;
+
+		private final Writer target;
+		private final char[] buffer = new char[BUFFER_SIZE];
+		private int count;
+
+		private BufferWriter(Writer target) {
+			this.target = target;
+		}
+
+		@Override
+		public void write(int c) throws IOException {
+			if (count == BUFFER_SIZE) {
+				flushBuffer();
+			}
+			buffer[count++] = (char) c;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			if (len >= BUFFER_SIZE) {
+				flushBuffer();
+				target.write(cbuf, off, len);
+				return;
+			}
+			if (len > BUFFER_SIZE - count) {
+				flushBuffer();
+			}
+			System.arraycopy(cbuf, off, buffer, count, len);
+			count += len;
+		}
+
+		@Override
+		public void write(String str, int off, int len) throws IOException {
+			if (len >= BUFFER_SIZE) {
+				flushBuffer();
+				target.write(str, off, len);
+				return;
+			}
+			if (len > BUFFER_SIZE - count) {
+				flushBuffer();
+			}
+			str.getChars(off, off + len, buffer, count);
+			count += len;
+		}
+
+		@Override
+		public Writer append(CharSequence csq) throws IOException {
+			final String str = String.valueOf(csq);
+			write(str, 0, str.length());
+			return this;
+		}
+
+		@Override
+		public void flush() {
+			// 由JSONStreamWriter统一刷新
+		}
+
+		/**
+		 * 将缓冲区中的内容写入目标
+		 *
+		 * @throws IOException IO异常
+		 */
+		private void flushBuffer() throws IOException {
+			if (count > 0) {
+				target.write(buffer, 0, count);
+				count = 0;
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flushBuffer();
+				target.flush();
+			} finally {
+				target.close();
+			}
+		}
+	}
+}
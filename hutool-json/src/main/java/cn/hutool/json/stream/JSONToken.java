@@ -0,0 +1,74 @@
+package cn.hutool.json.stream;
+
+/**
+ * JSON流式读取的事件（Token）类型
+ *
+ * @author looly
+ * @see JSONStreamReader
+ * @since 5.8.35
+ */
+public enum JSONToken {
+
+	/**
+	 * 对象开始，即 {@code {}
+	 */
+	START_OBJECT,
+	/**
+	 * 对象结束，即 {@code }}
+	 */
+	END_OBJECT,
+	/**
+	 * 数组开始，即 {@code [}
+	 */
+	START_ARRAY,
+	/**
+	 * 数组结束，即 {@code ]}
+	 */
+	END_ARRAY,
+	/**
+	 * 对象中的键
+	 */
+	FIELD_NAME,
+	/**
+	 * 字符串值
+	 */
+	VALUE_STRING,
+	/**
+	 * 数字值
+	 */
+	VALUE_NUMBER,
+	/**
+	 * 布尔值true
+	 */
+	VALUE_TRUE,
+	/**
+	 * 布尔值false
+	 */
+	VALUE_FALSE,
+	/**
+	 * null值
+	 */
+	VALUE_NULL,
+	/**
+	 * 文档结束，没有更多的内容
+	 */
+	END_DOCUMENT;
+
+	/**
+	 * 是否为值，包括对象和数组的开始
+	 *
+	 * @return 是否为值
+	 */
+	public boolean isValue() {
+		return this != END_OBJECT && this != END_ARRAY && this != FIELD_NAME && this != END_DOCUMENT;
+	}
+
+	/**
+	 * 是否为简单值，即字符串、数字、布尔和null
+	 *
+	 * @return 是否为简单值
+	 */
+	public boolean isScalarValue() {
+		return this == VALUE_STRING || this == VALUE_NUMBER || this == VALUE_TRUE || this == VALUE_FALSE || this == VALUE_NULL;
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * JSON流式读取，按照事件（Token）逐个读取JSON，无需构建完整的JSONObject或JSONArray
+ *
+ * @author looly
+ */
+package cn.hutool.json.stream;
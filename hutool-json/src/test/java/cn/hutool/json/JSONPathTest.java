@@ -1,8 +1,19 @@
 package cn.hutool.json;
 
-import static org.junit.jupiter.api.Assertions.*;
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.StrUtil;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * JSON路径单元测试
  *
@@ -11,6 +22,13 @@ import org.junit.jupiter.api.Test;
  */
 public class JSONPathTest {
 
+	private static final String STORE_JSON = "{\"store\":{\"book\":[" +
+			"{\"category\":\"reference\",\"author\":\"Nigel Rees\",\"title\":\"Sayings\",\"price\":8.95}," +
+			"{\"category\":\"fiction\",\"author\":\"Evelyn Waugh\",\"title\":\"Sword\",\"price\":12.99}," +
+			"{\"category\":\"fiction\",\"author\":\"Herman Melville\",\"title\":\"Moby Dick\",\"isbn\":\"0-553\",\"price\":8.99}," +
+			"{\"category\":\"fiction\",\"author\":\"J. R. R. Tolkien\",\"title\":\"The Lord\",\"isbn\":\"0-395\",\"price\":22.99}" +
+			"],\"bicycle\":{\"color\":\"red\",\"price\":19.95}},\"expensive\":10}";
+
 	@Test
 	public void getByPathTest() {
 		String json = "[{\"id\":\"1\",\"name\":\"xingming\"},{\"id\":\"2\",\"name\":\"mingzi\"}]";
@@ -27,4 +45,148 @@ public class JSONPathTest {
 		Long accountId = JSONUtil.getByPath(json, "$.accountId", 0L);
 		assertEquals(111L, accountId.longValue());
 	}
+
+	@Test
+	public void ofCacheTest() {
+		final JSONPath path = JSONPath.of("$.store.book[0].title");
+		assertSame(path, JSONPath.of("$.store.book[0].title"));
+		assertTrue(path.isDefinite());
+		assertFalse(JSONPath.of("$.store.book[*].title").isDefinite());
+		assertEquals("Sayings", path.getValue(JSONUtil.parseObj(STORE_JSON)));
+	}
+
+	@Test
+	public void cacheCapacityTest() {
+		// 每个分段容量为2
+		JSONPath.setCacheCapacity(32);
+		try {
+			final JSONPath hot = JSONPath.of("hot");
+			final JSONPath cold = JSONPath.of("cold");
+			for (int i = 0; i < 1000; i++) {
+				JSONPath.of("hot");
+				JSONPath.of("a.b" + i);
+			}
+			// 超出容量时只移除最久未使用的表达式，频繁使用的表达式保留
+			assertSame(hot, JSONPath.of("hot"));
+			assertNotSame(cold, JSONPath.of("cold"));
+		} finally {
+			JSONPath.setCacheCapacity(JSONPath.DEFAULT_CACHE_CAPACITY);
+		}
+	}
+
+	@Test
+	public void concurrentOfTest() {
+		final JSONObject json = JSONUtil.createObj();
+		for (int i = 0; i < 1000; i++) {
+			json.set("k" + i, i);
+		}
+		final AtomicInteger matched = new AtomicInteger();
+		// 表达式数量超出默认容量，读取过程中缓存会被清空，线程中的异常不会抛出，因此在主线程中校验匹配数
+		ThreadUtil.concurrencyTest(8, () -> {
+			for (int i = 0; i < 1000; i++) {
+				if (i == json.getByPath("$.k" + i, Integer.class)) {
+					matched.incrementAndGet();
+				}
+			}
+		});
+		assertEquals(8 * 1000, matched.get());
+	}
+
+	@Test
+	public void wildcardTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE_JSON);
+		assertEquals(ListUtil.of("Nigel Rees", "Evelyn Waugh", "Herman Melville", "J. R. R. Tolkien"),
+				json.getByPath("$.store.book[*].author"));
+		assertEquals(ListUtil.of("0-553", "0-395"), json.getByPath("store.book.*.isbn"));
+		assertEquals(2, ((List<?>) json.getByPath("$.store.*")).size());
+	}
+
+	@Test
+	public void sliceTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE_JSON);
+		assertEquals(ListUtil.of("Moby Dick", "The Lord"), json.getByPath("$.store.book[-2:].title"));
+		assertEquals(ListUtil.of("Sayings", "Sword"), json.getByPath("$.store.book[:2].title"));
+		assertEquals(ListUtil.of("Sayings", "Moby Dick"), json.getByPath("$.store.book[0:4:2].title"));
+		assertEquals("The Lord", json.getByPath("$.store.book[-1].title"));
+	}
+
+	@Test
+	public void filterTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE_JSON);
+		assertEquals(ListUtil.of("Sayings", "Moby Dick"), json.getByPath("$.store.book[?(@.price < 10)].title"));
+		assertEquals(ListUtil.of("Moby Dick", "The Lord"), json.getByPath("$.store.book[?(@.isbn)].title"));
+		assertEquals(ListUtil.of("Sword"),
+				json.getByPath("$.store.book[?(@.category == 'fiction' && @.price > 10 && @.isbn == null)].title"));
+		assertEquals(ListUtil.of("Sayings", "The Lord"),
+				json.getByPath("$.store.book[?(@.price >= 20 || @.author == \"Nigel Rees\")].title"));
+		assertEquals(1, json.getByPath("$.store.book[?(@.title == 'Sword')].price", List.class).size());
+		assertEquals(ListUtil.of(), json.getByPath("$.store.book[?(@.title == 'a]b')]"));
+	}
+
+	@Test
+	public void readByPathTest() {
+		final String[] expressions = {
+				"$.store.book[1].author",
+				"store.bicycle",
+				"$.store.book[*].author",
+				"$.store.book[-2:].title",
+				"$.store.book[?(@.price < 10)].title",
+				"$.store.*.color",
+				"$.expensive",
+				"$.store.book[10]",
+				"$.none.a",
+				"store.book.title"
+		};
+		final JSONObject json = JSONUtil.parseObj(STORE_JSON);
+		for (String expression : expressions) {
+			assertEquals(json.getByPath(expression), JSONUtil.readByPath(STORE_JSON, expression), expression);
+		}
+
+		// 确定路径找到后不再读取后续内容
+		assertEquals("red", JSONUtil.readByPath(new StringReader("{\"a\":{\"color\":\"red\"},\"b\":[1,"), "$.a.color", null));
+	}
+
+	@Test
+	public void putByPathCacheTest() {
+		final JSONObject json = JSONUtil.createObj();
+		json.putByPath("a.b[0].c", 1);
+		json.putByPath("a.b[0].c", 2);
+		assertEquals(2, json.getByPath("a.b[0].c"));
+	}
+
+	@Test
+	public void badExpressionTest() {
+		assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("a[0"));
+		assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("a]"));
+		assertThrows(IllegalArgumentException.class, () -> JSONPath.compile("a[?(@.b == x)]"));
+	}
+
+	@Test
+	@Disabled
+	public void getByPathBenchmarkTest() {
+		final JSONObject json = JSONUtil.parseObj(STORE_JSON);
+		final int count = 1_000_000;
+		final StopWatch stopWatch = new StopWatch();
+		stopWatch.start("BeanPath");
+		for (int i = 0; i < count; i++) {
+			cn.hutool.core.bean.BeanPath.create("$.store.book[2].title").get(json);
+		}
+		stopWatch.stop();
+		stopWatch.start("JSONPath");
+		for (int i = 0; i < count; i++) {
+			json.getByPath("$.store.book[2].title");
+		}
+		stopWatch.stop();
+		stopWatch.start("readByPath");
+		for (int i = 0; i < count / 10; i++) {
+			JSONUtil.readByPath(STORE_JSON, "$.store.book[2].title");
+		}
+		stopWatch.stop();
+		stopWatch.start("parse + getByPath");
+		for (int i = 0; i < count / 10; i++) {
+			JSONUtil.parseObj(STORE_JSON).getByPath("$.store.book[2].title");
+		}
+		stopWatch.stop();
+		Console.log(StrUtil.format("{}", stopWatch.prettyPrint()));
+	}
 }
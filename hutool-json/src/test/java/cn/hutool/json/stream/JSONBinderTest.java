@@ -0,0 +1,128 @@
+package cn.hutool.json.stream;
+
+import cn.hutool.core.annotation.Alias;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.lang.TypeReference;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONObject;
+import cn.hutool.json.JSONUtil;
+import lombok.Data;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONBinderTest {
+
+	private static final String ORDER_JSON = "{\"id\":1,\"order_no\":\"A001\",\"tags\":[\"a\",\"b\"],\"scores\":[1,2,3]," +
+			"\"items\":[{\"name\":\"apple\",\"price\":1.5},{\"name\":\"pear\",\"price\":2}]," +
+			"\"attrs\":{\"x\":{\"name\":\"x\",\"price\":3}},\"extra\":{\"k\":\"v\"},\"unknown\":{\"a\":[1,2]},\"remark\":null}";
+
+	@Test
+	public void bindBeanTest() {
+		final Order order = JSONUtil.bind(ORDER_JSON, Order.class);
+		assertEquals(1L, order.getId());
+		assertEquals("A001", order.getOrderNo());
+		assertEquals(2, order.getTags().size());
+		assertArrayEquals(new int[]{1, 2, 3}, order.getScores());
+		assertEquals(2, order.getItems().size());
+		assertEquals("pear", order.getItems().get(1).getName());
+		assertEquals(2.0, order.getItems().get(1).getPrice());
+		assertEquals(3.0, order.getAttrs().get("x").getPrice());
+		assertTrue(order.getExtra() instanceof JSONObject);
+		assertNull(order.getRemark());
+
+		// 与原有方式结果一致
+		assertEquals(JSONUtil.toBean(ORDER_JSON, Order.class), order);
+	}
+
+	@Test
+	public void bindGenericTest() {
+		final List<Item> items = JSONUtil.bind("[{\"name\":\"a\",\"price\":1},{\"name\":\"b\",\"price\":2}]",
+				new TypeReference<List<Item>>() {});
+		assertEquals(2, items.size());
+		assertEquals("b", items.get(1).getName());
+
+		final Map<String, Item> map = JSONUtil.bind("{\"a\":{\"name\":\"a\",\"price\":1}}",
+				new TypeReference<Map<String, Item>>() {});
+		assertEquals(1.0, map.get("a").getPrice());
+
+		final Result<Item> result = JSONUtil.bind("{\"code\":0,\"data\":{\"name\":\"a\",\"price\":1}}",
+				new TypeReference<Result<Item>>() {});
+		assertEquals("a", result.getData().getName());
+	}
+
+	@Test
+	public void bindIgnoreCaseTest() {
+		final Item item = JSONUtil.bind("{\"NAME\":\"a\",\"Price\":1}", Item.class, JSONConfig.create().setIgnoreCase(true));
+		assertEquals("a", item.getName());
+		assertEquals(1.0, item.getPrice());
+	}
+
+	@Test
+	public void bindSnakeCaseTest() {
+		final String json = "{\"user_name\":\"a\",\"user_age\":18}";
+		final User user = JSONUtil.bind(json, User.class);
+		assertEquals("a", user.getUserName());
+		assertEquals(18, user.getUserAge());
+
+		// 与原有方式结果一致
+		assertEquals(JSONUtil.toBean(json, User.class), user);
+	}
+
+	@Test
+	@Disabled
+	public void bindBenchmarkTest() {
+		final int count = 100_000;
+		final StopWatch stopWatch = new StopWatch();
+		stopWatch.start("toBean");
+		for (int i = 0; i < count; i++) {
+			JSONUtil.toBean(ORDER_JSON, Order.class);
+		}
+		stopWatch.stop();
+		stopWatch.start("bind");
+		for (int i = 0; i < count; i++) {
+			JSONUtil.bind(ORDER_JSON, Order.class);
+		}
+		stopWatch.stop();
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	@Data
+	public static class Order {
+		private long id;
+		@Alias("order_no")
+		private String orderNo;
+		private List<String> tags;
+		private int[] scores;
+		private List<Item> items;
+		private Map<String, Item> attrs;
+		private Object extra;
+		private String remark;
+	}
+
+	@Data
+	public static class Item {
+		private String name;
+		private double price;
+	}
+
+	@Data
+	public static class User {
+		private String userName;
+		private int userAge;
+	}
+
+	@Data
+	public static class Result<T> {
+		private int code;
+		private T data;
+	}
+}
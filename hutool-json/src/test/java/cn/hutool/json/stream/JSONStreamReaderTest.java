@@ -0,0 +1,124 @@
+package cn.hutool.json.stream;
+
+import cn.hutool.json.JSONArray;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONObject;
+import lombok.Data;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JSONStreamReaderTest {
+
+	@Test
+	public void tokenTest() {
+		final JSONStreamReader reader = JSONStreamReader.of("{\"a\":1,\"b\":[true,false,null,\"x\\n\\u4e2d\"],'c':2.5,d:\"s\"}");
+		assertEquals(JSONToken.START_OBJECT, reader.next());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals("a", reader.getText());
+		assertEquals(JSONToken.VALUE_NUMBER, reader.next());
+		assertEquals(1, reader.getValue());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals(JSONToken.START_ARRAY, reader.next());
+		assertEquals(JSONToken.VALUE_TRUE, reader.next());
+		assertEquals(JSONToken.VALUE_FALSE, reader.next());
+		assertEquals(JSONToken.VALUE_NULL, reader.next());
+		assertEquals(JSONToken.VALUE_STRING, reader.next());
+		assertEquals("x\n中", reader.getText());
+		assertEquals("$.b[3]", reader.getPath());
+		assertEquals(JSONToken.END_ARRAY, reader.next());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals("c", reader.getText());
+		assertEquals(JSONToken.VALUE_NUMBER, reader.next());
+		assertEquals(new BigDecimal("2.5"), reader.getNumber());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals("d", reader.getText());
+		assertEquals(JSONToken.VALUE_STRING, reader.next());
+		assertEquals(JSONToken.END_OBJECT, reader.next());
+		assertEquals(JSONToken.END_DOCUMENT, reader.next());
+	}
+
+	@Test
+	public void skipChildrenTest() {
+		final JSONStreamReader reader = JSONStreamReader.of("{\"skip\":{\"a\":[1,{\"b\":\"}\"}]},\"keep\":\"v\"}");
+		reader.next();
+		reader.next();
+		assertEquals("skip", reader.getText());
+		reader.skipChildren();
+		assertEquals(JSONToken.END_OBJECT, reader.currentToken());
+		assertEquals(JSONToken.FIELD_NAME, reader.next());
+		assertEquals("keep", reader.getText());
+		assertEquals(JSONToken.VALUE_STRING, reader.next());
+		assertEquals("v", reader.getText());
+	}
+
+	@Test
+	public void readValueTest() {
+		// 使用很小的缓冲区，覆盖跨缓冲区读取的情况
+		final StringBuilder json = new StringBuilder("[");
+		for (int i = 0; i < 100; i++) {
+			if (i > 0) {
+				json.append(',');
+			}
+			json.append("{\"id\":").append(i).append(",\"name\":\"name").append(i).append("\"}");
+		}
+		json.append("]");
+
+		final JSONStreamReader reader = new JSONStreamReader(new StringReader(json.toString()), JSONConfig.create(), 7);
+		final List<User> users = new ArrayList<>();
+		assertEquals(JSONToken.START_ARRAY, reader.next());
+		while (JSONToken.END_ARRAY != reader.next()) {
+			users.add(reader.readValue(User.class));
+		}
+		assertEquals(100, users.size());
+		assertEquals(99, users.get(99).getId());
+		assertEquals("name99", users.get(99).getName());
+	}
+
+	@Test
+	public void readTreeTest() {
+		final JSONStreamReader reader = JSONStreamReader.of("{\"a\":{\"b\":[1,2,]},}");
+		final Object tree = reader.readTree();
+		assertTrue(tree instanceof JSONObject);
+		final JSONArray array = ((JSONObject) tree).getJSONObject("a").getJSONArray("b");
+		assertEquals(2, array.size());
+	}
+
+	@Test
+	public void jsonLinesTest() {
+		final JSONStreamReader reader = JSONStreamReader.of("{\"id\":1}\n{\"id\":2}\n{\"id\":3}\n");
+		int sum = 0;
+		while (JSONToken.END_DOCUMENT != reader.next()) {
+			sum += reader.readValue(User.class).getId();
+		}
+		assertEquals(6, sum);
+	}
+
+	@Test
+	public void syntaxErrorTest() {
+		final JSONStreamReader reader = JSONStreamReader.of("{\"a\" 1}");
+		reader.next();
+		reader.next();
+		assertThrows(JSONException.class, reader::next);
+
+		final JSONStreamReader reader2 = JSONStreamReader.of("[1, 2");
+		reader2.next();
+		reader2.next();
+		reader2.next();
+		assertThrows(JSONException.class, reader2::next);
+	}
+
+	@Data
+	public static class User {
+		private int id;
+		private String name;
+	}
+}
@@ -0,0 +1,188 @@
+package cn.hutool.json.stream;
+
+import cn.hutool.core.collection.ListUtil;
+import cn.hutool.core.date.DateUtil;
+import cn.hutool.core.date.StopWatch;
+import cn.hutool.core.io.FastByteArrayOutputStream;
+import cn.hutool.core.lang.Console;
+import cn.hutool.core.lang.Opt;
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.util.CharsetUtil;
+import cn.hutool.json.JSONConfig;
+import cn.hutool.json.JSONException;
+import cn.hutool.json.JSONUtil;
+import lombok.Data;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JSONStreamWriterTest {
+
+	@Test
+	public void writeBeanTest() {
+		final Order order = createOrder(1);
+		assertEquals(JSONUtil.toJsonStr(order), write(order, JSONConfig.create()));
+
+		final JSONConfig config = JSONConfig.create().setIgnoreNullValue(false).setDateFormat("yyyy-MM-dd");
+		assertEquals(JSONUtil.toJsonStr(order, config), write(order, config));
+
+		final JSONConfig sortConfig = JSONConfig.create().setNatureKeyComparator();
+		assertEquals(JSONUtil.toJsonStr(order, sortConfig), write(order, sortConfig));
+	}
+
+	@Test
+	public void writeCollectionTest() {
+		final List<Order> orders = ListUtil.of(createOrder(1), createOrder(2));
+		assertEquals(JSONUtil.toJsonStr(orders), write(orders, null));
+
+		final int[] ints = {1, 2, 3};
+		assertEquals("[1,2,3]", write(ints, null));
+
+		final Map<String, Object> map = MapUtil.<String, Object>builder()
+				.put("a", 1).put("b", null).put("c", ListUtil.of("x", null)).build();
+		assertEquals(JSONUtil.toJsonStr(map), write(map, null));
+		assertEquals("{\"a\":1,\"b\":null,\"c\":[\"x\",null]}", write(map, JSONConfig.create().setIgnoreNullValue(false)));
+	}
+
+	@Test
+	public void writeScalarTest() {
+		assertEquals("\"a\\\"b\"", write("a\"b", null));
+		assertEquals("12", write(12, null));
+		assertEquals("null", write(null, null));
+		assertThrows(JSONException.class, () -> write(Double.NaN, null));
+	}
+
+	@Test
+	public void writeOptionalTest() {
+		final Wrapper wrapper = new Wrapper();
+		wrapper.setName(Optional.of("z"));
+		wrapper.setRemark(Optional.empty());
+		wrapper.setItem(Opt.of(createOrder(1).getItems().get(0)));
+		assertEquals("{\"name\":\"z\",\"item\":{\"name\":\"apple\",\"price\":1.5}}", write(wrapper, null));
+		assertEquals(JSONUtil.toJsonStr(wrapper), write(wrapper, null));
+
+		final JSONConfig config = JSONConfig.create().setIgnoreNullValue(false);
+		assertEquals(JSONUtil.toJsonStr(wrapper, config), write(wrapper, config));
+	}
+
+	@Test
+	public void writeNonFiniteTest() {
+		final Item item = new Item();
+		item.setName("a");
+		item.setPrice(Double.NaN);
+		assertThrows(JSONException.class, () -> write(item, null));
+
+		// 忽略错误时非有限数字按null处理
+		final JSONConfig config = JSONConfig.create().setIgnoreError(true);
+		assertEquals("{\"name\":\"a\"}", write(item, config));
+		assertEquals("[1]", write(ListUtil.of(1D, Double.POSITIVE_INFINITY), config));
+		assertEquals("null", write(Double.NaN, config));
+		config.setIgnoreNullValue(false);
+		assertEquals("{\"name\":\"a\",\"price\":null}", write(item, config));
+		assertEquals("[1,null]", write(ListUtil.of(1D, Double.POSITIVE_INFINITY), config));
+	}
+
+	@Test
+	public void writePrettyTest() {
+		final Order order = createOrder(1);
+		final StringWriter writer = new StringWriter();
+		new JSONStreamWriter(writer, null, 4).write(order).flush();
+		assertEquals(JSONUtil.toJsonPrettyStr(order), writer.toString());
+	}
+
+	@Test
+	public void writeOutputStreamTest() {
+		final FastByteArrayOutputStream out = new FastByteArrayOutputStream();
+		JSONUtil.write(MapUtil.of("name", "中文"), out, null);
+		assertEquals("{\"name\":\"中文\"}", out.toString(CharsetUtil.CHARSET_UTF_8));
+	}
+
+	@Test
+	public void writeLinesTest() {
+		final StringWriter writer = new StringWriter();
+		final JSONStreamWriter streamWriter = JSONStreamWriter.of(writer, null);
+		for (int i = 0; i < 3; i++) {
+			streamWriter.write(MapUtil.of("id", i)).writeRaw("\n");
+		}
+		streamWriter.flush();
+		assertEquals("{\"id\":0}\n{\"id\":1}\n{\"id\":2}\n", writer.toString());
+	}
+
+	@Test
+	@Disabled
+	public void writeBenchmarkTest() {
+		final List<Order> orders = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			orders.add(createOrder(i));
+		}
+		final int count = 200;
+		final StopWatch stopWatch = new StopWatch();
+		stopWatch.start("toJsonStr");
+		for (int i = 0; i < count; i++) {
+			JSONUtil.toJsonStr(orders, new StringWriter());
+		}
+		stopWatch.stop();
+		stopWatch.start("write");
+		for (int i = 0; i < count; i++) {
+			JSONUtil.write(orders, new StringWriter(), null);
+		}
+		stopWatch.stop();
+		Console.log(stopWatch.prettyPrint());
+	}
+
+	private static String write(Object value, JSONConfig config) {
+		final StringWriter writer = new StringWriter();
+		JSONUtil.write(value, writer, config);
+		return writer.toString();
+	}
+
+	private static Order createOrder(int id) {
+		final Order order = new Order();
+		order.setId(id);
+		order.setName("order\t" + id);
+		order.setCreateTime(DateUtil.parse("2024-01-02 03:04:05"));
+		order.setUpdateTime(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+		order.setTags(new String[]{"a", "b"});
+		final Item item = new Item();
+		item.setName("apple");
+		item.setPrice(1.5);
+		order.setItems(ListUtil.of(item, new Item()));
+		order.setExtra(MapUtil.of("k", item));
+		return order;
+	}
+
+	@Data
+	public static class Order {
+		private int id;
+		private String name;
+		private String remark;
+		private Date createTime;
+		private LocalDateTime updateTime;
+		private String[] tags;
+		private List<Item> items;
+		private Map<String, Item> extra;
+	}
+
+	@Data
+	public static class Item {
+		private String name;
+		private Double price;
+	}
+
+	@Data
+	public static class Wrapper {
+		private Optional<String> name;
+		private Optional<String> remark;
+		private Opt<Item> item;
+	}
+}